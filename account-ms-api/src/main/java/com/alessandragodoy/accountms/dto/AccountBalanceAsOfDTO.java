@@ -0,0 +1,27 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the balance of an account at a point in time.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceAsOfDTO {
+
+	@Schema(description = "Unique identifier for the account", example = "1")
+	Integer accountId;
+
+	@Schema(description = "Balance of the account at the requested point in time", example = "750.0")
+	Double balance;
+
+	@Schema(description = "The requested point in time, in the server's time zone",
+			example = "2026-01-30T10:15:30")
+	LocalDateTime asOf;
+}
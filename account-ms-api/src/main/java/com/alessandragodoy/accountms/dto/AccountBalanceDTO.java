@@ -0,0 +1,21 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for balance-only responses.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountBalanceDTO {
+
+	@Schema(description = "Unique identifier for the account", example = "1")
+	Integer accountId;
+
+	@Schema(description = "Current balance of the account", example = "100.0")
+	Double balance;
+}
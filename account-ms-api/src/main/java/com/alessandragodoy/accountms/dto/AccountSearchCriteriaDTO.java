@@ -0,0 +1,63 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object holding the optional filters and the keyset cursor of an account search.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSearchCriteriaDTO {
+
+	public static final int DEFAULT_LIMIT = 50;
+	public static final int MAX_LIMIT = 200;
+
+	@Pattern(regexp = "SAVINGS|CHECKING", message = "Account type must be either SAVINGS or " +
+			"CHECKING")
+	@Schema(description = "Only accounts of this type", example = "SAVINGS")
+	String accountType;
+
+	@Schema(description = "Only active or only inactive accounts", example = "true")
+	Boolean active;
+
+	@Positive(message = "Customer ID must be a positive number")
+	@Schema(description = "Lowest customer ID, inclusive", example = "1")
+	Integer minCustomerId;
+
+	@Positive(message = "Customer ID must be a positive number")
+	@Schema(description = "Highest customer ID, inclusive", example = "100")
+	Integer maxCustomerId;
+
+	@Schema(description = "Lowest balance, inclusive", example = "0.0")
+	Double minBalance;
+
+	@Schema(description = "Highest balance, inclusive", example = "5000.0")
+	Double maxBalance;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	@Schema(description = "Earliest creation date, inclusive", example = "2026-01-01T00:00:00")
+	LocalDateTime createdFrom;
+
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+	@Schema(description = "Latest creation date, inclusive", example = "2026-12-31T23:59:59")
+	LocalDateTime createdTo;
+
+	@Schema(description = "Cursor returned as nextCursor by the previous page", example = "1")
+	Integer after;
+
+	@Min(value = 1, message = "Limit must be at least 1")
+	@Max(value = MAX_LIMIT, message = "Limit must be at most " + MAX_LIMIT)
+	@Schema(description = "Maximum number of accounts per page", example = "50")
+	Integer limit = DEFAULT_LIMIT;
+}
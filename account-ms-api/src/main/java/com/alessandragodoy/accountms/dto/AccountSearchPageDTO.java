@@ -0,0 +1,24 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for a page of account search results.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountSearchPageDTO {
+
+	@Schema(description = "Accounts of the page, ordered by account ID")
+	List<AccountDTO> accounts;
+
+	@Schema(description = "Value to pass as after to get the next page, absent on the last page",
+			example = "1")
+	Integer nextCursor;
+}
@@ -0,0 +1,27 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the balance totals of a customer for one account type.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountTypeBalanceSummaryDTO {
+
+	@Schema(description = "Type of the accounts", example = "SAVINGS")
+	String accountType;
+
+	@Schema(description = "Sum of the balances of the accounts of this type", example = "1000.0")
+	Double totalBalance;
+
+	@Schema(description = "Number of accounts of this type", example = "1")
+	Integer accountCount;
+
+	@Schema(description = "Number of active accounts of this type", example = "1")
+	Integer activeCount;
+}
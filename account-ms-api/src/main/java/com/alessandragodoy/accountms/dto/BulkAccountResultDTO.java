@@ -0,0 +1,43 @@
+package com.alessandragodoy.accountms.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of one item of a bulk account creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkAccountResultDTO {
+
+	@Schema(description = "Position of the item in the request, starting at 0", example = "0")
+	Integer index;
+
+	@Schema(description = "Unique identifier for the customer", example = "1")
+	Integer customerId;
+
+	@Schema(description = "Whether the account was created", example = "CREATED")
+	Status status;
+
+	@Schema(description = "Unique identifier of the created account", example = "3")
+	Integer accountId;
+
+	@Schema(description = "Account number of the created account", example = "A000003")
+	String accountNumber;
+
+	@Schema(description = "Why the account was not created", example = "Customer is inactive")
+	String message;
+
+	/**
+	 * Outcome of a bulk account creation item.
+	 */
+	public enum Status {
+		CREATED,
+		FAILED
+	}
+}
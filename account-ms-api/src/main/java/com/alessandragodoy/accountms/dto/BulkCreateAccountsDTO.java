@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk account creation.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateAccountsDTO {
+
+	@Schema(description = "Number of accounts created", example = "2")
+	Integer created;
+
+	@Schema(description = "Number of items whose account was not created", example = "1")
+	Integer failed;
+
+	@Schema(description = "Outcome of each item, in request order")
+	List<BulkAccountResultDTO> results;
+}
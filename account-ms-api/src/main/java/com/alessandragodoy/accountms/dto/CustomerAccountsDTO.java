@@ -0,0 +1,23 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object grouping the accounts that belong to a single customer.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerAccountsDTO {
+
+	@Schema(description = "Unique identifier for the customer", example = "1")
+	Integer customerId;
+
+	@Schema(description = "Accounts owned by the customer, empty if the customer has none")
+	List<AccountDTO> accounts;
+}
@@ -0,0 +1,32 @@
+package com.alessandragodoy.accountms.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the balance totals of a customer across all of its accounts.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBalanceSummaryDTO {
+
+	@Schema(description = "Unique identifier for the customer", example = "1")
+	Integer customerId;
+
+	@Schema(description = "Sum of the balances of all the customer's accounts", example = "1500.0")
+	Double totalBalance;
+
+	@Schema(description = "Number of accounts of the customer", example = "2")
+	Integer accountCount;
+
+	@Schema(description = "Number of active accounts of the customer", example = "2")
+	Integer activeCount;
+
+	@Schema(description = "Totals per account type")
+	List<AccountTypeBalanceSummaryDTO> accountTypes;
+}
@@ -0,0 +1,73 @@
+package com.alessandragodoy.accountms.utility;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Utility class responsible for building and matching entity tags for account representations.
+ */
+public class ETagGenerator {
+
+	private static final LocalDateTime EPOCH = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC);
+
+	private ETagGenerator() {
+	}
+
+	/**
+	 * Builds the entity tag of a single account.
+	 *
+	 * @param accountId  the ID of the account
+	 * @param updateDate the last update date of the account
+	 * @return a quoted strong entity tag
+	 */
+	public static String forAccount(Integer accountId, LocalDateTime updateDate) {
+		return "\"a" + accountId + "-" + toHex(updateDate) + "\"";
+	}
+
+	/**
+	 * Builds the entity tag of the accounts that belong to a customer.
+	 *
+	 * @param customerId     the ID of the customer
+	 * @param accountCount   the number of accounts of the customer
+	 * @param lastUpdateDate the latest update date among the customer's accounts
+	 * @return a quoted strong entity tag
+	 */
+	public static String forCustomerAccounts(Integer customerId, long accountCount,
+											 LocalDateTime lastUpdateDate) {
+		return "\"c" + customerId + "-" + accountCount + "-" + toHex(lastUpdateDate) + "\"";
+	}
+
+	/**
+	 * Checks whether an {@code If-None-Match} header value matches the current entity tag, using
+	 * the weak comparison required for conditional GET requests.
+	 *
+	 * @param ifNoneMatch the raw header value, may be {@code null}
+	 * @param eTag        the current quoted entity tag
+	 * @return true if any of the listed tags (or {@code *}) matches, false otherwise
+	 */
+	public static boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+			return false;
+		}
+
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.equals("*") || stripWeakPrefix(tag).equals(eTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String stripWeakPrefix(String tag) {
+		return tag.startsWith("W/") ? tag.substring(2) : tag;
+	}
+
+	private static String toHex(LocalDateTime dateTime) {
+		if (dateTime == null) {
+			return "0";
+		}
+		return Long.toHexString(ChronoUnit.MICROS.between(EPOCH, dateTime));
+	}
+}
@@ -0,0 +1,140 @@
+package com.alessandragodoy.accountms.reactive;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.dto.CustomErrorResponse;
+import com.alessandragodoy.accountms.utility.ETagGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+
+/**
+ * Handler functions of the reactive read API. Responses follow the same contracts as
+ * {@code AccountController} and {@code InternalAccountController}, including the ETags and the
+ * error bodies. List responses are written as a JSON array while the rows are being read.
+ */
+@RequiredArgsConstructor
+public class AccountReadHandler {
+
+	private final ReactiveAccountRepository accountRepository;
+
+	/**
+	 * Retrieves all active accounts.
+	 *
+	 * @param request the request
+	 * @return the response streaming the accounts
+	 */
+	public Mono<ServerResponse> getAllAccounts(ServerRequest request) {
+
+		return ServerResponse.ok()
+				.contentType(APPLICATION_JSON)
+				.body(accountRepository.findAllActive(), AccountDTO.class);
+	}
+
+	/**
+	 * Retrieves an account by its ID, or a 304 response when the client presents its current
+	 * ETag.
+	 *
+	 * @param request the request, with the {@code accountId} path variable
+	 * @return the response containing the account
+	 */
+	public Mono<ServerResponse> getAccountById(ServerRequest request) {
+
+		Integer accountId = pathId(request, "accountId");
+		String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+
+		return accountRepository.findById(accountId)
+				.flatMap(found -> {
+					String eTag = ETagGenerator.forAccount(accountId, found.updateDate());
+
+					if (ETagGenerator.matches(ifNoneMatch, eTag)) {
+						return notModified(eTag);
+					}
+					return ServerResponse.ok()
+							.eTag(eTag)
+							.cacheControl(CacheControl.noCache())
+							.contentType(APPLICATION_JSON)
+							.bodyValue(found.account());
+				})
+				.switchIfEmpty(Mono.defer(() -> notFound(request,
+						"The account with ID " + accountId + " does not exist.")));
+	}
+
+	/**
+	 * Retrieves all accounts of a customer, or a 304 response when the client presents their
+	 * current ETag. The ETag is read before the accounts, so it never describes a newer version
+	 * than the body.
+	 *
+	 * @param request the request, with the {@code customerId} path variable
+	 * @return the response streaming the accounts
+	 */
+	public Mono<ServerResponse> getAccountsByCustomerId(ServerRequest request) {
+
+		Integer customerId = pathId(request, "customerId");
+		String ifNoneMatch = request.headers().firstHeader(HttpHeaders.IF_NONE_MATCH);
+
+		return accountRepository.findAccountsVersionByCustomerId(customerId)
+				.flatMap(version -> {
+					String eTag = ETagGenerator.forCustomerAccounts(customerId,
+							version.accountCount(), version.lastUpdateDate());
+
+					if (ETagGenerator.matches(ifNoneMatch, eTag)) {
+						return notModified(eTag);
+					}
+					if (version.accountCount() == 0) {
+						return notFound(request, "No accounts found with customer ID: " + customerId);
+					}
+					return ServerResponse.ok()
+							.eTag(eTag)
+							.cacheControl(CacheControl.noCache())
+							.contentType(APPLICATION_JSON)
+							.body(accountRepository.findAllByCustomerId(customerId), AccountDTO.class);
+				});
+	}
+
+	/**
+	 * Checks if active accounts exist for a customer.
+	 *
+	 * @param request the request, with the {@code customerId} path variable
+	 * @return the response containing true if active accounts exist, false otherwise
+	 */
+	public Mono<ServerResponse> accountIsActiveByCustomerId(ServerRequest request) {
+
+		Integer customerId = pathId(request, "customerId");
+
+		return ServerResponse.ok()
+				.contentType(APPLICATION_JSON)
+				.body(accountRepository.existsActiveByCustomerId(customerId), Boolean.class);
+	}
+
+	private static Integer pathId(ServerRequest request, String name) {
+		String value = request.pathVariable(name);
+		try {
+			return Integer.valueOf(value);
+		} catch (NumberFormatException e) {
+			throw new ServerWebInputException("Invalid " + name + ": " + value);
+		}
+	}
+
+	private static Mono<ServerResponse> notModified(String eTag) {
+		return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+				.eTag(eTag)
+				.cacheControl(CacheControl.noCache())
+				.build();
+	}
+
+	private static Mono<ServerResponse> notFound(ServerRequest request, String message) {
+		return ServerResponse.status(HttpStatus.NOT_FOUND)
+				.contentType(APPLICATION_JSON)
+				.bodyValue(new CustomErrorResponse(LocalDateTime.now(), message,
+						"uri=" + request.path()));
+	}
+}
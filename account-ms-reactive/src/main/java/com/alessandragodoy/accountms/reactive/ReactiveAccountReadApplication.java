@@ -0,0 +1,18 @@
+package com.alessandragodoy.accountms.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Entry point of the reactive read API. It serves the account queries on WebFlux and R2DBC from
+ * the same database as the main application, and is built and deployed separately from it, so
+ * neither application carries the other's web stack or database drivers.
+ */
+@SpringBootApplication
+public class ReactiveAccountReadApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(ReactiveAccountReadApplication.class, args);
+	}
+
+}
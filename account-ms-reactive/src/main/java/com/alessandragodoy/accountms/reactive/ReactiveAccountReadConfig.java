@@ -0,0 +1,46 @@
+package com.alessandragodoy.accountms.reactive;
+
+import com.alessandragodoy.accountms.api.AccountApi;
+import com.alessandragodoy.accountms.api.internal.InternalAccountApi;
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import static org.springframework.web.reactive.function.server.RouterFunctions.route;
+
+/**
+ * Configuration of the reactive read API. Routes use the paths of the generated API interfaces,
+ * so they stay in line with {@code account-api.yml} and {@code internal-account-api.yml}.
+ */
+@Configuration
+public class ReactiveAccountReadConfig {
+
+	@Bean
+	public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+		return DatabaseClient.create(connectionFactory);
+	}
+
+	@Bean
+	public ReactiveAccountRepository reactiveAccountRepository(DatabaseClient databaseClient) {
+		return new ReactiveAccountRepository(databaseClient);
+	}
+
+	@Bean
+	public AccountReadHandler accountReadHandler(ReactiveAccountRepository accountRepository) {
+		return new AccountReadHandler(accountRepository);
+	}
+
+	@Bean
+	public RouterFunction<ServerResponse> accountReadRoutes(AccountReadHandler handler) {
+		return route()
+				.GET(AccountApi.PATH_GET_ALL_ACCOUNTS, handler::getAllAccounts)
+				.GET(AccountApi.PATH_GET_ACCOUNT_BY_ID, handler::getAccountById)
+				.GET(AccountApi.PATH_GET_ACCOUNTS_BY_CUSTOMER_ID, handler::getAccountsByCustomerId)
+				.GET(InternalAccountApi.PATH_GET_ACCOUNT_BY_CUSTOMER_ID,
+						handler::accountIsActiveByCustomerId)
+				.build();
+	}
+}
@@ -0,0 +1,123 @@
+package com.alessandragodoy.accountms.reactive;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * Reads accounts with R2DBC. Rows are mapped straight to {@link AccountDTO}, and list queries are
+ * returned as a {@link Flux} that reads rows as the subscriber requests them.
+ */
+@RequiredArgsConstructor
+public class ReactiveAccountRepository {
+
+	private static final String ACCOUNT_COLUMNS =
+			"account_id, account_number, balance, account_type, customer_id";
+
+	private final DatabaseClient databaseClient;
+
+	/**
+	 * Finds all active accounts.
+	 *
+	 * @return the active accounts
+	 */
+	public Flux<AccountDTO> findAllActive() {
+		return databaseClient.sql("SELECT " + ACCOUNT_COLUMNS + " FROM account WHERE active = TRUE")
+				.map(ReactiveAccountRepository::toAccount)
+				.all();
+	}
+
+	/**
+	 * Finds an account by its ID, along with its last update date.
+	 *
+	 * @param accountId the account ID
+	 * @return the account, or empty if it does not exist
+	 */
+	public Mono<VersionedAccount> findById(Integer accountId) {
+		return databaseClient.sql("SELECT " + ACCOUNT_COLUMNS + ", update_date FROM account " +
+						"WHERE account_id = :accountId")
+				.bind("accountId", accountId)
+				.map(row -> new VersionedAccount(toAccount(row),
+						row.get("update_date", LocalDateTime.class)))
+				.one();
+	}
+
+	/**
+	 * Finds all accounts of a customer.
+	 *
+	 * @param customerId the customer ID
+	 * @return the accounts of the customer
+	 */
+	public Flux<AccountDTO> findAllByCustomerId(Integer customerId) {
+		return databaseClient.sql("SELECT " + ACCOUNT_COLUMNS + " FROM account " +
+						"WHERE customer_id = :customerId")
+				.bind("customerId", customerId)
+				.map(ReactiveAccountRepository::toAccount)
+				.all();
+	}
+
+	/**
+	 * Finds the number of accounts of a customer and their latest update date, answered from the
+	 * customer index alone.
+	 *
+	 * @param customerId the customer ID
+	 * @return the version of the customer's accounts
+	 */
+	public Mono<AccountsVersion> findAccountsVersionByCustomerId(Integer customerId) {
+		return databaseClient.sql("SELECT COUNT(*) AS account_count, " +
+						"MAX(update_date) AS last_update_date FROM account " +
+						"WHERE customer_id = :customerId")
+				.bind("customerId", customerId)
+				.map(row -> new AccountsVersion(row.get("account_count", Long.class),
+						row.get("last_update_date", LocalDateTime.class)))
+				.one();
+	}
+
+	/**
+	 * Checks whether a customer has at least one active account.
+	 *
+	 * @param customerId the customer ID
+	 * @return true if an active account exists, false otherwise
+	 */
+	public Mono<Boolean> existsActiveByCustomerId(Integer customerId) {
+		return databaseClient.sql("SELECT 1 FROM account " +
+						"WHERE customer_id = :customerId AND active = TRUE LIMIT 1")
+				.bind("customerId", customerId)
+				.map(row -> true)
+				.first()
+				.defaultIfEmpty(false);
+	}
+
+	private static AccountDTO toAccount(Readable row) {
+		return new AccountDTO(
+				row.get("account_id", Integer.class),
+				row.get("account_number", String.class),
+				row.get("balance", Double.class),
+				AccountType.valueOf(row.get("account_type", String.class)),
+				row.get("customer_id", Integer.class));
+	}
+
+	/**
+	 * An account with the last update date used to build its ETag.
+	 *
+	 * @param account    the account
+	 * @param updateDate the last update date of the account
+	 */
+	public record VersionedAccount(AccountDTO account, LocalDateTime updateDate) {
+	}
+
+	/**
+	 * The number of accounts of a customer and their latest update date.
+	 *
+	 * @param accountCount   the number of accounts
+	 * @param lastUpdateDate the latest update date, or {@code null} if there are no accounts
+	 */
+	public record AccountsVersion(long accountCount, LocalDateTime lastUpdateDate) {
+	}
+}
@@ -0,0 +1,144 @@
+package com.alessandragodoy.accountms.reactive;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.reactive.ReactiveAccountRepository.AccountsVersion;
+import com.alessandragodoy.accountms.reactive.ReactiveAccountRepository.VersionedAccount;
+import com.alessandragodoy.accountms.utility.ETagGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link AccountReadHandler}.
+ * Tests the reactive read routes against a mocked repository.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountReadHandlerTest {
+
+	private static final LocalDateTime UPDATE_DATE = LocalDateTime.of(2026, 1, 30, 10, 15, 30);
+
+	@Mock
+	private ReactiveAccountRepository accountRepository;
+
+	private WebTestClient webTestClient;
+
+	@BeforeEach
+	void setUp() {
+		AccountReadHandler handler = new AccountReadHandler(accountRepository);
+		webTestClient = WebTestClient
+				.bindToRouterFunction(new ReactiveAccountReadConfig().accountReadRoutes(handler))
+				.build();
+	}
+
+	@Test
+	@DisplayName("GET /accounts - returns the active accounts as a JSON array")
+	void getAllAccounts_WithActiveAccounts_ReturnsJsonArray() {
+
+		when(accountRepository.findAllActive()).thenReturn(Flux.just(
+				account(1, 1), account(2, 2)));
+
+		webTestClient.get().uri("/api/v1/accounts")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().contentType(MediaType.APPLICATION_JSON)
+				.expectBody()
+				.jsonPath("$.length()").isEqualTo(2)
+				.jsonPath("$[1].accountId").isEqualTo(2)
+				.jsonPath("$[1].accountType").isEqualTo("SAVINGS");
+	}
+
+	@Test
+	@DisplayName("GET /accounts/{accountId} - returns 304 when the ETag still matches")
+	void getAccountById_WithCurrentETag_ReturnsNotModified() {
+
+		String eTag = ETagGenerator.forAccount(1, UPDATE_DATE);
+		when(accountRepository.findById(1)).thenReturn(Mono.just(
+				new VersionedAccount(account(1, 1), UPDATE_DATE)));
+
+		webTestClient.get().uri("/api/v1/accounts/1")
+				.header(HttpHeaders.IF_NONE_MATCH, eTag)
+				.exchange()
+				.expectStatus().isNotModified()
+				.expectHeader().valueEquals(HttpHeaders.ETAG, eTag)
+				.expectBody().isEmpty();
+	}
+
+	@Test
+	@DisplayName("GET /accounts/{accountId} - returns 404 with an error body when not found")
+	void getAccountById_WithUnknownId_ReturnsNotFound() {
+
+		when(accountRepository.findById(999)).thenReturn(Mono.empty());
+
+		webTestClient.get().uri("/api/v1/accounts/999")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.message").isEqualTo("The account with ID 999 does not exist.")
+				.jsonPath("$.path").isEqualTo("uri=/api/v1/accounts/999");
+	}
+
+	@Test
+	@DisplayName("GET /accounts/customer/{customerId} - returns the accounts with their ETag")
+	void getAccountsByCustomerId_WithAccounts_ReturnsAccountsAndETag() {
+
+		when(accountRepository.findAccountsVersionByCustomerId(1)).thenReturn(Mono.just(
+				new AccountsVersion(2, UPDATE_DATE)));
+		when(accountRepository.findAllByCustomerId(1)).thenReturn(Flux.just(
+				account(1, 1), account(2, 1)));
+
+		webTestClient.get().uri("/api/v1/accounts/customer/1")
+				.exchange()
+				.expectStatus().isOk()
+				.expectHeader().valueEquals(HttpHeaders.ETAG,
+						ETagGenerator.forCustomerAccounts(1, 2, UPDATE_DATE))
+				.expectBody()
+				.jsonPath("$.length()").isEqualTo(2)
+				.jsonPath("$[0].customerId").isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("GET /accounts/customer/{customerId} - returns 404 without reading the accounts")
+	void getAccountsByCustomerId_WithoutAccounts_ReturnsNotFound() {
+
+		when(accountRepository.findAccountsVersionByCustomerId(999)).thenReturn(Mono.just(
+				new AccountsVersion(0, null)));
+
+		webTestClient.get().uri("/api/v1/accounts/customer/999")
+				.exchange()
+				.expectStatus().isNotFound()
+				.expectBody()
+				.jsonPath("$.message").isEqualTo("No accounts found with customer ID: 999");
+
+		verify(accountRepository, never()).findAllByCustomerId(any());
+	}
+
+	@Test
+	@DisplayName("GET /internal/accounts/is-active/customer/{customerId} - returns the check")
+	void accountIsActiveByCustomerId_WithoutActiveAccounts_ReturnsFalse() {
+
+		when(accountRepository.existsActiveByCustomerId(1)).thenReturn(Mono.just(false));
+
+		webTestClient.get().uri("/api/v1/internal/accounts/is-active/customer/1")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(Boolean.class).isEqualTo(false);
+	}
+
+	private static AccountDTO account(int accountId, int customerId) {
+		return new AccountDTO(accountId, "ACC-" + accountId, 100.0, AccountType.SAVINGS,
+				customerId);
+	}
+}
@@ -0,0 +1,147 @@
+package com.alessandragodoy.accountms.reactive;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.reactive.ReactiveAccountRepository.AccountsVersion;
+import com.alessandragodoy.accountms.reactive.ReactiveAccountRepository.VersionedAccount;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ReactiveAccountRepository}.
+ * Runs the queries with R2DBC against an in-memory H2 database in MySQL mode, with the account
+ * table of the main application's schema.
+ */
+class ReactiveAccountRepositoryTest {
+
+	private static final LocalDateTime CREATION_DATE = LocalDateTime.of(2026, 1, 2, 9, 0);
+	private static final LocalDateTime UPDATE_DATE = LocalDateTime.of(2026, 1, 30, 10, 15, 30);
+
+	private DatabaseClient databaseClient;
+	private ReactiveAccountRepository accountRepository;
+
+	@BeforeEach
+	void setUp() {
+		databaseClient = DatabaseClient.create(ConnectionFactories.get(
+				"r2dbc:h2:mem:///reactive-accounts;MODE=MySQL;DB_CLOSE_DELAY=-1"));
+		accountRepository = new ReactiveAccountRepository(databaseClient);
+
+		execute("CREATE TABLE account (" +
+				"account_id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, " +
+				"account_number VARCHAR(30) NOT NULL, " +
+				"balance DOUBLE NOT NULL, " +
+				"account_type VARCHAR(20) NOT NULL, " +
+				"customer_id INT NOT NULL, " +
+				"creation_date DATETIME NOT NULL, " +
+				"update_date DATETIME NOT NULL, " +
+				"active TINYINT(1) NOT NULL DEFAULT 1)");
+		insert("ACC-1", "SAVINGS", 1, UPDATE_DATE.minusDays(3), true);
+		insert("ACC-2", "CHECKING", 1, UPDATE_DATE, true);
+		insert("ACC-3", "SAVINGS", 2, UPDATE_DATE, false);
+	}
+
+	@AfterEach
+	void tearDown() {
+		execute("DROP TABLE account");
+	}
+
+	@Test
+	@DisplayName("findAllActive - returns only the active accounts")
+	void findAllActive_WithInactiveAccount_ReturnsActiveOnly() {
+
+		List<AccountDTO> accounts = accountRepository.findAllActive().collectList().block();
+
+		assertThat(accounts)
+				.extracting(AccountDTO::getAccountNumber)
+				.containsExactlyInAnyOrder("ACC-1", "ACC-2");
+	}
+
+	@Test
+	@DisplayName("findById - returns the account with its update date")
+	void findById_WithExistingAccount_ReturnsAccountAndUpdateDate() {
+
+		VersionedAccount result = accountRepository.findById(2).block();
+
+		assertThat(result).isNotNull();
+		assertThat(result.updateDate()).isEqualTo(UPDATE_DATE);
+		assertThat(result.account().getAccountId()).isEqualTo(2);
+		assertThat(result.account().getAccountNumber()).isEqualTo("ACC-2");
+		assertThat(result.account().getBalance()).isEqualTo(100.0);
+		assertThat(result.account().getAccountType()).isEqualTo(AccountType.CHECKING);
+		assertThat(result.account().getCustomerId()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("findById - returns empty when the account does not exist")
+	void findById_WithMissingAccount_ReturnsEmpty() {
+
+		assertThat(accountRepository.findById(99).blockOptional()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("findAllByCustomerId - returns the active and inactive accounts of the customer")
+	void findAllByCustomerId_WithAccounts_ReturnsCustomerAccounts() {
+
+		List<AccountDTO> accounts = accountRepository.findAllByCustomerId(2).collectList().block();
+
+		assertThat(accounts)
+				.extracting(AccountDTO::getAccountNumber)
+				.containsExactly("ACC-3");
+	}
+
+	@Test
+	@DisplayName("findAccountsVersionByCustomerId - returns the count and latest update date")
+	void findAccountsVersionByCustomerId_WithAccounts_ReturnsCountAndLatestUpdate() {
+
+		AccountsVersion version = accountRepository.findAccountsVersionByCustomerId(1).block();
+
+		assertThat(version).isEqualTo(new AccountsVersion(2L, UPDATE_DATE));
+	}
+
+	@Test
+	@DisplayName("findAccountsVersionByCustomerId - returns a zero count without accounts")
+	void findAccountsVersionByCustomerId_WithoutAccounts_ReturnsZeroCount() {
+
+		AccountsVersion version = accountRepository.findAccountsVersionByCustomerId(99).block();
+
+		assertThat(version).isEqualTo(new AccountsVersion(0L, null));
+	}
+
+	@Test
+	@DisplayName("existsActiveByCustomerId - checks for an active account of the customer")
+	void existsActiveByCustomerId_WithActiveAndInactiveAccounts_ChecksActiveOnly() {
+
+		assertThat(accountRepository.existsActiveByCustomerId(1).block()).isTrue();
+		assertThat(accountRepository.existsActiveByCustomerId(2).block()).isFalse();
+		assertThat(accountRepository.existsActiveByCustomerId(99).block()).isFalse();
+	}
+
+	private void insert(String accountNumber, String accountType, Integer customerId,
+			LocalDateTime updateDate, boolean active) {
+		databaseClient.sql("INSERT INTO account (account_number, balance, account_type, " +
+						"customer_id, creation_date, update_date, active) VALUES " +
+						"(:accountNumber, 100.0, :accountType, :customerId, :creationDate, " +
+						":updateDate, :active)")
+				.bind("accountNumber", accountNumber)
+				.bind("accountType", accountType)
+				.bind("customerId", customerId)
+				.bind("creationDate", CREATION_DATE)
+				.bind("updateDate", updateDate)
+				.bind("active", active ? 1 : 0)
+				.then()
+				.block();
+	}
+
+	private void execute(String sql) {
+		databaseClient.sql(sql).then().block();
+	}
+}
@@ -0,0 +1,72 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.model.AccountNumberSequence;
+import com.alessandragodoy.accountms.numbering.AccountNumberAllocator;
+import com.alessandragodoy.accountms.numbering.AccountNumberProperties;
+import com.alessandragodoy.accountms.numbering.AccountNumbers;
+import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the random account number generator with the block allocator.
+ * <p>
+ * The allocator reserves its blocks from an in-memory sequence, so the numbers measure the
+ * formatting and locking done for every account; the database round trip it replaces is paid
+ * once per {@code blockSize} accounts. Run with {@code -t <threads>} to measure contention, and
+ * with {@code -prof gc} to compare allocations:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="AccountNumberBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccountNumberBenchmark {
+
+	@Param({"100"})
+	private int blockSize;
+
+	private AccountNumberAllocator allocator;
+	private String accountNumber;
+
+	@Setup
+	public void setUp() {
+		AccountNumberSequence sequence = new AccountNumberSequence("account_number", 1);
+		allocator = new AccountNumberAllocator(sequenceName -> Optional.of(sequence),
+				TransactionOperations.withoutTransaction(), new AccountNumberProperties(blockSize));
+		accountNumber = AccountNumbers.format(7_992_739_871L);
+	}
+
+	@Benchmark
+	public String uuidGenerator() {
+		return AccountNumberGenerator.generateAccountNumber();
+	}
+
+	@Benchmark
+	public String blockAllocator() {
+		return allocator.next();
+	}
+
+	@Benchmark
+	public boolean checkDigitValidation() {
+		return AccountNumbers.isValid(accountNumber);
+	}
+}
@@ -0,0 +1,73 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.dto.TransferResponseDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.utility.DTOMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the DTO conversions done for every account and transfer response.
+ * <p>
+ * {@code convertToDTO} maps through ModelMapper, which resolves the properties reflectively on
+ * every call; the transfer responses are built with the Lombok builder. Run with
+ * {@code -prof gc} to see the bytes allocated per operation:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="DtoBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoBenchmark {
+
+	private Account account;
+	private Integer sourceAccountId;
+	private Integer destinationAccountId;
+	private Double sourceBalance;
+	private Double destinationBalance;
+
+	@Setup
+	public void setUp() {
+		LocalDateTime now = LocalDateTime.now();
+		account = new Account(1, "7992739871", 1500.0, AccountType.SAVINGS, 1, now, now, true);
+		sourceAccountId = 1;
+		destinationAccountId = 2;
+		sourceBalance = 1400.0;
+		destinationBalance = 600.0;
+	}
+
+	@Benchmark
+	public AccountDTO convertToDTO() {
+		return DTOMapper.convertToDTO(account, AccountDTO.class);
+	}
+
+	@Benchmark
+	public TransferResponseDTO transferSuccess() {
+		return TransferResponseDTO.success(sourceAccountId, destinationAccountId, sourceBalance,
+				destinationBalance);
+	}
+
+	@Benchmark
+	public TransferResponseDTO transferFailed() {
+		return TransferResponseDTO.failed("INSUFFICIENT_FUNDS",
+				"Insufficient balance in source account: " + sourceBalance);
+	}
+}
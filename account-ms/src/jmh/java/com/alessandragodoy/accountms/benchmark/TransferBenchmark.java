@@ -0,0 +1,95 @@
+package com.alessandragodoy.accountms.benchmark;
+
+import com.alessandragodoy.accountms.AccountMsApplication;
+import com.alessandragodoy.accountms.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.dto.TransferResponseDTO;
+import com.alessandragodoy.accountms.service.IInternalAccountService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@code executeTransfer} through the service bean, on an in-memory H2 database in
+ * MySQL mode migrated by Flyway. Hibernate's schema validation is off, as H2 reports the
+ * migrations' TINYINT flags as such rather than as booleans.
+ * <p>
+ * The context runs with the prod profile and without the web server, so each operation covers
+ * the transaction, the account reads and updates, the balance summaries and journal, and the
+ * balance events, but not MySQL's network round trips. The transfers alternate direction between
+ * two seeded accounts, so balances stay put however long it runs. Run with {@code -prof gc} to
+ * see the bytes allocated per transfer:
+ * </p>
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="TransferBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransferBenchmark {
+
+	private static final String[] ARGS = {
+			"--spring.profiles.active=prod",
+			"--spring.datasource.url=jdbc:h2:mem:account_db;MODE=MySQL",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.datasource.driver-class-name=org.h2.Driver",
+			"--spring.jpa.hibernate.ddl-auto=none",
+			"--customer.ms.url=http://localhost:0",
+			"--customer.ms.transport=stub",
+			"--account.balance-snapshot.enabled=false",
+			// DevTools is on the test classpath; its shutdown of in-memory databases races the pool
+			"--spring.autoconfigure.exclude=org.springframework.boot.devtools.autoconfigure"
+					+ ".DevToolsDataSourceAutoConfiguration",
+			"--logging.level.root=WARN"
+	};
+
+	private ConfigurableApplicationContext context;
+	private IInternalAccountService internalAccountService;
+	private TransferRequestDTO forward;
+	private TransferRequestDTO backward;
+	private boolean reverse;
+
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(AccountMsApplication.class)
+				.web(WebApplicationType.NONE)
+				.run(ARGS);
+		internalAccountService = context.getBean(IInternalAccountService.class);
+		forward = new TransferRequestDTO("TRANSFER_THIRD_PARTY_ACCOUNT", 1, 3, 0.01);
+		backward = new TransferRequestDTO("TRANSFER_THIRD_PARTY_ACCOUNT", 3, 1, 0.01);
+
+		TransferResponseDTO response = internalAccountService.executeTransfer(forward);
+		if (!response.isSuccess()) {
+			throw new IllegalStateException("The seeded transfer failed: " + response.getErrorCode());
+		}
+		internalAccountService.executeTransfer(backward);
+	}
+
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public TransferResponseDTO executeTransfer() {
+		reverse = !reverse;
+		return internalAccountService.executeTransfer(reverse ? backward : forward);
+	}
+}
@@ -1,9 +1,14 @@
 package com.alessandragodoy.accountms;
 
+import com.alessandragodoy.accountms.configuration.NativeImageHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@ImportRuntimeHints(NativeImageHints.class)
 public class AccountMsApplication {
 
 	public static void main(String[] args) {
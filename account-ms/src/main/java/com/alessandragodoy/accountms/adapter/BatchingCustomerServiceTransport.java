@@ -0,0 +1,162 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Transport collecting single validations into bulk calls of another transport.
+ * <p>
+ * The first validation of a batch waits up to the configured window for others to join it. The
+ * batch is sent as one bulk call when the window elapses or as soon as it reaches its maximum
+ * size, whichever comes first. Each caller gets the validation of its own customer back, and
+ * every caller of the batch fails with the same {@link ExternalServiceException} when the bulk
+ * call fails. Validations of the same customer within a window share one entry of the batch.
+ * </p>
+ * <p>
+ * The pending batch is guarded by a {@link ReentrantLock} rather than {@code synchronized}, so a
+ * virtual thread waiting for it does not pin its carrier thread.
+ * </p>
+ */
+public class BatchingCustomerServiceTransport implements CustomerServiceTransport, AutoCloseable {
+
+	private final CustomerServiceTransport delegate;
+	private final int maxSize;
+	private final long windowNanos;
+	private final ScheduledExecutorService scheduler;
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private Map<Integer, CompletableFuture<CustomerValidationResponseDTO>> pending =
+			new LinkedHashMap<>();
+	private ScheduledFuture<?> scheduledFlush;
+
+	public BatchingCustomerServiceTransport(CustomerServiceTransport delegate,
+											CustomerServiceBatchProperties properties) {
+		this.delegate = delegate;
+		this.maxSize = properties.maxSize();
+		this.windowNanos = properties.window().toNanos();
+		CustomizableThreadFactory threadFactory =
+				new CustomizableThreadFactory("customer-ms-batch-");
+		threadFactory.setDaemon(true);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+
+	@Override
+	public CompletableFuture<CustomerValidationResponseDTO> fetchValidation(Integer customerId) {
+
+		CompletableFuture<CustomerValidationResponseDTO> validation;
+		Map<Integer, CompletableFuture<CustomerValidationResponseDTO>> full = null;
+
+		lock.lock();
+		try {
+			validation = pending.get(customerId);
+			if (validation == null) {
+				validation = new CompletableFuture<>();
+				pending.put(customerId, validation);
+				if (pending.size() >= maxSize) {
+					full = drain();
+				} else if (scheduledFlush == null) {
+					scheduledFlush = scheduler.schedule(this::flush, windowNanos,
+							TimeUnit.NANOSECONDS);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (full != null) {
+			send(full);
+		}
+		return validation;
+	}
+
+	@Override
+	public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+			Set<Integer> customerIds) {
+
+		return delegate.fetchValidations(customerIds);
+	}
+
+	/**
+	 * Stops the scheduler, failing the validations still waiting for their batch.
+	 */
+	@Override
+	public void close() {
+
+		Map<Integer, CompletableFuture<CustomerValidationResponseDTO>> batch;
+		lock.lock();
+		try {
+			batch = drain();
+		} finally {
+			lock.unlock();
+		}
+		scheduler.shutdownNow();
+		batch.values().forEach(validation -> validation.completeExceptionally(
+				new ExternalServiceException("The call to the customer service was cancelled.")));
+	}
+
+	private void flush() {
+
+		Map<Integer, CompletableFuture<CustomerValidationResponseDTO>> batch;
+		lock.lock();
+		try {
+			batch = drain();
+		} finally {
+			lock.unlock();
+		}
+		send(batch);
+	}
+
+	/**
+	 * Takes the pending batch, leaving an empty one for the next validations. Must be called
+	 * while holding the lock.
+	 *
+	 * @return the pending batch
+	 */
+	private Map<Integer, CompletableFuture<CustomerValidationResponseDTO>> drain() {
+
+		Map<Integer, CompletableFuture<CustomerValidationResponseDTO>> batch = pending;
+		pending = new LinkedHashMap<>();
+		if (scheduledFlush != null) {
+			scheduledFlush.cancel(false);
+			scheduledFlush = null;
+		}
+		return batch;
+	}
+
+	private void send(Map<Integer, CompletableFuture<CustomerValidationResponseDTO>> batch) {
+
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> call;
+		try {
+			call = delegate.fetchValidations(Set.copyOf(batch.keySet()));
+		} catch (RuntimeException e) {
+			call = CompletableFuture.failedFuture(e);
+		}
+
+		call.whenComplete((validations, failure) -> batch.forEach((customerId, validation) -> {
+			if (failure != null) {
+				validation.completeExceptionally(ResilientCustomerServiceTransport.translate(failure));
+			} else if (validations.containsKey(customerId)) {
+				validation.complete(validations.get(customerId));
+			} else {
+				validation.completeExceptionally(new ExternalServiceException(
+						"Customer service returned no validation for the customer with ID "
+								+ customerId + "."));
+			}
+		}));
+	}
+}
@@ -0,0 +1,21 @@
+package com.alessandragodoy.accountms.adapter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for batching customer validations into bulk calls to the customer
+ * service.
+ *
+ * @param enabled whether single validations are batched into bulk calls
+ * @param maxSize the maximum number of customers sent in one bulk call
+ * @param window  how long the first validation of a batch waits for others to join it
+ */
+@ConfigurationProperties(prefix = "customer.ms.batch")
+public record CustomerServiceBatchProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("100") int maxSize,
+		@DefaultValue("10ms") Duration window) {
+}
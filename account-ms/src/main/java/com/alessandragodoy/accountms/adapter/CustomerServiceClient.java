@@ -0,0 +1,195 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Client for interacting with the Customer Microservice.
+ * <p>
+ * This class uses the <b>Singleton design pattern</b> to ensure that only one instance of the
+ * client exists.
+ * </p>
+ * <p>
+ * Validations are cached per customer, with a longer time to live for existing, active
+ * customers than for missing or inactive ones. Old entries are reloaded in the background while
+ * the cached value keeps being served, and failed calls are never cached.
+ * </p>
+ * <p>
+ * Concurrent lookups of the same customer are coalesced: the cache holds the future of a call
+ * while it is in flight, so every lookup that arrives before it completes waits on that same
+ * call, and only the first one reaches the customer service. Its result or failure is shared by all
+ * of them, and a failed call leaves no entry behind, so the next lookup calls the service again.
+ * Evicting a customer also drops its in-flight call, so lookups after the eviction never wait on
+ * a call that started before it.
+ * </p>
+ * <p>
+ * Calls go through a {@link CustomerServiceTransport}, which guards them with a bulkhead and a
+ * circuit breaker ({@link ResilientCustomerServiceTransport}) and may collect them into bulk
+ * calls ({@link BatchingCustomerServiceTransport}). Cached validations are still served while
+ * the circuit is open. {@link #validateCustomer(Integer)} is a blocking facade over
+ * {@link #validateCustomerAsync(Integer)} for synchronous callers.
+ * </p>
+ * <p>
+ * The cache runs its background work (reloads and expired entry cleanup)
+ * on the {@code customerServiceExecutor}, which uses virtual threads in virtual-thread mode.
+ * </p>
+ */
+@Component
+public class CustomerServiceClient {
+
+	static final String CACHE_NAME = "customerValidation";
+	public static final String EXECUTOR = "customerServiceExecutor";
+
+	private final AsyncLoadingCache<Integer, CustomerValidationResponseDTO> validations;
+
+	public CustomerServiceClient(CustomerServiceTransport transport,
+								 CustomerValidationCacheProperties properties,
+								 MeterRegistry meterRegistry,
+								 @Qualifier(EXECUTOR) Executor executor) {
+		this.validations = Caffeine.newBuilder()
+				.executor(executor)
+				.maximumSize(properties.maximumSize())
+				.expireAfter(validationExpiry(properties))
+				.refreshAfterWrite(properties.refreshAfter())
+				.recordStats()
+				.buildAsync(validationLoader(transport));
+
+		CaffeineCacheMetrics.monitor(meterRegistry, validations.synchronous(), CACHE_NAME);
+	}
+
+	/**
+	 * Validates if a customer exists and is active by their ID, waiting for the result.
+	 *
+	 * @param customerId the ID of the customer to validate
+	 * @return a {@link CustomerValidationResponseDTO} containing the customer's existence,
+	 * active status, and additional information.
+	 * @throws ExternalServiceException if unable to connect to the customer service or if the
+	 *                                  response is invalid.
+	 */
+	public CustomerValidationResponseDTO validateCustomer(Integer customerId) {
+
+		try {
+			return validateCustomerAsync(customerId).join();
+		} catch (CompletionException e) {
+			throw ResilientCustomerServiceTransport.translate(e);
+		}
+	}
+
+	/**
+	 * Validates if a customer exists and is active by their ID without blocking the caller.
+	 *
+	 * @param customerId the ID of the customer to validate
+	 * @return a future completed with the customer's validation, or completed exceptionally with
+	 * an {@link ExternalServiceException} if the customer service cannot be reached or its
+	 * response is invalid
+	 */
+	public CompletableFuture<CustomerValidationResponseDTO> validateCustomerAsync(
+			Integer customerId) {
+
+		return validations.get(customerId);
+	}
+
+	/**
+	 * Validates several customers, waiting for the result. Customers not cached are fetched with
+	 * a single bulk call to the customer service.
+	 *
+	 * @param customerIds the IDs of the customers to validate
+	 * @return the validations by customer ID; customers the customer service returned no
+	 * validation for have no entry
+	 * @throws ExternalServiceException if unable to connect to the customer service or if the
+	 *                                  response is invalid.
+	 */
+	public Map<Integer, CustomerValidationResponseDTO> validateCustomers(
+			Collection<Integer> customerIds) {
+
+		try {
+			return validations.getAll(customerIds).join();
+		} catch (CompletionException e) {
+			throw ResilientCustomerServiceTransport.translate(e);
+		}
+	}
+
+	/**
+	 * Discards the cached validation of a customer, so the next lookup calls the customer service.
+	 *
+	 * @param customerId the ID of the customer
+	 */
+	public void evictValidation(Integer customerId) {
+
+		validations.synchronous().invalidate(customerId);
+	}
+
+	private static AsyncCacheLoader<Integer, CustomerValidationResponseDTO> validationLoader(
+			CustomerServiceTransport transport) {
+
+		return new AsyncCacheLoader<>() {
+			@Override
+			public CompletableFuture<CustomerValidationResponseDTO> asyncLoad(Integer customerId,
+																		  Executor executor) {
+				return transport.fetchValidation(customerId);
+			}
+
+			@Override
+			public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> asyncLoadAll(
+					Set<? extends Integer> customerIds, Executor executor) {
+				return transport.fetchValidations(Set.copyOf(customerIds));
+			}
+		};
+	}
+
+	/**
+	 * Expires positive and negative validations after their own time to live, counted from the
+	 * last load or reload.
+	 *
+	 * @param properties the cache properties
+	 * @return the expiry policy
+	 */
+	private static Expiry<Integer, CustomerValidationResponseDTO> validationExpiry(
+			CustomerValidationCacheProperties properties) {
+		long positiveNanos = properties.positiveTtl().toNanos();
+		long negativeNanos = properties.negativeTtl().toNanos();
+
+		return new Expiry<>() {
+			@Override
+			public long expireAfterCreate(Integer customerId,
+										  CustomerValidationResponseDTO validation,
+										  long currentTime) {
+				return isPositive(validation) ? positiveNanos : negativeNanos;
+			}
+
+			@Override
+			public long expireAfterUpdate(Integer customerId,
+										  CustomerValidationResponseDTO validation,
+										  long currentTime, long currentDuration) {
+				return expireAfterCreate(customerId, validation, currentTime);
+			}
+
+			@Override
+			public long expireAfterRead(Integer customerId,
+										CustomerValidationResponseDTO validation,
+										long currentTime, long currentDuration) {
+				return currentDuration;
+			}
+		};
+	}
+
+	private static boolean isPositive(CustomerValidationResponseDTO validation) {
+		return Boolean.TRUE.equals(validation.getExists())
+				&& Boolean.TRUE.equals(validation.getIsActive());
+	}
+}
@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.adapter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for hedging slow customer validations with a second call.
+ *
+ * @param enabled              whether slow validations are hedged
+ * @param percentile           the percentile of recent latency after which a call is hedged
+ * @param budgetPercent        the maximum share of validations that may be hedged, in percent
+ * @param minDelay             the minimum time to wait before hedging a call
+ * @param latencyWindow        how long a latency sample counts towards the percentile
+ * @param delayRefreshInterval how long the hedge delay computed from the percentile is reused
+ */
+@ConfigurationProperties(prefix = "customer.ms.hedging")
+public record CustomerServiceHedgingProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("0.95") double percentile,
+		@DefaultValue("5") double budgetPercent,
+		@DefaultValue("10ms") Duration minDelay,
+		@DefaultValue("1m") Duration latencyWindow,
+		@DefaultValue("1s") Duration delayRefreshInterval) {
+}
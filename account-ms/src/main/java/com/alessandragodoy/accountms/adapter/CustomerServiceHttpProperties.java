@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.adapter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the pooled HTTP client used to call the customer service.
+ *
+ * @param maxConnectionsPerRoute    the maximum number of open connections to the customer service
+ * @param maxConnectionsTotal       the maximum number of open connections of the pool
+ * @param connectTimeout            how long establishing a connection may take
+ * @param readTimeout               how long to wait for the response once the request is sent
+ * @param acquireTimeout            how long to wait for a free connection when the pool is busy
+ * @param keepAlive                 how long an idle connection is kept open for reuse
+ */
+@ConfigurationProperties(prefix = "customer.ms.http")
+public record CustomerServiceHttpProperties(
+		@DefaultValue("50") int maxConnectionsPerRoute,
+		@DefaultValue("100") int maxConnectionsTotal,
+		@DefaultValue("2s") Duration connectTimeout,
+		@DefaultValue("5s") Duration readTimeout,
+		@DefaultValue("1s") Duration acquireTimeout,
+		@DefaultValue("30s") Duration keepAlive) {
+}
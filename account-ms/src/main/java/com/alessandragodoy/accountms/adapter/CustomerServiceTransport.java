@@ -0,0 +1,35 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport used by {@link CustomerServiceClient} to reach the customer service.
+ */
+public interface CustomerServiceTransport {
+
+	/**
+	 * Fetches the validation of a customer from the customer service.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return a future completed with the validation, or completed exceptionally with an
+	 * {@link ExternalServiceException} if the customer service cannot be reached or its response
+	 * is invalid
+	 */
+	CompletableFuture<CustomerValidationResponseDTO> fetchValidation(Integer customerId);
+
+	/**
+	 * Fetches the validations of several customers from the customer service in a single call.
+	 *
+	 * @param customerIds the IDs of the customers
+	 * @return a future completed with the validations by customer ID, or completed exceptionally
+	 * with an {@link ExternalServiceException} if the customer service cannot be reached or its
+	 * response is invalid. Customers missing from the response have no entry.
+	 */
+	CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+			Set<Integer> customerIds);
+}
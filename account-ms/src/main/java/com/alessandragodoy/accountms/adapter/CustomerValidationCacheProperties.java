@@ -0,0 +1,23 @@
+package com.alessandragodoy.accountms.adapter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cache of customer validations.
+ *
+ * @param maximumSize  the maximum number of customers kept before eviction
+ * @param positiveTtl  how long the validation of an existing, active customer is kept
+ * @param negativeTtl  how long the validation of a missing or inactive customer is kept
+ * @param refreshAfter how old a validation has to be for a read to reload it in the background;
+ *                     entries that expire earlier are reloaded on the next read instead
+ */
+@ConfigurationProperties(prefix = "customer.ms.validation-cache")
+public record CustomerValidationCacheProperties(
+		@DefaultValue("10000") long maximumSize,
+		@DefaultValue("10m") Duration positiveTtl,
+		@DefaultValue("30s") Duration negativeTtl,
+		@DefaultValue("5m") Duration refreshAfter) {
+}
@@ -0,0 +1,229 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Transport hedging slow validations of another transport.
+ * <p>
+ * When a validation has not answered within the configured percentile of recent latency, an
+ * identical second call is sent. The first successful answer wins and the other call is
+ * cancelled; the validation fails only when every call sent for it has failed. Hedges are
+ * limited by a budget: each validation earns the configured percentage of a hedge, and a hedge
+ * is sent only when a whole one has been earned, so at most that share of the traffic is
+ * duplicated. Bulk calls are not hedged and their latency is not sampled. The hedge delay is
+ * recomputed from the timer at most once per {@code delayRefreshInterval}, not on every call.
+ * </p>
+ * <p>
+ * The latency of each successful validation, from its original call to the first answer, is
+ * published as the {@code customer.ms.validation.latency} timer, and hedges as the {@code customer.ms.hedges} counter tagged with {@code event}:
+ * {@code fired}, {@code won} (the hedge answered first) or {@code rejected} (over budget).
+ * </p>
+ */
+public class HedgingCustomerServiceTransport implements CustomerServiceTransport {
+
+	/**
+	 * Hedges that can be saved up while customer-ms is fast, so a burst of slow calls can still
+	 * be hedged.
+	 */
+	private static final long MAX_SAVED_HEDGES = 10;
+	private static final long HEDGE_COST = 10_000;
+
+	private final CustomerServiceTransport delegate;
+	private final long minDelayNanos;
+	private final long delayRefreshNanos;
+	private final AtomicLong nextDelayRefresh;
+	private volatile long hedgeDelayNanos;
+	private final long earnedPerCall;
+	private final AtomicLong budget = new AtomicLong();
+	private final Timer latency;
+	private final Counter hedgesFired;
+	private final Counter hedgesWon;
+	private final Counter hedgesRejected;
+
+	public HedgingCustomerServiceTransport(CustomerServiceTransport delegate,
+										   CustomerServiceHedgingProperties properties,
+										   MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.minDelayNanos = properties.minDelay().toNanos();
+		this.delayRefreshNanos = properties.delayRefreshInterval().toNanos();
+		this.nextDelayRefresh = new AtomicLong(System.nanoTime() + delayRefreshNanos);
+		this.hedgeDelayNanos = minDelayNanos;
+		this.earnedPerCall = Math.round(properties.budgetPercent() * HEDGE_COST / 100);
+		this.latency = Timer.builder("customer.ms.validation.latency")
+				.description("Latency of successful calls to the customer service")
+				.publishPercentiles(properties.percentile())
+				.distributionStatisticExpiry(properties.latencyWindow())
+				.register(meterRegistry);
+		this.hedgesFired = hedgeCounter(meterRegistry, "fired");
+		this.hedgesWon = hedgeCounter(meterRegistry, "won");
+		this.hedgesRejected = hedgeCounter(meterRegistry, "rejected");
+	}
+
+	@Override
+	public CompletableFuture<CustomerValidationResponseDTO> fetchValidation(Integer customerId) {
+
+		return new HedgedCall<>(() -> delegate.fetchValidation(customerId)).start();
+	}
+
+	@Override
+	public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+			Set<Integer> customerIds) {
+
+		return delegate.fetchValidations(customerIds);
+	}
+
+	/**
+	 * Returns how long a call waits before being hedged. The first call after the refresh
+	 * interval has elapsed recomputes it; every other call reads the last computed value.
+	 *
+	 * @return the delay in nanoseconds
+	 */
+	long hedgeDelayNanos() {
+
+		long now = System.nanoTime();
+		long refreshAt = nextDelayRefresh.get();
+		if (now - refreshAt >= 0
+				&& nextDelayRefresh.compareAndSet(refreshAt, now + delayRefreshNanos)) {
+			hedgeDelayNanos = computeHedgeDelayNanos();
+		}
+		return hedgeDelayNanos;
+	}
+
+	/**
+	 * Computes the configured percentile of the latency sampled over the latency window, but
+	 * never less than the minimum delay.
+	 *
+	 * @return the delay in nanoseconds
+	 */
+	private long computeHedgeDelayNanos() {
+
+		ValueAtPercentile[] percentiles = latency.takeSnapshot().percentileValues();
+		double percentileNanos = percentiles.length == 0 ? 0 :
+				percentiles[0].value(TimeUnit.NANOSECONDS);
+
+		return Math.max(minDelayNanos, (long) percentileNanos);
+	}
+
+	private void earnHedge() {
+
+		long saved = MAX_SAVED_HEDGES * HEDGE_COST;
+		budget.updateAndGet(current -> Math.min(saved, current + earnedPerCall));
+	}
+
+	private boolean spendHedge() {
+
+		long current = budget.get();
+		while (current >= HEDGE_COST) {
+			if (budget.compareAndSet(current, current - HEDGE_COST)) {
+				return true;
+			}
+			current = budget.get();
+		}
+		return false;
+	}
+
+	private static Counter hedgeCounter(MeterRegistry meterRegistry, String event) {
+
+		return Counter.builder("customer.ms.hedges")
+				.description("Hedged calls to the customer service")
+				.tag("event", event)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * A validation with its original call and, if it was slow, its hedge.
+	 *
+	 * @param <T> the type of the answer
+	 */
+	private final class HedgedCall<T> {
+
+		private final Supplier<CompletableFuture<T>> call;
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private final List<CompletableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+		private final AtomicInteger outstanding = new AtomicInteger();
+		private final AtomicBoolean settled = new AtomicBoolean();
+		private final long startedAt = System.nanoTime();
+
+		private HedgedCall(Supplier<CompletableFuture<T>> call) {
+			this.call = call;
+		}
+
+		private CompletableFuture<T> start() {
+
+			earnHedge();
+			attempt(false);
+			CompletableFuture.delayedExecutor(hedgeDelayNanos(), TimeUnit.NANOSECONDS)
+					.execute(this::hedge);
+			return result;
+		}
+
+		private void hedge() {
+
+			if (settled.get()) {
+				return;
+			}
+			if (!spendHedge()) {
+				hedgesRejected.increment();
+				return;
+			}
+			hedgesFired.increment();
+			attempt(true);
+		}
+
+		private void attempt(boolean hedge) {
+
+			outstanding.incrementAndGet();
+			CompletableFuture<T> attempt = send();
+			attempts.add(attempt);
+
+			attempt.whenComplete((answer, failure) -> {
+				if (failure == null) {
+					if (settled.compareAndSet(false, true)) {
+						latency.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+						if (hedge) {
+							hedgesWon.increment();
+						}
+						cancelAllBut(attempt);
+						result.complete(answer);
+					}
+				} else if (outstanding.decrementAndGet() == 0 && settled.compareAndSet(false, true)) {
+					result.completeExceptionally(failure);
+				}
+			});
+			if (settled.get()) {
+				attempt.cancel(true);
+			}
+		}
+
+		private CompletableFuture<T> send() {
+
+			try {
+				return call.get();
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		private void cancelAllBut(CompletableFuture<T> winner) {
+
+			attempts.stream()
+					.filter(attempt -> attempt != winner)
+					.forEach(attempt -> attempt.cancel(true));
+		}
+	}
+}
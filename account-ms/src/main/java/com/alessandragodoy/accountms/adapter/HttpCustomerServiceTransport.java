@@ -0,0 +1,143 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Transport calling the customer service over HTTP with a pooled, non-blocking client. Calls
+ * complete on the client's I/O threads, and cancelling the returned future aborts the request.
+ * <p>
+ * Single validations are fetched with {@code GET {customer.ms.url}/{customerId}}. Bulk
+ * validations are fetched with {@code POST {customer.ms.url}/validations}, sending a JSON array
+ * of customer IDs and expecting a JSON object with the validation of each customer keyed by its
+ * ID.
+ * </p>
+ */
+public class HttpCustomerServiceTransport implements CustomerServiceTransport {
+
+	static final String BULK_VALIDATION_PATH = "validations";
+
+	private final CloseableHttpAsyncClient httpClient;
+	private final ObjectMapper objectMapper;
+	private final String customerMsBaseUrl;
+	private final JavaType validationType;
+	private final JavaType validationsType;
+
+	public HttpCustomerServiceTransport(CloseableHttpAsyncClient httpClient,
+										ObjectMapper objectMapper, String customerMsBaseUrl) {
+		this.httpClient = httpClient;
+		this.objectMapper = objectMapper;
+		this.customerMsBaseUrl = customerMsBaseUrl;
+		this.validationType = objectMapper.constructType(CustomerValidationResponseDTO.class);
+		this.validationsType = objectMapper.getTypeFactory().constructMapType(Map.class,
+				Integer.class, CustomerValidationResponseDTO.class);
+	}
+
+	@Override
+	public CompletableFuture<CustomerValidationResponseDTO> fetchValidation(Integer customerId) {
+
+		SimpleHttpRequest request = SimpleRequestBuilder
+				.get(UriComponentsBuilder
+						.fromUriString(customerMsBaseUrl)
+						.pathSegment(customerId.toString())
+						.toUriString())
+				.setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+				.build();
+
+		return execute(request, validationType);
+	}
+
+	@Override
+	public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+			Set<Integer> customerIds) {
+
+		byte[] body;
+		try {
+			body = objectMapper.writeValueAsBytes(customerIds);
+		} catch (JsonProcessingException e) {
+			return CompletableFuture.failedFuture(new ExternalServiceException(
+					"Unable to build the request to the customer service. " + e.getMessage()));
+		}
+
+		SimpleHttpRequest request = SimpleRequestBuilder
+				.post(UriComponentsBuilder
+						.fromUriString(customerMsBaseUrl)
+						.pathSegment(BULK_VALIDATION_PATH)
+						.toUriString())
+				.setHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+				.setBody(body, ContentType.APPLICATION_JSON)
+				.build();
+
+		return execute(request, validationsType);
+	}
+
+	private <T> CompletableFuture<T> execute(SimpleHttpRequest request, JavaType responseType) {
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+
+		Future<SimpleHttpResponse> call = httpClient.execute(request, new FutureCallback<>() {
+			@Override
+			public void completed(SimpleHttpResponse response) {
+				try {
+					result.complete(readBody(response, responseType));
+				} catch (ExternalServiceException e) {
+					result.completeExceptionally(e);
+				}
+			}
+
+			@Override
+			public void failed(Exception e) {
+				result.completeExceptionally(new ExternalServiceException(
+						"Unable to connect to the customer service. " + e.getMessage()));
+			}
+
+			@Override
+			public void cancelled() {
+				result.completeExceptionally(new ExternalServiceException(
+						"The call to the customer service was cancelled."));
+			}
+		});
+		result.whenComplete((answer, failure) -> {
+			if (result.isCancelled()) {
+				call.cancel(true);
+			}
+		});
+
+		return result;
+	}
+
+	private <T> T readBody(SimpleHttpResponse response, JavaType responseType) {
+
+		byte[] body = response.getBodyBytes();
+
+		if (response.getCode() < 200 || response.getCode() >= 300 || body == null
+				|| body.length == 0) {
+			throw new ExternalServiceException("Customer service returned an error or empty body.");
+		}
+
+		try {
+			return objectMapper.readValue(body, responseType);
+		} catch (IOException e) {
+			throw new ExternalServiceException(
+					"Customer service returned an invalid body. " + e.getMessage());
+		}
+	}
+}
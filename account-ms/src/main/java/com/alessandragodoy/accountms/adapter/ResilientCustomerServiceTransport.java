@@ -0,0 +1,85 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Transport guarding the calls of another transport with a bulkhead that limits the concurrent
+ * calls and a circuit breaker that fails fast while the customer service keeps failing or
+ * responding slowly. A bulk call takes a single permit and counts as a single call. Calls
+ * rejected by the bulkhead are not recorded by the circuit breaker.
+ */
+public class ResilientCustomerServiceTransport implements CustomerServiceTransport {
+
+	public static final String RESILIENCE_INSTANCE = "customerService";
+
+	private final CustomerServiceTransport delegate;
+	private final CircuitBreaker circuitBreaker;
+	private final Bulkhead bulkhead;
+
+	public ResilientCustomerServiceTransport(CustomerServiceTransport delegate,
+											 CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+		this.delegate = delegate;
+		this.circuitBreaker = circuitBreaker;
+		this.bulkhead = bulkhead;
+	}
+
+	@Override
+	public CompletableFuture<CustomerValidationResponseDTO> fetchValidation(Integer customerId) {
+
+		return guard(() -> delegate.fetchValidation(customerId));
+	}
+
+	@Override
+	public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+			Set<Integer> customerIds) {
+
+		return guard(() -> delegate.fetchValidations(customerIds));
+	}
+
+	private <T> CompletableFuture<T> guard(Supplier<CompletionStage<T>> call) {
+
+		Supplier<CompletionStage<T>> guarded = Bulkhead.decorateCompletionStage(bulkhead,
+				CircuitBreaker.decorateCompletionStage(circuitBreaker, call));
+
+		return guarded.get().toCompletableFuture()
+				.exceptionallyCompose(e -> CompletableFuture.failedFuture(translate(e)));
+	}
+
+	/**
+	 * Translates a failed call into the {@link ExternalServiceException} reported to the callers.
+	 *
+	 * @param failure the failure of the call
+	 * @return the exception to report
+	 */
+	static ExternalServiceException translate(Throwable failure) {
+
+		Throwable cause = failure instanceof CompletionException && failure.getCause() != null ?
+				failure.getCause() : failure;
+
+		if (cause instanceof ExternalServiceException externalServiceException) {
+			return externalServiceException;
+		}
+		if (cause instanceof CallNotPermittedException) {
+			return new ExternalServiceException(
+					"The customer service is unavailable, calls are suspended until it recovers.");
+		}
+		if (cause instanceof BulkheadFullException) {
+			return new ExternalServiceException(
+					"Too many concurrent calls to the customer service, try again later.");
+		}
+		return new ExternalServiceException(
+				"Unable to connect to the customer service. " + cause.getMessage());
+	}
+}
@@ -0,0 +1,94 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory transport standing in for the customer service, for running the service locally
+ * and testing without it. Every customer exists and is active unless registered otherwise with
+ * {@link #register(Integer, CustomerValidationResponseDTO)}. Calls are counted, and complete
+ * immediately or after a fixed latency standing in for the network and the customer service,
+ * which load tests use to keep requests waiting as they would on the real service.
+ */
+public class StubCustomerServiceTransport implements CustomerServiceTransport {
+
+	private static final CustomerValidationResponseDTO ACTIVE =
+			new CustomerValidationResponseDTO(true, true, "Customer is active");
+
+	private final Map<Integer, CustomerValidationResponseDTO> validations =
+			new ConcurrentHashMap<>();
+	private final AtomicInteger singleCalls = new AtomicInteger();
+	private final AtomicInteger bulkCalls = new AtomicInteger();
+	private final Executor responder;
+
+	public StubCustomerServiceTransport() {
+		this(Duration.ZERO);
+	}
+
+	public StubCustomerServiceTransport(Duration latency) {
+		this.responder = latency.isZero() ? Runnable::run :
+				CompletableFuture.delayedExecutor(latency.toNanos(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Sets the validation returned for a customer.
+	 *
+	 * @param customerId the ID of the customer
+	 * @param validation the validation to return
+	 */
+	public void register(Integer customerId, CustomerValidationResponseDTO validation) {
+
+		validations.put(customerId, validation);
+	}
+
+	@Override
+	public CompletableFuture<CustomerValidationResponseDTO> fetchValidation(Integer customerId) {
+
+		singleCalls.incrementAndGet();
+		return CompletableFuture.supplyAsync(() -> validationOf(customerId), responder);
+	}
+
+	@Override
+	public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+			Set<Integer> customerIds) {
+
+		bulkCalls.incrementAndGet();
+		return CompletableFuture.supplyAsync(() -> customerIds.stream()
+				.collect(Collectors.toMap(Function.identity(), this::validationOf)), responder);
+	}
+
+	/**
+	 * Returns the number of single validations fetched so far.
+	 *
+	 * @return the number of single calls
+	 */
+	public int getSingleCalls() {
+
+		return singleCalls.get();
+	}
+
+	/**
+	 * Returns the number of bulk calls made so far.
+	 *
+	 * @return the number of bulk calls
+	 */
+	public int getBulkCalls() {
+
+		return bulkCalls.get();
+	}
+
+	private CustomerValidationResponseDTO validationOf(Integer customerId) {
+
+		return validations.getOrDefault(customerId, ACTIVE);
+	}
+}
@@ -0,0 +1,52 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.service.impl.AccountCreator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Configuration for single account creation.
+ * <p>
+ * Accounts are written on a dedicated executor once the customer service has validated the
+ * customer, so neither the request threads nor the HTTP client's I/O threads wait on the
+ * database. The executor uses virtual threads when they are enabled with
+ * {@code spring.threads.virtual.enabled=true}, and a fixed pool of platform threads otherwise.
+ * </p>
+ * <p>
+ * The pool's queue is unbounded: a rejected task would leave its request without a response,
+ * and the connection permits already bound how many creations reach the database at once.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(AccountCreationProperties.class)
+public class AccountCreationConfig {
+
+	private static final String THREAD_PREFIX = "account-create-";
+
+	@Bean(name = AccountCreator.EXECUTOR, destroyMethod = "")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public Executor virtualAccountCreationExecutor() {
+
+		return new VirtualThreadTaskExecutor(THREAD_PREFIX);
+	}
+
+	@Bean(name = AccountCreator.EXECUTOR)
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public Executor accountCreationExecutor(AccountCreationProperties properties) {
+
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix(THREAD_PREFIX);
+		executor.setCorePoolSize(properties.executorThreads());
+		executor.setMaxPoolSize(properties.executorThreads());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+
+		return executor;
+	}
+}
@@ -0,0 +1,15 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for single account creation.
+ *
+ * @param executorThreads the number of platform threads writing validated accounts; unused with
+ *                        virtual threads
+ */
+@ConfigurationProperties(prefix = "account.create")
+public record AccountCreationProperties(
+		@DefaultValue("10") int executorThreads) {
+}
@@ -0,0 +1,62 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.event.AccountEventBroadcaster;
+import com.alessandragodoy.accountms.event.AccountEventProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for the account change event stream.
+ * <p>
+ * Events are written to subscribers by a dedicated sender executor, so slow clients never hold
+ * the request or transaction threads that publish the changes. A write to a client that stopped
+ * reading blocks its thread until the servlet container gives up on it. The executor uses
+ * virtual threads when they are enabled with {@code spring.threads.virtual.enabled=true}.
+ * Otherwise it keeps {@code senderThreads} platform threads, queues up to
+ * {@code senderQueueSize} subscribers while they are all busy, and only then starts more, up to
+ * {@code maxSenderThreads}. Subscribers it cannot take are disconnected instead of adding a
+ * thread per open stream. It never runs more than one drain per subscriber, and stalled
+ * subscribers are disconnected after {@code sendTimeout}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties(AccountEventProperties.class)
+public class AccountEventConfig {
+
+	private static final String THREAD_PREFIX = "account-events-";
+
+	@Bean(name = "accountEventSender", destroyMethod = "")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public Executor virtualAccountEventSender() {
+
+		return new VirtualThreadTaskExecutor(THREAD_PREFIX);
+	}
+
+	@Bean(name = "accountEventSender", destroyMethod = "shutdownNow")
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public ThreadPoolExecutor accountEventSender(AccountEventProperties properties) {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(THREAD_PREFIX);
+		threadFactory.setDaemon(true);
+
+		return new ThreadPoolExecutor(properties.senderThreads(), properties.maxSenderThreads(),
+				60L, TimeUnit.SECONDS, new ArrayBlockingQueue<>(properties.senderQueueSize()),
+				threadFactory);
+	}
+
+	@Bean
+	public AccountEventBroadcaster accountEventBroadcaster(AccountEventProperties properties,
+			Executor accountEventSender, MeterRegistry meterRegistry) {
+		return new AccountEventBroadcaster(properties, accountEventSender, meterRegistry);
+	}
+}
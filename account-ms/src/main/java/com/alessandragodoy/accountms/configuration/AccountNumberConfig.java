@@ -0,0 +1,30 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.numbering.AccountNumberAllocator;
+import com.alessandragodoy.accountms.numbering.AccountNumberProperties;
+import com.alessandragodoy.accountms.repository.AccountNumberSequenceRepository;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuration for the account number allocator. Blocks are reserved in a new transaction, so
+ * the sequence row is locked only for the reservation and not for the whole account creation
+ * that needed it.
+ */
+@Configuration
+@EnableConfigurationProperties(AccountNumberProperties.class)
+public class AccountNumberConfig {
+
+	@Bean
+	public AccountNumberAllocator accountNumberAllocator(
+			AccountNumberSequenceRepository sequenceRepository,
+			PlatformTransactionManager transactionManager, AccountNumberProperties properties) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		return new AccountNumberAllocator(sequenceRepository, transactionTemplate, properties);
+	}
+}
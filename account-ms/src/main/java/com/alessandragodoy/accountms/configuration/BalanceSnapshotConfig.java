@@ -0,0 +1,33 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.job.BalanceSnapshotJob;
+import com.alessandragodoy.accountms.job.BalanceSnapshotProperties;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceSnapshotRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for the background balance snapshot job. Runs on several instances are
+ * serialized by a database lock, so the job can stay enabled on all of them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "account.balance-snapshot.enabled", havingValue = "true",
+		matchIfMissing = true)
+@EnableConfigurationProperties(BalanceSnapshotProperties.class)
+public class BalanceSnapshotConfig {
+
+	@Bean
+	public BalanceSnapshotJob balanceSnapshotJob(DataSource dataSource,
+			AccountRepository accountRepository, BalanceSnapshotRepository balanceSnapshotRepository,
+			PlatformTransactionManager transactionManager, BalanceSnapshotProperties properties) {
+		return new BalanceSnapshotJob(dataSource, accountRepository, balanceSnapshotRepository,
+				new TransactionTemplate(transactionManager), properties);
+	}
+}
@@ -0,0 +1,12 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for bulk account creation.
+ */
+@Configuration
+@EnableConfigurationProperties(BulkAccountProperties.class)
+public class BulkAccountConfig {
+}
@@ -0,0 +1,17 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for bulk account creation.
+ *
+ * @param maxItems  the maximum number of accounts in one bulk creation request
+ * @param chunkSize the number of accounts inserted in each transaction; a multiple of the JDBC
+ *                  batch size keeps every batch full
+ */
+@ConfigurationProperties(prefix = "account.bulk-create")
+public record BulkAccountProperties(
+		@DefaultValue("1000") int maxItems,
+		@DefaultValue("500") int chunkSize) {
+}
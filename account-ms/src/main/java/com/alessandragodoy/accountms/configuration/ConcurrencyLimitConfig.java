@@ -0,0 +1,42 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.limiter.AdaptiveConcurrencyLimiter;
+import com.alessandragodoy.accountms.limiter.ConcurrencyLimitFilter;
+import com.alessandragodoy.accountms.limiter.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration for the adaptive concurrency limit, enabled with
+ * {@code http.concurrency-limit.enabled=true}. The filter covers the API only and runs ahead of
+ * the other filters, so shed requests cost as little as possible and the actuator endpoints stay
+ * reachable under overload.
+ */
+@Configuration
+@ConditionalOnProperty(name = "http.concurrency-limit.enabled", havingValue = "true")
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+	@Bean
+	public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+			ConcurrencyLimitProperties properties) {
+		return new AdaptiveConcurrencyLimiter(properties);
+	}
+
+	@Bean
+	public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+			AdaptiveConcurrencyLimiter limiter, ConcurrencyLimitProperties properties,
+			ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+				new ConcurrencyLimitFilter(limiter, properties, objectMapper, meterRegistry));
+		registration.addUrlPatterns("/api/*");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return registration;
+	}
+}
@@ -0,0 +1,58 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.datasource.ConnectionLeakDetectionProperties;
+import com.alessandragodoy.accountms.datasource.ConnectionLeakDetector;
+import com.alessandragodoy.accountms.datasource.LeakDetectingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for reporting connections held too long, enabled with
+ * {@code datasource.leak-detection.enabled=true}. The application's {@code dataSource} bean is
+ * wrapped in a {@link LeakDetectingDataSource} before any other wrapper, so that time spent
+ * waiting for a connection permit does not count as holding the connection.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.leak-detection.enabled", havingValue = "true")
+@EnableConfigurationProperties(ConnectionLeakDetectionProperties.class)
+public class ConnectionLeakDetectionConfig {
+
+	private static final String DATA_SOURCE = "dataSource";
+
+	@Bean
+	public ConnectionLeakDetector connectionLeakDetector(
+			ConnectionLeakDetectionProperties properties, MeterRegistry meterRegistry) {
+		return new ConnectionLeakDetector(properties.threshold(), meterRegistry);
+	}
+
+	@Bean
+	public static BeanPostProcessor leakDetectionPostProcessor(
+			ObjectProvider<ConnectionLeakDetector> detector) {
+		return new LeakDetectionPostProcessor(detector);
+	}
+
+	private record LeakDetectionPostProcessor(ObjectProvider<ConnectionLeakDetector> detector)
+			implements BeanPostProcessor, Ordered {
+
+		@Override
+		public Object postProcessAfterInitialization(Object bean, String beanName) {
+			if (DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource) {
+				return new LeakDetectingDataSource(dataSource, detector.getObject());
+			}
+			return bean;
+		}
+
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+	}
+}
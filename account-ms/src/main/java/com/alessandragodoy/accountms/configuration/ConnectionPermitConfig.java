@@ -0,0 +1,48 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.datasource.ConnectionPermitDataSource;
+import com.alessandragodoy.accountms.datasource.ConnectionPermitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for the permits bounding concurrent database connections, enabled with
+ * {@code datasource.permits.enabled=true}. The application's {@code dataSource} bean, pooled or
+ * routing, is wrapped in a {@link ConnectionPermitDataSource}.
+ * <p>
+ * The permits matter in both threading modes: with more concurrent requests than pooled
+ * connections, transactions holding every connection would otherwise all wait for the extra one
+ * their ID and account number block reservations need.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.permits.enabled", havingValue = "true")
+@EnableConfigurationProperties(ConnectionPermitProperties.class)
+public class ConnectionPermitConfig {
+
+	private static final String DATA_SOURCE = "dataSource";
+
+	@Bean
+	public static BeanPostProcessor connectionPermitPostProcessor(
+			ObjectProvider<ConnectionPermitProperties> properties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (DATA_SOURCE.equals(beanName) && bean instanceof DataSource dataSource) {
+					return new ConnectionPermitDataSource(dataSource, properties.getObject(),
+							meterRegistry.getObject());
+				}
+				return bean;
+			}
+		};
+	}
+}
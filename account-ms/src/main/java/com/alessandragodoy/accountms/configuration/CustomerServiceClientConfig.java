@@ -0,0 +1,103 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
+import com.alessandragodoy.accountms.adapter.CustomerServiceHttpProperties;
+import com.alessandragodoy.accountms.adapter.CustomerValidationCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuration of the non-blocking HTTP client used to call the customer service.
+ * <p>
+ * Connections are pooled and kept alive between calls, and responses are handled by the
+ * client's I/O threads, so waiting on the customer service does not hold a thread per call.
+ * Failed calls are not retried by the client, so a slow customer service is not hit twice.
+ * </p>
+ * <p>
+ * The client's background work runs on virtual threads when they are enabled with
+ * {@code spring.threads.virtual.enabled=true} on Java 21 or later, and on the common fork-join
+ * pool otherwise.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties({CustomerServiceHttpProperties.class,
+	CustomerValidationCacheProperties.class})
+public class CustomerServiceClientConfig {
+
+	private static final String POOL_NAME = "customer-ms";
+
+	@Bean
+	public PoolingAsyncClientConnectionManager customerServiceConnectionManager(
+			CustomerServiceHttpProperties properties, MeterRegistry meterRegistry) {
+
+		PoolingAsyncClientConnectionManager connectionManager =
+				PoolingAsyncClientConnectionManagerBuilder.create()
+						.setMaxConnPerRoute(properties.maxConnectionsPerRoute())
+						.setMaxConnTotal(properties.maxConnectionsTotal())
+						.setDefaultConnectionConfig(ConnectionConfig.custom()
+								.setConnectTimeout(Timeout.of(properties.connectTimeout()))
+								.setSocketTimeout(Timeout.of(properties.readTimeout()))
+								.setValidateAfterInactivity(TimeValue.ofSeconds(1))
+								.build())
+						.build();
+
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME)
+				.bindTo(meterRegistry);
+
+		return connectionManager;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpAsyncClient customerServiceHttpClient(
+			PoolingAsyncClientConnectionManager customerServiceConnectionManager,
+			CustomerServiceHttpProperties properties) {
+
+		TimeValue keepAlive = TimeValue.of(properties.keepAlive());
+
+		CloseableHttpAsyncClient httpClient = HttpAsyncClients.custom()
+				.setConnectionManager(customerServiceConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectionRequestTimeout(Timeout.of(properties.acquireTimeout()))
+						.setResponseTimeout(Timeout.of(properties.readTimeout()))
+						.build())
+				.setKeepAliveStrategy((response, context) -> keepAlive)
+				.evictIdleConnections(keepAlive)
+				.disableAutomaticRetries()
+				.build();
+
+		httpClient.start();
+
+		return httpClient;
+	}
+
+	@Bean(name = CustomerServiceClient.EXECUTOR, destroyMethod = "")
+	@ConditionalOnThreading(Threading.VIRTUAL)
+	public Executor virtualCustomerServiceExecutor() {
+
+		return new VirtualThreadTaskExecutor("customer-ms-");
+	}
+
+	@Bean(name = CustomerServiceClient.EXECUTOR, destroyMethod = "")
+	@ConditionalOnThreading(Threading.PLATFORM)
+	public Executor customerServiceExecutor() {
+
+		return ForkJoinPool.commonPool();
+	}
+}
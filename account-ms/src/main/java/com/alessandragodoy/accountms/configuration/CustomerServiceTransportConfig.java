@@ -0,0 +1,94 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.adapter.BatchingCustomerServiceTransport;
+import com.alessandragodoy.accountms.adapter.CustomerServiceBatchProperties;
+import com.alessandragodoy.accountms.adapter.CustomerServiceHedgingProperties;
+import com.alessandragodoy.accountms.adapter.CustomerServiceTransport;
+import com.alessandragodoy.accountms.adapter.HedgingCustomerServiceTransport;
+import com.alessandragodoy.accountms.adapter.HttpCustomerServiceTransport;
+import com.alessandragodoy.accountms.adapter.ResilientCustomerServiceTransport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration of the transport used by the customer service client.
+ * <p>
+ * The endpoint reaches the customer service over HTTP, unless
+ * {@code customer.ms.transport=stub} replaces it with the in-memory stub of
+ * {@link StubCustomerServiceConfig}.
+ * </p>
+ */
+@Configuration
+@EnableConfigurationProperties({CustomerServiceBatchProperties.class,
+	CustomerServiceHedgingProperties.class})
+public class CustomerServiceTransportConfig {
+
+	static final String ENDPOINT = "customerServiceEndpoint";
+	private static final String HEDGED_ENDPOINT = "hedgedCustomerServiceEndpoint";
+
+	@Bean(name = ENDPOINT)
+	@ConditionalOnProperty(name = "customer.ms.transport", havingValue = "http",
+			matchIfMissing = true)
+	public CustomerServiceTransport httpCustomerServiceTransport(
+			CloseableHttpAsyncClient customerServiceHttpClient, ObjectMapper objectMapper,
+			@Value("${customer.ms.url}") String customerMsBaseUrl) {
+
+		return new HttpCustomerServiceTransport(customerServiceHttpClient, objectMapper,
+				customerMsBaseUrl);
+	}
+
+	/**
+	 * The endpoint, hedging slow validations when {@code customer.ms.hedging.enabled} is set.
+	 *
+	 * @param endpoint      the transport reaching the customer service
+	 * @param properties    the hedging properties
+	 * @param meterRegistry the registry of the latency and hedge metrics
+	 * @return the hedging transport, or the endpoint itself when hedging is disabled
+	 */
+	@Bean(name = HEDGED_ENDPOINT)
+	public CustomerServiceTransport hedgedCustomerServiceTransport(
+			@Qualifier(ENDPOINT) CustomerServiceTransport endpoint,
+			CustomerServiceHedgingProperties properties, MeterRegistry meterRegistry) {
+
+		return properties.enabled() ?
+				new HedgingCustomerServiceTransport(endpoint, properties, meterRegistry) : endpoint;
+	}
+
+	/**
+	 * Transport used by the customer service client: the hedged endpoint guarded by the
+	 * {@code customerService} bulkhead and circuit breaker, and batched into bulk calls when
+	 * {@code customer.ms.batch.enabled} is set. A hedged validation takes a single bulkhead permit
+	 * and counts as a single call for the circuit breaker.
+	 *
+	 * @param endpoint               the hedged transport reaching the customer service
+	 * @param circuitBreakerRegistry the registry of circuit breakers
+	 * @param bulkheadRegistry       the registry of bulkheads
+	 * @param batchProperties        the batching properties
+	 * @return the transport
+	 */
+	@Bean
+	@Primary
+	public CustomerServiceTransport customerServiceTransport(
+			@Qualifier(HEDGED_ENDPOINT) CustomerServiceTransport endpoint,
+			CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry,
+			CustomerServiceBatchProperties batchProperties) {
+
+		String instance = ResilientCustomerServiceTransport.RESILIENCE_INSTANCE;
+		CustomerServiceTransport resilient = new ResilientCustomerServiceTransport(endpoint,
+				circuitBreakerRegistry.circuitBreaker(instance),
+				bulkheadRegistry.bulkhead(instance));
+
+		return batchProperties.enabled() ?
+				new BatchingCustomerServiceTransport(resilient, batchProperties) : resilient;
+	}
+}
@@ -0,0 +1,93 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.datasource.DataSourceRoutingProperties;
+import com.alessandragodoy.accountms.datasource.ReadWriteRoutingDataSource;
+import com.alessandragodoy.accountms.datasource.ReplicaDataSources;
+import com.alessandragodoy.accountms.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration for routing read-only transactions to replica databases.
+ * <p>
+ * Enabled with {@code datasource.routing.enabled=true}. Writes and read-write transactions use
+ * the primary pool configured through {@code spring.datasource.*}; read-only transactions use the
+ * replicas configured through {@code datasource.routing.replicas[*]}.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+public class DataSourceRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+		return dataSourceProperties.initializeDataSourceBuilder()
+				.type(HikariDataSource.class)
+				.build();
+	}
+
+	@Bean
+	public ReplicaDataSources replicaDataSources(DataSourceRoutingProperties properties,
+			DataSourceProperties dataSourceProperties,
+			ObjectProvider<MeterRegistry> meterRegistry) {
+
+		ReplicaDataSources replicas = new ReplicaDataSources();
+
+		for (DataSourceRoutingProperties.Replica replica : properties.replicas()) {
+			HikariDataSource pool = new HikariDataSource();
+			pool.setPoolName(replica.name());
+			pool.setJdbcUrl(replica.url());
+			pool.setUsername(replica.username());
+			pool.setPassword(replica.password());
+			pool.setDriverClassName(dataSourceProperties.getDriverClassName());
+			pool.setMaximumPoolSize(replica.maximumPoolSize());
+			pool.setReadOnly(true);
+			meterRegistry.ifAvailable(registry ->
+					pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+			replicas.add(replica.name(), pool);
+		}
+		return replicas;
+	}
+
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSources replicaDataSources,
+											   DataSourceRoutingProperties properties) {
+		return new ReplicaLagMonitor(replicaDataSources.asMap(), properties.maxReplicaLag());
+	}
+
+	@Bean
+	public ReadWriteRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+			ReplicaDataSources replicaDataSources, ReplicaLagMonitor replicaLagMonitor) {
+
+		Map<Object, Object> targets = new HashMap<>(replicaDataSources.asMap());
+		targets.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+
+		ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+				replicaDataSources.names(), replicaLagMonitor);
+		routing.setTargetDataSources(targets);
+		routing.setDefaultTargetDataSource(primaryDataSource);
+		return routing;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
@@ -0,0 +1,47 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.dto.CustomErrorResponse;
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.model.Account;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.util.List;
+
+/**
+ * Reflection hints for a GraalVM native image, for the types used reflectively in ways Spring's
+ * AOT processing cannot infer:
+ * <ul>
+ *     <li>{@link Account} and {@link AccountDTO}, mapped by ModelMapper in
+ *     {@link com.alessandragodoy.accountms.utility.DTOMapper}.</li>
+ *     <li>The request bodies and parameters validated with {@code @Valid} in the controllers.
+ *     Their constraints cannot be inferred because the controllers redeclare the parameters of
+ *     the generated API interfaces.</li>
+ *     <li>The customer-ms response read with the {@code ObjectMapper}, and the error body the
+ *     load-shedding filter writes with it.</li>
+ * </ul>
+ */
+public class NativeImageHints implements RuntimeHintsRegistrar {
+
+	private static final List<Class<?>> REFLECTIVE_TYPES = List.of(
+			Account.class,
+			AccountDTO.class,
+			CreateAccountDTO.class,
+			TransferRequestDTO.class,
+			AccountSearchCriteriaDTO.class,
+			CustomerValidationResponseDTO.class,
+			CustomErrorResponse.class);
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		REFLECTIVE_TYPES.forEach(type -> hints.reflection().registerType(type,
+				MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+				MemberCategory.INVOKE_PUBLIC_METHODS,
+				MemberCategory.DECLARED_FIELDS));
+	}
+}
@@ -0,0 +1,45 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.datasource.ConnectionPermitDataSource;
+import com.alessandragodoy.accountms.datasource.PoolSizeController;
+import com.alessandragodoy.accountms.datasource.PoolSizingProperties;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for resizing the primary connection pool under load, enabled with
+ * {@code datasource.pool-sizing.enabled=true}. The primary pool is the {@code primaryDataSource}
+ * bean when reads are routed to replicas, and the pool behind the {@code dataSource} bean
+ * otherwise; the replica pools keep their size.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.pool-sizing.enabled", havingValue = "true")
+@EnableConfigurationProperties(PoolSizingProperties.class)
+public class PoolSizingConfig {
+
+	@Bean
+	public PoolSizeController poolSizeController(DataSource dataSource,
+												 ObjectProvider<HikariDataSource> primaryDataSource,
+												 ObjectProvider<MeterRegistry> meterRegistry,
+												 PoolSizingProperties properties) {
+		HikariDataSource pool = primaryDataSource.getIfUnique(() -> DataSourceUnwrapper.unwrap(
+				dataSource, HikariConfigMXBean.class, HikariDataSource.class));
+		if (pool == null) {
+			throw new IllegalStateException("Resizing the connection pool requires a Hikari " +
+					"connection pool.");
+		}
+
+		return new PoolSizeController(pool,
+				DataSourceUnwrapper.unwrap(dataSource, ConnectionPermitDataSource.class),
+				meterRegistry.getIfAvailable(), properties);
+	}
+}
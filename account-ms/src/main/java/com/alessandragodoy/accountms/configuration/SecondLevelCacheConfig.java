@@ -0,0 +1,61 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+
+/**
+ * Configuration for the Hibernate second-level cache of {@link Account} entities.
+ * <p>
+ * Enabled with {@code account.cache.enabled=true}. The region is backed by a Caffeine JCache
+ * cache sized and expired according to {@link SecondLevelCacheProperties}; Hibernate statistics
+ * are enabled alongside so per-region hit ratios are published through the metrics endpoint.
+ * </p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "account.cache.enabled", havingValue = "true")
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+	@Bean(destroyMethod = "close")
+	public CacheManager hibernateCacheManager(SecondLevelCacheProperties properties) {
+		CacheManager cacheManager = Caching
+				.getCachingProvider(CaffeineCachingProvider.class.getName())
+				.getCacheManager(URI.create("account-ms-hibernate"), getClass().getClassLoader());
+
+		CaffeineConfiguration<Object, Object> region = new CaffeineConfiguration<>();
+		region.setMaximumSize(OptionalLong.of(properties.maximumSize()));
+
+		OptionalLong timeToLive = OptionalLong.of(properties.timeToLive().toNanos());
+		if (properties.expiry() == SecondLevelCacheProperties.Expiry.AFTER_ACCESS) {
+			region.setExpireAfterAccess(timeToLive);
+		} else {
+			region.setExpireAfterWrite(timeToLive);
+		}
+
+		cacheManager.createCache(Account.CACHE_REGION, region);
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+		};
+	}
+}
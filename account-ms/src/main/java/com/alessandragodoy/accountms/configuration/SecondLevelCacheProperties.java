@@ -0,0 +1,36 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the Hibernate second-level cache of accounts.
+ *
+ * @param enabled      whether the second-level cache is enabled
+ * @param maximumSize  the maximum number of accounts kept in the region before eviction
+ * @param timeToLive   how long an entry stays in the region, measured according to the expiry
+ * @param expiry       whether the time to live counts from the last write or the last access
+ */
+@ConfigurationProperties(prefix = "account.cache")
+public record SecondLevelCacheProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("10000") long maximumSize,
+		@DefaultValue("5m") Duration timeToLive,
+		@DefaultValue("AFTER_WRITE") Expiry expiry) {
+
+	/**
+	 * Expiry policies supported by the account region.
+	 */
+	public enum Expiry {
+		/**
+		 * Entries expire a fixed time after they were loaded or updated.
+		 */
+		AFTER_WRITE,
+		/**
+		 * Entries expire once they have not been read or written for the time to live.
+		 */
+		AFTER_ACCESS
+	}
+}
@@ -0,0 +1,27 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.adapter.CustomerServiceTransport;
+import com.alessandragodoy.accountms.adapter.StubCustomerServiceTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the in-memory {@link StubCustomerServiceTransport}, used as the endpoint
+ * instead of the customer service when {@code customer.ms.transport=stub}, to run the service
+ * locally or under load without it. {@code customer.ms.stub.latency} delays its answers.
+ */
+@Configuration
+@ConditionalOnProperty(name = "customer.ms.transport", havingValue = "stub")
+public class StubCustomerServiceConfig {
+
+	@Bean(name = CustomerServiceTransportConfig.ENDPOINT)
+	public CustomerServiceTransport stubCustomerServiceTransport(
+			@Value("${customer.ms.stub.latency:0ms}") Duration latency) {
+
+		return new StubCustomerServiceTransport(latency);
+	}
+}
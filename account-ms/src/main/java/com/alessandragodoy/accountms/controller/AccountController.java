@@ -0,0 +1,265 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.api.AccountApi;
+import com.alessandragodoy.accountms.dto.AccountBalanceDTO;
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
+import com.alessandragodoy.accountms.dto.AccountSearchPageDTO;
+import com.alessandragodoy.accountms.dto.CustomerAccountsDTO;
+import com.alessandragodoy.accountms.dto.CustomerBalanceSummaryDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.repository.projection.AccountsVersionView;
+import com.alessandragodoy.accountms.service.IAccountService;
+import com.alessandragodoy.accountms.utility.ETagGenerator;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+import static com.alessandragodoy.accountms.utility.DTOMapper.convertToDTO;
+import static com.alessandragodoy.accountms.utility.DTOMapper.toCustomerBalanceSummaryDTO;
+
+/**
+ * Controller for managing accounts.
+ */
+@RestController
+@RequiredArgsConstructor
+public class AccountController implements AccountApi {
+
+	private final IAccountService accountService;
+
+	/**
+	 * Activates an account by its ID.
+	 *
+	 * @param accountId the ID of the account to activate.
+	 * @return a {@code ResponseEntity<AccountDTO>} containing the activated account.
+	 */
+	@Override
+	public ResponseEntity<AccountDTO> activateAccount(@PathVariable Integer accountId) {
+
+		Account activatedAccount = accountService.activateAccount(accountId);
+
+		return ResponseEntity.ok(convertToDTO(activatedAccount, AccountDTO.class));
+	}
+
+	/**
+	 * Deactivates an account by its ID.
+	 *
+	 * @param accountId the ID of the account to deactivate.
+	 * @return a {@code ResponseEntity<AccountDTO>} containing the deactivated account.
+	 */
+	@Override
+	public ResponseEntity<AccountDTO> deactivateAccount(@PathVariable Integer accountId) {
+
+		Account deactivatedAccount = accountService.deactivateAccount(accountId);
+
+		return ResponseEntity.ok(convertToDTO(deactivatedAccount, AccountDTO.class));
+	}
+
+	/**
+	 * Retrieves an account by its ID. When the client presents the current ETag, the check is
+	 * answered from the account's update date alone and no body is returned.
+	 *
+	 * @param accountId   the ID of the account to retrieve.
+	 * @param ifNoneMatch the ETag previously received by the client, if any.
+	 * @return a {@code ResponseEntity<AccountDTO>} containing the account, or a 304 response.
+	 */
+	@Override
+	public ResponseEntity<AccountDTO> getAccountById(@PathVariable Integer accountId,
+			@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+		if (ifNoneMatch != null) {
+			String currentETag = ETagGenerator.forAccount(accountId,
+					accountService.getAccountLastModified(accountId));
+
+			if (ETagGenerator.matches(ifNoneMatch, currentETag)) {
+				return notModified(currentETag);
+			}
+		}
+
+		Account account = accountService.getAccountById(accountId);
+
+		return ResponseEntity.ok()
+				.eTag(ETagGenerator.forAccount(account.getAccountId(), account.getUpdateDate()))
+				.cacheControl(CacheControl.noCache())
+				.body(convertToDTO(account, AccountDTO.class));
+	}
+
+	/**
+	 * Retrieves only the balance of an account, without mapping the full entity.
+	 *
+	 * @param accountId the ID of the account.
+	 * @return a {@code ResponseEntity<AccountBalanceDTO>} containing the balance.
+	 */
+	@Override
+	public ResponseEntity<AccountBalanceDTO> getAccountBalance(@PathVariable Integer accountId) {
+
+		double balance = accountService.getBalanceByAccountId(accountId);
+
+		return ResponseEntity.ok(new AccountBalanceDTO(accountId, balance));
+	}
+
+	/**
+	 * Retrieves only the balances of several accounts in a single call.
+	 *
+	 * @param accountIds the IDs of the accounts.
+	 * @return a {@code ResponseEntity<List<AccountBalanceDTO>>} containing the balances.
+	 */
+	@Override
+	public ResponseEntity<List<AccountBalanceDTO>> getAccountBalances(
+			@RequestParam List<Integer> accountIds) {
+
+		List<AccountBalanceDTO> balances = accountService.getBalancesByAccountIds(accountIds)
+				.stream()
+				.map(view -> new AccountBalanceDTO(view.accountId(), view.balance()))
+				.toList();
+
+		return ResponseEntity.ok(balances);
+	}
+
+	/**
+	 * Retrieves all accounts associated with a specific customer ID. When the client presents the
+	 * current ETag, the check is answered from the account count and latest update date alone.
+	 *
+	 * @param customerId  the ID of the customer whose accounts are to be retrieved.
+	 * @param ifNoneMatch the ETag previously received by the client, if any.
+	 * @return a {@code ResponseEntity<List<AccountDTO>>} containing a list of accounts, or a 304
+	 * response.
+	 */
+	@Override
+	public ResponseEntity<List<AccountDTO>> getAccountsByCustomerId(
+			@PathVariable Integer customerId,
+			@RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+
+		if (ifNoneMatch != null) {
+			AccountsVersionView version = accountService.getAccountsVersionByCustomerId(customerId);
+			String currentETag = ETagGenerator.forCustomerAccounts(customerId,
+					version.getAccountCount(), version.getLastUpdateDate());
+
+			if (ETagGenerator.matches(ifNoneMatch, currentETag)) {
+				return notModified(currentETag);
+			}
+		}
+
+		List<Account> customerAccounts = accountService.getAccountsByCustomerId(customerId);
+		List<AccountDTO> accounts = customerAccounts
+				.stream()
+				.map(account -> convertToDTO(account, AccountDTO.class)).toList();
+
+		return ResponseEntity.ok()
+				.eTag(customerAccountsETag(customerId, customerAccounts))
+				.cacheControl(CacheControl.noCache())
+				.body(accounts);
+	}
+
+	/**
+	 * Retrieves the accounts of several customers in a single call, grouped by customer.
+	 *
+	 * @param customerIds the IDs of the customers whose accounts are to be retrieved.
+	 * @return a {@code ResponseEntity<List<CustomerAccountsDTO>>} with one entry per customer.
+	 */
+	@Override
+	public ResponseEntity<List<CustomerAccountsDTO>> getAccountsByCustomerIds(
+			@RequestParam List<Integer> customerIds) {
+
+		List<CustomerAccountsDTO> accounts = accountService.getAccountsByCustomerIds(customerIds)
+				.entrySet()
+				.stream()
+				.map(entry -> new CustomerAccountsDTO(entry.getKey(), entry.getValue()
+						.stream()
+						.map(account -> convertToDTO(account, AccountDTO.class)).toList()))
+				.toList();
+
+		return ResponseEntity.ok(accounts);
+	}
+
+	/**
+	 * Retrieves the balance totals of a customer, overall and per account type, from the summary
+	 * read model.
+	 *
+	 * @param customerId the ID of the customer.
+	 * @return a {@code ResponseEntity<CustomerBalanceSummaryDTO>} containing the totals.
+	 */
+	@Override
+	public ResponseEntity<CustomerBalanceSummaryDTO> getCustomerBalanceSummary(
+			@PathVariable Integer customerId) {
+
+		return ResponseEntity.ok(toCustomerBalanceSummaryDTO(customerId,
+				accountService.getBalanceSummaryByCustomerId(customerId)));
+	}
+
+	/**
+	 * Retrieves all active accounts.
+	 *
+	 * @return {@code ResponseEntity<List<AccountDTO>>} containing a list of accounts.
+	 */
+	@Override
+	public ResponseEntity<List<AccountDTO>> getAllAccounts() {
+
+		List<AccountDTO> accounts = accountService.getAllActiveAccounts()
+				.stream()
+				.map(account -> convertToDTO(account, AccountDTO.class)).toList();
+
+		return ResponseEntity.ok(accounts);
+	}
+
+	/**
+	 * Searches accounts by type, state, customer ID range, balance range and creation date range.
+	 * Pages are delimited by a keyset cursor on the account ID instead of an offset.
+	 *
+	 * @param criteria the filters, the cursor of the previous page and the page size.
+	 * @return a {@code ResponseEntity<AccountSearchPageDTO>} containing the page of accounts.
+	 */
+	@Override
+	public ResponseEntity<AccountSearchPageDTO> searchAccounts(
+			@Valid @ParameterObject AccountSearchCriteriaDTO criteria) {
+
+		Slice<Account> page = accountService.searchAccounts(criteria);
+
+		List<AccountDTO> accounts = page.getContent()
+				.stream()
+				.map(account -> convertToDTO(account, AccountDTO.class)).toList();
+
+		Integer nextCursor = page.hasNext() ?
+				accounts.get(accounts.size() - 1).getAccountId() : null;
+
+		return ResponseEntity.ok(new AccountSearchPageDTO(accounts, nextCursor));
+	}
+
+	private static <T> ResponseEntity<T> notModified(String eTag) {
+		return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(eTag)
+				.cacheControl(CacheControl.noCache())
+				.build();
+	}
+
+	private static String customerAccountsETag(Integer customerId, List<Account> accounts) {
+		LocalDateTime lastUpdateDate = accounts.stream()
+				.map(Account::getUpdateDate)
+				.filter(Objects::nonNull)
+				.max(LocalDateTime::compareTo)
+				.orElse(null);
+
+		return ETagGenerator.forCustomerAccounts(customerId, accounts.size(), lastUpdateDate);
+	}
+
+	/*@Override
+	public ResponseEntity<AccountDTO> deleteAccountById(@PathVariable Integer accountId) {
+
+		accountService.deleteAccountById(accountId);
+
+		return ResponseEntity.noContent().build();
+	}*/
+
+}
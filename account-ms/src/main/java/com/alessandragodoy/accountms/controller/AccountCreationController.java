@@ -0,0 +1,74 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.dto.CustomErrorResponse;
+import com.alessandragodoy.accountms.service.IAccountService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.alessandragodoy.accountms.utility.DTOMapper.convertToDTO;
+
+/**
+ * Controller creating single accounts asynchronously.
+ * <p>
+ * Not part of the generated {@code AccountApi}: the OpenAPI generator can only make every
+ * operation of an API asynchronous, so the operation is marked {@code x-internal} in the
+ * contract to skip it, and the endpoint is declared and documented here.
+ * </p>
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Account")
+public class AccountCreationController {
+
+	public static final String PATH_CREATE_ACCOUNT = "/api/v1/accounts";
+
+	private final IAccountService accountService;
+
+	/**
+	 * Creates a new account. The request thread is released while the customer service
+	 * validates the customer, and the response is written once the account is saved.
+	 *
+	 * @param createAccountDTO the data transfer object containing the account details.
+	 * @return a future completed with a {@code ResponseEntity<AccountDTO>} containing the created
+	 * account.
+	 */
+	@Operation(
+			operationId = "createAccount",
+			summary = "Create a new account",
+			description = "Creates a new bank account for a customer by interacting with the " +
+					"**Customer Microservice** to validate the customer ID and ensure the " +
+					"customer exists and is active.")
+	@ApiResponse(responseCode = "201", description = "Account created successfully",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+					schema = @Schema(implementation = AccountDTO.class)))
+	@ApiResponse(responseCode = "400", description = "Invalid input data",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+					schema = @Schema(implementation = CustomErrorResponse.class)))
+	@ApiResponse(responseCode = "404", description = "Customer not found or inactive",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+					schema = @Schema(implementation = CustomErrorResponse.class)))
+	@PostMapping(path = PATH_CREATE_ACCOUNT, consumes = MediaType.APPLICATION_JSON_VALUE,
+			produces = MediaType.APPLICATION_JSON_VALUE)
+	public CompletableFuture<ResponseEntity<AccountDTO>> createAccount(
+			@Valid @RequestBody CreateAccountDTO createAccountDTO) {
+
+		return accountService.createAccount(createAccountDTO)
+				.thenApply(account -> ResponseEntity.status(HttpStatus.CREATED)
+						.body(convertToDTO(account, AccountDTO.class)));
+	}
+}
@@ -0,0 +1,70 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.dto.CustomErrorResponse;
+import com.alessandragodoy.accountms.event.AccountEventBroadcaster;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Controller streaming account changes as server-sent events.
+ * <p>
+ * Not part of the generated {@code AccountApi}: the OpenAPI generator has no return type for an
+ * open-ended event stream, so the endpoint is declared and documented here.
+ * </p>
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Account")
+public class AccountEventController {
+
+	public static final String PATH_STREAM_ACCOUNT_EVENTS = "/api/v1/accounts/events";
+
+	private final AccountEventBroadcaster accountEventBroadcaster;
+
+	/**
+	 * Opens a stream of the balance and state changes of an account, of the accounts of a
+	 * customer, or of one account of a customer.
+	 *
+	 * @param accountId  the ID of the account to follow, if any.
+	 * @param customerId the ID of the customer whose accounts to follow, if any.
+	 * @return an {@code SseEmitter} pushing {@code BALANCE_CHANGED} and {@code STATUS_CHANGED}
+	 * events.
+	 */
+	@Operation(
+			operationId = "streamAccountEvents",
+			summary = "Stream account changes",
+			description = "Pushes BALANCE_CHANGED and STATUS_CHANGED events as server-sent events " +
+					"once the change is committed. At least one of accountId and customerId is " +
+					"required. Slow subscribers lose their oldest events or are disconnected, " +
+					"so clients should reload the current state after reconnecting.")
+	@ApiResponse(responseCode = "200", description = "Event stream opened",
+			content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE))
+	@ApiResponse(responseCode = "400", description = "Neither account ID nor customer ID given",
+			content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+					schema = @Schema(implementation = CustomErrorResponse.class)))
+	@GetMapping(PATH_STREAM_ACCOUNT_EVENTS)
+	public SseEmitter streamAccountEvents(
+			@Parameter(description = "The unique identifier of the account to follow")
+			@RequestParam(required = false) Integer accountId,
+			@Parameter(description = "The unique identifier of the customer to follow")
+			@RequestParam(required = false) Integer customerId) {
+
+		if (accountId == null && customerId == null) {
+			throw new AccountValidationException(
+					"An account ID or a customer ID must be provided.");
+		}
+
+		return accountEventBroadcaster.subscribe(accountId, customerId);
+	}
+}
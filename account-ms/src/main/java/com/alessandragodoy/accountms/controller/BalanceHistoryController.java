@@ -0,0 +1,42 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.api.BalanceHistoryApi;
+import com.alessandragodoy.accountms.dto.AccountBalanceAsOfDTO;
+import com.alessandragodoy.accountms.service.IBalanceHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+/**
+ * Controller for point-in-time queries over the balance history of accounts.
+ */
+@RestController
+@RequiredArgsConstructor
+public class BalanceHistoryController implements BalanceHistoryApi {
+
+	private final IBalanceHistoryService balanceHistoryService;
+
+	/**
+	 * Retrieves the balance of an account at a point in time. The timestamp is converted to the
+	 * server's time zone, in which account changes are recorded.
+	 *
+	 * @param accountId the ID of the account.
+	 * @param timestamp the point in time.
+	 * @return a {@code ResponseEntity<AccountBalanceAsOfDTO>} containing the balance.
+	 */
+	@Override
+	public ResponseEntity<AccountBalanceAsOfDTO> getAccountBalanceAsOf(
+			@PathVariable Integer accountId, @RequestParam OffsetDateTime timestamp) {
+
+		LocalDateTime asOf = timestamp.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+
+		return ResponseEntity.ok(new AccountBalanceAsOfDTO(accountId,
+				balanceHistoryService.getBalanceAsOf(accountId, asOf), asOf));
+	}
+}
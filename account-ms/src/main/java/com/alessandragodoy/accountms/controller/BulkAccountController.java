@@ -0,0 +1,43 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.api.BulkAccountsApi;
+import com.alessandragodoy.accountms.dto.BulkAccountResultDTO;
+import com.alessandragodoy.accountms.dto.BulkCreateAccountsDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.service.IBulkAccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller for creating accounts in bulk.
+ */
+@RestController
+@RequiredArgsConstructor
+public class BulkAccountController implements BulkAccountsApi {
+
+	private final IBulkAccountService bulkAccountService;
+
+	/**
+	 * Creates an account for each item. Items are validated one by one, so the request succeeds
+	 * even when some of its accounts cannot be created.
+	 *
+	 * @param createAccountDTOs the accounts to create.
+	 * @return a {@code ResponseEntity<BulkCreateAccountsDTO>} with the outcome of every item.
+	 */
+	@Override
+	public ResponseEntity<BulkCreateAccountsDTO> createAccounts(
+			@RequestBody List<CreateAccountDTO> createAccountDTOs) {
+
+		List<BulkAccountResultDTO> results = bulkAccountService.createAccounts(createAccountDTOs);
+		int created = (int) results.stream()
+				.filter(result -> result.getStatus() == BulkAccountResultDTO.Status.CREATED)
+				.count();
+
+		return ResponseEntity.ok(
+				new BulkCreateAccountsDTO(created, results.size() - created, results));
+	}
+}
@@ -51,4 +51,18 @@ public class InternalAccountController implements InternalAccountApi {
 
 		return ResponseEntity.ok(activeAccounts);
 	}
+
+	/**
+	 * Discards the cached validation of a customer.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return {@code ResponseEntity<Void>} with no content
+	 */
+	@Override
+	public ResponseEntity<Void> evictCustomerValidation(@PathVariable Integer customerId) {
+
+		internalAccountService.evictCustomerValidation(customerId);
+
+		return ResponseEntity.noContent().build();
+	}
 }
@@ -0,0 +1,20 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for reporting connections held longer than expected.
+ *
+ * @param enabled       whether connections are tracked
+ * @param threshold     how long a connection can be held before it is reported as a possible leak
+ * @param checkInterval how often held connections are checked
+ */
+@ConfigurationProperties(prefix = "datasource.leak-detection")
+public record ConnectionLeakDetectionProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("30s") Duration threshold,
+		@DefaultValue("5s") Duration checkInterval) {
+}
@@ -0,0 +1,145 @@
+package com.alessandragodoy.accountms.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the connections checked out through a {@link LeakDetectingDataSource} and
+ * reports those held longer than a threshold, once each, with the request and thread that took
+ * them.
+ * <p>
+ * The time each connection was held is recorded in the {@code datasource.connections.held} timer,
+ * tagged with the method and URI pattern of the endpoint that took it ({@code none} outside of a
+ * request), which shows the endpoints keeping connections away from the others.
+ * </p>
+ * <p>
+ * Unlike Hikari's own leak detection, which only logs the stack trace of the borrower, the report
+ * names the HTTP request being served, which is what is needed to find the endpoint at fault in
+ * production logs. A reported connection that is eventually returned is logged again, so that
+ * slow transactions can be told apart from actual leaks.
+ * </p>
+ */
+@Slf4j
+public class ConnectionLeakDetector {
+
+	private static final String NO_REQUEST = "no request";
+	private static final String NONE = "none";
+	private static final String UNKNOWN = "UNKNOWN";
+
+	private final long thresholdNanos;
+	private final Set<Checkout> checkouts = ConcurrentHashMap.newKeySet();
+	private final Counter leaks;
+	private final MeterRegistry meterRegistry;
+
+	public ConnectionLeakDetector(Duration threshold, MeterRegistry meterRegistry) {
+		this.thresholdNanos = threshold.toNanos();
+		this.meterRegistry = meterRegistry;
+		this.leaks = Counter.builder("datasource.connections.leak-suspected")
+				.description("Connections held longer than the leak detection threshold")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Records that the current thread took a connection.
+	 *
+	 * @return the checkout to pass to {@link #returned(Checkout)} when the connection is closed
+	 */
+	public Checkout checkedOut() {
+		Checkout checkout;
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			HttpServletRequest request = attributes.getRequest();
+			Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			checkout = new Checkout(request.getMethod() + " " + request.getRequestURI(),
+					request.getMethod(), pattern == null ? UNKNOWN : pattern.toString());
+		} else {
+			checkout = new Checkout(NO_REQUEST, NONE, NONE);
+		}
+		checkouts.add(checkout);
+		return checkout;
+	}
+
+	/**
+	 * Records that a connection was closed.
+	 *
+	 * @param checkout the checkout recorded when the connection was taken
+	 */
+	public void returned(Checkout checkout) {
+		if (!checkouts.remove(checkout)) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		Timer.builder("datasource.connections.held")
+				.description("Time connections were held, by the endpoint that took them")
+				.tag("method", checkout.method)
+				.tag("uri", checkout.uri)
+				.register(meterRegistry)
+				.record(now - checkout.startNanos, TimeUnit.NANOSECONDS);
+
+		if (checkout.reported) {
+			log.info("Connection reported as a possible leak was returned after {} ms, taken by " +
+					"{} on thread {}", heldMillis(checkout, now), checkout.request,
+					checkout.thread);
+		}
+	}
+
+	/**
+	 * Reports the connections held longer than the threshold that were not reported yet.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.leak-detection.check-interval:5s}")
+	public void detectLeaks() {
+		long now = System.nanoTime();
+		for (Checkout checkout : checkouts) {
+			if (!checkout.reported && now - checkout.startNanos >= thresholdNanos) {
+				checkout.reported = true;
+				leaks.increment();
+				log.warn("Connection held for {} ms, possible leak, taken by {} on thread {}",
+						heldMillis(checkout, now), checkout.request, checkout.thread);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of connections currently checked out.
+	 *
+	 * @return the checked-out connection count
+	 */
+	public int getCheckedOut() {
+		return checkouts.size();
+	}
+
+	private static long heldMillis(Checkout checkout, long now) {
+		return TimeUnit.NANOSECONDS.toMillis(now - checkout.startNanos);
+	}
+
+	/**
+	 * A connection taken and not returned yet.
+	 */
+	public static final class Checkout {
+
+		private final String request;
+		private final String method;
+		private final String uri;
+		private final String thread = Thread.currentThread().getName();
+		private final long startNanos = System.nanoTime();
+		private volatile boolean reported;
+
+		private Checkout(String request, String method, String uri) {
+			this.request = request;
+			this.method = method;
+			this.uri = uri;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package com.alessandragodoy.accountms.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source handing out connections only to holders of a permit.
+ * <p>
+ * With virtual threads there is no request thread pool left to bound how many requests reach the
+ * database, so thousands of them may ask the connection pool for a connection at once. A fair
+ * semaphore with as many permits as pooled connections makes them queue here instead: waiting
+ * threads are parked, which unmounts virtual threads from their carriers, the pool itself never
+ * has waiters, and callers beyond {@code maxWaiting} or waiting longer than
+ * {@code acquireTimeout} are rejected with a {@link SQLTransientConnectionException} instead of
+ * piling up until the pool times them out.
+ * </p>
+ * <p>
+ * The permit is returned when the connection is closed. A thread that already holds a permit
+ * gets further connections without one: those are the short transactions Hibernate and the
+ * account number allocator open to reserve blocks of IDs while a transaction is in progress, and
+ * making them wait for a permit held by their own caller would deadlock. The pool must be larger
+ * than {@code maxConcurrent} to leave room for them.
+ * </p>
+ */
+public class ConnectionPermitDataSource extends DelegatingDataSource {
+
+	private final ResizableSemaphore permits;
+	private final int maxWaiting;
+	private final long acquireTimeoutNanos;
+	private final Counter rejectedQueueFull;
+	private final Counter rejectedTimeout;
+	private final ThreadLocal<AtomicInteger> permitsHeld = ThreadLocal.withInitial(AtomicInteger::new);
+	private int maxConcurrent;
+
+	public ConnectionPermitDataSource(DataSource target, ConnectionPermitProperties properties,
+									  MeterRegistry meterRegistry) {
+		super(target);
+		this.permits = new ResizableSemaphore(properties.maxConcurrent());
+		this.maxConcurrent = properties.maxConcurrent();
+		this.maxWaiting = properties.maxWaiting();
+		this.acquireTimeoutNanos = properties.acquireTimeout().toNanos();
+
+		Gauge.builder("datasource.permits.waiting", permits, Semaphore::getQueueLength)
+				.description("Callers waiting for a database connection permit")
+				.register(meterRegistry);
+		Gauge.builder("datasource.permits.available", permits, Semaphore::availablePermits)
+				.description("Database connection permits not held")
+				.register(meterRegistry);
+		this.rejectedQueueFull = rejectedCounter(meterRegistry, "queue-full");
+		this.rejectedTimeout = rejectedCounter(meterRegistry, "timeout");
+	}
+
+	/**
+	 * Changes the number of callers that can hold connections at once, following a resize of the
+	 * connection pool. A lower number takes effect as held permits are returned.
+	 *
+	 * @param maxConcurrent the new number of permits
+	 */
+	public synchronized void setMaxConcurrent(int maxConcurrent) {
+		int delta = maxConcurrent - this.maxConcurrent;
+		if (delta > 0) {
+			permits.release(delta);
+		} else if (delta < 0) {
+			permits.reducePermits(-delta);
+		}
+		this.maxConcurrent = maxConcurrent;
+	}
+
+	/**
+	 * Returns the number of callers that can hold connections at once.
+	 *
+	 * @return the number of permits
+	 */
+	public synchronized int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	/**
+	 * Returns the number of callers waiting for a permit.
+	 *
+	 * @return the waiting caller count
+	 */
+	public int getWaiting() {
+		return permits.getQueueLength();
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return withPermit(super::getConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return withPermit(() -> super.getConnection(username, password));
+	}
+
+	private Connection withPermit(ConnectionSupplier target) throws SQLException {
+		AtomicInteger held = permitsHeld.get();
+		if (held.get() > 0) {
+			return target.get();
+		}
+
+		acquirePermit();
+		held.incrementAndGet();
+		try {
+			return ConnectionProxies.onClose(target.get(), () -> {
+				held.decrementAndGet();
+				permits.release();
+			});
+		} catch (SQLException | RuntimeException e) {
+			held.decrementAndGet();
+			permits.release();
+			throw e;
+		}
+	}
+
+	private void acquirePermit() throws SQLException {
+		if (permits.tryAcquire()) {
+			return;
+		}
+		if (permits.getQueueLength() >= maxWaiting) {
+			rejectedQueueFull.increment();
+			throw new SQLTransientConnectionException("Too many callers are waiting for a " +
+					"database connection, try again later.");
+		}
+
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLTransientConnectionException(
+					"Interrupted while waiting for a database connection.", e);
+		}
+		if (!acquired) {
+			rejectedTimeout.increment();
+			throw new SQLTransientConnectionException("Timed out waiting for a database " +
+					"connection, try again later.");
+		}
+	}
+
+	@FunctionalInterface
+	private interface ConnectionSupplier {
+		Connection get() throws SQLException;
+	}
+
+	private static final class ResizableSemaphore extends Semaphore {
+
+		private ResizableSemaphore(int permits) {
+			super(permits, true);
+		}
+
+		@Override
+		protected void reducePermits(int reduction) {
+			super.reducePermits(reduction);
+		}
+	}
+
+	private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+		return Counter.builder("datasource.permits.rejected")
+				.description("Callers rejected without a database connection")
+				.tag("reason", reason)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,26 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the permits bounding concurrent database connections.
+ *
+ * @param enabled        whether connections are taken through permits
+ * @param maxConcurrent  the number of callers that can hold connections at once; smaller than
+ *                       the connection pool, which also serves the short block-reservation
+ *                       transactions these callers open, so callers wait for a permit and
+ *                       never in the pool
+ * @param maxWaiting     the number of callers that can wait for a permit; further callers are
+ *                       rejected at once
+ * @param acquireTimeout how long a caller waits for a permit before being rejected
+ */
+@ConfigurationProperties(prefix = "datasource.permits")
+public record ConnectionPermitProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("8") int maxConcurrent,
+		@DefaultValue("200") int maxWaiting,
+		@DefaultValue("2s") Duration acquireTimeout) {
+}
@@ -0,0 +1,45 @@
+package com.alessandragodoy.accountms.datasource;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Wrappers for connections handed out by the data sources of this package.
+ */
+final class ConnectionProxies {
+
+	private ConnectionProxies() {
+	}
+
+	/**
+	 * Wraps a connection so that closing it runs an action, once, after the connection is closed,
+	 * even if closing it fails.
+	 *
+	 * @param connection the connection to wrap
+	 * @param onClose    the action to run
+	 * @return the wrapped connection
+	 */
+	static Connection onClose(Connection connection, Runnable onClose) {
+		AtomicBoolean closed = new AtomicBoolean();
+
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+					if ("close".equals(method.getName()) && method.getParameterCount() == 0
+							&& closed.compareAndSet(false, true)) {
+						try {
+							connection.close();
+						} finally {
+							onClose.run();
+						}
+						return null;
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				});
+	}
+}
@@ -0,0 +1,58 @@
+package com.alessandragodoy.accountms.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+/**
+ * Binds the consistency token presented by the client to the request thread so that read-only
+ * transactions are only routed to replicas that have applied the client's last write.
+ * <p>
+ * A token that is not a GTID set, as issued by {@link ConsistencyTokenIssuer}, is rejected with
+ * {@code 400 Bad Request} before the request is handled.
+ * </p>
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+	private static final String UUID = "\\p{XDigit}{8}-\\p{XDigit}{4}-\\p{XDigit}{4}-\\p{XDigit}{4}"
+			+ "-\\p{XDigit}{12}";
+	private static final String GTIDS_OF_SOURCE = UUID + "(:([A-Za-z_]\\w{0,31}|\\d+(-\\d+)?))+";
+	private static final Pattern GTID_SET =
+			Pattern.compile(GTIDS_OF_SOURCE + "(," + GTIDS_OF_SOURCE + ")*");
+
+	private final DataSourceRoutingProperties properties;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+									FilterChain filterChain) throws ServletException, IOException {
+
+		String header = request.getHeader(properties.tokenHeader());
+		String token = header == null || header.isBlank() ? null : header.trim();
+
+		if (token != null && !GTID_SET.matcher(token).matches()) {
+			response.sendError(HttpServletResponse.SC_BAD_REQUEST,
+					"Invalid " + properties.tokenHeader() + " header");
+			return;
+		}
+
+		if (token != null) {
+			ConsistencyTokenHolder.set(token);
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			ConsistencyTokenHolder.clear();
+		}
+	}
+}
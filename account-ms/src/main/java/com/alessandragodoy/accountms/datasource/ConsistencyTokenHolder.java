@@ -0,0 +1,38 @@
+package com.alessandragodoy.accountms.datasource;
+
+/**
+ * Holds the consistency token presented by the client for the request bound to the current
+ * thread. A token is the GTID set the primary had executed right after the client's last write.
+ */
+public final class ConsistencyTokenHolder {
+
+	private static final ThreadLocal<String> TOKEN = new ThreadLocal<>();
+
+	private ConsistencyTokenHolder() {
+	}
+
+	/**
+	 * Binds a token to the current thread.
+	 *
+	 * @param token the GTID set executed by the primary after the client's last write
+	 */
+	public static void set(String token) {
+		TOKEN.set(token);
+	}
+
+	/**
+	 * Returns the token bound to the current thread.
+	 *
+	 * @return the token, or {@code null} if the client did not present one
+	 */
+	public static String get() {
+		return TOKEN.get();
+	}
+
+	/**
+	 * Removes the token bound to the current thread.
+	 */
+	public static void clear() {
+		TOKEN.remove();
+	}
+}
@@ -0,0 +1,82 @@
+package com.alessandragodoy.accountms.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * Issues a consistency token on the response of every request that commits a write transaction.
+ * <p>
+ * The token is the primary's {@code @@GLOBAL.gtid_executed} read right after the commit, on the
+ * transaction's own connection, so it contains the GTID of the client's write. Clients send it
+ * back on later reads so that they are only routed to replicas whose executed GTID set contains
+ * it. The primary must run with {@code gtid_mode=ON}; without GTIDs no token is issued.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ConsistencyTokenIssuer implements TransactionExecutionListener {
+
+	private static final String EXECUTED_GTIDS_QUERY = "SELECT @@GLOBAL.gtid_executed";
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private final DataSourceRoutingProperties properties;
+	private final DataSource dataSource;
+
+	@Override
+	public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+
+		if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) {
+			return;
+		}
+
+		if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+			HttpServletResponse response = attributes.getResponse();
+			if (response != null && !response.isCommitted()) {
+				String token = readExecutedGtids();
+				if (token != null) {
+					response.setHeader(properties.tokenHeader(), token);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Reads the GTID set executed by the primary on the connection of the transaction that just
+	 * committed, which is still bound until the transaction is cleaned up.
+	 *
+	 * @return the executed GTID set without whitespace, or {@code null} if it cannot be read
+	 */
+	private String readExecutedGtids() {
+		if (!(TransactionSynchronizationManager.getResource(dataSource) instanceof ConnectionHolder holder)) {
+			return null;
+		}
+
+		try (Statement statement = holder.getConnection().createStatement();
+			 ResultSet result = statement.executeQuery(EXECUTED_GTIDS_QUERY)) {
+
+			String gtids = result.next() ? result.getString(1) : null;
+			return gtids == null || gtids.isBlank() ? null : WHITESPACE.matcher(gtids).replaceAll("");
+		} catch (SQLException e) {
+			log.warn("Unable to read the executed GTID set, no consistency token is issued: {}",
+					e.getMessage());
+			return null;
+		}
+	}
+}
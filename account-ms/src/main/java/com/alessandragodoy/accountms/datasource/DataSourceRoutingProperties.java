@@ -0,0 +1,42 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Configuration properties for routing read-only transactions to replica databases.
+ *
+ * @param enabled            whether read/write routing is enabled
+ * @param replicas           the replica connection pools that serve read-only transactions
+ * @param lagCheckInterval   how often the replication lag of each replica is polled
+ * @param maxReplicaLag      replicas lagging further behind the primary are not used
+ * @param tokenHeader        the header carrying the consistency token between client and service
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue List<Replica> replicas,
+		@DefaultValue("1s") Duration lagCheckInterval,
+		@DefaultValue("5s") Duration maxReplicaLag,
+		@DefaultValue("X-Consistency-Token") String tokenHeader) {
+
+	/**
+	 * Connection settings of a single replica.
+	 *
+	 * @param name            the name used as routing key and pool name
+	 * @param url             the JDBC URL of the replica
+	 * @param username        the database user
+	 * @param password        the database password
+	 * @param maximumPoolSize the maximum number of pooled connections to the replica
+	 */
+	public record Replica(
+			String name,
+			String url,
+			String username,
+			String password,
+			@DefaultValue("10") int maximumPoolSize) {
+	}
+}
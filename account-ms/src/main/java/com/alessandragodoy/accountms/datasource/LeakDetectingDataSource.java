@@ -0,0 +1,36 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Data source registering every connection it hands out with a {@link ConnectionLeakDetector}
+ * until the connection is closed.
+ */
+public class LeakDetectingDataSource extends DelegatingDataSource {
+
+	private final ConnectionLeakDetector detector;
+
+	public LeakDetectingDataSource(DataSource target, ConnectionLeakDetector detector) {
+		super(target);
+		this.detector = detector;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return tracked(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return tracked(super.getConnection(username, password));
+	}
+
+	private Connection tracked(Connection connection) {
+		ConnectionLeakDetector.Checkout checkout = detector.checkedOut();
+		return ConnectionProxies.onClose(connection, () -> detector.returned(checkout));
+	}
+}
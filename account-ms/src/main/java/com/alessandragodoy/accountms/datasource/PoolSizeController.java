@@ -0,0 +1,150 @@
+package com.alessandragodoy.accountms.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically resizes a connection pool, within the configured bounds, from the pressure it is
+ * under.
+ * <p>
+ * The pool grows by {@code step} after {@code sustainedChecks} checks in a row with callers
+ * waiting for a connection, counting those queued for a {@link ConnectionPermitDataSource} permit.
+ * It does not grow while connections are held longer than {@code slowUsageThreshold} on average,
+ * since the database is then the bottleneck and more connections would only add load to it. It
+ * shrinks by {@code step} after {@code shrinkAfterChecks} checks in a row with nobody waiting and
+ * at most half of the pool in use; the pool retires the surplus connections as they time out idle
+ * or reach their maximum lifetime.
+ * </p>
+ * <p>
+ * Permits follow the pool, keeping the gap between them that leaves room for nested block
+ * reservations.
+ * </p>
+ */
+@Slf4j
+public class PoolSizeController {
+
+	private final HikariDataSource pool;
+	private final ConnectionPermitDataSource permits;
+	private final MeterRegistry meterRegistry;
+	private final PoolSizingProperties properties;
+	private final int permitHeadroom;
+	private int pressuredChecks;
+	private int idleChecks;
+	private long lastUsageCount;
+	private double lastUsageNanos;
+
+	/**
+	 * Creates a controller for a pool.
+	 *
+	 * @param pool          the pool to resize
+	 * @param permits       the permits in front of the pool, or {@code null} if there are none
+	 * @param meterRegistry the registry holding the pool's usage timer, or {@code null}
+	 * @param properties    the sizing bounds and thresholds
+	 */
+	public PoolSizeController(HikariDataSource pool, ConnectionPermitDataSource permits,
+							  MeterRegistry meterRegistry, PoolSizingProperties properties) {
+		this.pool = pool;
+		this.permits = permits;
+		this.meterRegistry = meterRegistry;
+		this.properties = properties;
+		this.permitHeadroom = permits == null ? 0
+				: pool.getMaximumPoolSize() - permits.getMaxConcurrent();
+	}
+
+	/**
+	 * Checks the pressure on the pool and resizes it when it has been sustained.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.pool-sizing.check-interval:5s}")
+	public void check() {
+		HikariPoolMXBean poolStats = pool.getHikariPoolMXBean();
+		if (poolStats == null) {
+			return;
+		}
+
+		int size = pool.getMaximumPoolSize();
+		int waiting = poolStats.getThreadsAwaitingConnection()
+				+ (permits == null ? 0 : permits.getWaiting());
+
+		if (waiting > 0) {
+			idleChecks = 0;
+			if (pressuredChecks++ == 0) {
+				meanUsageNanosSinceLastCall();
+			}
+			if (pressuredChecks >= properties.sustainedChecks()) {
+				pressuredChecks = 0;
+				grow(size, waiting, meanUsageNanosSinceLastCall());
+			}
+		} else {
+			pressuredChecks = 0;
+			idleChecks = poolStats.getActiveConnections() <= size / 2 ? idleChecks + 1 : 0;
+			if (idleChecks >= properties.shrinkAfterChecks()) {
+				idleChecks = 0;
+				shrink(size);
+			}
+		}
+	}
+
+	private void grow(int size, int waiting, long meanUsageNanos) {
+		if (meanUsageNanos > properties.slowUsageThreshold().toNanos()) {
+			log.warn("{} callers are waiting for a connection, but connections are held {} ms " +
+					"on average; not growing the pool of {}", waiting,
+					TimeUnit.NANOSECONDS.toMillis(meanUsageNanos), size);
+			return;
+		}
+
+		int newSize = Math.min(properties.maxSize(), size + properties.step());
+		if (newSize > size) {
+			log.info("Growing the connection pool from {} to {}, {} callers waiting", size,
+					newSize, waiting);
+			resize(newSize);
+		}
+	}
+
+	private void shrink(int size) {
+		int newSize = Math.max(properties.minSize(), size - properties.step());
+		if (newSize < size) {
+			log.info("Shrinking the connection pool from {} to {}", size, newSize);
+			resize(newSize);
+		}
+	}
+
+	private void resize(int newSize) {
+		if (pool.getMinimumIdle() > newSize) {
+			pool.getHikariConfigMXBean().setMinimumIdle(newSize);
+		}
+		pool.getHikariConfigMXBean().setMaximumPoolSize(newSize);
+		if (permits != null) {
+			permits.setMaxConcurrent(Math.max(1, newSize - permitHeadroom));
+		}
+	}
+
+	/**
+	 * Returns the mean time connections were held since the previous call, which is made when
+	 * the pressure starts, so that the decision to grow reflects the connections used under it.
+	 *
+	 * @return the mean usage in nanoseconds, or 0 if unknown
+	 */
+	private long meanUsageNanosSinceLastCall() {
+		Timer usageTimer = meterRegistry == null ? null
+				: meterRegistry.find("hikaricp.connections.usage").tag("pool", pool.getPoolName())
+				.timer();
+		if (usageTimer == null) {
+			return 0;
+		}
+
+		long count = usageTimer.count();
+		double totalNanos = usageTimer.totalTime(TimeUnit.NANOSECONDS);
+		long samples = count - lastUsageCount;
+		double nanos = totalNanos - lastUsageNanos;
+		lastUsageCount = count;
+		lastUsageNanos = totalNanos;
+
+		return samples > 0 ? (long) (nanos / samples) : 0;
+	}
+}
@@ -0,0 +1,32 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for resizing the primary connection pool under load.
+ *
+ * @param enabled            whether the pool is resized
+ * @param minSize            the smallest the pool can be made
+ * @param maxSize            the largest the pool can be made
+ * @param step               the number of connections added or removed at a time
+ * @param checkInterval      how often the pool is checked
+ * @param sustainedChecks    the consecutive checks with waiting callers before the pool grows
+ * @param shrinkAfterChecks  the consecutive checks with at most half the pool in use before the
+ *                           pool shrinks
+ * @param slowUsageThreshold the average time connections are held above which the database is
+ *                           considered the bottleneck and the pool is not grown
+ */
+@ConfigurationProperties(prefix = "datasource.pool-sizing")
+public record PoolSizingProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("10") int minSize,
+		@DefaultValue("30") int maxSize,
+		@DefaultValue("2") int step,
+		@DefaultValue("5s") Duration checkInterval,
+		@DefaultValue("3") int sustainedChecks,
+		@DefaultValue("12") int shrinkAfterChecks,
+		@DefaultValue("250ms") Duration slowUsageThreshold) {
+}
@@ -0,0 +1,51 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Routing data source that sends read-only transactions to a replica and everything else to the
+ * primary.
+ * <p>
+ * A replica is only chosen if the {@link ReplicaLagMonitor} reports that it has caught up with the
+ * consistency token presented by the client, which gives read-your-writes semantics. When no
+ * replica qualifies the read falls back to the primary. This data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so that the lookup
+ * happens after the transaction's read-only flag has been set.
+ * </p>
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public static final String PRIMARY = "primary";
+
+	private final List<String> replicaNames;
+	private final ReplicaLagMonitor lagMonitor;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+
+	public ReadWriteRoutingDataSource(List<String> replicaNames, ReplicaLagMonitor lagMonitor) {
+		this.replicaNames = List.copyOf(replicaNames);
+		this.lagMonitor = lagMonitor;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				|| replicaNames.isEmpty()) {
+			return PRIMARY;
+		}
+
+		String token = ConsistencyTokenHolder.get();
+		int start = Math.floorMod(nextReplica.getAndIncrement(), replicaNames.size());
+
+		for (int i = 0; i < replicaNames.size(); i++) {
+			String candidate = replicaNames.get((start + i) % replicaNames.size());
+			if (lagMonitor.canServe(candidate, token)) {
+				return candidate;
+			}
+		}
+		return PRIMARY;
+	}
+}
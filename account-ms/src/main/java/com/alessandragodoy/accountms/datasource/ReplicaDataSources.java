@@ -0,0 +1,51 @@
+package com.alessandragodoy.accountms.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Owns the connection pools of the replica databases, keyed by replica name, and closes them
+ * when the application context shuts down.
+ */
+public class ReplicaDataSources implements AutoCloseable {
+
+	private final Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+
+	/**
+	 * Registers the pool of a replica.
+	 *
+	 * @param name the replica name
+	 * @param pool the replica connection pool
+	 */
+	public void add(String name, HikariDataSource pool) {
+		pools.put(name, pool);
+	}
+
+	/**
+	 * Returns the replica names in configuration order.
+	 *
+	 * @return the replica names
+	 */
+	public List<String> names() {
+		return List.copyOf(pools.keySet());
+	}
+
+	/**
+	 * Returns the replica pools keyed by name.
+	 *
+	 * @return an unmodifiable view of the replica pools
+	 */
+	public Map<String, DataSource> asMap() {
+		return Collections.unmodifiableMap(pools);
+	}
+
+	@Override
+	public void close() {
+		pools.values().forEach(HikariDataSource::close);
+	}
+}
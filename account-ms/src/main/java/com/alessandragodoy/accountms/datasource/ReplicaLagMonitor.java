@@ -0,0 +1,125 @@
+package com.alessandragodoy.accountms.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks which replicas can serve reads.
+ * <p>
+ * The replication status of every replica is polled periodically, and the point in time each one
+ * has applied the primary's commits up to is estimated as {@code checkTime - (lag + 1s)}. A
+ * replica whose status cannot be read, or whose SQL thread is not running, is treated as
+ * unavailable, and one estimated further behind than the maximum lag is skipped. The estimate
+ * only bounds the staleness of reads without a consistency token: {@code Seconds_Behind_Source}
+ * counts whole seconds of the source's clock and does not see events the I/O thread has not
+ * received yet.
+ * </p>
+ * <p>
+ * Reads with a token are checked on the replica itself: it serves them only if
+ * {@code GTID_SUBSET(token, @@GLOBAL.gtid_executed)} holds, that is if it has applied every
+ * transaction the primary had committed when the token was issued.
+ * </p>
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+	private static final long LAG_GRANULARITY_MILLIS = 1000;
+	private static final long UNAVAILABLE = Long.MIN_VALUE;
+	private static final String APPLIED_QUERY = "SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)";
+
+	private final Map<String, DataSource> replicas;
+	private final long maxReplicaLagMillis;
+	private final Map<String, Long> appliedUpTo = new ConcurrentHashMap<>();
+
+	public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxReplicaLag) {
+		this.replicas = replicas;
+		this.maxReplicaLagMillis = maxReplicaLag.toMillis();
+	}
+
+	/**
+	 * Refreshes the applied position of every replica.
+	 */
+	@Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval:1s}")
+	public void refresh() {
+		replicas.forEach((name, dataSource) -> {
+			long applied = readAppliedUpTo(name, dataSource);
+			Long previous = appliedUpTo.put(name, applied);
+
+			if (applied == UNAVAILABLE && (previous == null || previous != UNAVAILABLE)) {
+				log.warn("Replica {} is unavailable, its reads are routed to the primary", name);
+			} else if (applied != UNAVAILABLE && previous != null && previous == UNAVAILABLE) {
+				log.info("Replica {} is available again", name);
+			}
+		});
+	}
+
+	/**
+	 * Checks whether a replica can serve a read for a client that presented {@code token}.
+	 *
+	 * @param replicaName the name of the replica
+	 * @param token       the client's consistency token, or {@code null} if none was presented
+	 * @return true if the replica is available, within the lag limit and has applied the token
+	 */
+	public boolean canServe(String replicaName, String token) {
+		long applied = appliedUpTo.getOrDefault(replicaName, UNAVAILABLE);
+
+		if (applied == UNAVAILABLE
+				|| System.currentTimeMillis() - applied > maxReplicaLagMillis + LAG_GRANULARITY_MILLIS) {
+			return false;
+		}
+		return token == null || hasApplied(replicaName, token);
+	}
+
+	/**
+	 * Checks on the replica whether its executed GTID set contains the token.
+	 *
+	 * @param replicaName the name of the replica
+	 * @param token       the GTID set the client's write was committed in
+	 * @return true if the replica has applied every transaction of the token
+	 */
+	private boolean hasApplied(String replicaName, String token) {
+		try (Connection connection = replicas.get(replicaName).getConnection();
+			 PreparedStatement statement = connection.prepareStatement(APPLIED_QUERY)) {
+
+			statement.setString(1, token);
+			try (ResultSet result = statement.executeQuery()) {
+				return result.next() && result.getBoolean(1);
+			}
+		} catch (SQLException e) {
+			log.debug("Unable to compare the GTID set of replica {}: {}", replicaName, e.getMessage());
+			return false;
+		}
+	}
+
+	private long readAppliedUpTo(String name, DataSource dataSource) {
+		long checkTime = System.currentTimeMillis();
+
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement();
+			 ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+			if (!status.next()) {
+				return UNAVAILABLE;
+			}
+
+			long lagSeconds = status.getLong("Seconds_Behind_Source");
+			if (status.wasNull()) {
+				return UNAVAILABLE;
+			}
+			return checkTime - lagSeconds * LAG_GRANULARITY_MILLIS - LAG_GRANULARITY_MILLIS;
+		} catch (SQLException e) {
+			log.debug("Unable to read replication status of replica {}: {}", name, e.getMessage());
+			return UNAVAILABLE;
+		}
+	}
+}
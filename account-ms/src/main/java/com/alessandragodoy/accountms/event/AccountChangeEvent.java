@@ -0,0 +1,37 @@
+package com.alessandragodoy.accountms.event;
+
+import com.alessandragodoy.accountms.model.Account;
+
+import java.time.LocalDateTime;
+
+/**
+ * Change of the balance or state of an account. Published inside the transaction that makes the
+ * change and delivered to subscribers only after it commits.
+ *
+ * @param type       the kind of change
+ * @param accountId  the ID of the changed account
+ * @param customerId the ID of the customer who owns the account
+ * @param balance    the balance of the account after the change
+ * @param active     the state of the account after the change
+ * @param occurredAt when the change was made
+ */
+public record AccountChangeEvent(
+		AccountChangeType type,
+		Integer accountId,
+		Integer customerId,
+		double balance,
+		boolean active,
+		LocalDateTime occurredAt) {
+
+	/**
+	 * Creates an event describing the current balance and state of an account.
+	 *
+	 * @param type    the kind of change
+	 * @param account the changed account
+	 * @return the event
+	 */
+	public static AccountChangeEvent of(AccountChangeType type, Account account) {
+		return new AccountChangeEvent(type, account.getAccountId(), account.getCustomerId(),
+				account.getBalance(), account.isActive(), LocalDateTime.now());
+	}
+}
@@ -0,0 +1,9 @@
+package com.alessandragodoy.accountms.event;
+
+/**
+ * Kinds of account changes pushed to event stream subscribers.
+ */
+public enum AccountChangeType {
+	BALANCE_CHANGED,
+	STATUS_CHANGED
+}
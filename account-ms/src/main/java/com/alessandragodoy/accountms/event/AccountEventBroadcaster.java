@@ -0,0 +1,140 @@
+package com.alessandragodoy.accountms.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fans committed account changes out to the event stream subscribers.
+ * <p>
+ * Changes are received only after their transaction commits, so subscribers never see a change
+ * that was rolled back. Each event is serialized once and queued on every matching subscription;
+ * the actual writes happen on the sender pool, never on the committing thread.
+ * </p>
+ */
+@Slf4j
+public class AccountEventBroadcaster {
+
+	private final AccountEventProperties properties;
+	private final Executor sender;
+	private final List<AccountEventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final Counter dropped;
+	private final Counter disconnected;
+
+	public AccountEventBroadcaster(AccountEventProperties properties, Executor sender,
+								   MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.sender = sender;
+		this.dropped = meterRegistry.counter("account.events.dropped");
+		this.disconnected = meterRegistry.counter("account.events.disconnected");
+		meterRegistry.gauge("account.events.subscribers", subscriptions, List::size);
+	}
+
+	/**
+	 * Opens a subscription to the changes of an account, of the accounts of a customer, or both.
+	 *
+	 * @param accountId  the account to follow, or null for any account of the customer
+	 * @param customerId the customer to follow, or null for any customer of the account
+	 * @return the emitter streaming the matching events
+	 */
+	public SseEmitter subscribe(Integer accountId, Integer customerId) {
+		SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+		AccountEventSubscription subscription =
+				new AccountEventSubscription(emitter, accountId, customerId, properties, sender);
+
+		emitter.onCompletion(() -> remove(subscription));
+		emitter.onTimeout(() -> remove(subscription));
+		emitter.onError(ex -> remove(subscription));
+
+		subscriptions.add(subscription);
+		return emitter;
+	}
+
+	/**
+	 * Delivers a committed account change to the matching subscribers.
+	 *
+	 * @param event the account change
+	 */
+	@TransactionalEventListener
+	public void onAccountChange(AccountChangeEvent event) {
+		var payload = AccountEventSubscription.toSseEvent(sequence.incrementAndGet(), event);
+
+		for (AccountEventSubscription subscription : subscriptions) {
+			if (subscription.matches(event)) {
+				track(subscription, subscription.offer(payload));
+			}
+		}
+	}
+
+	/**
+	 * Keeps idle subscriptions open and removes those whose clients are gone.
+	 */
+	@Scheduled(fixedRateString = "${account.events.heartbeat-interval:15s}")
+	public void heartbeat() {
+		for (AccountEventSubscription subscription : subscriptions) {
+			track(subscription, subscription.heartbeat());
+		}
+	}
+
+	/**
+	 * Disconnects the subscribers whose clients stopped reading, so they stop buffering events.
+	 * A stalled write is detected within twice the send timeout.
+	 */
+	@Scheduled(fixedRateString = "${account.events.send-timeout:5s}")
+	public void disconnectStalled() {
+		for (AccountEventSubscription subscription : subscriptions) {
+			if (subscription.disconnectIfStalled()) {
+				track(subscription, AccountEventSubscription.Delivery.CLOSED);
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of open subscriptions.
+	 *
+	 * @return the number of subscriptions
+	 */
+	public int getSubscriberCount() {
+		return subscriptions.size();
+	}
+
+	/**
+	 * Ends every open stream as soon as the application starts shutting down. Open streams would
+	 * otherwise hold the graceful shutdown of the web server until it times out; clients simply
+	 * reconnect to another instance.
+	 */
+	@EventListener(ContextClosedEvent.class)
+	public void completeAll() {
+		for (AccountEventSubscription subscription : subscriptions) {
+			subscription.close();
+			subscription.getEmitter().complete();
+		}
+		subscriptions.clear();
+	}
+
+	private void track(AccountEventSubscription subscription,
+					   AccountEventSubscription.Delivery delivery) {
+		if (delivery == AccountEventSubscription.Delivery.DROPPED_OLDEST) {
+			dropped.increment();
+		} else if (delivery == AccountEventSubscription.Delivery.CLOSED
+				&& subscriptions.remove(subscription)) {
+			disconnected.increment();
+		}
+	}
+
+	private void remove(AccountEventSubscription subscription) {
+		subscription.close();
+		subscriptions.remove(subscription);
+	}
+}
@@ -0,0 +1,47 @@
+package com.alessandragodoy.accountms.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the account change event stream.
+ *
+ * @param bufferSize        the number of undelivered events kept per subscriber
+ * @param overflow          what happens when a subscriber's buffer is full
+ * @param timeout           how long a subscription stays open before the client has to reconnect
+ * @param heartbeatInterval how often an idle comment is sent to keep connections open
+ * @param senderThreads     the number of platform threads kept to write events to subscribers
+ * @param sendTimeout       how long a write to a subscriber may block before the subscriber is
+ *                          disconnected
+ * @param maxSenderThreads  the most platform threads writing events at once, once the queue of
+ *                          subscribers waiting for a thread is full
+ * @param senderQueueSize   the number of subscribers that may wait for a platform thread; the
+ *                          subscribers that find it full are disconnected
+ */
+@ConfigurationProperties(prefix = "account.events")
+public record AccountEventProperties(
+		@DefaultValue("256") int bufferSize,
+		@DefaultValue("DROP_OLDEST") Overflow overflow,
+		@DefaultValue("30m") Duration timeout,
+		@DefaultValue("15s") Duration heartbeatInterval,
+		@DefaultValue("4") int senderThreads,
+		@DefaultValue("5s") Duration sendTimeout,
+		@DefaultValue("32") int maxSenderThreads,
+		@DefaultValue("1024") int senderQueueSize) {
+
+	/**
+	 * Policies applied to a subscriber that does not keep up with the events.
+	 */
+	public enum Overflow {
+		/**
+		 * The oldest undelivered event is discarded to make room for the new one.
+		 */
+		DROP_OLDEST,
+		/**
+		 * The subscriber is disconnected and has to reconnect and reload the current state.
+		 */
+		DISCONNECT
+	}
+}
@@ -0,0 +1,287 @@
+package com.alessandragodoy.accountms.event;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A single event stream subscriber, interested in one account and/or one customer.
+ * <p>
+ * Events are queued in a bounded per-subscriber buffer and written by a shared sender pool, so a
+ * slow client only delays its own events. When the buffer is full the oldest event is dropped or
+ * the subscriber is disconnected, depending on the configured overflow policy. At most one sender
+ * drains a subscription at a time, which keeps its events in order.
+ * </p>
+ * <p>
+ * The buffer is guarded by a {@link ReentrantLock} rather than {@code synchronized}, and the
+ * emitter is never written or completed while holding it, so publishers running on virtual
+ * threads do not pin their carrier thread.
+ * </p>
+ * <p>
+ * A write to a client that stopped reading blocks until the servlet container's write timeout,
+ * and the emitter cannot be completed meanwhile. A subscriber whose write takes longer than
+ * {@code sendTimeout} is therefore disconnected by {@link #disconnectIfStalled()}. The emitter of
+ * a disconnected subscriber is completed by its sender once the write in progress returns, or at
+ * once if none is, so no publishing or scheduling thread ever waits on a write. A subscriber the
+ * sender pool refuses to drain is disconnected as well.
+ * </p>
+ */
+@Slf4j
+public class AccountEventSubscription {
+
+	private static final Set<DataWithMediaType> HEARTBEAT =
+			Collections.unmodifiableSet(SseEmitter.event().comment("heartbeat").build());
+	private static final long NOT_SENDING = Long.MIN_VALUE;
+
+	private final SseEmitter emitter;
+	private final Integer accountId;
+	private final Integer customerId;
+	private final int capacity;
+	private final AccountEventProperties.Overflow overflow;
+	private final Duration sendTimeout;
+	private final Executor sender;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Deque<Set<DataWithMediaType>> buffer = new ArrayDeque<>();
+	private boolean draining;
+	private boolean closed;
+	private boolean disconnected;
+	private volatile long sendStartedAt = NOT_SENDING;
+
+	public AccountEventSubscription(SseEmitter emitter, Integer accountId, Integer customerId,
+			AccountEventProperties properties, Executor sender) {
+		this.emitter = emitter;
+		this.accountId = accountId;
+		this.customerId = customerId;
+		this.capacity = properties.bufferSize();
+		this.overflow = properties.overflow();
+		this.sendTimeout = properties.sendTimeout();
+		this.sender = sender;
+	}
+
+	public SseEmitter getEmitter() {
+		return emitter;
+	}
+
+	/**
+	 * Checks whether an event concerns the account or customer of this subscription.
+	 *
+	 * @param event the event
+	 * @return true if the subscriber should receive the event
+	 */
+	public boolean matches(AccountChangeEvent event) {
+		return (accountId == null || accountId.equals(event.accountId()))
+				&& (customerId == null || customerId.equals(event.customerId()));
+	}
+
+	/**
+	 * Queues an event for delivery and schedules a sender if none is draining the buffer.
+	 *
+	 * @param event the event, already serialized by {@link #toSseEvent(long, AccountChangeEvent)}
+	 * @return whether the event was queued, queued after dropping the oldest one, or refused
+	 * because the subscription is closed or has just been disconnected
+	 */
+	public Delivery offer(Set<DataWithMediaType> event) {
+		Delivery delivery = Delivery.QUEUED;
+
+		lock.lock();
+		try {
+			if (closed) {
+				return Delivery.CLOSED;
+			}
+			if (buffer.size() >= capacity
+					&& overflow == AccountEventProperties.Overflow.DISCONNECT) {
+				log.info("Disconnecting slow event subscriber after {} buffered events", capacity);
+				delivery = Delivery.CLOSED;
+			} else {
+				if (buffer.size() >= capacity) {
+					buffer.pollFirst();
+					delivery = Delivery.DROPPED_OLDEST;
+				}
+				buffer.addLast(event);
+				if (draining) {
+					return delivery;
+				}
+				draining = true;
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (delivery == Delivery.CLOSED) {
+			disconnect();
+			return delivery;
+		}
+		try {
+			sender.execute(this::drain);
+		} catch (RejectedExecutionException ex) {
+			log.info("Disconnecting event subscriber, no sender is available: {}",
+					ex.getMessage());
+			lock.lock();
+			try {
+				draining = false;
+			} finally {
+				lock.unlock();
+			}
+			disconnect();
+			return Delivery.CLOSED;
+		}
+		return delivery;
+	}
+
+	/**
+	 * Sends a comment to keep an idle connection open through proxies and load balancers.
+	 *
+	 * @return the outcome of queueing the comment
+	 */
+	public Delivery heartbeat() {
+		return offer(HEARTBEAT);
+	}
+
+	/**
+	 * Disconnects the subscriber if an event has been being written to it for longer than the
+	 * send timeout. Its buffered events are discarded and its emitter is completed once the
+	 * write returns.
+	 *
+	 * @return true if the subscriber was disconnected by this call
+	 */
+	public boolean disconnectIfStalled() {
+		long startedAt = sendStartedAt;
+		if (startedAt == NOT_SENDING || System.nanoTime() - startedAt < sendTimeout.toNanos()) {
+			return false;
+		}
+
+		if (!disconnect()) {
+			return false;
+		}
+		log.info("Disconnected event subscriber stalled for over {} in a write", sendTimeout);
+		return true;
+	}
+
+	/**
+	 * Returns the number of events waiting to be written.
+	 *
+	 * @return the number of buffered events
+	 */
+	public int getBuffered() {
+		lock.lock();
+		try {
+			return buffer.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Marks the subscription as closed, discarding undelivered events.
+	 */
+	public void close() {
+		lock.lock();
+		try {
+			closeLocked();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void closeLocked() {
+		closed = true;
+		buffer.clear();
+	}
+
+	/**
+	 * Closes the subscription and completes its emitter: right away if no write is in progress,
+	 * since completing does not block then, otherwise from the sender once the write returns.
+	 *
+	 * @return true if the subscription was open and has been disconnected by this call
+	 */
+	private boolean disconnect() {
+		boolean writing;
+		lock.lock();
+		try {
+			if (closed) {
+				return false;
+			}
+			closeLocked();
+			disconnected = true;
+			writing = draining;
+		} finally {
+			lock.unlock();
+		}
+
+		if (!writing) {
+			emitter.complete();
+		}
+		return true;
+	}
+
+	private void drain() {
+		while (true) {
+			Set<DataWithMediaType> next;
+			boolean complete = false;
+			lock.lock();
+			try {
+				next = closed ? null : buffer.pollFirst();
+				if (next == null) {
+					draining = false;
+					complete = disconnected;
+				}
+			} finally {
+				lock.unlock();
+			}
+			if (next == null) {
+				if (complete) {
+					emitter.complete();
+				}
+				return;
+			}
+			try {
+				sendStartedAt = System.nanoTime();
+				emitter.send(next);
+			} catch (IOException | IllegalStateException ex) {
+				log.debug("Event subscriber went away: {}", ex.getMessage());
+				close();
+				emitter.completeWithError(ex);
+				return;
+			} finally {
+				sendStartedAt = NOT_SENDING;
+			}
+		}
+	}
+
+	/**
+	 * Builds the emitter payload of an account change once, so it can be shared by every
+	 * subscriber that receives it.
+	 *
+	 * @param id    the sequence number of the event
+	 * @param event the account change
+	 * @return the read-only emitter payload
+	 */
+	public static Set<DataWithMediaType> toSseEvent(long id, AccountChangeEvent event) {
+		return Collections.unmodifiableSet(SseEmitter.event()
+				.id(Long.toString(id))
+				.name(event.type().name())
+				.data(event, MediaType.APPLICATION_JSON)
+				.build());
+	}
+
+	/**
+	 * Outcomes of offering an event to a subscription.
+	 */
+	public enum Delivery {
+		QUEUED,
+		DROPPED_OLDEST,
+		CLOSED
+	}
+}
@@ -3,6 +3,7 @@ package com.alessandragodoy.accountms.exception;
 import com.alessandragodoy.accountms.dto.CustomErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -131,4 +132,22 @@ public class GlobalExceptionHandler {
 
 		return new ResponseEntity<>(err, HttpStatus.SERVICE_UNAVAILABLE);
 	}
+
+	/**
+	 * Handles CannotCreateTransactionException, raised when no database connection could be
+	 * obtained in time, and returns a 503 Service Unavailable response.
+	 *
+	 * @param e       the CannotCreateTransactionException that was thrown
+	 * @param request the web request during which the exception occurred
+	 * @return a ResponseEntity containing a 503 status and a custom error response.
+	 */
+	@ExceptionHandler(CannotCreateTransactionException.class)
+	public ResponseEntity<CustomErrorResponse> handleCannotCreateTransactionException(
+			CannotCreateTransactionException e, WebRequest request) {
+
+		CustomErrorResponse err = new CustomErrorResponse(LocalDateTime.now(),
+				"The database is busy, try again later.", request.getDescription(false));
+
+		return new ResponseEntity<>(err, HttpStatus.SERVICE_UNAVAILABLE);
+	}
 }
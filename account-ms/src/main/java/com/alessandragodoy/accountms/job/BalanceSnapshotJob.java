@@ -0,0 +1,119 @@
+package com.alessandragodoy.accountms.job;
+
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Periodically snapshots the balance of the accounts that changed since their latest snapshot,
+ * which bounds the journal deltas a point-in-time balance query has to add up.
+ * <p>
+ * The accounts are walked in ranges of {@code chunkSize} account IDs, each one snapshotted in its
+ * own short transaction, so the job never holds locks on the whole journal. A failed range is
+ * logged and skipped; its accounts are snapshotted by the next run.
+ * </p>
+ * <p>
+ * Scheduled runs hold the MySQL named lock {@value #LOCK_NAME} on a connection of their own, so
+ * only one instance snapshots at a time; the others skip the run. The lock is released when the
+ * run ends or when its connection is lost.
+ * </p>
+ */
+@Slf4j
+public class BalanceSnapshotJob {
+
+	static final String LOCK_NAME = "account-ms.balance-snapshot";
+	private static final String ACQUIRE_LOCK_QUERY = "SELECT GET_LOCK(?, 0)";
+	private static final String RELEASE_LOCK_QUERY = "SELECT RELEASE_LOCK(?)";
+
+	private final DataSource dataSource;
+	private final AccountRepository accountRepository;
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+	private final TransactionOperations transactionOperations;
+	private final BalanceSnapshotProperties properties;
+
+	public BalanceSnapshotJob(DataSource dataSource, AccountRepository accountRepository,
+							  BalanceSnapshotRepository balanceSnapshotRepository,
+							  TransactionOperations transactionOperations,
+							  BalanceSnapshotProperties properties) {
+		this.dataSource = dataSource;
+		this.accountRepository = accountRepository;
+		this.balanceSnapshotRepository = balanceSnapshotRepository;
+		this.transactionOperations = transactionOperations;
+		this.properties = properties;
+	}
+
+	/**
+	 * Takes a snapshot of every changed account as of the current time minus the settle margin,
+	 * unless another instance holds the snapshot lock.
+	 */
+	@Scheduled(cron = "${account.balance-snapshot.cron:0 0 * * * *}")
+	public void run() {
+		try (Connection lockConnection = dataSource.getConnection()) {
+			if (!lock(lockConnection, ACQUIRE_LOCK_QUERY)) {
+				log.info("Skipping balance snapshot, another instance holds the lock");
+				return;
+			}
+			try {
+				LocalDateTime cutoff = LocalDateTime.now().minus(properties.settleMargin())
+						.truncatedTo(ChronoUnit.MICROS);
+				snapshot(cutoff);
+			} finally {
+				lock(lockConnection, RELEASE_LOCK_QUERY);
+			}
+		} catch (SQLException e) {
+			log.warn("Skipping balance snapshot, unable to take the lock", e);
+		}
+	}
+
+	/**
+	 * Takes a snapshot of every account that changed since its latest snapshot, as of a point in
+	 * time.
+	 *
+	 * @param cutoff the time of the snapshot
+	 * @return the number of snapshots taken
+	 */
+	public int snapshot(LocalDateTime cutoff) {
+		Integer minAccountId = accountRepository.findMinAccountId();
+		Integer maxAccountId = accountRepository.findMaxAccountId();
+		if (minAccountId == null || maxAccountId == null) {
+			return 0;
+		}
+
+		int taken = 0;
+		int failed = 0;
+		for (long from = minAccountId; from <= maxAccountId; from += properties.chunkSize()) {
+			int fromId = (int) from;
+			int toId = (int) Math.min(from + properties.chunkSize(), (long) maxAccountId + 1);
+			try {
+				Integer count = transactionOperations.execute(status ->
+						balanceSnapshotRepository.snapshotRange(fromId, toId, cutoff));
+				taken += count == null ? 0 : count;
+			} catch (RuntimeException e) {
+				failed++;
+				log.warn("Balance snapshot of accounts [{}, {}) failed", fromId, toId, e);
+			}
+		}
+
+		log.info("Took {} balance snapshots as of {} ({} failed ranges)", taken, cutoff, failed);
+		return taken;
+	}
+
+	private static boolean lock(Connection connection, String query) throws SQLException {
+		try (PreparedStatement statement = connection.prepareStatement(query)) {
+			statement.setString(1, LOCK_NAME);
+			try (ResultSet result = statement.executeQuery()) {
+				return result.next() && result.getInt(1) == 1;
+			}
+		}
+	}
+}
@@ -0,0 +1,23 @@
+package com.alessandragodoy.accountms.job;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the balance snapshot job.
+ *
+ * @param enabled       whether snapshots are taken in the background
+ * @param cron          when the job runs
+ * @param chunkSize     the size of the account ID range snapshotted in each transaction
+ * @param settleMargin  how far behind the current time the snapshot is taken, so transactions
+ *                      still in flight when the job starts are not left out of it
+ */
+@ConfigurationProperties(prefix = "account.balance-snapshot")
+public record BalanceSnapshotProperties(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("0 0 * * * *") String cron,
+		@DefaultValue("1000") int chunkSize,
+		@DefaultValue("1m") Duration settleMargin) {
+}
@@ -0,0 +1,146 @@
+package com.alessandragodoy.accountms.limiter;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounds the number of in-flight requests with a limit that follows the observed latency.
+ * <p>
+ * The average latency of each window of {@code sampleWindow} completed requests is compared with
+ * a long-term average. While it stays within {@link #TOLERANCE} times that average, the limit is
+ * moved towards itself plus its square root, the queue allowed in front of the database and
+ * customer-ms. When latency climbs above it, the target shrinks in proportion to the slowdown, so
+ * the limit falls before requests start timing out. Each window moves the limit a fifth of the way
+ * to the target. Windows in which fewer than half of the permits were used say nothing about the
+ * capacity and leave the limit unchanged.
+ * </p>
+ * <p>
+ * A share of the limit is reserved for internal requests, so transfers are still admitted when
+ * public reads have used up the rest.
+ * </p>
+ */
+public class AdaptiveConcurrencyLimiter {
+
+	static final double TOLERANCE = 1.5;
+	private static final double SMOOTHING = 0.2;
+	private static final double LONG_RTT_WEIGHT = 0.05;
+	private static final double MIN_GRADIENT = 0.5;
+
+	private final ConcurrencyLimitProperties properties;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final ReentrantLock lock = new ReentrantLock();
+	private volatile int limit;
+	private double estimatedLimit;
+	private double longRttNanos;
+	private long windowRttNanos;
+	private int windowSamples;
+	private int windowMaxInFlight;
+
+	public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+		this.properties = properties;
+		this.estimatedLimit = clamp(properties.initialLimit());
+		this.limit = (int) estimatedLimit;
+	}
+
+	/**
+	 * Takes a permit if the request is within the limit.
+	 *
+	 * @param internal whether the request may use the share reserved for internal requests
+	 * @return true if the request was admitted and must release its permit, false otherwise
+	 */
+	public boolean tryAcquire(boolean internal) {
+		int currentLimit = limit;
+		int allowed = internal ? currentLimit : publicLimit(currentLimit);
+
+		int current = inFlight.get();
+		while (current < allowed) {
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+			current = inFlight.get();
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a permit and records how long the request took.
+	 *
+	 * @param rttNanos the time the request was in flight, in nanoseconds
+	 */
+	public void release(long rttNanos) {
+		int inFlightBefore = inFlight.getAndDecrement();
+
+		lock.lock();
+		try {
+			windowRttNanos += rttNanos;
+			windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+			if (++windowSamples >= properties.sampleWindow()) {
+				updateLimit();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a permit without recording a latency, for requests whose duration says nothing
+	 * about the load, such as those that continue asynchronously.
+	 */
+	public void releaseWithoutSample() {
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * Returns the current limit on in-flight requests.
+	 *
+	 * @return the limit
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Returns the number of requests in flight.
+	 *
+	 * @return the in-flight request count
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	private void updateLimit() {
+		double shortRttNanos = (double) windowRttNanos / windowSamples;
+		int maxInFlight = windowMaxInFlight;
+		windowRttNanos = 0;
+		windowSamples = 0;
+		windowMaxInFlight = 0;
+
+		if (longRttNanos == 0) {
+			longRttNanos = shortRttNanos;
+		} else {
+			longRttNanos += (shortRttNanos - longRttNanos) * LONG_RTT_WEIGHT;
+		}
+		if (longRttNanos > 2 * shortRttNanos) {
+			// Latency dropped well below the average: forget the slow period sooner.
+			longRttNanos *= 0.95;
+		}
+		if (maxInFlight < estimatedLimit / 2) {
+			return;
+		}
+
+		double gradient = Math.max(MIN_GRADIENT,
+				Math.min(1.0, TOLERANCE * longRttNanos / shortRttNanos));
+		double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+		estimatedLimit = clamp(estimatedLimit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+		limit = (int) estimatedLimit;
+	}
+
+	private int publicLimit(int currentLimit) {
+		int reserved = (int) Math.ceil(currentLimit * properties.internalReservePercent() / 100.0);
+		return Math.max(1, currentLimit - reserved);
+	}
+
+	private double clamp(double value) {
+		return Math.max(properties.minLimit(), Math.min(properties.maxLimit(), value));
+	}
+}
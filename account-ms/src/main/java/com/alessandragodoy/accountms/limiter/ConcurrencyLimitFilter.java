@@ -0,0 +1,97 @@
+package com.alessandragodoy.accountms.limiter;
+
+import com.alessandragodoy.accountms.dto.CustomErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Sheds API requests beyond the {@link AdaptiveConcurrencyLimiter}'s limit with
+ * {@code 503 Service Unavailable} and a {@code Retry-After} header, before any work is done for
+ * them. Requests under {@value #INTERNAL_PATH_PREFIX} may use the share of the limit reserved for
+ * internal traffic.
+ * <p>
+ * Requests that continue asynchronously, such as event streams, return their permit when the
+ * request thread is released, without a latency sample.
+ * </p>
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+	static final String INTERNAL_PATH_PREFIX = "/api/v1/internal/";
+	private static final String SHED_MESSAGE = "The service is overloaded, try again later.";
+
+	private final AdaptiveConcurrencyLimiter limiter;
+	private final ObjectMapper objectMapper;
+	private final String retryAfterSeconds;
+	private final Counter rejectedInternal;
+	private final Counter rejectedPublic;
+
+	public ConcurrencyLimitFilter(AdaptiveConcurrencyLimiter limiter,
+								  ConcurrencyLimitProperties properties,
+								  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.limiter = limiter;
+		this.objectMapper = objectMapper;
+		this.retryAfterSeconds = String.valueOf(Math.max(1, properties.retryAfter().toSeconds()));
+
+		Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+				.description("Current limit on in-flight API requests")
+				.register(meterRegistry);
+		Gauge.builder("http.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+				.description("API requests in flight")
+				.register(meterRegistry);
+		this.rejectedInternal = rejectedCounter(meterRegistry, "internal");
+		this.rejectedPublic = rejectedCounter(meterRegistry, "public");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+									FilterChain filterChain) throws ServletException, IOException {
+
+		boolean internal = request.getRequestURI()
+				.startsWith(request.getContextPath() + INTERNAL_PATH_PREFIX);
+
+		if (!limiter.tryAcquire(internal)) {
+			(internal ? rejectedInternal : rejectedPublic).increment();
+			shed(request, response);
+			return;
+		}
+
+		long start = System.nanoTime();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (request.isAsyncStarted()) {
+				limiter.releaseWithoutSample();
+			} else {
+				limiter.release(System.nanoTime() - start);
+			}
+		}
+	}
+
+	private void shed(HttpServletRequest request, HttpServletResponse response)
+			throws IOException {
+		response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+		response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		objectMapper.writeValue(response.getOutputStream(), new CustomErrorResponse(
+				LocalDateTime.now(), SHED_MESSAGE, "uri=" + request.getRequestURI()));
+	}
+
+	private static Counter rejectedCounter(MeterRegistry meterRegistry, String priority) {
+		return Counter.builder("http.concurrency.rejected")
+				.description("API requests shed beyond the concurrency limit")
+				.tag("priority", priority)
+				.register(meterRegistry);
+	}
+}
@@ -0,0 +1,29 @@
+package com.alessandragodoy.accountms.limiter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the adaptive limit on in-flight API requests.
+ *
+ * @param enabled                whether requests beyond the limit are shed
+ * @param initialLimit           the limit before any latency has been observed
+ * @param minLimit               the lowest the limit can go
+ * @param maxLimit               the highest the limit can go
+ * @param internalReservePercent the share of the limit only internal requests can use, in
+ *                               percent
+ * @param sampleWindow           the number of completed requests the limit is recomputed from
+ * @param retryAfter             the delay suggested to shed clients in {@code Retry-After}
+ */
+@ConfigurationProperties(prefix = "http.concurrency-limit")
+public record ConcurrencyLimitProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("20") int initialLimit,
+		@DefaultValue("4") int minLimit,
+		@DefaultValue("200") int maxLimit,
+		@DefaultValue("20") int internalReservePercent,
+		@DefaultValue("20") int sampleWindow,
+		@DefaultValue("1s") Duration retryAfter) {
+}
@@ -0,0 +1,81 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Entity representing an Account. Cached in the second-level cache when it is enabled.
+ * <p>
+ * IDs are allocated in blocks of {@link #ID_ALLOCATION_SIZE} from the {@code account_id_seq}
+ * table, so inserts can be batched.
+ * </p>
+ */
+@Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Account.CACHE_REGION)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class Account {
+
+	public static final String CACHE_REGION = "account";
+	public static final int ID_ALLOCATION_SIZE = 50;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_id_seq")
+	@SequenceGenerator(name = "account_id_seq", sequenceName = "account_id_seq",
+			allocationSize = ID_ALLOCATION_SIZE)
+	@EqualsAndHashCode.Include
+	private Integer accountId;
+
+	@Column(nullable = false, unique = true)
+	private String accountNumber;
+
+	@Column(nullable = false)
+	private double balance;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private AccountType accountType;
+
+	@Column(nullable = false)
+	private Integer customerId;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime creationDate;
+
+	@Column(nullable = false)
+	private LocalDateTime updateDate;
+
+	@Column(nullable = false)
+	private boolean active;
+
+	@PrePersist
+	protected void onCreate() {
+		creationDate = LocalDateTime.now();
+		updateDate = now();
+		active = true;
+	}
+
+	@PreUpdate
+	protected void onUpdate() {
+		updateDate = now();
+	}
+
+	/**
+	 * Returns the current time truncated to the microsecond precision of the update_date column,
+	 * so the in-memory value matches the stored one used to build ETags.
+	 *
+	 * @return the current time with microsecond precision
+	 */
+	private static LocalDateTime now() {
+		return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Entity holding the next unreserved value of a sequence account numbers are allocated from.
+ * Only read and advanced under a pessimistic lock by
+ * {@code AccountNumberSequenceRepository#findForUpdate}.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountNumberSequence {
+
+	@Id
+	private String sequenceName;
+
+	@Column(nullable = false)
+	private long nextVal;
+}
@@ -0,0 +1,43 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Entity representing a signed change of the balance of an account. Entries are append-only.
+ */
+@Entity
+@Table(name = "balance_journal")
+@Immutable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceJournalEntry {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long journalId;
+
+	@Column(nullable = false)
+	private Integer accountId;
+
+	@Column(nullable = false)
+	private double amount;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt;
+
+	public BalanceJournalEntry(Integer accountId, double amount) {
+		this.accountId = accountId;
+		this.amount = amount;
+	}
+
+	@PrePersist
+	protected void onCreate() {
+		createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+	}
+}
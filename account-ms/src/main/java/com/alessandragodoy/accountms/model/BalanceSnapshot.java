@@ -0,0 +1,33 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing the balance of an account at a point in time, as the sum of its journal
+ * entries up to {@code lastJournalId}. Snapshots are only written by
+ * {@code BalanceSnapshotRepository#snapshotRange}, never through the entity.
+ */
+@Entity
+@Immutable
+@IdClass(BalanceSnapshotId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceSnapshot {
+
+	@Id
+	private Integer accountId;
+
+	@Id
+	private LocalDateTime snapshotTime;
+
+	@Column(nullable = false)
+	private double balance;
+
+	@Column(nullable = false)
+	private long lastJournalId;
+}
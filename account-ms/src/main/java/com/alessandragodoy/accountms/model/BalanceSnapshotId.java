@@ -0,0 +1,21 @@
+package com.alessandragodoy.accountms.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Composite primary key of {@link BalanceSnapshot}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BalanceSnapshotId implements Serializable {
+
+	private Integer accountId;
+
+	private LocalDateTime snapshotTime;
+}
@@ -0,0 +1,34 @@
+package com.alessandragodoy.accountms.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Read model holding the balance totals of a customer for one account type. Rows are only written
+ * through {@code CustomerBalanceSummaryRepository#applyDelta}, never through the entity.
+ */
+@Entity
+@Immutable
+@IdClass(CustomerBalanceSummaryId.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBalanceSummary {
+
+	@Id
+	private Integer customerId;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	private AccountType accountType;
+
+	@Column(nullable = false)
+	private double totalBalance;
+
+	@Column(nullable = false)
+	private int accountCount;
+
+	@Column(nullable = false)
+	private int activeCount;
+}
@@ -0,0 +1,20 @@
+package com.alessandragodoy.accountms.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Composite primary key of {@link CustomerBalanceSummary}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerBalanceSummaryId implements Serializable {
+
+	private Integer customerId;
+
+	private AccountType accountType;
+}
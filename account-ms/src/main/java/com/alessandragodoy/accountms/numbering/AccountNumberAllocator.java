@@ -0,0 +1,86 @@
+package com.alessandragodoy.accountms.numbering;
+
+import com.alessandragodoy.accountms.model.AccountNumberSequence;
+import com.alessandragodoy.accountms.repository.AccountNumberSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Allocates unique account numbers from the {@code account_number_sequence} table.
+ * <p>
+ * Numbers are reserved in blocks of {@code blockSize}: one short transaction locks the sequence
+ * row, reads its value and advances it past the block, so concurrent instances always get
+ * disjoint blocks and a whole block of account creations costs a single round trip. Within a
+ * block, numbers are handed out in memory and formatted with {@link AccountNumbers} into a buffer
+ * reused under the allocator's lock, which leaves the new string as the only allocation.
+ * </p>
+ * <p>
+ * The reservation must run in its own transaction (see {@code AccountNumberConfig}), so the row
+ * lock is released right away instead of being held by the caller's transaction. Numbers of a
+ * block that are not used before the instance stops are skipped, never reused.
+ * </p>
+ */
+@Slf4j
+public class AccountNumberAllocator {
+
+	static final String SEQUENCE_NAME = "account_number";
+
+	private final AccountNumberSequenceRepository sequenceRepository;
+	private final TransactionOperations transactionOperations;
+	private final int blockSize;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final char[] buffer = AccountNumbers.newBuffer();
+	private long next;
+	private long limit;
+
+	public AccountNumberAllocator(AccountNumberSequenceRepository sequenceRepository,
+								  TransactionOperations transactionOperations,
+								  AccountNumberProperties properties) {
+		if (properties.blockSize() < 1) {
+			throw new IllegalArgumentException("The account number block size must be positive.");
+		}
+		this.sequenceRepository = sequenceRepository;
+		this.transactionOperations = transactionOperations;
+		this.blockSize = properties.blockSize();
+	}
+
+	/**
+	 * Allocates the next account number, reserving a new block first if the current one is used
+	 * up.
+	 *
+	 * @return a unique account number
+	 */
+	public String next() {
+		lock.lock();
+		try {
+			if (next == limit) {
+				reserveBlock();
+			}
+			AccountNumbers.format(next++, buffer);
+			return new String(buffer);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void reserveBlock() {
+		Long first = transactionOperations.execute(status -> {
+			AccountNumberSequence sequence = sequenceRepository.findForUpdate(SEQUENCE_NAME)
+					.orElseThrow(() -> new IllegalStateException(
+							"The account number sequence '" + SEQUENCE_NAME + "' does not exist."));
+			long value = sequence.getNextVal();
+			if (value > AccountNumbers.MAX_SEQUENCE_VALUE - blockSize + 1) {
+				throw new IllegalStateException("The account number sequence is exhausted.");
+			}
+			sequence.setNextVal(value + blockSize);
+			return value;
+		});
+
+		log.debug("Reserved account numbers {} to {}", first, first + blockSize - 1);
+		next = first;
+		limit = first + blockSize;
+	}
+}
@@ -0,0 +1,15 @@
+package com.alessandragodoy.accountms.numbering;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuration properties for the account number allocator.
+ *
+ * @param blockSize the number of account numbers reserved with each round trip to the database;
+ *                  the unused part of a block is skipped when the instance stops
+ */
+@ConfigurationProperties(prefix = "account.number")
+public record AccountNumberProperties(
+		@DefaultValue("100") int blockSize) {
+}
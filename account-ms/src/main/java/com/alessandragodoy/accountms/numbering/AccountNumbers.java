@@ -0,0 +1,98 @@
+package com.alessandragodoy.accountms.numbering;
+
+/**
+ * Format of the account numbers allocated from a sequence: {@value #PREFIX} followed by the
+ * sequence value, zero-padded to {@value #SEQUENCE_DIGITS} digits, and a Luhn check digit.
+ * <p>
+ * The check digit catches every single mistyped digit and most swaps of adjacent digits, so a
+ * mistyped number can be rejected by {@link #isValid(String)} without looking it up.
+ * </p>
+ */
+public final class AccountNumbers {
+
+	public static final String PREFIX = "ACC-";
+	public static final int SEQUENCE_DIGITS = 15;
+	public static final int LENGTH = PREFIX.length() + SEQUENCE_DIGITS + 1;
+	public static final long MAX_SEQUENCE_VALUE = 999_999_999_999_999L;
+
+	private AccountNumbers() {
+	}
+
+	/**
+	 * Creates a buffer account numbers can be formatted into, with the prefix already written.
+	 *
+	 * @return a new buffer of {@link #LENGTH} characters
+	 */
+	public static char[] newBuffer() {
+		char[] buffer = new char[LENGTH];
+		PREFIX.getChars(0, PREFIX.length(), buffer, 0);
+		return buffer;
+	}
+
+	/**
+	 * Writes the digits and the check digit of a sequence value into a buffer created by
+	 * {@link #newBuffer()}, leaving its prefix untouched.
+	 *
+	 * @param sequenceValue the sequence value, between 0 and {@link #MAX_SEQUENCE_VALUE}
+	 * @param buffer        the buffer to write into
+	 */
+	public static void format(long sequenceValue, char[] buffer) {
+		if (sequenceValue < 0 || sequenceValue > MAX_SEQUENCE_VALUE) {
+			throw new IllegalArgumentException("The sequence value " + sequenceValue +
+					" does not fit in an account number.");
+		}
+
+		long remaining = sequenceValue;
+		int sum = 0;
+		// Digits are written right to left; Luhn doubles every other digit, starting with the
+		// one next to the check digit.
+		for (int position = LENGTH - 2, i = 0; position >= PREFIX.length(); position--, i++) {
+			int digit = (int) (remaining % 10);
+			remaining /= 10;
+			buffer[position] = (char) ('0' + digit);
+			sum += i % 2 == 0 ? doubled(digit) : digit;
+		}
+		buffer[LENGTH - 1] = (char) ('0' + (10 - sum % 10) % 10);
+	}
+
+	/**
+	 * Formats a sequence value as an account number.
+	 *
+	 * @param sequenceValue the sequence value, between 0 and {@link #MAX_SEQUENCE_VALUE}
+	 * @return the account number
+	 */
+	public static String format(long sequenceValue) {
+		char[] buffer = newBuffer();
+		format(sequenceValue, buffer);
+		return new String(buffer);
+	}
+
+	/**
+	 * Checks that an account number has the allocated format and a matching check digit.
+	 *
+	 * @param accountNumber the account number
+	 * @return {@code true} if the account number is well-formed
+	 */
+	public static boolean isValid(String accountNumber) {
+		if (accountNumber == null || accountNumber.length() != LENGTH
+				|| !accountNumber.startsWith(PREFIX)) {
+			return false;
+		}
+
+		int sum = 0;
+		for (int position = LENGTH - 1, i = 0; position >= PREFIX.length(); position--, i++) {
+			char c = accountNumber.charAt(position);
+			if (c < '0' || c > '9') {
+				return false;
+			}
+			int digit = c - '0';
+			sum += i % 2 == 1 ? doubled(digit) : digit;
+		}
+		return sum % 10 == 0;
+	}
+
+	private static int doubled(int digit) {
+		int doubled = digit * 2;
+		return doubled > 9 ? doubled - 9 : doubled;
+	}
+}
@@ -0,0 +1,28 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.AccountNumberSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for the sequences account numbers are allocated from. It only exposes the
+ * locking read, the reserved value is written back when the transaction commits.
+ */
+public interface AccountNumberSequenceRepository extends Repository<AccountNumberSequence, String> {
+
+	/**
+	 * Finds a sequence and locks its row until the end of the transaction, so concurrent
+	 * instances reserve disjoint blocks.
+	 *
+	 * @param sequenceName the name of the sequence
+	 * @return an Optional containing the sequence, or an empty Optional if it does not exist
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM AccountNumberSequence s WHERE s.sequenceName = :sequenceName")
+	Optional<AccountNumberSequence> findForUpdate(@Param("sequenceName") String sequenceName);
+}
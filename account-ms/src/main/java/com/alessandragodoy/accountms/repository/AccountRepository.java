@@ -0,0 +1,186 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.repository.projection.AccountBalanceView;
+import com.alessandragodoy.accountms.repository.projection.AccountsVersionView;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for Account entity. Ad-hoc searches are expressed as specifications.
+ */
+@Repository
+public interface AccountRepository extends JpaRepository<Account, Integer>,
+		JpaSpecificationExecutor<Account> {
+	/**
+	 * Finds all active accounts.
+	 *
+	 * @return a list of active accounts
+	 */
+	List<Account> findAllByActiveTrue();
+
+	/**
+	 * Finds all accounts by customer ID.
+	 *
+	 * @param customerId the customer ID.
+	 * @return an Optional containing a list of accounts if found, or an empty Optional if not
+	 * found.
+	 */
+	Optional<List<Account>> findAllByCustomerId(Integer customerId);
+
+	/**
+	 * Finds all accounts that belong to any of the given customer IDs in a single query.
+	 *
+	 * @param customerIds the customer IDs
+	 * @return a list with the accounts of all the given customers, empty if none are found
+	 */
+	List<Account> findAllByCustomerIdIn(Collection<Integer> customerIds);
+
+	/**
+	 * Finds an account by ID and locks its row until the transaction ends. Transfers use it to
+	 * read and update balances without losing concurrent updates.
+	 *
+	 * @param accountId the account ID
+	 * @return an Optional containing the locked account, or an empty Optional if not found
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT a FROM Account a WHERE a.accountId = :accountId")
+	Optional<Account> findByIdForUpdate(@Param("accountId") Integer accountId);
+
+	/**
+	 * Retrieves only the last update date of an account, used to answer conditional requests
+	 * without loading the whole entity.
+	 *
+	 * @param accountId the account ID
+	 * @return an Optional containing the update date, or an empty Optional if not found
+	 */
+	@Query("SELECT a.updateDate FROM Account a WHERE a.accountId = :accountId")
+	Optional<LocalDateTime> findUpdateDateByAccountId(@Param("accountId") Integer accountId);
+
+	/**
+	 * Retrieves the number of accounts of a customer and their latest update date. The query is
+	 * covered by the (customer_id, update_date) index.
+	 *
+	 * @param customerId the customer ID
+	 * @return the version of the customer's accounts, with a zero count if none are found
+	 */
+	@Query("SELECT COUNT(a) AS accountCount, MAX(a.updateDate) AS lastUpdateDate " +
+			"FROM Account a WHERE a.customerId = :customerId")
+	AccountsVersionView findAccountsVersionByCustomerId(@Param("customerId") Integer customerId);
+
+	/**
+	 * Checks if an account exists by account ID and it is active.
+	 *
+	 * @param accountId the account ID
+	 * @return true if an account is active, false otherwise
+	 */
+	boolean existsByAccountIdAndActiveTrue(Integer accountId);
+
+	/**
+	 * Finds the balance of an account by account ID.
+	 *
+	 * @param accountId the account ID
+	 * @return the balance of the account
+	 */
+	double findBalanceByAccountId(Integer accountId);
+
+	/**
+	 * Checks if an account exists by customer ID.
+	 *
+	 * @param customerId the customer ID
+	 * @return true if an account exists, false otherwise
+	 */
+	boolean existsByCustomerIdAndActiveTrue(Integer customerId);
+
+	/**
+	 * Updates the balance of an account by depositing an amount. Bulk updates bypass
+	 * {@code @PreUpdate}, so the update date is refreshed explicitly to keep ETags valid.
+	 * Hibernate invalidates the account cache region when the update runs, and the persistence
+	 * context is flushed before and cleared after it so no stale copy is read afterwards.
+	 *
+	 * @param accountId the account ID
+	 * @param amount    the amount to deposit
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Account a SET a.balance = a.balance + :amount, " +
+			"a.updateDate = CURRENT_TIMESTAMP WHERE a.accountId = :accountId")
+	void updateBalanceDeposit(@Param("accountId") Integer accountId, @Param("amount") Double amount);
+
+	/**
+	 * Updates the balance of an account by withdrawing an amount. Bulk updates bypass
+	 * {@code @PreUpdate}, so the update date is refreshed explicitly to keep ETags valid.
+	 * Hibernate invalidates the account cache region when the update runs, and the persistence
+	 * context is flushed before and cleared after it so no stale copy is read afterwards.
+	 *
+	 * @param accountId the account ID
+	 * @param amount    the amount to withdraw
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Account a SET a.balance = a.balance - :amount, " +
+			"a.updateDate = CURRENT_TIMESTAMP WHERE a.accountId = :accountId")
+	void updateBalanceWithdraw(@Param("accountId") Integer accountId, @Param("amount") Double amount);
+
+	/**
+	 * Retrieves the balance of an account by account ID.
+	 *
+	 * @param accountId the account ID
+	 * @return the balance of the account
+	 */
+	@Query("SELECT a.balance FROM Account a WHERE a.accountId = :accountId")
+	Double getBalanceByAccountId(@Param("accountId") Integer accountId);
+
+	/**
+	 * Retrieves the balances of several accounts in a single scalar query. The lookup is served
+	 * by the clustered primary key, which already stores the balance column.
+	 *
+	 * @param accountIds the account IDs
+	 * @return the balances of the accounts that exist, in no particular order
+	 */
+	@Query("SELECT new com.alessandragodoy.accountms.repository.projection.AccountBalanceView(" +
+			"a.accountId, a.balance) FROM Account a WHERE a.accountId IN :accountIds")
+	List<AccountBalanceView> findBalancesByAccountIdIn(
+			@Param("accountIds") Collection<Integer> accountIds);
+
+	/**
+	 * Retrieves the lowest account ID, used to walk the accounts in ID ranges.
+	 *
+	 * @return the lowest account ID, or null if there are no accounts
+	 */
+	@Query("SELECT MIN(a.accountId) FROM Account a")
+	Integer findMinAccountId();
+
+	/**
+	 * Retrieves the highest account ID, used to walk the accounts in ID ranges.
+	 *
+	 * @return the highest account ID, or null if there are no accounts
+	 */
+	@Query("SELECT MAX(a.accountId) FROM Account a")
+	Integer findMaxAccountId();
+
+	/**
+	 * Finds an account by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @return an Optional containing the account if found, or an empty Optional if not found
+	 */
+	Optional<Account> findByAccountNumber(String accountNumber);
+
+	/**
+	 * Checks if an account exists by its account number.
+	 *
+	 * @param accountNumber the account number
+	 * @return true if an account exists, false otherwise
+	 */
+	boolean existsByAccountNumber(String accountNumber);
+}
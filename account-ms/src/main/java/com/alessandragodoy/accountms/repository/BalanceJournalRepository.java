@@ -0,0 +1,85 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.BalanceJournalEntry;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Repository interface for the balance journal.
+ */
+@Repository
+public interface BalanceJournalRepository extends JpaRepository<BalanceJournalEntry, Long> {
+
+	/**
+	 * Adds up the balance changes of an account above a journal entry, up to a point in time.
+	 * Served by the (account_id, journal_id, created_at, amount) index without touching the
+	 * table rows.
+	 *
+	 * @param accountId      the account ID
+	 * @param afterJournalId the exclusive lower bound of the journal IDs
+	 * @param to             the inclusive end of the interval
+	 * @return the sum of the changes, zero if there are none
+	 */
+	@Query("SELECT COALESCE(SUM(j.amount), 0) FROM BalanceJournalEntry j " +
+			"WHERE j.accountId = :accountId AND j.journalId > :afterJournalId " +
+			"AND j.createdAt <= :to")
+	double sumAmountsAfter(@Param("accountId") Integer accountId,
+						   @Param("afterJournalId") long afterJournalId,
+						   @Param("to") LocalDateTime to);
+
+	/**
+	 * Adds up all the balance changes of an account up to a point in time.
+	 *
+	 * @param accountId the account ID
+	 * @param to        the inclusive end of the interval
+	 * @return the sum of the changes, zero if there are none
+	 */
+	@Query("SELECT COALESCE(SUM(j.amount), 0) FROM BalanceJournalEntry j " +
+			"WHERE j.accountId = :accountId AND j.createdAt <= :to")
+	double sumAmountsUpTo(@Param("accountId") Integer accountId, @Param("to") LocalDateTime to);
+
+	/**
+	 * Checks whether the journal of an account has an entry at or before a point in time.
+	 *
+	 * @param accountId the account ID
+	 * @param to        the point in time
+	 * @return true if the account has journaled changes up to that point
+	 */
+	boolean existsByAccountIdAndCreatedAtLessThanEqual(Integer accountId, LocalDateTime to);
+
+	/**
+	 * Journals the opening balance of several new accounts with a single statement, reading the
+	 * balances from the account rows. The accounts must have been flushed. The query space is
+	 * declared so Hibernate does not invalidate unrelated second-level cache regions.
+	 *
+	 * @param accountIds the IDs of the new accounts
+	 * @param createdAt  the time of the journal entries
+	 * @return the number of entries journaled
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "balance_journal"))
+	@Query(value = "INSERT INTO balance_journal (account_id, amount, created_at) " +
+			"SELECT account_id, balance, :createdAt FROM account " +
+			"WHERE account_id IN (:accountIds)", nativeQuery = true)
+	int recordOpeningBalances(@Param("accountIds") Collection<Integer> accountIds,
+							  @Param("createdAt") LocalDateTime createdAt);
+
+	/**
+	 * Appends a balance change of an account to the journal.
+	 *
+	 * @param accountId the account ID
+	 * @param amount    the signed amount of the change
+	 */
+	default void record(Integer accountId, double amount) {
+		save(new BalanceJournalEntry(accountId, amount));
+	}
+}
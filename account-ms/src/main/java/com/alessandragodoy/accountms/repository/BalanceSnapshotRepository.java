@@ -0,0 +1,65 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.BalanceSnapshot;
+import com.alessandragodoy.accountms.model.BalanceSnapshotId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for balance snapshots.
+ */
+@Repository
+public interface BalanceSnapshotRepository
+		extends JpaRepository<BalanceSnapshot, BalanceSnapshotId> {
+
+	/**
+	 * Finds the latest snapshot of an account taken at or before a point in time.
+	 *
+	 * @param accountId the account ID
+	 * @param asOf      the point in time
+	 * @return an Optional containing the snapshot, or an empty Optional if there is none
+	 */
+	Optional<BalanceSnapshot> findFirstByAccountIdAndSnapshotTimeLessThanEqualOrderBySnapshotTimeDesc(
+			Integer accountId, LocalDateTime asOf);
+
+	/**
+	 * Snapshots, at {@code cutoff}, every account of an ID range whose journal has entries above
+	 * its latest snapshot's {@code last_journal_id}. The new balance is the latest snapshot plus
+	 * those entries, and the highest of them becomes the new snapshot's {@code last_journal_id},
+	 * so an entry created before the previous snapshot but committed after it is still added.
+	 * Snapshots taken after {@code cutoff} are ignored, so a run with an earlier cutoff never
+	 * builds on them.
+	 * Accounts without new entries keep their previous snapshot, and running it again with the
+	 * same cutoff inserts nothing.
+	 *
+	 * @param fromId the first account ID of the range, inclusive
+	 * @param toId   the last account ID of the range, exclusive
+	 * @param cutoff the time of the snapshot
+	 * @return the number of snapshots taken
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "balance_snapshot"))
+	@Query(value = "INSERT INTO balance_snapshot " +
+			"(account_id, snapshot_time, balance, last_journal_id) " +
+			"SELECT j.account_id, :cutoff, COALESCE(s.balance, 0) + SUM(j.amount), " +
+			"MAX(j.journal_id) " +
+			"FROM balance_journal j " +
+			"LEFT JOIN balance_snapshot s ON s.account_id = j.account_id " +
+			"AND s.snapshot_time = (SELECT MAX(l.snapshot_time) FROM balance_snapshot l " +
+			"WHERE l.account_id = j.account_id AND l.snapshot_time <= :cutoff) " +
+			"WHERE j.account_id >= :fromId AND j.account_id < :toId " +
+			"AND j.created_at <= :cutoff " +
+			"AND (s.account_id IS NULL OR j.journal_id > s.last_journal_id) " +
+			"GROUP BY j.account_id, s.balance", nativeQuery = true)
+	int snapshotRange(@Param("fromId") int fromId, @Param("toId") int toId,
+					  @Param("cutoff") LocalDateTime cutoff);
+}
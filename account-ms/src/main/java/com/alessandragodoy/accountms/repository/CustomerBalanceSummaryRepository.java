@@ -0,0 +1,110 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummary;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummaryId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Repository interface for the CustomerBalanceSummary read model. Every change is applied as a
+ * delta in the same transaction as the account change that caused it.
+ */
+@Repository
+public interface CustomerBalanceSummaryRepository
+		extends JpaRepository<CustomerBalanceSummary, CustomerBalanceSummaryId> {
+
+	/**
+	 * Finds the summaries of a customer, one per account type, with a primary-key range lookup.
+	 *
+	 * @param customerId the customer ID
+	 * @return the summaries of the customer ordered by account type, empty if it has no accounts
+	 */
+	List<CustomerBalanceSummary> findAllByCustomerIdOrderByAccountType(Integer customerId);
+
+	/**
+	 * Adds the given deltas to the summary row of a customer and account type, creating it if it
+	 * does not exist. The upsert is a single atomic statement, so concurrent changes to accounts
+	 * of the same customer do not lose updates. The query space is declared so Hibernate does not
+	 * invalidate unrelated second-level cache regions.
+	 *
+	 * @param customerId   the customer ID
+	 * @param accountType  the account type name
+	 * @param balanceDelta the amount to add to the total balance
+	 * @param accountDelta the number to add to the account count
+	 * @param activeDelta  the number to add to the active count
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES,
+			value = "customer_balance_summary"))
+	@Query(value = "INSERT INTO customer_balance_summary " +
+			"(customer_id, account_type, total_balance, account_count, active_count) " +
+			"VALUES (:customerId, :accountType, :balanceDelta, :accountDelta, :activeDelta) " +
+			"ON DUPLICATE KEY UPDATE " +
+			"total_balance = total_balance + VALUES(total_balance), " +
+			"account_count = account_count + VALUES(account_count), " +
+			"active_count = active_count + VALUES(active_count)", nativeQuery = true)
+	void applyDelta(@Param("customerId") Integer customerId,
+					@Param("accountType") String accountType,
+					@Param("balanceDelta") double balanceDelta,
+					@Param("accountDelta") int accountDelta,
+					@Param("activeDelta") int activeDelta);
+
+	/**
+	 * Records a newly created account in the summary of its customer.
+	 *
+	 * @param account the created account
+	 */
+	default void recordAccountCreated(Account account) {
+		applyDelta(account.getCustomerId(), account.getAccountType().name(),
+				account.getBalance(), 1, account.isActive() ? 1 : 0);
+	}
+
+	/**
+	 * Records several newly created accounts with one upsert per customer and account type.
+	 *
+	 * @param accounts the created accounts
+	 */
+	default void recordAccountsCreated(Collection<Account> accounts) {
+		Map<CustomerBalanceSummaryId, List<Account>> byCustomerAndType = accounts.stream()
+				.collect(Collectors.groupingBy(account -> new CustomerBalanceSummaryId(
+						account.getCustomerId(), account.getAccountType())));
+
+		byCustomerAndType.forEach((id, created) -> applyDelta(id.getCustomerId(),
+				id.getAccountType().name(),
+				created.stream().mapToDouble(Account::getBalance).sum(),
+				created.size(),
+				(int) created.stream().filter(Account::isActive).count()));
+	}
+
+	/**
+	 * Records a change of the balance of an account in the summary of its customer.
+	 *
+	 * @param account      the changed account
+	 * @param balanceDelta the signed amount added to the balance of the account
+	 */
+	default void recordBalanceChange(Account account, double balanceDelta) {
+		applyDelta(account.getCustomerId(), account.getAccountType().name(), balanceDelta, 0, 0);
+	}
+
+	/**
+	 * Records the activation or deactivation of an account in the summary of its customer.
+	 *
+	 * @param account the account whose state changed
+	 * @param active  the new state of the account
+	 */
+	default void recordActiveChange(Account account, boolean active) {
+		applyDelta(account.getCustomerId(), account.getAccountType().name(), 0, 0, active ? 1 : -1);
+	}
+}
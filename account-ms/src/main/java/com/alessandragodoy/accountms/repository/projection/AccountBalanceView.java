@@ -0,0 +1,11 @@
+package com.alessandragodoy.accountms.repository.projection;
+
+/**
+ * Projection holding only the balance of an account, read with a scalar query instead of
+ * loading the entity.
+ *
+ * @param accountId the ID of the account
+ * @param balance   the current balance of the account
+ */
+public record AccountBalanceView(Integer accountId, double balance) {
+}
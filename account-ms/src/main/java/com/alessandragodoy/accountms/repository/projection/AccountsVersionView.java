@@ -0,0 +1,24 @@
+package com.alessandragodoy.accountms.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection describing the current version of a set of accounts, used to build validators for
+ * conditional requests without loading the accounts themselves.
+ */
+public interface AccountsVersionView {
+
+	/**
+	 * Returns the number of accounts in the set.
+	 *
+	 * @return the account count
+	 */
+	long getAccountCount();
+
+	/**
+	 * Returns the most recent update date among the accounts in the set.
+	 *
+	 * @return the latest update date, or {@code null} if the set is empty
+	 */
+	LocalDateTime getLastUpdateDate();
+}
@@ -0,0 +1,90 @@
+package com.alessandragodoy.accountms.repository.specification;
+
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications used to search accounts. Filters that are not set match every account.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AccountSpecifications {
+
+	/**
+	 * Combines the filters of a search with the keyset cursor.
+	 *
+	 * @param criteria the search criteria
+	 * @return the specification matching all the filters
+	 */
+	public static Specification<Account> matching(AccountSearchCriteriaDTO criteria) {
+		return Specification.allOf(
+				hasAccountType(criteria.getAccountType() == null ? null :
+						AccountType.valueOf(criteria.getAccountType())),
+				isActive(criteria.getActive()),
+				between("customerId", criteria.getMinCustomerId(),
+						criteria.getMaxCustomerId()),
+				between("balance", criteria.getMinBalance(),
+						criteria.getMaxBalance()),
+				between("creationDate", criteria.getCreatedFrom(),
+						criteria.getCreatedTo()),
+				accountIdAfter(criteria.getAfter()));
+	}
+
+	/**
+	 * Matches accounts of the given type.
+	 *
+	 * @param accountType the account type, or null to match any type
+	 * @return the specification
+	 */
+	public static Specification<Account> hasAccountType(AccountType accountType) {
+		return (root, query, cb) -> accountType == null ? null :
+				cb.equal(root.get("accountType"), accountType);
+	}
+
+	/**
+	 * Matches active or inactive accounts.
+	 *
+	 * @param active the state, or null to match any state
+	 * @return the specification
+	 */
+	public static Specification<Account> isActive(Boolean active) {
+		return (root, query, cb) -> active == null ? null :
+				cb.equal(root.get("active"), active);
+	}
+
+	/**
+	 * Matches accounts whose attribute lies in an inclusive range. Either bound may be open.
+	 *
+	 * @param attribute the name of the attribute to compare
+	 * @param from      the lower bound, or null for no lower bound
+	 * @param to        the upper bound, or null for no upper bound
+	 * @param <T>       the type of the attribute
+	 * @return the specification
+	 */
+	public static <T extends Comparable<? super T>> Specification<Account> between(
+			String attribute, T from, T to) {
+		return (root, query, cb) -> {
+			if (from != null && to != null) {
+				return cb.between(root.<T>get(attribute), from, to);
+			}
+			if (from != null) {
+				return cb.greaterThanOrEqualTo(root.<T>get(attribute), from);
+			}
+			return to == null ? null : cb.lessThanOrEqualTo(root.<T>get(attribute), to);
+		};
+	}
+
+	/**
+	 * Matches accounts after the keyset cursor, so a page starts where the previous one ended.
+	 *
+	 * @param accountId the last account ID of the previous page, or null for the first page
+	 * @return the specification
+	 */
+	public static Specification<Account> accountIdAfter(Integer accountId) {
+		return (root, query, cb) -> accountId == null ? null :
+				cb.greaterThan(root.<Integer>get("accountId"), accountId);
+	}
+}
@@ -0,0 +1,132 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummary;
+import com.alessandragodoy.accountms.repository.projection.AccountBalanceView;
+import com.alessandragodoy.accountms.repository.projection.AccountsVersionView;
+
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for managing accounts.
+ */
+public interface IAccountService {
+	/**
+	 * Retrieves all active accounts.
+	 *
+	 * @return {@code List<Account>} a list of all account DTOs
+	 */
+	List<Account> getAllActiveAccounts();
+
+	/**
+	 * Retrieves an account by its ID.
+	 *
+	 * @param accountId the ID of the account
+	 * @return {@code Account} the account if found
+	 */
+	Account getAccountById(Integer accountId);
+
+	/**
+	 * Retrieves the last update date of an account without loading the account.
+	 *
+	 * @param accountId the ID of the account
+	 * @return {@code LocalDateTime} the last update date of the account
+	 */
+	LocalDateTime getAccountLastModified(Integer accountId);
+
+	/**
+	 * Retrieves only the balance of an account.
+	 *
+	 * @param accountId the ID of the account
+	 * @return {@code double} the current balance of the account
+	 */
+	double getBalanceByAccountId(Integer accountId);
+
+	/**
+	 * Retrieves only the balances of several accounts at once.
+	 *
+	 * @param accountIds the IDs of the accounts
+	 * @return {@code List<AccountBalanceView>} the balances in request order, skipping accounts
+	 * that do not exist
+	 */
+	List<AccountBalanceView> getBalancesByAccountIds(List<Integer> accountIds);
+
+	/**
+	 * Creates a new account once the customer service has validated its customer. The calling
+	 * thread does not wait for the validation or for the account to be saved.
+	 *
+	 * @param createAccountDTO containing creation details
+	 * @return a future completed with the {@code Account} created, or completed exceptionally
+	 * if the customer is not valid or cannot be validated
+	 */
+	CompletableFuture<Account> createAccount(CreateAccountDTO createAccountDTO);
+
+	/**
+	 * Activates an account by its ID.
+	 *
+	 * @param accountId the ID of the account to activate
+	 * @return {@code Account} activated
+	 */
+	Account activateAccount(Integer accountId);
+
+	/**
+	 * Deactivates an account by its ID.
+	 *
+	 * @param accountId the ID of the account to deactivate
+	 * @return {@code Account} deactivated
+	 */
+	Account deactivateAccount(Integer accountId);
+
+//	void deleteAccountById(Integer accountId);
+
+	/**
+	 * Retrieves all accounts associated with a specific customer ID.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return {@code List<Account>} a list of customer's accounts
+	 */
+	List<Account> getAccountsByCustomerId(Integer customerId);
+
+	/**
+	 * Retrieves the version (account count and latest update date) of a customer's accounts
+	 * without loading the accounts.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return {@code AccountsVersionView} the version of the customer's accounts
+	 */
+	AccountsVersionView getAccountsVersionByCustomerId(Integer customerId);
+
+	/**
+	 * Retrieves the balance totals of a customer per account type from the summary read model.
+	 *
+	 * @param customerId the ID of the customer
+	 * @return {@code List<CustomerBalanceSummary>} one summary per account type of the customer
+	 */
+	List<CustomerBalanceSummary> getBalanceSummaryByCustomerId(Integer customerId);
+
+	/**
+	 * Retrieves the accounts of several customers at once, grouped by customer ID.
+	 *
+	 * @param customerIds the IDs of the customers
+	 * @return {@code Map<Integer, List<Account>>} keyed by customer ID in request order, with an
+	 * empty list for customers that have no accounts
+	 */
+	Map<Integer, List<Account>> getAccountsByCustomerIds(List<Integer> customerIds);
+
+
+	/**
+	 * Searches accounts matching all the given filters, ordered by account ID and paginated with
+	 * a keyset cursor on the account ID.
+	 *
+	 * @param criteria the filters, cursor and page size
+	 * @return {@code Slice<Account>} the accounts of the page and whether more pages follow
+	 */
+	Slice<Account> searchAccounts(AccountSearchCriteriaDTO criteria);
+}
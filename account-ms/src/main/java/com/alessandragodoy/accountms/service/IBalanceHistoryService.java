@@ -0,0 +1,19 @@
+package com.alessandragodoy.accountms.service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Service interface for point-in-time queries over the balance history of accounts.
+ */
+public interface IBalanceHistoryService {
+
+	/**
+	 * Retrieves the balance an account had at a point in time, from the latest balance snapshot
+	 * taken at or before it plus the journaled changes since that snapshot.
+	 *
+	 * @param accountId the ID of the account
+	 * @param asOf      the point in time
+	 * @return {@code double} the balance of the account as of that point in time
+	 */
+	double getBalanceAsOf(Integer accountId, LocalDateTime asOf);
+}
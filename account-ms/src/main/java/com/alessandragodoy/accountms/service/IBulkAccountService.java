@@ -0,0 +1,23 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.dto.BulkAccountResultDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+
+import java.util.List;
+
+/**
+ * Service interface for creating accounts in bulk.
+ */
+public interface IBulkAccountService {
+
+	/**
+	 * Creates an account for each item. Items are validated one by one and their customers are
+	 * validated with a single call to the customer service; valid items are inserted in chunks,
+	 * each one in its own transaction, so an invalid item or a failed chunk does not prevent the
+	 * other accounts from being created.
+	 *
+	 * @param createAccountDTOs the accounts to create
+	 * @return {@code List<BulkAccountResultDTO>} the outcome of each item, in request order
+	 */
+	List<BulkAccountResultDTO> createAccounts(List<CreateAccountDTO> createAccountDTOs);
+}
@@ -23,4 +23,11 @@ public interface IInternalAccountService {
 	 * @return true if an account exists, false otherwise
 	 */
 	boolean accountIsActiveByCustomerId(Integer customerId);
+
+	/**
+	 * Discards the cached validation of a customer.
+	 *
+	 * @param customerId the ID of the customer
+	 */
+	void evictCustomerValidation(Integer customerId);
 }
@@ -0,0 +1,107 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.numbering.AccountNumberAllocator;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Creates single accounts without holding a thread while the customer is validated.
+ * <p>
+ * The customer is validated first, outside any transaction, so the call to the customer service
+ * does not hold a connection or a connection permit. Once the validation is back, the account is
+ * written together with its summary and journal rows in a short transaction on the
+ * {@code accountCreationExecutor}, never on the request thread or on the HTTP client's I/O
+ * threads.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountCreator {
+
+	public static final String EXECUTOR = "accountCreationExecutor";
+
+	private final CustomerServiceClient customerServiceClient;
+	private final AccountRepository accountRepository;
+	private final CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+	private final BalanceJournalRepository balanceJournalRepository;
+	private final AccountNumberAllocator accountNumberAllocator;
+	private final TransactionOperations transactionOperations;
+	@Qualifier(EXECUTOR)
+	private final Executor executor;
+
+	/**
+	 * Validates the customer of a new account and saves the account if the customer exists and
+	 * is active.
+	 *
+	 * @param createAccountDTO containing creation details
+	 * @return a future completed with the {@code Account} created, or completed exceptionally
+	 * if the customer is not valid or cannot be validated
+	 */
+	public CompletableFuture<Account> create(CreateAccountDTO createAccountDTO) {
+
+		return customerServiceClient.validateCustomerAsync(createAccountDTO.getCustomerId())
+				.thenApplyAsync(withCallerRequest(response -> {
+					if (!response.getExists() || !response.getIsActive()) {
+						throw new AccountValidationException(response.getMessage());
+					}
+
+					return transactionOperations.execute(status -> save(createAccountDTO));
+				}), executor);
+	}
+
+	private Account save(CreateAccountDTO createAccountDTO) {
+
+		Account account = accountRepository.save(new Account(null,
+				accountNumberAllocator.next(),
+				createAccountDTO.getBalance(),
+				AccountType.valueOf(createAccountDTO.getAccountType()),
+				createAccountDTO.getCustomerId(),
+				null,
+				null,
+				true));
+
+		customerBalanceSummaryRepository.recordAccountCreated(account);
+		balanceJournalRepository.record(account.getAccountId(), account.getBalance());
+
+		return account;
+	}
+
+	/**
+	 * Binds the caller's request to the thread running a step of an asynchronous chain, so the
+	 * consistency token and the connection leak detection still see the request while the step
+	 * runs on the executor.
+	 *
+	 * @param step the step to run
+	 * @param <T>  the type of the step's input
+	 * @param <R>  the type of the step's result
+	 * @return the step, bound to the request of the thread calling this method
+	 */
+	private static <T, R> Function<T, R> withCallerRequest(Function<T, R> step) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return input -> {
+			RequestContextHolder.setRequestAttributes(attributes);
+			try {
+				return step.apply(input);
+			} finally {
+				RequestContextHolder.resetRequestAttributes();
+			}
+		};
+	}
+}
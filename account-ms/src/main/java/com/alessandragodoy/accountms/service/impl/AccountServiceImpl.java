@@ -0,0 +1,289 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.event.AccountChangeEvent;
+import com.alessandragodoy.accountms.event.AccountChangeType;
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummary;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
+import com.alessandragodoy.accountms.repository.projection.AccountBalanceView;
+import com.alessandragodoy.accountms.repository.projection.AccountsVersionView;
+import com.alessandragodoy.accountms.repository.specification.AccountSpecifications;
+import com.alessandragodoy.accountms.service.IAccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the AccountService interface.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountServiceImpl implements IAccountService {
+
+	private static final int MAX_IDS_PER_REQUEST = 100;
+
+	private final AccountRepository accountRepository;
+	private final CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final AccountCreator accountCreator;
+
+	@Transactional(readOnly = true)
+	@Override
+	public List<Account> getAllActiveAccounts() {
+
+		return accountRepository.findAllByActiveTrue();
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public Account getAccountById(Integer accountId) {
+
+		return accountRepository.findById(accountId)
+				.orElseThrow(() -> new AccountNotFoundException(
+						"The account with ID " + accountId + " does not exist."));
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public LocalDateTime getAccountLastModified(Integer accountId) {
+
+		return accountRepository.findUpdateDateByAccountId(accountId)
+				.orElseThrow(() -> new AccountNotFoundException(
+						"The account with ID " + accountId + " does not exist."));
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public double getBalanceByAccountId(Integer accountId) {
+
+		Double balance = accountRepository.getBalanceByAccountId(accountId);
+
+		if (balance == null) {
+			throw new AccountNotFoundException(
+					"The account with ID " + accountId + " does not exist.");
+		}
+
+		return balance;
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public List<AccountBalanceView> getBalancesByAccountIds(List<Integer> accountIds) {
+
+		Set<Integer> distinctIds = distinctIds(accountIds, "account");
+
+		Map<Integer, AccountBalanceView> balancesById = accountRepository
+				.findBalancesByAccountIdIn(distinctIds)
+				.stream()
+				.collect(Collectors.toMap(AccountBalanceView::accountId, Function.identity()));
+
+		return distinctIds.stream()
+				.map(balancesById::get)
+				.filter(Objects::nonNull)
+				.toList();
+	}
+
+	@Override
+	public CompletableFuture<Account> createAccount(CreateAccountDTO createAccountDTO) {
+
+		return accountCreator.create(createAccountDTO);
+	}
+
+	@Transactional
+	@Override
+	public Account activateAccount(Integer accountId) {
+
+		Account activatedAccount = accountRepository.findById(accountId)
+				.orElseThrow(() -> new AccountNotFoundException(
+						"Account not found for ID: " + accountId));
+
+		if (!activatedAccount.isActive()) {
+			activatedAccount.setActive(true);
+			customerBalanceSummaryRepository.recordActiveChange(activatedAccount, true);
+			eventPublisher.publishEvent(
+					AccountChangeEvent.of(AccountChangeType.STATUS_CHANGED, activatedAccount));
+		}
+
+		return accountRepository.save(activatedAccount);
+	}
+
+	@Transactional
+	@Override
+	public Account deactivateAccount(Integer accountId) {
+
+		Account deactivatedAccount = accountRepository.findById(accountId)
+				.orElseThrow(() -> new AccountNotFoundException(
+						"Account not found for ID: " + accountId));
+
+		if (deactivatedAccount.getBalance() > 0) {
+			throw new AccountValidationException("Account with ID: " + accountId +
+					" cannot be deactivated because it has a positive balance.");
+		}
+
+		if (deactivatedAccount.isActive()) {
+			deactivatedAccount.setActive(false);
+			customerBalanceSummaryRepository.recordActiveChange(deactivatedAccount, false);
+			eventPublisher.publishEvent(
+					AccountChangeEvent.of(AccountChangeType.STATUS_CHANGED, deactivatedAccount));
+		}
+
+		return accountRepository.save(deactivatedAccount);
+	}
+
+/*	@Transactional
+	@Override
+	public void deleteAccountById(Integer accountId) {
+
+		Account deletedAccount = accountRepository.findById(accountId).orElseThrow(
+				() -> new AccountNotFoundException(
+						"Delete stopped. Account not found for ID: " + accountId));
+
+		if (deletedAccount.getBalance() > 0) {
+			throw new AccountValidationException("Account with ID: " + accountId +
+					" cannot be deleted because it has a positive balance.");
+		}
+
+		accountRepository.delete(deletedAccount);
+	}*/
+
+	@Transactional(readOnly = true)
+	@Override
+	public List<Account> getAccountsByCustomerId(Integer customerId) {
+		Optional<List<Account>> accounts = accountRepository.findAllByCustomerId(customerId);
+
+		if (accounts.isEmpty() || accounts.get().isEmpty()) {
+			throw new AccountNotFoundException("No accounts found with customer ID: " + customerId);
+		}
+
+		return accounts.get();
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public AccountsVersionView getAccountsVersionByCustomerId(Integer customerId) {
+		AccountsVersionView version = accountRepository.findAccountsVersionByCustomerId(customerId);
+
+		if (version == null || version.getAccountCount() == 0) {
+			throw new AccountNotFoundException("No accounts found with customer ID: " + customerId);
+		}
+
+		return version;
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public List<CustomerBalanceSummary> getBalanceSummaryByCustomerId(Integer customerId) {
+		List<CustomerBalanceSummary> summaries =
+				customerBalanceSummaryRepository.findAllByCustomerIdOrderByAccountType(customerId);
+
+		if (summaries.isEmpty()) {
+			throw new AccountNotFoundException("No accounts found with customer ID: " + customerId);
+		}
+
+		return summaries;
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public Map<Integer, List<Account>> getAccountsByCustomerIds(List<Integer> customerIds) {
+
+		Set<Integer> distinctIds = distinctIds(customerIds, "customer");
+
+		Map<Integer, List<Account>> accountsByCustomer = new LinkedHashMap<>();
+		distinctIds.forEach(customerId -> accountsByCustomer.put(customerId, new ArrayList<>()));
+
+		accountRepository.findAllByCustomerIdIn(distinctIds)
+				.forEach(account -> accountsByCustomer.get(account.getCustomerId()).add(account));
+
+		return accountsByCustomer;
+	}
+
+	@Transactional(readOnly = true)
+	@Override
+	public Slice<Account> searchAccounts(AccountSearchCriteriaDTO criteria) {
+
+		requireOrdered(criteria.getMinCustomerId(), criteria.getMaxCustomerId(),
+				"minCustomerId", "maxCustomerId");
+		requireOrdered(criteria.getMinBalance(), criteria.getMaxBalance(),
+				"minBalance", "maxBalance");
+		requireOrdered(criteria.getCreatedFrom(), criteria.getCreatedTo(),
+				"createdFrom", "createdTo");
+
+		int limit = criteria.getLimit() == null ?
+				AccountSearchCriteriaDTO.DEFAULT_LIMIT : criteria.getLimit();
+
+		// One extra row tells whether another page follows without a COUNT query.
+		List<Account> accounts = accountRepository.findBy(AccountSpecifications.matching(criteria),
+				query -> query.sortBy(Sort.by("accountId")).limit(limit + 1).all());
+
+		boolean hasNext = accounts.size() > limit;
+
+		return new SliceImpl<>(hasNext ? accounts.subList(0, limit) : accounts,
+				Pageable.ofSize(limit), hasNext);
+	}
+
+	/**
+	 * Rejects a range whose lower bound is greater than its upper bound.
+	 *
+	 * @param from     the lower bound, may be null
+	 * @param to       the upper bound, may be null
+	 * @param fromName the name of the lower bound, used in the error message
+	 * @param toName   the name of the upper bound, used in the error message
+	 * @param <T>      the type of the bounds
+	 */
+	private static <T extends Comparable<? super T>> void requireOrdered(T from, T to,
+			String fromName, String toName) {
+		if (from != null && to != null && from.compareTo(to) > 0) {
+			throw new AccountValidationException(
+					fromName + " must not be greater than " + toName + ".");
+		}
+	}
+
+	/**
+	 * Removes duplicates from a list of requested IDs, keeping the request order, and enforces
+	 * the per-request limit.
+	 *
+	 * @param ids   the requested IDs
+	 * @param label the kind of ID, used in error messages
+	 * @return the distinct IDs in request order
+	 */
+	private static Set<Integer> distinctIds(List<Integer> ids, String label) {
+
+		if (ids == null || ids.isEmpty()) {
+			throw new AccountValidationException("At least one " + label + " ID must be provided.");
+		}
+
+		Set<Integer> distinctIds = new LinkedHashSet<>(ids);
+
+		if (distinctIds.size() > MAX_IDS_PER_REQUEST) {
+			throw new AccountValidationException("A maximum of " + MAX_IDS_PER_REQUEST + " " +
+					label + " IDs can be requested at once.");
+		}
+
+		return distinctIds;
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.BalanceSnapshot;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.BalanceSnapshotRepository;
+import com.alessandragodoy.accountms.service.IBalanceHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementation of the IBalanceHistoryService interface.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceHistoryServiceImpl implements IBalanceHistoryService {
+
+	private final AccountRepository accountRepository;
+	private final BalanceJournalRepository balanceJournalRepository;
+	private final BalanceSnapshotRepository balanceSnapshotRepository;
+
+	@Transactional(readOnly = true)
+	@Override
+	public double getBalanceAsOf(Integer accountId, LocalDateTime asOf) {
+
+		if (!accountRepository.existsById(accountId)) {
+			throw new AccountNotFoundException(
+					"The account with ID " + accountId + " does not exist.");
+		}
+
+		Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository
+				.findFirstByAccountIdAndSnapshotTimeLessThanEqualOrderBySnapshotTimeDesc(
+						accountId, asOf);
+
+		if (snapshot.isPresent()) {
+			return snapshot.get().getBalance() + balanceJournalRepository.sumAmountsAfter(
+					accountId, snapshot.get().getLastJournalId(), asOf);
+		}
+
+		// Without an earlier snapshot the journal has to reach back to the opening balance,
+		// otherwise the account did not exist yet or its history predates the journal.
+		if (!balanceJournalRepository.existsByAccountIdAndCreatedAtLessThanEqual(accountId, asOf)) {
+			throw new AccountValidationException("No balance history is available for the " +
+					"account with ID " + accountId + " as of " + asOf + ".");
+		}
+
+		return balanceJournalRepository.sumAmountsUpTo(accountId, asOf);
+	}
+}
@@ -0,0 +1,201 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
+import com.alessandragodoy.accountms.configuration.BulkAccountProperties;
+import com.alessandragodoy.accountms.dto.BulkAccountResultDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.numbering.AccountNumberAllocator;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
+import com.alessandragodoy.accountms.service.IBulkAccountService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the IBulkAccountService interface.
+ * <p>
+ * Account IDs are allocated in blocks from a table-backed sequence, so the accounts of a chunk
+ * are sent as JDBC batches; their opening balances are journaled with one statement and their
+ * customers' summaries with one upsert per customer and account type. Account numbers are only
+ * allocated for the accounts about to be inserted, so rejected items do not use them up.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkAccountServiceImpl implements IBulkAccountService {
+
+	private final AccountRepository accountRepository;
+	private final CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+	private final BalanceJournalRepository balanceJournalRepository;
+	private final CustomerServiceClient customerServiceClient;
+	private final AccountNumberAllocator accountNumberAllocator;
+	private final Validator validator;
+	private final TransactionOperations transactionOperations;
+	private final BulkAccountProperties properties;
+
+	@Override
+	public List<BulkAccountResultDTO> createAccounts(List<CreateAccountDTO> createAccountDTOs) {
+
+		if (createAccountDTOs == null || createAccountDTOs.isEmpty()) {
+			throw new AccountValidationException("At least one account must be provided.");
+		}
+		if (createAccountDTOs.size() > properties.maxItems()) {
+			throw new AccountValidationException("At most " + properties.maxItems() +
+					" accounts can be created in a single request.");
+		}
+
+		BulkAccountResultDTO[] results = new BulkAccountResultDTO[createAccountDTOs.size()];
+		List<PendingAccount> valid = validateItems(createAccountDTOs, results);
+
+		Map<Integer, CustomerValidationResponseDTO> validations =
+				customerServiceClient.validateCustomers(valid.stream()
+						.map(pending -> pending.account().getCustomerId())
+						.collect(Collectors.toSet()));
+
+		List<PendingAccount> accepted = new ArrayList<>();
+		for (PendingAccount pending : valid) {
+			String rejection = customerRejection(validations, pending.account().getCustomerId());
+			if (rejection == null) {
+				accepted.add(pending);
+			} else {
+				results[pending.index()] = failed(pending, rejection);
+			}
+		}
+
+		for (int from = 0; from < accepted.size(); from += properties.chunkSize()) {
+			List<PendingAccount> chunk =
+					accepted.subList(from, Math.min(from + properties.chunkSize(), accepted.size()));
+			insertChunk(chunk, results);
+		}
+
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * Validates the constraints of every item, recording a failure for the invalid ones.
+	 *
+	 * @param createAccountDTOs the items of the request
+	 * @param results           the results by item index
+	 * @return the valid items, with their unsaved accounts
+	 */
+	private List<PendingAccount> validateItems(List<CreateAccountDTO> createAccountDTOs,
+											   BulkAccountResultDTO[] results) {
+
+		List<PendingAccount> valid = new ArrayList<>();
+		for (int index = 0; index < createAccountDTOs.size(); index++) {
+			CreateAccountDTO item = createAccountDTOs.get(index);
+			if (item == null) {
+				results[index] = new BulkAccountResultDTO(index, null,
+						BulkAccountResultDTO.Status.FAILED, null, null, "The item is empty.");
+				continue;
+			}
+
+			Set<ConstraintViolation<CreateAccountDTO>> violations = validator.validate(item);
+			if (violations.isEmpty()) {
+				valid.add(new PendingAccount(index, newAccount(item)));
+			} else {
+				results[index] = new BulkAccountResultDTO(index, item.getCustomerId(),
+						BulkAccountResultDTO.Status.FAILED, null, null, violations.stream()
+						.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+						.sorted()
+						.collect(Collectors.joining("; ")));
+			}
+		}
+		return valid;
+	}
+
+	/**
+	 * Numbers the accounts of a chunk and inserts them in its own transaction. If the transaction fails, every item of
+	 * the chunk is reported as failed and the other chunks are not affected.
+	 *
+	 * @param chunk   the accounts to insert
+	 * @param results the results by item index
+	 */
+	private void insertChunk(List<PendingAccount> chunk, BulkAccountResultDTO[] results) {
+
+		List<Account> accounts = chunk.stream().map(PendingAccount::account).toList();
+		accounts.forEach(account -> account.setAccountNumber(accountNumberAllocator.next()));
+		try {
+			transactionOperations.executeWithoutResult(status -> {
+				accountRepository.saveAll(accounts);
+				accountRepository.flush();
+				balanceJournalRepository.recordOpeningBalances(
+						accounts.stream().map(Account::getAccountId).toList(),
+						LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+				customerBalanceSummaryRepository.recordAccountsCreated(accounts);
+			});
+		} catch (RuntimeException e) {
+			log.warn("Bulk creation of {} accounts failed", chunk.size(), e);
+			chunk.forEach(pending -> results[pending.index()] = failed(pending,
+					"The account could not be created, it can be retried."));
+			return;
+		}
+
+		chunk.forEach(pending -> results[pending.index()] = new BulkAccountResultDTO(
+				pending.index(), pending.account().getCustomerId(),
+				BulkAccountResultDTO.Status.CREATED, pending.account().getAccountId(),
+				pending.account().getAccountNumber(), null));
+	}
+
+	private static String customerRejection(
+			Map<Integer, CustomerValidationResponseDTO> validations, Integer customerId) {
+
+		CustomerValidationResponseDTO validation = validations.get(customerId);
+
+		if (validation == null) {
+			return "The customer service returned no validation for the customer with ID " +
+					customerId + ".";
+		}
+		if (!Boolean.TRUE.equals(validation.getExists())
+				|| !Boolean.TRUE.equals(validation.getIsActive())) {
+			return validation.getMessage();
+		}
+		return null;
+	}
+
+	private static Account newAccount(CreateAccountDTO createAccountDTO) {
+
+		return new Account(null,
+				null,
+				createAccountDTO.getBalance(),
+				AccountType.valueOf(createAccountDTO.getAccountType()),
+				createAccountDTO.getCustomerId(),
+				null,
+				null,
+				true);
+	}
+
+	private static BulkAccountResultDTO failed(PendingAccount pending, String message) {
+
+		return new BulkAccountResultDTO(pending.index(), pending.account().getCustomerId(),
+				BulkAccountResultDTO.Status.FAILED, null, null, message);
+	}
+
+	/**
+	 * A valid item of the request and the account to create for it.
+	 *
+	 * @param index   the position of the item in the request
+	 * @param account the unsaved account
+	 */
+	private record PendingAccount(int index, Account account) {
+	}
+}
@@ -0,0 +1,145 @@
+package com.alessandragodoy.accountms.service.impl;
+
+import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
+import com.alessandragodoy.accountms.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.dto.TransferResponseDTO;
+import com.alessandragodoy.accountms.event.AccountChangeEvent;
+import com.alessandragodoy.accountms.event.AccountChangeType;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
+import com.alessandragodoy.accountms.service.IInternalAccountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the IInternalAccountService interface.
+ */
+@Service
+@RequiredArgsConstructor
+public class InternalAccountServiceImpl implements IInternalAccountService {
+
+	private final AccountRepository accountRepository;
+	private final CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+	private final BalanceJournalRepository balanceJournalRepository;
+	private final CustomerServiceClient customerServiceClient;
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Transactional
+	@Override
+	public TransferResponseDTO executeTransfer(TransferRequestDTO transferRequestDTO) {
+		Map<Integer, Account> accounts = lockAccounts(transferRequestDTO.getSourceAccountId(),
+				transferRequestDTO.getDestinationAccountId());
+
+		Account sourceAccount = accounts.get(transferRequestDTO.getSourceAccountId());
+
+		if (sourceAccount == null) {
+			return TransferResponseDTO.failed("SOURCE_ACCOUNT_NOT_FOUND",
+					"Source account not found for ID: " + transferRequestDTO.getSourceAccountId());
+		}
+
+		if (!sourceAccount.isActive()) {
+			return TransferResponseDTO.failed("SOURCE_ACCOUNT_INACTIVE",
+					"Source account is not active for ID: " + transferRequestDTO.getSourceAccountId());
+		}
+		if (sourceAccount.getBalance() < transferRequestDTO.getAmount()) {
+			return TransferResponseDTO.failed("INSUFFICIENT_FUNDS",
+					"Insufficient balance in source account: " + sourceAccount.getBalance());
+		}
+
+		Account destinationAccount = accounts.get(transferRequestDTO.getDestinationAccountId());
+
+		if (destinationAccount == null) {
+			return TransferResponseDTO.failed("DESTINATION_ACCOUNT_NOT_FOUND",
+					"Destination account not found for ID: " + transferRequestDTO.getDestinationAccountId());
+		}
+
+		if (!destinationAccount.isActive()) {
+			return TransferResponseDTO.failed("DESTINATION_ACCOUNT_INACTIVE",
+					"Destination account is not active for ID: " + transferRequestDTO.getDestinationAccountId());
+		}
+
+		moveBalance(sourceAccount, destinationAccount, transferRequestDTO.getAmount());
+
+		return TransferResponseDTO.success(
+				sourceAccount.getAccountId(),
+				destinationAccount.getAccountId(),
+				sourceAccount.getBalance(),
+				destinationAccount.getBalance()
+		);
+
+	}
+
+	/**
+	 * Loads and locks the accounts of a transfer until the transaction ends, so concurrent
+	 * transfers cannot overwrite each other's balance or let the summaries and the journal drift
+	 * from it. The rows are locked in account ID order, so two transfers in opposite directions
+	 * between the same accounts wait for each other instead of deadlocking.
+	 *
+	 * @param sourceAccountId      the ID of the account the amount is taken from
+	 * @param destinationAccountId the ID of the account the amount is added to
+	 * @return the accounts found, by ID
+	 */
+	private Map<Integer, Account> lockAccounts(Integer sourceAccountId,
+											   Integer destinationAccountId) {
+		Map<Integer, Account> accounts = new HashMap<>();
+
+		Stream.of(sourceAccountId, destinationAccountId)
+				.distinct()
+				.sorted()
+				.forEach(accountId -> accountRepository.findByIdForUpdate(accountId)
+						.ifPresent(account -> accounts.put(accountId, account)));
+
+		return accounts;
+	}
+
+	/**
+	 * Moves an amount between two accounts, records the change in the balance summaries of their
+	 * customers and in the balance journal, and publishes the balance changes, all within the
+	 * transfer's transaction.
+	 *
+	 * @param sourceAccount      the account the amount is taken from
+	 * @param destinationAccount the account the amount is added to
+	 * @param amount             the amount to move
+	 */
+	private void moveBalance(Account sourceAccount, Account destinationAccount, double amount) {
+		sourceAccount.setBalance(sourceAccount.getBalance() - amount);
+		destinationAccount.setBalance(destinationAccount.getBalance() + amount);
+
+		accountRepository.save(sourceAccount);
+		accountRepository.save(destinationAccount);
+
+		customerBalanceSummaryRepository.recordBalanceChange(sourceAccount, -amount);
+		customerBalanceSummaryRepository.recordBalanceChange(destinationAccount, amount);
+
+		balanceJournalRepository.record(sourceAccount.getAccountId(), -amount);
+		balanceJournalRepository.record(destinationAccount.getAccountId(), amount);
+
+		eventPublisher.publishEvent(
+				AccountChangeEvent.of(AccountChangeType.BALANCE_CHANGED, sourceAccount));
+		eventPublisher.publishEvent(
+				AccountChangeEvent.of(AccountChangeType.BALANCE_CHANGED, destinationAccount));
+	}
+
+	// Not read-only, so it stays on the primary. customer-ms deletes or deactivates a customer
+	// when this answers false, which a lagging replica could do after an account was created.
+	@Transactional
+	@Override
+	public boolean accountIsActiveByCustomerId(Integer customerId) {
+
+		return accountRepository.existsByCustomerIdAndActiveTrue(customerId);
+	}
+
+	@Override
+	public void evictCustomerValidation(Integer customerId) {
+
+		customerServiceClient.evictValidation(customerId);
+	}
+}
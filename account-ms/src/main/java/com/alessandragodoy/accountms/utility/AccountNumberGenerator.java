@@ -4,7 +4,12 @@ import java.util.UUID;
 
 /**
  * Utility class responsible for generating unique account numbers.
+ *
+ * @deprecated random numbers are not guaranteed to be unique; accounts are numbered by
+ * {@link com.alessandragodoy.accountms.numbering.AccountNumberAllocator}. Kept as the baseline
+ * of {@code AccountNumberBenchmark}.
  */
+@Deprecated
 public class AccountNumberGenerator {
 
     private AccountNumberGenerator() {
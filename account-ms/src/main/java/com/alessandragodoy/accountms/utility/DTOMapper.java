@@ -0,0 +1,50 @@
+package com.alessandragodoy.accountms.utility;
+
+import com.alessandragodoy.accountms.dto.AccountTypeBalanceSummaryDTO;
+import com.alessandragodoy.accountms.dto.CustomerBalanceSummaryDTO;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummary;
+import lombok.NoArgsConstructor;
+import org.modelmapper.ModelMapper;
+
+import java.util.List;
+
+/**
+ * Mapper class for converting between Account entities and DTOs.
+ */
+@NoArgsConstructor
+public class DTOMapper {
+
+	private static final ModelMapper MAPPER = new ModelMapper();
+
+	public static <D, E> D convertToDTO(E entity, Class<D> dtoClass) {
+		return MAPPER.map(entity, dtoClass);
+	}
+
+	public static <E, D> E convertToEntity(D dto, Class<E> entityClass) {
+		return MAPPER.map(dto, entityClass);
+	}
+
+	/**
+	 * Builds the summary of a customer from its per account type rows, adding them up into the
+	 * customer totals.
+	 *
+	 * @param customerId the ID of the customer
+	 * @param summaries  the summary rows of the customer, one per account type
+	 * @return the summary of the customer
+	 */
+	public static CustomerBalanceSummaryDTO toCustomerBalanceSummaryDTO(Integer customerId,
+			List<CustomerBalanceSummary> summaries) {
+
+		List<AccountTypeBalanceSummaryDTO> accountTypes = summaries.stream()
+				.map(summary -> new AccountTypeBalanceSummaryDTO(summary.getAccountType().name(),
+						summary.getTotalBalance(), summary.getAccountCount(),
+						summary.getActiveCount()))
+				.toList();
+
+		return new CustomerBalanceSummaryDTO(customerId,
+				summaries.stream().mapToDouble(CustomerBalanceSummary::getTotalBalance).sum(),
+				summaries.stream().mapToInt(CustomerBalanceSummary::getAccountCount).sum(),
+				summaries.stream().mapToInt(CustomerBalanceSummary::getActiveCount).sum(),
+				accountTypes);
+	}
+}
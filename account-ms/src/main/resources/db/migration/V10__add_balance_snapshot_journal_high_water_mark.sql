@@ -0,0 +1,24 @@
+-- ============================================================
+-- V10__add_balance_snapshot_journal_high_water_mark.sql
+-- Records with each balance snapshot the highest journal entry it
+-- includes. Snapshots and as-of queries add the entries above it
+-- instead of the entries created after the snapshot time, so an
+-- entry timestamped before a snapshot but committed after it is
+-- picked up by the next one rather than lost.
+-- Every write to the journal of an account holds the account's row
+-- lock (or creates the account), so the entries of one account
+-- commit in journal_id order.
+-- Existing snapshots get the highest entry created at or before
+-- their snapshot time, which is what they were taken from.
+-- ============================================================
+
+ALTER TABLE balance_snapshot
+    ADD COLUMN last_journal_id BIGINT NOT NULL DEFAULT 0;
+
+UPDATE balance_snapshot s
+SET s.last_journal_id = COALESCE((SELECT MAX(j.journal_id)
+                                  FROM balance_journal j
+                                  WHERE j.account_id = s.account_id
+                                    AND j.created_at <= s.snapshot_time), 0);
+
+CREATE INDEX idx_balance_journal_account_journal ON balance_journal (account_id, journal_id, created_at, amount);
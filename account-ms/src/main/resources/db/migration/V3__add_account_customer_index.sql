@@ -0,0 +1,8 @@
+-- ============================================================
+-- V3__add_account_customer_index.sql
+-- Adds a secondary index on customer_id so that per-customer
+-- and multi-customer account lookups (customer_id IN (...))
+-- are served by an index range scan instead of a full scan.
+-- ============================================================
+
+CREATE INDEX idx_account_customer_id ON account (customer_id);
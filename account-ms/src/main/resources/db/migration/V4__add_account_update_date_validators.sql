@@ -0,0 +1,15 @@
+-- ============================================================
+-- V4__add_account_update_date_validators.sql
+-- Supports ETag-based conditional GETs derived from update_date.
+-- update_date is widened to microsecond precision so that two
+-- updates within the same second produce different validators.
+-- The customer index is extended with update_date so that the
+-- per-customer validator (COUNT + MAX(update_date)) is answered
+-- from the index alone, without touching the table rows.
+-- ============================================================
+
+ALTER TABLE account MODIFY update_date DATETIME(6) NOT NULL;
+
+CREATE INDEX idx_account_customer_id_update_date ON account (customer_id, update_date);
+
+DROP INDEX idx_account_customer_id ON account;
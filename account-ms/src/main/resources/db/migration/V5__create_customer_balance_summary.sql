@@ -0,0 +1,26 @@
+-- ============================================================
+-- V5__create_customer_balance_summary.sql
+-- Creates the customer_balance_summary read model: total balance,
+-- account count and active count per customer and account type.
+-- Rows are maintained incrementally in the same transaction as every
+-- balance or state change, so a customer's totals are read with a
+-- primary-key lookup instead of summing all of their accounts.
+-- Backfilled from the existing accounts.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS customer_balance_summary
+(
+    customer_id   INT         NOT NULL,
+    account_type  VARCHAR(20) NOT NULL,
+    total_balance DOUBLE      NOT NULL DEFAULT 0,
+    account_count INT         NOT NULL DEFAULT 0,
+    active_count  INT         NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_customer_balance_summary PRIMARY KEY (customer_id, account_type)
+);
+
+INSERT INTO customer_balance_summary (customer_id, account_type, total_balance, account_count,
+                                      active_count)
+SELECT customer_id, account_type, SUM(balance), COUNT(*), SUM(active)
+FROM account
+GROUP BY customer_id, account_type;
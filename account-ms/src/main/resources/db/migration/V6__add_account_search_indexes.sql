@@ -0,0 +1,19 @@
+-- ============================================================
+-- V6__add_account_search_indexes.sql
+-- Adds the composite indexes behind GET /api/v1/accounts/search.
+-- Search results are ordered by account_id and paginated with a
+-- keyset cursor (account_id > ?). InnoDB appends the primary key to
+-- every secondary index, so after the equality columns the entries
+-- are already in account_id order and a page is read without a sort.
+--   - (account_type, active): type and/or state filters.
+--   - (active, creation_date): creation date ranges, usually on
+--     active accounts.
+--   - (active, balance): balance ranges, usually on active accounts.
+-- Customer ID ranges use the existing (customer_id, update_date) index.
+-- ============================================================
+
+CREATE INDEX idx_account_type_active ON account (account_type, active);
+
+CREATE INDEX idx_account_active_creation_date ON account (active, creation_date);
+
+CREATE INDEX idx_account_active_balance ON account (active, balance);
@@ -0,0 +1,42 @@
+-- ============================================================
+-- V7__create_balance_journal_and_snapshots.sql
+-- Creates the tables behind point-in-time (as-of) balance queries.
+--   - balance_journal: one signed delta per balance change (opening
+--     balance, transfer debit and credit), written in the same
+--     transaction as the change.
+--   - balance_snapshot: the balance of an account at a point in time,
+--     materialized periodically from the previous snapshot plus the
+--     journal deltas since then.
+-- The balance as of T is the latest snapshot at or before T plus the
+-- journal deltas between that snapshot and T, so a query only reads
+-- the deltas of one snapshot interval.
+-- Existing accounts get an initial snapshot with their current balance;
+-- their history before this migration is not available.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS balance_journal
+(
+    journal_id BIGINT      NOT NULL AUTO_INCREMENT,
+    account_id INT         NOT NULL,
+    amount     DOUBLE      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+
+    CONSTRAINT pk_balance_journal PRIMARY KEY (journal_id),
+    CONSTRAINT fk_balance_journal_account FOREIGN KEY (account_id) REFERENCES account (account_id)
+);
+
+CREATE INDEX idx_balance_journal_account_created ON balance_journal (account_id, created_at, amount);
+
+CREATE TABLE IF NOT EXISTS balance_snapshot
+(
+    account_id    INT         NOT NULL,
+    snapshot_time DATETIME(6) NOT NULL,
+    balance       DOUBLE      NOT NULL,
+
+    CONSTRAINT pk_balance_snapshot PRIMARY KEY (account_id, snapshot_time),
+    CONSTRAINT fk_balance_snapshot_account FOREIGN KEY (account_id) REFERENCES account (account_id)
+);
+
+INSERT INTO balance_snapshot (account_id, snapshot_time, balance)
+SELECT account_id, NOW(6), balance
+FROM account;
@@ -0,0 +1,19 @@
+-- ============================================================
+-- V8__create_account_id_sequence.sql
+-- Creates the table-backed sequence Account IDs are allocated from.
+-- MySQL has no sequences, so Hibernate emulates one with a single-row
+-- table. Each instance reserves a block of IDs with one short update
+-- (pooled-lo optimizer) and assigns them in memory, which lets account
+-- inserts be sent as JDBC batches; AUTO_INCREMENT (IDENTITY) needs one
+-- round trip per row to learn the generated key.
+-- The sequence starts after the highest existing account ID.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS account_id_seq
+(
+    next_val BIGINT NOT NULL
+);
+
+INSERT INTO account_id_seq (next_val)
+SELECT COALESCE(MAX(account_id), 0) + 1
+FROM account;
@@ -0,0 +1,20 @@
+-- ============================================================
+-- V9__create_account_number_sequence.sql
+-- Creates the sequence account numbers are allocated from.
+-- Each instance reserves a block of numbers with one short
+-- transaction (SELECT ... FOR UPDATE and UPDATE of this row) and
+-- formats them in memory, so numbers are unique without relying on
+-- randomness or on the unique constraint of account.account_number.
+-- Allocated numbers are 20 characters long (ACC-, 15 digits and a
+-- check digit), so they never match the 24-character random numbers
+-- issued before.
+-- ============================================================
+
+CREATE TABLE IF NOT EXISTS account_number_sequence
+(
+    sequence_name VARCHAR(64) NOT NULL PRIMARY KEY,
+    next_val      BIGINT      NOT NULL
+);
+
+INSERT INTO account_number_sequence (sequence_name, next_val)
+VALUES ('account_number', 1);
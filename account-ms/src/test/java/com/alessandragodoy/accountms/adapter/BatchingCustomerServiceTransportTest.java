@@ -0,0 +1,137 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link BatchingCustomerServiceTransport}, against the in-memory
+ * {@link StubCustomerServiceTransport}.
+ */
+class BatchingCustomerServiceTransportTest {
+
+	private static final CustomerValidationResponseDTO INACTIVE =
+			new CustomerValidationResponseDTO(true, false, "Customer is inactive");
+
+	private final StubCustomerServiceTransport stub = new StubCustomerServiceTransport();
+
+	private BatchingCustomerServiceTransport transport;
+
+	@AfterEach
+	void tearDown() {
+		transport.close();
+	}
+
+	@Test
+	@DisplayName("fetchValidation - validations within the window are sent as one bulk call")
+	void fetchValidation_WithinWindow_SendsOneBulkCall() throws Exception {
+
+		transport = batching(100, Duration.ofMillis(50));
+		stub.register(2, INACTIVE);
+
+		CompletableFuture<CustomerValidationResponseDTO> first = transport.fetchValidation(1);
+		CompletableFuture<CustomerValidationResponseDTO> second = transport.fetchValidation(2);
+		CompletableFuture<CustomerValidationResponseDTO> third = transport.fetchValidation(3);
+
+		assertThat(first.get(5, TimeUnit.SECONDS).getIsActive()).isTrue();
+		assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(INACTIVE);
+		assertThat(third.get(5, TimeUnit.SECONDS).getIsActive()).isTrue();
+		assertThat(stub.getBulkCalls()).isEqualTo(1);
+		assertThat(stub.getSingleCalls()).isZero();
+	}
+
+	@Test
+	@DisplayName("fetchValidation - a full batch is sent without waiting for the window")
+	void fetchValidation_WhenBatchFull_SendsImmediately() {
+
+		transport = batching(3, Duration.ofHours(1));
+
+		List<CompletableFuture<CustomerValidationResponseDTO>> validations =
+				IntStream.rangeClosed(1, 7).mapToObj(transport::fetchValidation).toList();
+
+		assertThat(validations.subList(0, 6)).allMatch(CompletableFuture::isDone);
+		assertThat(validations.get(6)).isNotDone();
+		assertThat(stub.getBulkCalls()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("fetchValidation - validations of the same customer share one entry")
+	void fetchValidation_WithSameCustomer_SharesEntry() throws Exception {
+
+		transport = batching(2, Duration.ofHours(1));
+
+		CompletableFuture<CustomerValidationResponseDTO> first = transport.fetchValidation(1);
+		CompletableFuture<CustomerValidationResponseDTO> second = transport.fetchValidation(1);
+		transport.fetchValidation(2);
+
+		assertThat(second).isSameAs(first);
+		assertThat(first.get(5, TimeUnit.SECONDS).getExists()).isTrue();
+		assertThat(stub.getBulkCalls()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("fetchValidation - a failed bulk call fails every caller of the batch")
+	void fetchValidation_WhenBulkCallFails_FailsEveryCaller() {
+
+		transport = new BatchingCustomerServiceTransport(new StubCustomerServiceTransport() {
+			@Override
+			public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+					Set<Integer> customerIds) {
+				return CompletableFuture.failedFuture(new ExternalServiceException(
+						"Customer service returned an error or empty body."));
+			}
+		}, new CustomerServiceBatchProperties(true, 2, Duration.ofHours(1)));
+
+		CompletableFuture<CustomerValidationResponseDTO> first = transport.fetchValidation(1);
+		CompletableFuture<CustomerValidationResponseDTO> second = transport.fetchValidation(2);
+
+		for (CompletableFuture<CustomerValidationResponseDTO> validation : List.of(first, second)) {
+			assertThatThrownBy(() -> validation.get(5, TimeUnit.SECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.cause()
+					.isInstanceOf(ExternalServiceException.class)
+					.hasMessage("Customer service returned an error or empty body.");
+		}
+	}
+
+	@Test
+	@DisplayName("fetchValidation - fails callers whose customer is missing from the response")
+	void fetchValidation_WhenCustomerMissingFromResponse_Fails() {
+
+		transport = new BatchingCustomerServiceTransport(new StubCustomerServiceTransport() {
+			@Override
+			public CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> fetchValidations(
+					Set<Integer> customerIds) {
+				return CompletableFuture.completedFuture(Map.of(1, INACTIVE));
+			}
+		}, new CustomerServiceBatchProperties(true, 2, Duration.ofHours(1)));
+
+		CompletableFuture<CustomerValidationResponseDTO> first = transport.fetchValidation(1);
+		CompletableFuture<CustomerValidationResponseDTO> second = transport.fetchValidation(2);
+
+		assertThat(first.join()).isSameAs(INACTIVE);
+		assertThatThrownBy(second::join)
+				.cause()
+				.isInstanceOf(ExternalServiceException.class)
+				.hasMessage("Customer service returned no validation for the customer with ID 2.");
+	}
+
+	private BatchingCustomerServiceTransport batching(int maxSize, Duration window) {
+		return new BatchingCustomerServiceTransport(stub,
+				new CustomerServiceBatchProperties(true, maxSize, window));
+	}
+}
@@ -0,0 +1,225 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link CustomerServiceClient}: validation cache and coalesced lookups.
+ */
+@ExtendWith(MockitoExtension.class)
+class CustomerServiceClientTest {
+
+	private static final CustomerValidationResponseDTO ACTIVE =
+			new CustomerValidationResponseDTO(true, true, "Customer is active");
+	private static final CustomerValidationResponseDTO NOT_FOUND =
+			new CustomerValidationResponseDTO(false, false, "Customer not found");
+
+	@Mock
+	private CustomerServiceTransport transport;
+
+	@Test
+	@DisplayName("validateCustomer - calls the customer service once per cached customer")
+	void validateCustomer_WithPositiveResult_IsServedFromCache() {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ofMinutes(10));
+		when(transport.fetchValidation(1)).thenReturn(CompletableFuture.completedFuture(ACTIVE));
+
+		client.validateCustomer(1);
+		client.validateCustomer(1);
+		CustomerValidationResponseDTO result = client.validateCustomer(1);
+
+		assertThat(result.getIsActive()).isTrue();
+		verify(transport, times(1)).fetchValidation(1);
+	}
+
+	@Test
+	@DisplayName("validateCustomer - expires negative results after their own TTL")
+	void validateCustomer_WithNegativeResult_UsesNegativeTtl() {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ZERO);
+		when(transport.fetchValidation(2))
+				.thenReturn(CompletableFuture.completedFuture(NOT_FOUND));
+
+		client.validateCustomer(2);
+		CustomerValidationResponseDTO result = client.validateCustomer(2);
+
+		assertThat(result.getExists()).isFalse();
+		verify(transport, times(2)).fetchValidation(2);
+	}
+
+	@Test
+	@DisplayName("validateCustomer - does not cache failed calls")
+	void validateCustomer_WhenServiceFails_ThrowsAndDoesNotCache() {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ofMinutes(10));
+		when(transport.fetchValidation(3))
+				.thenReturn(CompletableFuture.failedFuture(new ExternalServiceException(
+						"Customer service returned an error or empty body.")))
+				.thenReturn(CompletableFuture.completedFuture(ACTIVE));
+
+		assertThatThrownBy(() -> client.validateCustomer(3))
+				.isInstanceOf(ExternalServiceException.class)
+				.hasMessage("Customer service returned an error or empty body.");
+		assertThat(client.validateCustomer(3).getExists()).isTrue();
+	}
+
+	@Test
+	@DisplayName("evictValidation - makes the next lookup call the customer service")
+	void evictValidation_ReloadsOnNextLookup() {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ofMinutes(10));
+		when(transport.fetchValidation(4)).thenReturn(CompletableFuture.completedFuture(ACTIVE));
+
+		client.validateCustomer(4);
+		client.evictValidation(4);
+		client.validateCustomer(4);
+
+		verify(transport, times(2)).fetchValidation(4);
+	}
+
+	@Test
+	@DisplayName("validateCustomers - fetches the customers not cached with one bulk call")
+	void validateCustomers_FetchesMissingCustomersInBulk() {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ofMinutes(10));
+		when(transport.fetchValidation(13)).thenReturn(CompletableFuture.completedFuture(ACTIVE));
+		when(transport.fetchValidations(Set.of(14, 15)))
+				.thenReturn(CompletableFuture.completedFuture(Map.of(14, NOT_FOUND)));
+
+		client.validateCustomer(13);
+		Map<Integer, CustomerValidationResponseDTO> result =
+				client.validateCustomers(List.of(13, 14, 15));
+
+		assertThat(result).containsOnly(Map.entry(13, ACTIVE), Map.entry(14, NOT_FOUND));
+		verify(transport, times(1)).fetchValidations(Set.of(14, 15));
+	}
+
+	@Test
+	@DisplayName("validateCustomer - concurrent lookups of a customer share one in-flight call")
+	void validateCustomer_WithConcurrentLookups_CoalescesIntoOneCall() throws Exception {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ofMinutes(10));
+		CompletableFuture<CustomerValidationResponseDTO> pending = new CompletableFuture<>();
+		when(transport.fetchValidation(10)).thenReturn(pending);
+
+		List<CompletableFuture<CustomerValidationResponseDTO>> lookups =
+				lookUpConcurrently(client, 10, 8);
+		pending.complete(ACTIVE);
+
+		for (CompletableFuture<CustomerValidationResponseDTO> lookup : lookups) {
+			assertThat(lookup.get(5, TimeUnit.SECONDS)).isSameAs(ACTIVE);
+		}
+		verify(transport, times(1)).fetchValidation(10);
+	}
+
+	@Test
+	@DisplayName("validateCustomer - a failed in-flight call fails every waiter and is not kept")
+	void validateCustomer_WhenCoalescedCallFails_SharesErrorAndCleansUp() throws Exception {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ofMinutes(10));
+		CompletableFuture<CustomerValidationResponseDTO> pending = new CompletableFuture<>();
+		when(transport.fetchValidation(11))
+				.thenReturn(pending)
+				.thenReturn(CompletableFuture.completedFuture(ACTIVE));
+
+		List<CompletableFuture<CustomerValidationResponseDTO>> lookups =
+				lookUpConcurrently(client, 11, 8);
+		pending.completeExceptionally(
+				new ExternalServiceException("Customer service returned an error or empty body."));
+
+		for (CompletableFuture<CustomerValidationResponseDTO> lookup : lookups) {
+			assertThatThrownBy(() -> lookup.get(5, TimeUnit.SECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.cause()
+					.isInstanceOf(ExternalServiceException.class)
+					.hasMessage("Customer service returned an error or empty body.");
+		}
+		assertThat(client.validateCustomer(11)).isSameAs(ACTIVE);
+		verify(transport, times(2)).fetchValidation(11);
+	}
+
+	@Test
+	@DisplayName("evictValidation - lookups after an eviction do not wait on an older call")
+	void evictValidation_WhileCallInFlight_StartsNewCall() {
+
+		CustomerServiceClient client = client(Duration.ofMinutes(10), Duration.ofMinutes(10));
+		CompletableFuture<CustomerValidationResponseDTO> stale = new CompletableFuture<>();
+		when(transport.fetchValidation(12))
+				.thenReturn(stale)
+				.thenReturn(CompletableFuture.completedFuture(NOT_FOUND));
+
+		client.validateCustomerAsync(12);
+		client.evictValidation(12);
+
+		assertThat(client.validateCustomer(12)).isSameAs(NOT_FOUND);
+		verify(transport, times(2)).fetchValidation(12);
+	}
+
+	/**
+	 * Looks a customer up from several threads released at the same time, and waits until every
+	 * lookup has been issued.
+	 *
+	 * @param client     the client
+	 * @param customerId the ID of the customer
+	 * @param threads    the number of concurrent lookups
+	 * @return the pending lookups
+	 */
+	private List<CompletableFuture<CustomerValidationResponseDTO>> lookUpConcurrently(
+			CustomerServiceClient client, Integer customerId, int threads) {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+
+		try {
+			List<CompletableFuture<CompletableFuture<CustomerValidationResponseDTO>>> issued =
+					new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				issued.add(CompletableFuture.supplyAsync(() -> {
+					awaitQuietly(start);
+					return client.validateCustomerAsync(customerId);
+				}, executor));
+			}
+			start.countDown();
+			return issued.stream().map(CompletableFuture::join).toList();
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private CustomerServiceClient client(Duration positiveTtl, Duration negativeTtl) {
+		return new CustomerServiceClient(transport,
+				new CustomerValidationCacheProperties(100, positiveTtl, negativeTtl,
+						Duration.ofMinutes(5)),
+				new SimpleMeterRegistry(), ForkJoinPool.commonPool());
+	}
+}
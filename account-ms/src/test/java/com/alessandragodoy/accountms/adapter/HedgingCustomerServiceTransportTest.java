@@ -0,0 +1,160 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link HedgingCustomerServiceTransport}.
+ */
+@ExtendWith(MockitoExtension.class)
+class HedgingCustomerServiceTransportTest {
+
+	private static final CustomerValidationResponseDTO ACTIVE =
+			new CustomerValidationResponseDTO(true, true, "Customer is active");
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Mock
+	private CustomerServiceTransport delegate;
+
+	@Test
+	@DisplayName("fetchValidation - does not hedge calls answering before the delay")
+	void fetchValidation_WhenFast_DoesNotHedge() throws Exception {
+
+		HedgingCustomerServiceTransport transport = hedging(100);
+		when(delegate.fetchValidation(1)).thenReturn(CompletableFuture.completedFuture(ACTIVE));
+
+		assertThat(transport.fetchValidation(1).get(5, TimeUnit.SECONDS)).isSameAs(ACTIVE);
+
+		Thread.sleep(100);
+		verify(delegate, times(1)).fetchValidation(1);
+		assertThat(hedges("fired")).isZero();
+		assertThat(meterRegistry.get("customer.ms.validation.latency").timer().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("fetchValidation - hedges a slow call, takes the first answer and cancels the other")
+	void fetchValidation_WhenSlow_HedgeWinsAndCancelsOriginal() throws Exception {
+
+		HedgingCustomerServiceTransport transport = hedging(100);
+		CompletableFuture<CustomerValidationResponseDTO> slow = new CompletableFuture<>();
+		when(delegate.fetchValidation(2))
+				.thenReturn(slow)
+				.thenReturn(CompletableFuture.completedFuture(ACTIVE));
+
+		assertThat(transport.fetchValidation(2).get(5, TimeUnit.SECONDS)).isSameAs(ACTIVE);
+
+		verify(delegate, times(2)).fetchValidation(2);
+		assertThat(slow).isCancelled();
+		assertThat(hedges("fired")).isEqualTo(1);
+		assertThat(hedges("won")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("fetchValidation - records the latency of a won hedge from the original call")
+	void fetchValidation_WhenHedgeWins_RecordsLatencyFromOriginalCall() throws Exception {
+
+		HedgingCustomerServiceTransport transport = hedging(100);
+		when(delegate.fetchValidation(5))
+				.thenReturn(new CompletableFuture<>())
+				.thenReturn(CompletableFuture.completedFuture(ACTIVE));
+
+		assertThat(transport.fetchValidation(5).get(5, TimeUnit.SECONDS)).isSameAs(ACTIVE);
+
+		Timer latency = meterRegistry.get("customer.ms.validation.latency").timer();
+		assertThat(latency.count()).isEqualTo(1);
+		assertThat(latency.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+	}
+
+	@Test
+	@DisplayName("hedgeDelayNanos - reuses the computed delay until the refresh interval elapses")
+	void hedgeDelayNanos_WithinRefreshInterval_ReusesComputedDelay() {
+
+		HedgingCustomerServiceTransport cached = hedging(100, Duration.ofHours(1));
+		meterRegistry.get("customer.ms.validation.latency").timer().record(Duration.ofMillis(500));
+
+		assertThat(cached.hedgeDelayNanos()).isEqualTo(Duration.ofMillis(20).toNanos());
+
+		HedgingCustomerServiceTransport refreshed = hedging(100, Duration.ZERO);
+
+		assertThat(refreshed.hedgeDelayNanos())
+				.isGreaterThanOrEqualTo(Duration.ofMillis(400).toNanos());
+		assertThat(cached.hedgeDelayNanos()).isEqualTo(Duration.ofMillis(20).toNanos());
+	}
+
+	@Test
+	@DisplayName("fetchValidation - does not hedge once the budget is spent")
+	void fetchValidation_WhenBudgetSpent_DoesNotHedge() throws Exception {
+
+		HedgingCustomerServiceTransport transport = hedging(0);
+		CompletableFuture<CustomerValidationResponseDTO> slow = new CompletableFuture<>();
+		when(delegate.fetchValidation(3)).thenReturn(slow);
+
+		CompletableFuture<CustomerValidationResponseDTO> validation = transport.fetchValidation(3);
+		Thread.sleep(200);
+		slow.complete(ACTIVE);
+
+		assertThat(validation.get(5, TimeUnit.SECONDS)).isSameAs(ACTIVE);
+		verify(delegate, times(1)).fetchValidation(3);
+		assertThat(hedges("rejected")).isEqualTo(1);
+		assertThat(hedges("fired")).isZero();
+	}
+
+	@Test
+	@DisplayName("fetchValidation - fails only when both the original call and the hedge fail")
+	void fetchValidation_WhenBothCallsFail_Fails() {
+
+		HedgingCustomerServiceTransport transport = hedging(100);
+		CompletableFuture<CustomerValidationResponseDTO> slow = new CompletableFuture<>();
+		when(delegate.fetchValidation(4))
+				.thenReturn(slow)
+				.thenReturn(CompletableFuture.failedFuture(new ExternalServiceException(
+						"Customer service returned an error or empty body.")));
+
+		CompletableFuture<CustomerValidationResponseDTO> validation = transport.fetchValidation(4);
+		verify(delegate, timeout(5000).times(2)).fetchValidation(4);
+		assertThat(validation).isNotDone();
+
+		slow.completeExceptionally(new ExternalServiceException(
+				"Unable to connect to the customer service."));
+
+		assertThatThrownBy(() -> validation.get(5, TimeUnit.SECONDS))
+				.isInstanceOf(ExecutionException.class)
+				.cause()
+				.isInstanceOf(ExternalServiceException.class);
+	}
+
+	private HedgingCustomerServiceTransport hedging(double budgetPercent) {
+		return hedging(budgetPercent, Duration.ofSeconds(1));
+	}
+
+	private HedgingCustomerServiceTransport hedging(double budgetPercent,
+			Duration delayRefreshInterval) {
+		return new HedgingCustomerServiceTransport(delegate,
+				new CustomerServiceHedgingProperties(true, 0.95, budgetPercent,
+						Duration.ofMillis(20), Duration.ofMinutes(1), delayRefreshInterval),
+				meterRegistry);
+	}
+
+	private double hedges(String event) {
+		return meterRegistry.get("customer.ms.hedges").tag("event", event).counter().count();
+	}
+}
@@ -0,0 +1,135 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.configuration.CustomerServiceClientConfig;
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link HttpCustomerServiceTransport}, against a local HTTP server standing in
+ * for the customer service.
+ */
+class HttpCustomerServiceTransportTest {
+
+	private static final String ACTIVE =
+			"{\"exists\":true,\"isActive\":true,\"message\":\"Customer is active\"}";
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private HttpServer server;
+	private CloseableHttpAsyncClient httpClient;
+	private HttpCustomerServiceTransport transport;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/api/v1/customers", this::respond);
+		server.start();
+
+		CustomerServiceClientConfig config = new CustomerServiceClientConfig();
+		CustomerServiceHttpProperties properties = new CustomerServiceHttpProperties(10, 20,
+				Duration.ofSeconds(1), Duration.ofSeconds(2), Duration.ofSeconds(1),
+				Duration.ofSeconds(30));
+		httpClient = config.customerServiceHttpClient(
+				config.customerServiceConnectionManager(properties, meterRegistry), properties);
+		transport = new HttpCustomerServiceTransport(httpClient, new ObjectMapper(),
+				"http://localhost:" + server.getAddress().getPort() + "/api/v1/customers");
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		httpClient.close();
+		server.stop(0);
+	}
+
+	@Test
+	@DisplayName("fetchValidation - completes with the validation of the customer")
+	void fetchValidation_ReturnsValidation() {
+
+		CustomerValidationResponseDTO result = transport.fetchValidation(1).join();
+
+		assertThat(result.getExists()).isTrue();
+		assertThat(result.getIsActive()).isTrue();
+		assertThat(result.getMessage()).isEqualTo("Customer is active");
+		assertThat(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauge())
+				.isNotNull();
+	}
+
+	@Test
+	@DisplayName("fetchValidation - fails with ExternalServiceException on an error status")
+	void fetchValidation_WithErrorStatus_FailsWithExternalServiceException() {
+
+		assertThatThrownBy(() -> transport.fetchValidation(503).join())
+				.isInstanceOf(CompletionException.class)
+				.cause()
+				.isInstanceOf(ExternalServiceException.class)
+				.hasMessage("Customer service returned an error or empty body.");
+	}
+
+	@Test
+	@DisplayName("fetchValidation - fails with ExternalServiceException when unreachable")
+	void fetchValidation_WhenUnreachable_FailsWithExternalServiceException() {
+
+		server.stop(0);
+
+		assertThatThrownBy(() -> transport.fetchValidation(1).join())
+				.isInstanceOf(CompletionException.class)
+				.cause()
+				.isInstanceOf(ExternalServiceException.class)
+				.hasMessageStartingWith("Unable to connect to the customer service.");
+	}
+
+	@Test
+	@DisplayName("fetchValidations - posts the IDs and completes with the validations by ID")
+	void fetchValidations_ReturnsValidationsById() {
+
+		Map<Integer, CustomerValidationResponseDTO> result =
+				transport.fetchValidations(Set.of(1, 2)).join();
+
+		assertThat(result).containsOnlyKeys(1, 2);
+		assertThat(result.get(2).getIsActive()).isTrue();
+	}
+
+	private void respond(HttpExchange exchange) throws IOException {
+		boolean failing = exchange.getRequestURI().getPath().endsWith("/503");
+		byte[] body = exchange.getRequestURI().getPath().endsWith("/validations") ?
+				bulkResponse(exchange.getRequestBody().readAllBytes()) :
+				ACTIVE.getBytes(StandardCharsets.UTF_8);
+
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(failing ? 503 : 200, body.length);
+		exchange.getResponseBody().write(body);
+		exchange.close();
+	}
+
+	private static byte[] bulkResponse(byte[] requestBody) throws IOException {
+		Integer[] customerIds = new ObjectMapper().readValue(requestBody, Integer[].class);
+		String validations = Arrays.stream(customerIds)
+				.map(customerId -> "\"" + customerId + "\":" + ACTIVE)
+				.collect(Collectors.joining(",", "{", "}"));
+
+		return validations.getBytes(StandardCharsets.UTF_8);
+	}
+}
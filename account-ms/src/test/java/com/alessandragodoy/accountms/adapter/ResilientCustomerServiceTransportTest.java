@@ -0,0 +1,114 @@
+package com.alessandragodoy.accountms.adapter;
+
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for {@link ResilientCustomerServiceTransport}: circuit breaker and bulkhead.
+ */
+@ExtendWith(MockitoExtension.class)
+class ResilientCustomerServiceTransportTest {
+
+	private static final CustomerValidationResponseDTO ACTIVE =
+			new CustomerValidationResponseDTO(true, true, "Customer is active");
+
+	@Mock
+	private CustomerServiceTransport delegate;
+
+	private CircuitBreaker circuitBreaker;
+	private ResilientCustomerServiceTransport transport;
+
+	@BeforeEach
+	void setUp() {
+		circuitBreaker = CircuitBreaker.of("test", CircuitBreakerConfig.custom()
+				.slidingWindowSize(2)
+				.minimumNumberOfCalls(2)
+				.failureRateThreshold(50)
+				.build());
+		Bulkhead bulkhead = Bulkhead.of("test", BulkheadConfig.custom()
+				.maxConcurrentCalls(1)
+				.maxWaitDuration(Duration.ZERO)
+				.build());
+		transport = new ResilientCustomerServiceTransport(delegate, circuitBreaker, bulkhead);
+	}
+
+	@Test
+	@DisplayName("fetchValidation - fails fast without calling the service when the circuit is open")
+	void fetchValidation_WhenCircuitOpen_FailsFast() {
+
+		when(delegate.fetchValidation(anyInt())).thenReturn(CompletableFuture.failedFuture(
+				new ExternalServiceException("Unable to connect to the customer service.")));
+
+		assertThatThrownBy(() -> transport.fetchValidation(5).join())
+				.hasCauseInstanceOf(ExternalServiceException.class);
+		assertThatThrownBy(() -> transport.fetchValidation(6).join())
+				.hasCauseInstanceOf(ExternalServiceException.class);
+
+		assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+		assertThatThrownBy(() -> transport.fetchValidation(7).join())
+				.isInstanceOf(CompletionException.class)
+				.cause()
+				.isInstanceOf(ExternalServiceException.class)
+				.hasMessageContaining("calls are suspended until it recovers");
+		verify(delegate, never()).fetchValidation(7);
+	}
+
+	@Test
+	@DisplayName("fetchValidation - rejects calls beyond the bulkhead's concurrency limit")
+	void fetchValidation_WhenBulkheadFull_Rejects() {
+
+		CompletableFuture<CustomerValidationResponseDTO> pending = new CompletableFuture<>();
+		when(delegate.fetchValidation(8)).thenReturn(pending);
+
+		CompletableFuture<CustomerValidationResponseDTO> first = transport.fetchValidation(8);
+
+		assertThatThrownBy(() -> transport.fetchValidation(9).join())
+				.isInstanceOf(CompletionException.class)
+				.cause()
+				.isInstanceOf(ExternalServiceException.class)
+				.hasMessageContaining("Too many concurrent calls");
+		verify(delegate, never()).fetchValidation(9);
+
+		pending.complete(ACTIVE);
+		assertThat(first.join().getIsActive()).isTrue();
+	}
+
+	@Test
+	@DisplayName("fetchValidations - a bulk call takes a single bulkhead permit")
+	void fetchValidations_TakesSinglePermit() {
+
+		CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> pending =
+				new CompletableFuture<>();
+		when(delegate.fetchValidations(Set.of(1, 2, 3))).thenReturn(pending);
+
+		CompletableFuture<Map<Integer, CustomerValidationResponseDTO>> bulk =
+				transport.fetchValidations(Set.of(1, 2, 3));
+
+		assertThatThrownBy(() -> transport.fetchValidation(4).join())
+				.hasMessageContaining("Too many concurrent calls");
+
+		pending.complete(Map.of(1, ACTIVE, 2, ACTIVE, 3, ACTIVE));
+		assertThat(bulk.join()).hasSize(3);
+		assertThat(circuitBreaker.getMetrics().getNumberOfSuccessfulCalls()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,38 @@
+package com.alessandragodoy.accountms.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Binding tests for AccountCreationProperties.
+ */
+class AccountCreationPropertiesTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(CreationPropertiesConfig.class);
+
+	@Test
+	@DisplayName("binds the number of executor threads")
+	void bind_WithExecutorThreads_BindsValue() {
+
+		contextRunner.withPropertyValues("account.create.executor-threads=4")
+				.run(context -> assertThat(context.getBean(AccountCreationProperties.class)
+						.executorThreads()).isEqualTo(4));
+	}
+
+	@Test
+	@DisplayName("defaults to ten executor threads")
+	void bind_WithoutProperties_DefaultsToTenThreads() {
+
+		contextRunner.run(context -> assertThat(context.getBean(AccountCreationProperties.class)
+				.executorThreads()).isEqualTo(10));
+	}
+
+	@EnableConfigurationProperties(AccountCreationProperties.class)
+	static class CreationPropertiesConfig {
+	}
+}
@@ -0,0 +1,45 @@
+package com.alessandragodoy.accountms.configuration;
+
+import com.alessandragodoy.accountms.dto.AccountDTO;
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.dto.CustomErrorResponse;
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.dto.TransferRequestDTO;
+import com.alessandragodoy.accountms.model.Account;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NativeImageHints.
+ */
+class NativeImageHintsTest {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@BeforeEach
+	void setUp() {
+		new NativeImageHints().registerHints(hints, getClass().getClassLoader());
+	}
+
+	@ParameterizedTest
+	@ValueSource(classes = {Account.class, AccountDTO.class, CreateAccountDTO.class,
+			TransferRequestDTO.class, AccountSearchCriteriaDTO.class,
+			CustomerValidationResponseDTO.class, CustomErrorResponse.class})
+	@DisplayName("registerHints - registers constructors, public methods and fields for reflection")
+	void registerHints_ForReflectiveType_RegistersMembers(Class<?> type) {
+
+		assertThat(RuntimeHintsPredicates.reflection().onType(type).withMemberCategories(
+				MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+				MemberCategory.INVOKE_PUBLIC_METHODS,
+				MemberCategory.DECLARED_FIELDS))
+				.accepts(hints);
+	}
+}
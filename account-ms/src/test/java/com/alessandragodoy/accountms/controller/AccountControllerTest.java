@@ -1,18 +1,21 @@
 package com.alessandragodoy.accountms.controller;
 
-import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
 import com.alessandragodoy.accountms.exception.AccountNotFoundException;
 import com.alessandragodoy.accountms.exception.AccountValidationException;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummary;
+import com.alessandragodoy.accountms.repository.projection.AccountBalanceView;
+import com.alessandragodoy.accountms.repository.projection.AccountsVersionView;
 import com.alessandragodoy.accountms.service.IAccountService;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.alessandragodoy.accountms.utility.ETagGenerator;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.params.ParameterizedTest;
-import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -20,10 +23,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -39,9 +45,6 @@ class AccountControllerTest {
 	@Autowired
 	private MockMvc mockMvc;
 
-	@Autowired
-	private ObjectMapper objectMapper;
-
 	@MockitoBean
 	private IAccountService accountService;
 
@@ -130,142 +133,119 @@ class AccountControllerTest {
 	}
 
 	@Test
-	@DisplayName("POST /api/v1/accounts - creates account successfully")
-	void createAccount_WithValidData_ReturnsCreatedAccount() throws Exception {
+	@DisplayName("GET /api/v1/accounts/{accountId} - returns ETag with the account")
+	void getAccountById_WithoutIfNoneMatch_ReturnsETag() throws Exception {
 
-		CreateAccountDTO requestDTO = createAccountDTO(1000.0, "SAVINGS", 1);
-		Account createdAccount = createAccount(1, "A000001", 1000.0,
+		Integer accountId = 1;
+		Account account = createAccount(accountId, "A000001", 1500.0,
 				AccountType.SAVINGS, 1, true);
+		when(accountService.getAccountById(accountId)).thenReturn(account);
 
-		when(accountService.createAccount(any(CreateAccountDTO.class))).thenReturn(createdAccount);
-
-		mockMvc.perform(post("/api/v1/accounts")
-						.contentType(MediaType.APPLICATION_JSON)
-						.content(toJson(requestDTO))
+		mockMvc.perform(get("/api/v1/accounts/{accountId}", accountId)
 						.accept(MediaType.APPLICATION_JSON))
-				.andExpect(status().isCreated())
-				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
-				.andExpect(jsonPath("$.accountId").value(1))
-				.andExpect(jsonPath("$.accountNumber").value("A000001"))
-				.andExpect(jsonPath("$.balance").value(1000.0))
-				.andExpect(jsonPath("$.accountType").value("SAVINGS"))
-				.andExpect(jsonPath("$.customerId").value(1))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag",
+						ETagGenerator.forAccount(accountId, account.getUpdateDate())))
 				.andDo(print());
 
-		verify(accountService).createAccount(any(CreateAccountDTO.class));
+		verify(accountService, never()).getAccountLastModified(any());
 	}
 
 	@Test
-	@DisplayName("POST /api/v1/accounts - creates checking account successfully")
-	void createAccount_WithCheckingType_ReturnsCreatedAccount() throws Exception {
-		CreateAccountDTO requestDTO = createAccountDTO(500.0, "CHECKING", 1);
-		Account createdAccount = createAccount(2, "A000002", 500.0,
-				AccountType.CHECKING, 1, true);
+	@DisplayName("GET /api/v1/accounts/{accountId} - returns 304 when ETag matches")
+	void getAccountById_WithMatchingIfNoneMatch_ReturnsNotModified() throws Exception {
 
-		when(accountService.createAccount(any(CreateAccountDTO.class))).thenReturn(createdAccount);
+		Integer accountId = 1;
+		LocalDateTime updateDate = LocalDateTime.of(2026, 1, 30, 10, 15, 30);
+		String eTag = ETagGenerator.forAccount(accountId, updateDate);
+		when(accountService.getAccountLastModified(accountId)).thenReturn(updateDate);
 
-		mockMvc.perform(post("/api/v1/accounts")
-						.contentType(MediaType.APPLICATION_JSON)
-						.content(toJson(requestDTO))
+		mockMvc.perform(get("/api/v1/accounts/{accountId}", accountId)
+						.header("If-None-Match", eTag)
 						.accept(MediaType.APPLICATION_JSON))
-				.andExpect(status().isCreated())
-				.andExpect(jsonPath("$.accountType").value("CHECKING"))
-				.andExpect(jsonPath("$.balance").value(500.0))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string("ETag", eTag))
+				.andExpect(content().string(""))
 				.andDo(print());
 
-		verify(accountService).createAccount(any(CreateAccountDTO.class));
+		verify(accountService).getAccountLastModified(accountId);
+		verify(accountService, never()).getAccountById(any());
 	}
 
 	@Test
-	@DisplayName("POST /api/v1/accounts - creates account with zero initial balance")
-	void createAccount_WithZeroBalance_ReturnsCreatedAccount() throws Exception {
+	@DisplayName("GET /api/v1/accounts/{accountId} - returns 200 when ETag is stale")
+	void getAccountById_WithStaleIfNoneMatch_ReturnsAccount() throws Exception {
 
-		CreateAccountDTO requestDTO = createAccountDTO(0.0, "SAVINGS", 1);
-		Account createdAccount = createAccount(3, "A000003", 0.0,
+		Integer accountId = 1;
+		Account account = createAccount(accountId, "A000001", 1500.0,
 				AccountType.SAVINGS, 1, true);
+		String staleETag = ETagGenerator.forAccount(accountId, account.getUpdateDate().minusSeconds(5));
+		when(accountService.getAccountLastModified(accountId)).thenReturn(account.getUpdateDate());
+		when(accountService.getAccountById(accountId)).thenReturn(account);
 
-		when(accountService.createAccount(any(CreateAccountDTO.class))).thenReturn(createdAccount);
-
-		mockMvc.perform(post("/api/v1/accounts")
-						.contentType(MediaType.APPLICATION_JSON)
-						.content(toJson(requestDTO))
+		mockMvc.perform(get("/api/v1/accounts/{accountId}", accountId)
+						.header("If-None-Match", staleETag)
 						.accept(MediaType.APPLICATION_JSON))
-				.andExpect(status().isCreated())
-				.andExpect(jsonPath("$.balance").value(0.0))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag",
+						ETagGenerator.forAccount(accountId, account.getUpdateDate())))
+				.andExpect(jsonPath("$.balance").value(1500.0))
 				.andDo(print());
 
-		verify(accountService).createAccount(any(CreateAccountDTO.class));
+		verify(accountService).getAccountById(accountId);
 	}
 
 	@Test
-	@DisplayName("POST /api/v1/accounts - returns 400 when customer does not exist")
-	void createAccount_WithNonExistentCustomer_ReturnsBadRequest() throws Exception {
+	@DisplayName("GET /api/v1/accounts/{accountId}/balance - returns balance only")
+	void getAccountBalance_WithValidId_ReturnsBalance() throws Exception {
 
-		CreateAccountDTO requestDTO = createAccountDTO(1000.0, "SAVINGS", 999);
+		when(accountService.getBalanceByAccountId(1)).thenReturn(750.5);
 
-		when(accountService.createAccount(any(CreateAccountDTO.class)))
-				.thenThrow(new AccountValidationException("Customer not found for ID: 999"));
-
-		mockMvc.perform(post("/api/v1/accounts")
-						.contentType(MediaType.APPLICATION_JSON)
-						.content(toJson(requestDTO))
+		mockMvc.perform(get("/api/v1/accounts/{accountId}/balance", 1)
 						.accept(MediaType.APPLICATION_JSON))
-				.andExpect(status().isBadRequest())
-				.andExpect(jsonPath("$.message").value("Customer not found for ID: 999"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accountId").value(1))
+				.andExpect(jsonPath("$.balance").value(750.5))
+				.andExpect(jsonPath("$.accountNumber").doesNotExist())
 				.andDo(print());
 
-		verify(accountService).createAccount(any(CreateAccountDTO.class));
+		verify(accountService).getBalanceByAccountId(1);
+		verify(accountService, never()).getAccountById(any());
 	}
 
 	@Test
-	@DisplayName("POST /api/v1/accounts - returns 400 when customer is inactive")
-	void createAccount_WithInactiveCustomer_ReturnsBadRequest() throws Exception {
+	@DisplayName("GET /api/v1/accounts/{accountId}/balance - returns 404 when account not found")
+	void getAccountBalance_WithNonExistentId_ReturnsNotFound() throws Exception {
 
-		CreateAccountDTO requestDTO = createAccountDTO(1000.0, "CHECKING", 5);
+		when(accountService.getBalanceByAccountId(999))
+				.thenThrow(new AccountNotFoundException("The account with ID 999 does not exist."));
 
-		when(accountService.createAccount(any(CreateAccountDTO.class)))
-				.thenThrow(new AccountValidationException("Customer is not active for ID: 5"));
-
-		mockMvc.perform(post("/api/v1/accounts")
-						.contentType(MediaType.APPLICATION_JSON)
-						.content(toJson(requestDTO))
+		mockMvc.perform(get("/api/v1/accounts/{accountId}/balance", 999)
 						.accept(MediaType.APPLICATION_JSON))
-				.andExpect(status().isBadRequest())
-				.andExpect(jsonPath("$.message").value("Customer is not active for ID: 5"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.message").value("The account with ID 999 does not exist."))
 				.andDo(print());
-
-		verify(accountService).createAccount(any(CreateAccountDTO.class));
 	}
 
-	@ParameterizedTest
-	@MethodSource("invalidCreateAccountDTOs")
-	@DisplayName("POST /api/v1/accounts - returns 400 for invalid input data")
-	void createAccount_WithInvalidData_ReturnsBadRequest(CreateAccountDTO invalidDTO)
-			throws Exception {
+	@Test
+	@DisplayName("GET /api/v1/accounts/balances - returns balances of several accounts")
+	void getAccountBalances_WithValidIds_ReturnsBalances() throws Exception {
+
+		when(accountService.getBalancesByAccountIds(List.of(2, 1)))
+				.thenReturn(List.of(new AccountBalanceView(2, 500.0),
+						new AccountBalanceView(1, 1000.0)));
 
-		mockMvc.perform(post("/api/v1/accounts")
-						.contentType(MediaType.APPLICATION_JSON)
-						.content(toJson(invalidDTO))
+		mockMvc.perform(get("/api/v1/accounts/balances")
+						.param("accountIds", "2,1")
 						.accept(MediaType.APPLICATION_JSON))
-				.andExpect(status().isBadRequest())
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0].accountId").value(2))
+				.andExpect(jsonPath("$[0].balance").value(500.0))
+				.andExpect(jsonPath("$[1].accountId").value(1))
 				.andDo(print());
 
-		verifyNoInteractions(accountService);
-	}
-
-	static Stream<CreateAccountDTO> invalidCreateAccountDTOs() {
-		return Stream.of(
-				// Negative balance
-				new CreateAccountDTO(-100.0, "SAVINGS", 1),
-				// Null balance
-				new CreateAccountDTO(null, "SAVINGS", 1),
-				// Invalid account type
-				new CreateAccountDTO(100.0, "INVALID", 1),
-				// Null account type
-				new CreateAccountDTO(100.0, null, 1),
-				// Null customer ID
-				new CreateAccountDTO(100.0, "SAVINGS", null)
-		);
+		verify(accountService).getBalancesByAccountIds(List.of(2, 1));
 	}
 
 	@Test
@@ -444,6 +424,179 @@ class AccountControllerTest {
 		verify(accountService).getAccountsByCustomerId(customerId);
 	}
 
+	@Test
+	@DisplayName("GET /api/v1/accounts/customer/{customerId} - returns 304 when ETag matches")
+	void getAccountsByCustomerId_WithMatchingIfNoneMatch_ReturnsNotModified() throws Exception {
+
+		Integer customerId = 1;
+		LocalDateTime lastUpdateDate = LocalDateTime.of(2026, 1, 30, 10, 15, 30);
+		String eTag = ETagGenerator.forCustomerAccounts(customerId, 2, lastUpdateDate);
+		AccountsVersionView version = mock(AccountsVersionView.class);
+		when(version.getAccountCount()).thenReturn(2L);
+		when(version.getLastUpdateDate()).thenReturn(lastUpdateDate);
+		when(accountService.getAccountsVersionByCustomerId(customerId)).thenReturn(version);
+
+		mockMvc.perform(get("/api/v1/accounts/customer/{customerId}", customerId)
+						.header("If-None-Match", "\"other\", W/" + eTag)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string("ETag", eTag))
+				.andDo(print());
+
+		verify(accountService, never()).getAccountsByCustomerId(any());
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/customers - returns accounts grouped by customer")
+	void getAccountsByCustomerIds_WithMixedCustomers_ReturnsGroupedAccounts() throws Exception {
+
+		Map<Integer, List<Account>> accountsByCustomer = new LinkedHashMap<>();
+		accountsByCustomer.put(1, Arrays.asList(
+				createAccount(1, "A000001", 1000.0, AccountType.SAVINGS, 1, true),
+				createAccount(2, "A000002", 500.0, AccountType.CHECKING, 1, true)));
+		accountsByCustomer.put(999, Collections.emptyList());
+
+		when(accountService.getAccountsByCustomerIds(List.of(1, 999)))
+				.thenReturn(accountsByCustomer);
+
+		mockMvc.perform(get("/api/v1/accounts/customers")
+						.param("customerIds", "1,999")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0].customerId").value(1))
+				.andExpect(jsonPath("$[0].accounts.length()").value(2))
+				.andExpect(jsonPath("$[0].accounts[1].accountNumber").value("A000002"))
+				.andExpect(jsonPath("$[1].customerId").value(999))
+				.andExpect(jsonPath("$[1].accounts.length()").value(0))
+				.andDo(print());
+
+		verify(accountService).getAccountsByCustomerIds(List.of(1, 999));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/customer/{customerId}/summary - returns customer totals")
+	void getCustomerBalanceSummary_WithAccounts_ReturnsTotals() throws Exception {
+
+		when(accountService.getBalanceSummaryByCustomerId(1)).thenReturn(List.of(
+				new CustomerBalanceSummary(1, AccountType.CHECKING, 500.0, 1, 1),
+				new CustomerBalanceSummary(1, AccountType.SAVINGS, 1000.0, 2, 1)));
+
+		mockMvc.perform(get("/api/v1/accounts/customer/{customerId}/summary", 1)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.customerId").value(1))
+				.andExpect(jsonPath("$.totalBalance").value(1500.0))
+				.andExpect(jsonPath("$.accountCount").value(3))
+				.andExpect(jsonPath("$.activeCount").value(2))
+				.andExpect(jsonPath("$.accountTypes.length()").value(2))
+				.andExpect(jsonPath("$.accountTypes[1].accountType").value("SAVINGS"))
+				.andExpect(jsonPath("$.accountTypes[1].accountCount").value(2))
+				.andDo(print());
+
+		verify(accountService).getBalanceSummaryByCustomerId(1);
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/customer/{customerId}/summary - returns 404 when no accounts")
+	void getCustomerBalanceSummary_WithNoAccounts_ReturnsNotFound() throws Exception {
+
+		when(accountService.getBalanceSummaryByCustomerId(999)).thenThrow(
+				new AccountNotFoundException("No accounts found with customer ID: 999"));
+
+		mockMvc.perform(get("/api/v1/accounts/customer/{customerId}/summary", 999)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.message").value("No accounts found with customer ID: 999"))
+				.andDo(print());
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/search - returns a page with the next cursor")
+	void searchAccounts_WithMorePages_ReturnsPageWithNextCursor() throws Exception {
+
+		List<Account> accounts = Arrays.asList(
+				createAccount(3, "A000003", 1000.0, AccountType.SAVINGS, 1, true),
+				createAccount(7, "A000007", 500.0, AccountType.SAVINGS, 2, true));
+
+		when(accountService.searchAccounts(any(AccountSearchCriteriaDTO.class)))
+				.thenReturn(new SliceImpl<>(accounts, Pageable.ofSize(2), true));
+
+		mockMvc.perform(get("/api/v1/accounts/search")
+						.param("accountType", "SAVINGS")
+						.param("active", "true")
+						.param("minBalance", "100")
+						.param("createdFrom", "2026-01-01T00:00:00")
+						.param("after", "2")
+						.param("limit", "2")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accounts.length()").value(2))
+				.andExpect(jsonPath("$.accounts[0].accountId").value(3))
+				.andExpect(jsonPath("$.nextCursor").value(7))
+				.andDo(print());
+
+		verify(accountService).searchAccounts(argThat(criteria ->
+				"SAVINGS".equals(criteria.getAccountType())
+						&& Boolean.TRUE.equals(criteria.getActive())
+						&& criteria.getMinBalance() == 100.0
+						&& LocalDateTime.of(2026, 1, 1, 0, 0).equals(criteria.getCreatedFrom())
+						&& criteria.getAfter() == 2
+						&& criteria.getLimit() == 2));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/search - omits the cursor on the last page")
+	void searchAccounts_WithLastPage_ReturnsPageWithoutCursor() throws Exception {
+
+		when(accountService.searchAccounts(any(AccountSearchCriteriaDTO.class)))
+				.thenReturn(new SliceImpl<>(List.of(
+						createAccount(1, "A000001", 0.0, AccountType.CHECKING, 1, false)),
+						Pageable.ofSize(50), false));
+
+		mockMvc.perform(get("/api/v1/accounts/search")
+						.param("active", "false")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accounts.length()").value(1))
+				.andExpect(jsonPath("$.nextCursor").doesNotExist())
+				.andDo(print());
+
+		verify(accountService).searchAccounts(argThat(criteria ->
+				criteria.getLimit() == AccountSearchCriteriaDTO.DEFAULT_LIMIT));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/search - returns 400 when the limit is too large")
+	void searchAccounts_WithTooLargeLimit_ReturnsBadRequest() throws Exception {
+
+		mockMvc.perform(get("/api/v1/accounts/search")
+						.param("limit", "500")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest())
+				.andDo(print());
+
+		verifyNoInteractions(accountService);
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/customers - returns 400 when too many IDs are requested")
+	void getAccountsByCustomerIds_WithTooManyIds_ReturnsBadRequest() throws Exception {
+
+		when(accountService.getAccountsByCustomerIds(anyList()))
+				.thenThrow(new AccountValidationException(
+						"A maximum of 100 customer IDs can be requested at once."));
+
+		mockMvc.perform(get("/api/v1/accounts/customers")
+						.param("customerIds", "1,2,3")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message")
+						.value("A maximum of 100 customer IDs can be requested at once."))
+				.andDo(print());
+	}
+
 	/*@Test
 	@DisplayName("DELETE /api/v1/accounts/{accountId} - deletes account with zero balance")
 	void deleteAccountById_WithZeroBalance_ReturnsNoContent() throws Exception {
@@ -515,13 +668,4 @@ class AccountControllerTest {
 				.active(active)
 				.build();
 	}
-
-	private CreateAccountDTO createAccountDTO(Double balance, String accountType,
-											  Integer customerId) {
-		return new CreateAccountDTO(balance, accountType, customerId);
-	}
-
-	private String toJson(Object object) throws Exception {
-		return objectMapper.writeValueAsString(object);
-	}
 }
\ No newline at end of file
@@ -0,0 +1,258 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.service.IAccountService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link AccountCreationController}.
+ */
+@WebMvcTest(AccountCreationController.class)
+class AccountCreationControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockitoBean
+	private IAccountService accountService;
+
+	@Test
+	@DisplayName("POST /api/v1/accounts - creates account successfully")
+	void createAccount_WithValidData_ReturnsCreatedAccount() throws Exception {
+
+		CreateAccountDTO requestDTO = createAccountDTO(1000.0, "SAVINGS", 1);
+		Account createdAccount = createAccount(1, "A000001", 1000.0,
+				AccountType.SAVINGS, 1, true);
+
+		when(accountService.createAccount(any(CreateAccountDTO.class)))
+				.thenReturn(CompletableFuture.completedFuture(createdAccount));
+
+		MvcResult pending = mockMvc.perform(post("/api/v1/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(toJson(requestDTO))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isCreated())
+				.andExpect(content().contentType(MediaType.APPLICATION_JSON))
+				.andExpect(jsonPath("$.accountId").value(1))
+				.andExpect(jsonPath("$.accountNumber").value("A000001"))
+				.andExpect(jsonPath("$.balance").value(1000.0))
+				.andExpect(jsonPath("$.accountType").value("SAVINGS"))
+				.andExpect(jsonPath("$.customerId").value(1))
+				.andDo(print());
+
+		verify(accountService).createAccount(any(CreateAccountDTO.class));
+	}
+
+	@Test
+	@DisplayName("POST /api/v1/accounts - creates checking account successfully")
+	void createAccount_WithCheckingType_ReturnsCreatedAccount() throws Exception {
+		CreateAccountDTO requestDTO = createAccountDTO(500.0, "CHECKING", 1);
+		Account createdAccount = createAccount(2, "A000002", 500.0,
+				AccountType.CHECKING, 1, true);
+
+		when(accountService.createAccount(any(CreateAccountDTO.class)))
+				.thenReturn(CompletableFuture.completedFuture(createdAccount));
+
+		MvcResult pending = mockMvc.perform(post("/api/v1/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(toJson(requestDTO))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.accountType").value("CHECKING"))
+				.andExpect(jsonPath("$.balance").value(500.0))
+				.andDo(print());
+
+		verify(accountService).createAccount(any(CreateAccountDTO.class));
+	}
+
+	@Test
+	@DisplayName("POST /api/v1/accounts - creates account with zero initial balance")
+	void createAccount_WithZeroBalance_ReturnsCreatedAccount() throws Exception {
+
+		CreateAccountDTO requestDTO = createAccountDTO(0.0, "SAVINGS", 1);
+		Account createdAccount = createAccount(3, "A000003", 0.0,
+				AccountType.SAVINGS, 1, true);
+
+		when(accountService.createAccount(any(CreateAccountDTO.class)))
+				.thenReturn(CompletableFuture.completedFuture(createdAccount));
+
+		MvcResult pending = mockMvc.perform(post("/api/v1/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(toJson(requestDTO))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.balance").value(0.0))
+				.andDo(print());
+
+		verify(accountService).createAccount(any(CreateAccountDTO.class));
+	}
+
+	@Test
+	@DisplayName("POST /api/v1/accounts - returns 400 when customer does not exist")
+	void createAccount_WithNonExistentCustomer_ReturnsBadRequest() throws Exception {
+
+		CreateAccountDTO requestDTO = createAccountDTO(1000.0, "SAVINGS", 999);
+
+		when(accountService.createAccount(any(CreateAccountDTO.class)))
+				.thenReturn(CompletableFuture.failedFuture(
+						new AccountValidationException("Customer not found for ID: 999")));
+
+		MvcResult pending = mockMvc.perform(post("/api/v1/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(toJson(requestDTO))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Customer not found for ID: 999"))
+				.andDo(print());
+
+		verify(accountService).createAccount(any(CreateAccountDTO.class));
+	}
+
+	@Test
+	@DisplayName("POST /api/v1/accounts - returns 400 when customer is inactive")
+	void createAccount_WithInactiveCustomer_ReturnsBadRequest() throws Exception {
+
+		CreateAccountDTO requestDTO = createAccountDTO(1000.0, "CHECKING", 5);
+
+		when(accountService.createAccount(any(CreateAccountDTO.class)))
+				.thenReturn(CompletableFuture.failedFuture(
+						new AccountValidationException("Customer is not active for ID: 5")));
+
+		MvcResult pending = mockMvc.perform(post("/api/v1/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(toJson(requestDTO))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message").value("Customer is not active for ID: 5"))
+				.andDo(print());
+
+		verify(accountService).createAccount(any(CreateAccountDTO.class));
+	}
+
+	@Test
+	@DisplayName("POST /api/v1/accounts - returns 503 when the customer service is unavailable")
+	void createAccount_WithCustomerServiceDown_ReturnsServiceUnavailable() throws Exception {
+
+		CreateAccountDTO requestDTO = createAccountDTO(1000.0, "SAVINGS", 1);
+
+		when(accountService.createAccount(any(CreateAccountDTO.class)))
+				.thenReturn(CompletableFuture.failedFuture(new CompletionException(
+						new ExternalServiceException("Customer service down"))));
+
+		MvcResult pending = mockMvc.perform(post("/api/v1/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(toJson(requestDTO))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mockMvc.perform(asyncDispatch(pending))
+				.andExpect(status().isServiceUnavailable())
+				.andExpect(jsonPath("$.message").value("Customer service down"))
+				.andDo(print());
+	}
+
+	@ParameterizedTest
+	@MethodSource("invalidCreateAccountDTOs")
+	@DisplayName("POST /api/v1/accounts - returns 400 for invalid input data")
+	void createAccount_WithInvalidData_ReturnsBadRequest(CreateAccountDTO invalidDTO)
+			throws Exception {
+
+		mockMvc.perform(post("/api/v1/accounts")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(toJson(invalidDTO))
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest())
+				.andDo(print());
+
+		verifyNoInteractions(accountService);
+	}
+
+	static Stream<CreateAccountDTO> invalidCreateAccountDTOs() {
+		return Stream.of(
+				// Negative balance
+				new CreateAccountDTO(-100.0, "SAVINGS", 1),
+				// Null balance
+				new CreateAccountDTO(null, "SAVINGS", 1),
+				// Invalid account type
+				new CreateAccountDTO(100.0, "INVALID", 1),
+				// Null account type
+				new CreateAccountDTO(100.0, null, 1),
+				// Null customer ID
+				new CreateAccountDTO(100.0, "SAVINGS", null)
+		);
+	}
+
+	private Account createAccount(Integer id, String accountNumber,
+								  double balance, AccountType type,
+								  Integer customerId, boolean active) {
+		return Account.builder()
+				.accountId(id)
+				.accountNumber(accountNumber)
+				.balance(balance)
+				.accountType(type)
+				.customerId(customerId)
+				.creationDate(LocalDateTime.now())
+				.updateDate(LocalDateTime.now())
+				.active(active)
+				.build();
+	}
+
+	private CreateAccountDTO createAccountDTO(Double balance, String accountType,
+											  Integer customerId) {
+		return new CreateAccountDTO(balance, accountType, customerId);
+	}
+
+	private String toJson(Object object) throws Exception {
+		return objectMapper.writeValueAsString(object);
+	}
+}
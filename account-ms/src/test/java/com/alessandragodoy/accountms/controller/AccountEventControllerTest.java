@@ -0,0 +1,59 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.event.AccountEventBroadcaster;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link AccountEventController}.
+ */
+@WebMvcTest(AccountEventController.class)
+class AccountEventControllerTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@MockitoBean
+	AccountEventBroadcaster accountEventBroadcaster;
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/events - opens a stream filtered by customer")
+	void streamAccountEvents_WithCustomerId_StartsEventStream() throws Exception {
+
+		when(accountEventBroadcaster.subscribe(null, 7)).thenReturn(new SseEmitter());
+
+		mockMvc.perform(get("/api/v1/accounts/events")
+						.param("customerId", "7")
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(status().isOk())
+				.andExpect(request().asyncStarted())
+				.andDo(print());
+
+		verify(accountEventBroadcaster).subscribe(null, 7);
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/events - returns 400 without account or customer")
+	void streamAccountEvents_WithoutFilters_ReturnsBadRequest() throws Exception {
+
+		mockMvc.perform(get("/api/v1/accounts/events")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message")
+						.value("An account ID or a customer ID must be provided."))
+				.andDo(print());
+
+		verifyNoInteractions(accountEventBroadcaster);
+	}
+}
@@ -0,0 +1,69 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.service.IBalanceHistoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link BalanceHistoryController}.
+ */
+@WebMvcTest(BalanceHistoryController.class)
+class BalanceHistoryControllerTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@MockitoBean
+	IBalanceHistoryService balanceHistoryService;
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/{id}/balance/as-of - returns the balance at that time")
+	void getAccountBalanceAsOf_WithTimestamp_ReturnsBalance() throws Exception {
+
+		String timestamp = "2026-01-30T10:15:30Z";
+		LocalDateTime asOf = OffsetDateTime.parse(timestamp)
+				.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+
+		when(balanceHistoryService.getBalanceAsOf(1, asOf)).thenReturn(750.0);
+
+		mockMvc.perform(get("/api/v1/accounts/1/balance/as-of")
+						.param("timestamp", timestamp))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.accountId").value(1))
+				.andExpect(jsonPath("$.balance").value(750.0))
+				.andExpect(jsonPath("$.asOf").exists())
+				.andDo(print());
+
+		verify(balanceHistoryService).getBalanceAsOf(1, asOf);
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/accounts/{id}/balance/as-of - returns 404 when account not found")
+	void getAccountBalanceAsOf_WithNonExistentAccount_ReturnsNotFound() throws Exception {
+
+		when(balanceHistoryService.getBalanceAsOf(eq(999), any(LocalDateTime.class)))
+				.thenThrow(new AccountNotFoundException("The account with ID 999 does not exist."));
+
+		mockMvc.perform(get("/api/v1/accounts/999/balance/as-of")
+						.param("timestamp", "2026-01-30T10:15:30Z"))
+				.andExpect(status().isNotFound())
+				.andExpect(jsonPath("$.message").value("The account with ID 999 does not exist."))
+				.andDo(print());
+	}
+}
@@ -0,0 +1,73 @@
+package com.alessandragodoy.accountms.controller;
+
+import com.alessandragodoy.accountms.dto.BulkAccountResultDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.service.IBulkAccountService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for {@link BulkAccountController}.
+ */
+@WebMvcTest(BulkAccountController.class)
+class BulkAccountControllerTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@MockitoBean
+	IBulkAccountService bulkAccountService;
+
+	@Test
+	@DisplayName("POST /api/v1/accounts/bulk - returns the outcome of every item")
+	void createAccounts_WithItems_ReturnsResults() throws Exception {
+
+		when(bulkAccountService.createAccounts(anyList())).thenReturn(List.of(
+				new BulkAccountResultDTO(0, 1, BulkAccountResultDTO.Status.CREATED, 3,
+						"ACC-123", null),
+				new BulkAccountResultDTO(1, 2, BulkAccountResultDTO.Status.FAILED, null, null,
+						"Customer is inactive")));
+
+		mockMvc.perform(post("/api/v1/accounts/bulk")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[{\"balance\":100.0,\"accountType\":\"SAVINGS\",\"customerId\":1}," +
+								"{\"balance\":50.0,\"accountType\":\"SAVINGS\",\"customerId\":2}]"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.created").value(1))
+				.andExpect(jsonPath("$.failed").value(1))
+				.andExpect(jsonPath("$.results[0].status").value("CREATED"))
+				.andExpect(jsonPath("$.results[0].accountId").value(3))
+				.andExpect(jsonPath("$.results[1].message").value("Customer is inactive"))
+				.andExpect(jsonPath("$.results[1].accountId").doesNotExist())
+				.andDo(print());
+	}
+
+	@Test
+	@DisplayName("POST /api/v1/accounts/bulk - returns 400 when the request has too many items")
+	void createAccounts_WithTooManyItems_ReturnsBadRequest() throws Exception {
+
+		when(bulkAccountService.createAccounts(anyList())).thenThrow(new AccountValidationException(
+				"At most 1000 accounts can be created in a single request."));
+
+		mockMvc.perform(post("/api/v1/accounts/bulk")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content("[{\"balance\":100.0,\"accountType\":\"SAVINGS\",\"customerId\":1}]"))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.message")
+						.value("At most 1000 accounts can be created in a single request."))
+				.andDo(print());
+	}
+}
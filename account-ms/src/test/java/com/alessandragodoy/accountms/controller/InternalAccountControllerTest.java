@@ -18,6 +18,7 @@ import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -282,6 +283,17 @@ class InternalAccountControllerTest {
 		verify(internalAccountService).accountIsActiveByCustomerId(customerId);
 	}
 
+	@Test
+	@DisplayName("DELETE /customer-validation/{customerId} - evicts the cached validation")
+	void evictCustomerValidation_ReturnsNoContent() throws Exception {
+
+		mockMvc.perform(delete("/api/v1/internal/accounts/customer-validation/{customerId}", 1))
+				.andExpect(status().isNoContent())
+				.andDo(print());
+
+		verify(internalAccountService).evictCustomerValidation(1);
+	}
+
 	private TransferRequestDTO createTransferRequestDTO(String transactionType,
 														Integer sourceAccountId,
 														Integer destinationAccountId,
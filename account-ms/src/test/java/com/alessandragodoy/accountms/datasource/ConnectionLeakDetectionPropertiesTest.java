@@ -0,0 +1,46 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Binding tests for ConnectionLeakDetectionProperties.
+ */
+class ConnectionLeakDetectionPropertiesTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(LeakDetectionPropertiesConfig.class);
+
+	@Test
+	@DisplayName("binds the threshold and check interval")
+	void bind_WithDurations_BindsValues() {
+
+		contextRunner
+				.withPropertyValues("datasource.leak-detection.enabled=true",
+						"datasource.leak-detection.threshold=2m",
+						"datasource.leak-detection.check-interval=500ms")
+				.run(context -> assertThat(context.getBean(ConnectionLeakDetectionProperties.class))
+						.isEqualTo(new ConnectionLeakDetectionProperties(true,
+								Duration.ofMinutes(2), Duration.ofMillis(500))));
+	}
+
+	@Test
+	@DisplayName("defaults to disabled, with a 30 second threshold checked every 5 seconds")
+	void bind_WithoutProperties_UsesDefaults() {
+
+		contextRunner.run(context -> assertThat(
+				context.getBean(ConnectionLeakDetectionProperties.class))
+				.isEqualTo(new ConnectionLeakDetectionProperties(false,
+						Duration.ofSeconds(30), Duration.ofSeconds(5))));
+	}
+
+	@EnableConfigurationProperties(ConnectionLeakDetectionProperties.class)
+	static class LeakDetectionPropertiesConfig {
+	}
+}
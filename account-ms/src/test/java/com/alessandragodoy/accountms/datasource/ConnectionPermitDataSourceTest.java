@@ -0,0 +1,181 @@
+package com.alessandragodoy.accountms.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConnectionPermitDataSource.
+ * Tests that connections are only handed out to permit holders and that permits are returned.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConnectionPermitDataSourceTest {
+
+	@Mock
+	private DataSource target;
+
+	@Mock
+	private Connection connection;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("getConnection - closing the connection returns its permit, once")
+	void getConnection_WhenClosed_ReleasesPermitOnce() throws SQLException {
+
+		when(target.getConnection()).thenReturn(connection);
+		ConnectionPermitDataSource dataSource = dataSource(1, 0, Duration.ZERO);
+
+		Connection first = dataSource.getConnection();
+		first.close();
+		first.close();
+		Connection second = dataSource.getConnection();
+
+		assertThat(second).isNotNull();
+		assertThat(meterRegistry.get("datasource.permits.available").gauge().value()).isZero();
+		verify(connection, times(2)).close();
+	}
+
+	@Test
+	@DisplayName("getConnection - rejects at once when too many callers are waiting")
+	void getConnection_WhenWaitingQueueFull_RejectsImmediately() throws Exception {
+
+		when(target.getConnection()).thenReturn(connection);
+		ConnectionPermitDataSource dataSource = dataSource(1, 0, Duration.ofMinutes(1));
+		holdPermitOnAnotherThread(dataSource);
+
+		assertThatThrownBy(dataSource::getConnection)
+				.isInstanceOf(SQLTransientConnectionException.class)
+				.hasMessageContaining("Too many callers");
+		assertThat(meterRegistry.get("datasource.permits.rejected").tag("reason", "queue-full")
+				.counter().count()).isEqualTo(1);
+		verify(target, times(1)).getConnection();
+	}
+
+	@Test
+	@DisplayName("getConnection - a waiting caller gets the permit when a connection is closed")
+	void getConnection_WhenPermitReleased_WakesWaitingCaller() throws Exception {
+
+		when(target.getConnection()).thenReturn(connection);
+		ConnectionPermitDataSource dataSource = dataSource(1, 1, Duration.ofMinutes(1));
+		Connection held = dataSource.getConnection();
+
+		CompletableFuture<Connection> waiting = CompletableFuture.supplyAsync(() -> {
+			try {
+				return dataSource.getConnection();
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("datasource.permits.waiting").gauge().value() < 1
+				&& System.nanoTime() < deadline) {
+			Thread.sleep(5);
+		}
+		assertThat(waiting).isNotDone();
+		held.close();
+
+		assertThat(waiting.get(5, TimeUnit.SECONDS)).isNotNull();
+	}
+
+	@Test
+	@DisplayName("getConnection - rejects a caller that waited longer than the timeout")
+	void getConnection_WhenTimedOut_Rejects() throws Exception {
+
+		when(target.getConnection()).thenReturn(connection);
+		ConnectionPermitDataSource dataSource = dataSource(1, 1, Duration.ofMillis(20));
+		holdPermitOnAnotherThread(dataSource);
+
+		assertThatThrownBy(dataSource::getConnection)
+				.isInstanceOf(SQLTransientConnectionException.class)
+				.hasMessageContaining("Timed out");
+		assertThat(meterRegistry.get("datasource.permits.rejected").tag("reason", "timeout")
+				.counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("getConnection - returns the permit when the target fails")
+	void getConnection_WhenTargetFails_ReleasesPermit() throws SQLException {
+
+		when(target.getConnection())
+				.thenThrow(new SQLException("Connection refused"))
+				.thenReturn(connection);
+		ConnectionPermitDataSource dataSource = dataSource(1, 0, Duration.ZERO);
+
+		assertThatThrownBy(dataSource::getConnection).hasMessage("Connection refused");
+		assertThat(dataSource.getConnection()).isNotNull();
+	}
+
+	@Test
+	@DisplayName("getConnection - a permit holder opens nested connections without another permit")
+	void getConnection_WhenThreadHoldsPermit_DoesNotWaitForAnother() throws Exception {
+
+		when(target.getConnection()).thenReturn(connection);
+		ConnectionPermitDataSource dataSource = dataSource(1, 0, Duration.ZERO);
+		Connection outer = dataSource.getConnection();
+
+		Connection nested = dataSource.getConnection();
+		nested.close();
+		assertThat(meterRegistry.get("datasource.permits.available").gauge().value()).isZero();
+		outer.close();
+
+		assertThat(meterRegistry.get("datasource.permits.available").gauge().value()).isEqualTo(1);
+		verify(target, times(2)).getConnection();
+	}
+
+	@Test
+	@DisplayName("setMaxConcurrent - a lower number takes effect as held permits are returned")
+	void setMaxConcurrent_WhenLowered_TakesEffectOnRelease() throws SQLException {
+
+		when(target.getConnection()).thenReturn(connection);
+		ConnectionPermitDataSource dataSource = dataSource(2, 0, Duration.ZERO);
+		Connection held = dataSource.getConnection();
+
+		dataSource.setMaxConcurrent(1);
+		assertThat(meterRegistry.get("datasource.permits.available").gauge().value()).isZero();
+		held.close();
+		assertThat(meterRegistry.get("datasource.permits.available").gauge().value()).isEqualTo(1);
+		dataSource.setMaxConcurrent(3);
+
+		assertThat(dataSource.getMaxConcurrent()).isEqualTo(3);
+		assertThat(meterRegistry.get("datasource.permits.available").gauge().value()).isEqualTo(3);
+	}
+
+	private void holdPermitOnAnotherThread(ConnectionPermitDataSource dataSource) throws Exception {
+		CompletableFuture.runAsync(() -> {
+			try {
+				dataSource.getConnection();
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}).get(5, TimeUnit.SECONDS);
+	}
+
+	private ConnectionPermitDataSource dataSource(int maxConcurrent, int maxWaiting,
+												  Duration acquireTimeout) {
+		return new ConnectionPermitDataSource(target,
+				new ConnectionPermitProperties(true, maxConcurrent, maxWaiting, acquireTimeout),
+				meterRegistry);
+	}
+}
@@ -0,0 +1,93 @@
+package com.alessandragodoy.accountms.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ConsistencyTokenFilter.
+ * Tests validation of the consistency token header and its binding to the request thread.
+ */
+class ConsistencyTokenFilterTest {
+
+	private static final String HEADER = "X-Consistency-Token";
+	private static final String TOKEN = "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27,"
+			+ "4f22ab58-82db-22f2-8f44-d91bb9530673:1-5:7";
+
+	private ConsistencyTokenFilter filter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+		filter = new ConsistencyTokenFilter(new DataSourceRoutingProperties(true, List.of(),
+				null, null, HEADER));
+		request = new MockHttpServletRequest();
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	@DisplayName("doFilter - binds a GTID set token while the request is handled")
+	void doFilter_WithGtidSetToken_BindsTokenDuringChain() throws ServletException, IOException {
+
+		request.addHeader(HEADER, " " + TOKEN + " ");
+		AtomicReference<String> seen = new AtomicReference<>();
+
+		filter.doFilter(request, response, (req, res) -> seen.set(ConsistencyTokenHolder.get()));
+
+		assertThat(seen.get()).isEqualTo(TOKEN);
+		assertThat(ConsistencyTokenHolder.get()).isNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("doFilter - rejects a token that is not a GTID set without handling the request")
+	void doFilter_WithMalformedToken_Returns400() throws ServletException, IOException {
+
+		request.addHeader(HEADER, "1718000000000");
+		AtomicReference<Boolean> handled = new AtomicReference<>(false);
+
+		filter.doFilter(request, response, (req, res) -> handled.set(true));
+
+		assertThat(handled.get()).isFalse();
+		assertThat(response.getStatus()).isEqualTo(400);
+		assertThat(response.getErrorMessage()).isEqualTo("Invalid " + HEADER + " header");
+	}
+
+	@Test
+	@DisplayName("doFilter - lets exceptions of the handler through and clears the token")
+	void doFilter_WithFailingHandler_PropagatesExceptionAndClearsToken() {
+
+		request.addHeader(HEADER, TOKEN);
+		FilterChain failing = (req, res) -> {
+			throw new NumberFormatException("For input string: \"abc\"");
+		};
+
+		assertThatThrownBy(() -> filter.doFilter(request, response, failing))
+				.isInstanceOf(NumberFormatException.class);
+		assertThat(ConsistencyTokenHolder.get()).isNull();
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	@DisplayName("doFilter - handles requests without a token")
+	void doFilter_WithoutToken_HandlesRequest() throws ServletException, IOException {
+
+		AtomicReference<String> seen = new AtomicReference<>("unset");
+
+		filter.doFilter(request, response, (req, res) -> seen.set(ConsistencyTokenHolder.get()));
+
+		assertThat(seen.get()).isNull();
+	}
+}
@@ -0,0 +1,121 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConsistencyTokenIssuer.
+ * Tests issuing the primary's executed GTID set after committed write transactions.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConsistencyTokenIssuerTest {
+
+	private static final String HEADER = "X-Consistency-Token";
+
+	@Mock
+	private DataSource dataSource;
+	@Mock
+	private Connection connection;
+	@Mock
+	private Statement statement;
+	@Mock
+	private ResultSet resultSet;
+	@Mock
+	private TransactionExecution transaction;
+
+	private ConsistencyTokenIssuer issuer;
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+		issuer = new ConsistencyTokenIssuer(new DataSourceRoutingProperties(true, List.of(),
+				null, null, HEADER), dataSource);
+		response = new MockHttpServletResponse();
+		RequestContextHolder.setRequestAttributes(
+				new ServletRequestAttributes(new MockHttpServletRequest(), response));
+		TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(connection));
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.unbindResource(dataSource);
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("afterCommit - issues the executed GTID set read on the transaction's connection")
+	void afterCommit_WithCommittedWrite_SetsGtidSetHeader() throws SQLException {
+
+		when(transaction.isNewTransaction()).thenReturn(true);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery("SELECT @@GLOBAL.gtid_executed")).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true);
+		when(resultSet.getString(1)).thenReturn("3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27,\n"
+				+ "4f22ab58-82db-22f2-8f44-d91bb9530673:1-5");
+
+		issuer.afterCommit(transaction, null);
+
+		assertThat(response.getHeader(HEADER)).isEqualTo(
+				"3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27,4f22ab58-82db-22f2-8f44-d91bb9530673:1-5");
+		verify(statement).close();
+	}
+
+	@Test
+	@DisplayName("afterCommit - issues no token when the primary does not use GTIDs")
+	void afterCommit_WithEmptyGtidSet_SetsNoHeader() throws SQLException {
+
+		when(transaction.isNewTransaction()).thenReturn(true);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery("SELECT @@GLOBAL.gtid_executed")).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true);
+		when(resultSet.getString(1)).thenReturn("");
+
+		issuer.afterCommit(transaction, null);
+
+		assertThat(response.getHeader(HEADER)).isNull();
+	}
+
+	@Test
+	@DisplayName("afterCommit - issues no token for read-only transactions")
+	void afterCommit_WithReadOnlyTransaction_SetsNoHeader() {
+
+		when(transaction.isReadOnly()).thenReturn(true);
+
+		issuer.afterCommit(transaction, null);
+
+		assertThat(response.getHeader(HEADER)).isNull();
+		verifyNoInteractions(connection);
+	}
+
+	@Test
+	@DisplayName("afterCommit - issues no token when the commit failed")
+	void afterCommit_WithCommitFailure_SetsNoHeader() {
+
+		issuer.afterCommit(transaction, new IllegalStateException("commit failed"));
+
+		assertThat(response.getHeader(HEADER)).isNull();
+		verifyNoInteractions(connection);
+	}
+}
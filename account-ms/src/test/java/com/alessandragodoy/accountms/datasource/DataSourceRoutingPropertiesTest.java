@@ -0,0 +1,66 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Binding tests for DataSourceRoutingProperties.
+ */
+class DataSourceRoutingPropertiesTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withUserConfiguration(RoutingPropertiesConfig.class);
+
+	@Test
+	@DisplayName("binds the replicas, defaulting their pool size")
+	void bind_WithReplicas_BindsEachReplica() {
+
+		contextRunner
+				.withPropertyValues("datasource.routing.enabled=true",
+						"datasource.routing.replicas[0].name=replica-1",
+						"datasource.routing.replicas[0].url=jdbc:mysql://replica-1:3306/accounts",
+						"datasource.routing.replicas[0].username=reader",
+						"datasource.routing.replicas[0].password=secret",
+						"datasource.routing.replicas[1].name=replica-2",
+						"datasource.routing.replicas[1].url=jdbc:mysql://replica-2:3306/accounts",
+						"datasource.routing.replicas[1].maximum-pool-size=4")
+				.run(context -> {
+					DataSourceRoutingProperties properties =
+							context.getBean(DataSourceRoutingProperties.class);
+
+					assertThat(properties.enabled()).isTrue();
+					assertThat(properties.replicas()).containsExactly(
+							new DataSourceRoutingProperties.Replica("replica-1",
+									"jdbc:mysql://replica-1:3306/accounts", "reader", "secret",
+									10),
+							new DataSourceRoutingProperties.Replica("replica-2",
+									"jdbc:mysql://replica-2:3306/accounts", null, null, 4));
+				});
+	}
+
+	@Test
+	@DisplayName("defaults to no replicas and a five second lag limit")
+	void bind_WithoutProperties_UsesDefaults() {
+
+		contextRunner.run(context -> {
+			DataSourceRoutingProperties properties =
+					context.getBean(DataSourceRoutingProperties.class);
+
+			assertThat(properties.enabled()).isFalse();
+			assertThat(properties.replicas()).isEmpty();
+			assertThat(properties.lagCheckInterval()).isEqualTo(Duration.ofSeconds(1));
+			assertThat(properties.maxReplicaLag()).isEqualTo(Duration.ofSeconds(5));
+			assertThat(properties.tokenHeader()).isEqualTo("X-Consistency-Token");
+		});
+	}
+
+	@EnableConfigurationProperties(DataSourceRoutingProperties.class)
+	static class RoutingPropertiesConfig {
+	}
+}
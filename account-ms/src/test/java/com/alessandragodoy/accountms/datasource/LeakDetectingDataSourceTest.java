@@ -0,0 +1,121 @@
+package com.alessandragodoy.accountms.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LeakDetectingDataSource and ConnectionLeakDetector.
+ * Tests that connections are tracked until closed, timed by endpoint and reported once when held
+ * too long.
+ */
+@ExtendWith(MockitoExtension.class)
+class LeakDetectingDataSourceTest {
+
+	@Mock
+	private DataSource target;
+
+	@Mock
+	private Connection connection;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		meterRegistry = new SimpleMeterRegistry();
+		when(target.getConnection()).thenReturn(connection);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	@DisplayName("getConnection - the connection is tracked until it is closed")
+	void getConnection_WhenClosed_StopsTracking() throws SQLException {
+
+		ConnectionLeakDetector detector = new ConnectionLeakDetector(Duration.ZERO, meterRegistry);
+		LeakDetectingDataSource dataSource = new LeakDetectingDataSource(target, detector);
+
+		Connection tracked = dataSource.getConnection();
+		assertThat(detector.getCheckedOut()).isEqualTo(1);
+		tracked.close();
+		detector.detectLeaks();
+
+		assertThat(detector.getCheckedOut()).isZero();
+		assertThat(leaksReported()).isZero();
+		verify(connection).close();
+	}
+
+	@Test
+	@DisplayName("detectLeaks - reports a connection held past the threshold once")
+	void detectLeaks_WhenHeldPastThreshold_ReportsOnce() throws SQLException {
+
+		ConnectionLeakDetector detector = new ConnectionLeakDetector(Duration.ZERO, meterRegistry);
+		LeakDetectingDataSource dataSource = new LeakDetectingDataSource(target, detector);
+
+		dataSource.getConnection();
+		detector.detectLeaks();
+		detector.detectLeaks();
+
+		assertThat(leaksReported()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("detectLeaks - does not report a connection held within the threshold")
+	void detectLeaks_WhenWithinThreshold_DoesNotReport() throws SQLException {
+
+		ConnectionLeakDetector detector = new ConnectionLeakDetector(Duration.ofMinutes(1),
+				meterRegistry);
+		LeakDetectingDataSource dataSource = new LeakDetectingDataSource(target, detector);
+
+		dataSource.getConnection();
+		detector.detectLeaks();
+
+		assertThat(leaksReported()).isZero();
+	}
+
+	@Test
+	@DisplayName("getConnection - the hold time is recorded under the endpoint pattern")
+	void getConnection_WithinRequest_RecordsHoldTimeByEndpoint() throws SQLException {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/accounts/7");
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+				"/api/v1/accounts/{accountId}");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		ConnectionLeakDetector detector = new ConnectionLeakDetector(Duration.ofMinutes(1),
+				meterRegistry);
+		LeakDetectingDataSource dataSource = new LeakDetectingDataSource(target, detector);
+
+		dataSource.getConnection().close();
+		RequestContextHolder.resetRequestAttributes();
+		dataSource.getConnection().close();
+
+		assertThat(meterRegistry.get("datasource.connections.held").tag("method", "GET")
+				.tag("uri", "/api/v1/accounts/{accountId}").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("datasource.connections.held").tag("uri", "none")
+				.timer().count()).isEqualTo(1);
+	}
+
+	private double leaksReported() {
+		return meterRegistry.get("datasource.connections.leak-suspected").counter().count();
+	}
+}
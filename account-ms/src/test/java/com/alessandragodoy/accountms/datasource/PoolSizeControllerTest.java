@@ -0,0 +1,98 @@
+package com.alessandragodoy.accountms.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for PoolSizeController.
+ * Tests that the pool grows under sustained waits, unless the database is slow, and shrinks when
+ * mostly idle.
+ */
+@ExtendWith(MockitoExtension.class)
+class PoolSizeControllerTest {
+
+	@Mock
+	private HikariDataSource pool;
+
+	@Mock
+	private HikariPoolMXBean poolStats;
+
+	@Mock
+	private HikariConfigMXBean poolConfig;
+
+	private MeterRegistry meterRegistry;
+	private PoolSizeController controller;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		when(pool.getHikariPoolMXBean()).thenReturn(poolStats);
+		controller = new PoolSizeController(pool, null, meterRegistry,
+				new PoolSizingProperties(true, 10, 12, 2, Duration.ofSeconds(5), 2, 2,
+						Duration.ofMillis(250)));
+	}
+
+	@Test
+	@DisplayName("check - grows the pool after sustained waits")
+	void check_WithSustainedWaits_GrowsPool() {
+
+		when(pool.getMaximumPoolSize()).thenReturn(10);
+		when(pool.getPoolName()).thenReturn("primary");
+		when(pool.getHikariConfigMXBean()).thenReturn(poolConfig);
+		when(poolStats.getThreadsAwaitingConnection()).thenReturn(3);
+
+		controller.check();
+		verify(poolConfig, never()).setMaximumPoolSize(anyInt());
+		controller.check();
+
+		verify(poolConfig).setMaximumPoolSize(12);
+	}
+
+	@Test
+	@DisplayName("check - does not grow the pool while connections are held too long")
+	void check_WithSlowUsage_DoesNotGrowPool() {
+
+		when(pool.getMaximumPoolSize()).thenReturn(10);
+		when(pool.getPoolName()).thenReturn("primary");
+		when(poolStats.getThreadsAwaitingConnection()).thenReturn(3);
+		Timer usage = Timer.builder("hikaricp.connections.usage").tag("pool", "primary")
+				.register(meterRegistry);
+
+		controller.check();
+		usage.record(Duration.ofSeconds(1));
+		controller.check();
+
+		verify(pool, never()).getHikariConfigMXBean();
+	}
+
+	@Test
+	@DisplayName("check - shrinks the pool when mostly idle, not below the minimum")
+	void check_WhenMostlyIdle_ShrinksPoolToMinimum() {
+
+		when(pool.getMaximumPoolSize()).thenReturn(12, 12, 10);
+		when(pool.getHikariConfigMXBean()).thenReturn(poolConfig);
+		when(poolStats.getActiveConnections()).thenReturn(2);
+
+		controller.check();
+		controller.check();
+		controller.check();
+		controller.check();
+
+		verify(poolConfig).setMaximumPoolSize(anyInt());
+		verify(poolConfig).setMaximumPoolSize(10);
+	}
+}
@@ -0,0 +1,89 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReadWriteRoutingDataSource.
+ * Tests routing of read-only and read-write transactions between primary and replicas.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+	@Mock
+	private ReplicaLagMonitor lagMonitor;
+
+	private static final String TOKEN = "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27";
+
+	private ReadWriteRoutingDataSource routingDataSource;
+
+	@BeforeEach
+	void setUp() {
+		routingDataSource = new ReadWriteRoutingDataSource(List.of("replica-1", "replica-2"),
+				lagMonitor);
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		ConsistencyTokenHolder.clear();
+	}
+
+	@Test
+	@DisplayName("determineCurrentLookupKey - routes read-write transactions to the primary")
+	void determineCurrentLookupKey_WithReadWriteTransaction_ReturnsPrimary() {
+
+		assertThat(routingDataSource.determineCurrentLookupKey())
+				.isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+
+		verifyNoInteractions(lagMonitor);
+	}
+
+	@Test
+	@DisplayName("determineCurrentLookupKey - spreads read-only transactions across replicas")
+	void determineCurrentLookupKey_WithReadOnlyTransaction_RoundRobinsReplicas() {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		when(lagMonitor.canServe(any(), isNull())).thenReturn(true);
+
+		assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+		assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+		assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-1");
+	}
+
+	@Test
+	@DisplayName("determineCurrentLookupKey - skips replicas that have not applied the token")
+	void determineCurrentLookupKey_WithToken_SkipsLaggingReplica() {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		ConsistencyTokenHolder.set(TOKEN);
+		when(lagMonitor.canServe("replica-1", TOKEN)).thenReturn(false);
+		when(lagMonitor.canServe("replica-2", TOKEN)).thenReturn(true);
+
+		assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo("replica-2");
+	}
+
+	@Test
+	@DisplayName("determineCurrentLookupKey - falls back to the primary when no replica caught up")
+	void determineCurrentLookupKey_WithNoCaughtUpReplica_ReturnsPrimary() {
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		ConsistencyTokenHolder.set(TOKEN);
+		when(lagMonitor.canServe(any(), eq(TOKEN))).thenReturn(false);
+
+		assertThat(routingDataSource.determineCurrentLookupKey())
+				.isEqualTo(ReadWriteRoutingDataSource.PRIMARY);
+	}
+}
@@ -0,0 +1,55 @@
+package com.alessandragodoy.accountms.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaDataSources.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaDataSourcesTest {
+
+	@Mock
+	private HikariDataSource first;
+
+	@Mock
+	private HikariDataSource second;
+
+	@Test
+	@DisplayName("names - returns the replicas in the order they were added")
+	void names_WithSeveralReplicas_ReturnsConfigurationOrder() {
+
+		ReplicaDataSources replicas = new ReplicaDataSources();
+		replicas.add("replica-2", second);
+		replicas.add("replica-1", first);
+
+		assertThat(replicas.names()).containsExactly("replica-2", "replica-1");
+		assertThat(replicas.asMap())
+				.containsEntry("replica-1", first)
+				.containsEntry("replica-2", second);
+		assertThatThrownBy(() -> replicas.asMap().clear())
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	@DisplayName("close - closes the pool of every replica")
+	void close_WithSeveralReplicas_ClosesEachPool() {
+
+		ReplicaDataSources replicas = new ReplicaDataSources();
+		replicas.add("replica-1", first);
+		replicas.add("replica-2", second);
+
+		replicas.close();
+
+		verify(first).close();
+		verify(second).close();
+	}
+}
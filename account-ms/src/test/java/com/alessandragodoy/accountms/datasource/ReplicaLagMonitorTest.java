@@ -0,0 +1,179 @@
+package com.alessandragodoy.accountms.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ReplicaLagMonitor.
+ * Tests the lag limit and the GTID check of reads with a consistency token.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+	private static final String TOKEN = "3e11fa47-71ca-11e1-9e33-c80aa9429562:1-27";
+
+	@Mock
+	private DataSource replica;
+	@Mock
+	private Connection connection;
+	@Mock
+	private Statement statement;
+	@Mock
+	private ResultSet status;
+	@Mock
+	private PreparedStatement gtidSubset;
+	@Mock
+	private ResultSet applied;
+
+	private ReplicaLagMonitor monitor;
+
+	@BeforeEach
+	void setUp() {
+		monitor = new ReplicaLagMonitor(Map.of("replica-1", replica), Duration.ofSeconds(5));
+	}
+
+	private void replicaLagsBy(long seconds) throws SQLException {
+		when(replica.getConnection()).thenReturn(connection);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+		when(status.next()).thenReturn(true);
+		when(status.getLong("Seconds_Behind_Source")).thenReturn(seconds);
+		monitor.refresh();
+	}
+
+	private void replicaHasApplied(boolean subset) throws SQLException {
+		when(connection.prepareStatement("SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)"))
+				.thenReturn(gtidSubset);
+		when(gtidSubset.executeQuery()).thenReturn(applied);
+		when(applied.next()).thenReturn(true);
+		when(applied.getBoolean(1)).thenReturn(subset);
+	}
+
+	@Test
+	@DisplayName("canServe - serves reads without a token from a replica within the lag limit")
+	void canServe_WithoutTokenWithinLag_ReturnsTrue() throws SQLException {
+
+		replicaLagsBy(0);
+
+		assertThat(monitor.canServe("replica-1", null)).isTrue();
+	}
+
+	@Test
+	@DisplayName("canServe - skips replicas beyond the lag limit")
+	void canServe_BeyondLag_ReturnsFalse() throws SQLException {
+
+		replicaLagsBy(10);
+
+		assertThat(monitor.canServe("replica-1", null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("canServe - serves a token once the replica's executed GTID set contains it")
+	void canServe_WithAppliedToken_ReturnsTrue() throws SQLException {
+
+		replicaLagsBy(0);
+		replicaHasApplied(true);
+
+		assertThat(monitor.canServe("replica-1", TOKEN)).isTrue();
+
+		verify(gtidSubset).setString(1, TOKEN);
+	}
+
+	@Test
+	@DisplayName("canServe - does not serve a token the replica has not applied, even without lag")
+	void canServe_WithUnappliedToken_ReturnsFalse() throws SQLException {
+
+		replicaLagsBy(0);
+		replicaHasApplied(false);
+
+		assertThat(monitor.canServe("replica-1", TOKEN)).isFalse();
+	}
+
+	@Test
+	@DisplayName("refresh - treats a replica whose status cannot be read as unavailable until it is")
+	void refresh_WithUnreachableReplica_SkipsItUntilReadable() throws SQLException {
+
+		when(replica.getConnection())
+				.thenThrow(new SQLException("Communications link failure"))
+				.thenThrow(new SQLException("Communications link failure"))
+				.thenReturn(connection);
+		monitor.refresh();
+		monitor.refresh();
+
+		assertThat(monitor.canServe("replica-1", null)).isFalse();
+
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+		when(status.next()).thenReturn(true);
+		when(status.getLong("Seconds_Behind_Source")).thenReturn(0L);
+		monitor.refresh();
+
+		assertThat(monitor.canServe("replica-1", null)).isTrue();
+	}
+
+	@Test
+	@DisplayName("refresh - treats a server that is not a replica as unavailable")
+	void refresh_WithoutReplicationStatus_MarksUnavailable() throws SQLException {
+
+		when(replica.getConnection()).thenReturn(connection);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+		when(status.next()).thenReturn(false);
+
+		monitor.refresh();
+
+		assertThat(monitor.canServe("replica-1", null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("refresh - treats a replica whose SQL thread is stopped as unavailable")
+	void refresh_WithStoppedSqlThread_MarksUnavailable() throws SQLException {
+
+		when(replica.getConnection()).thenReturn(connection);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(status);
+		when(status.next()).thenReturn(true);
+		when(status.getLong("Seconds_Behind_Source")).thenReturn(0L);
+		when(status.wasNull()).thenReturn(true);
+
+		monitor.refresh();
+
+		assertThat(monitor.canServe("replica-1", null)).isFalse();
+	}
+
+	@Test
+	@DisplayName("canServe - does not serve a token when the GTID check fails")
+	void canServe_WithFailedGtidCheck_ReturnsFalse() throws SQLException {
+
+		replicaLagsBy(0);
+		when(connection.prepareStatement("SELECT GTID_SUBSET(?, @@GLOBAL.gtid_executed)"))
+				.thenThrow(new SQLException("Malformed GTID set specification"));
+
+		assertThat(monitor.canServe("replica-1", TOKEN)).isFalse();
+	}
+
+	@Test
+	@DisplayName("canServe - skips replicas whose status was never read")
+	void canServe_WithUnknownReplica_ReturnsFalse() {
+
+		assertThat(monitor.canServe("replica-1", TOKEN)).isFalse();
+
+		verifyNoInteractions(replica);
+	}
+}
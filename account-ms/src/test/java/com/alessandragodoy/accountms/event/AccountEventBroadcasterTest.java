@@ -0,0 +1,308 @@
+package com.alessandragodoy.accountms.event;
+
+import com.alessandragodoy.accountms.controller.AccountEventController;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Unit tests for AccountEventBroadcaster.
+ * Subscriptions are opened through {@link AccountEventController} on real emitters, so the
+ * events written to each stream and the completion and error callbacks can be checked. Writes
+ * run when the test drains the sender queue.
+ */
+class AccountEventBroadcasterTest {
+
+	private final Queue<Runnable> sender = new ConcurrentLinkedQueue<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch writing = new CountDownLatch(1);
+	private volatile CountDownLatch clientReads;
+
+	private AccountEventBroadcaster broadcaster;
+	private MockMvc mockMvc;
+
+	@BeforeEach
+	void setUp() {
+		useBroadcaster(256, AccountEventProperties.Overflow.DROP_OLDEST, Duration.ofSeconds(5),
+				sender::add);
+	}
+
+	@Test
+	@DisplayName("onAccountChange - writes the event to matching subscribers only")
+	void onAccountChange_WithMatchingAndOtherSubscribers_WritesToMatchingOnly() throws Exception {
+
+		MvcResult byAccount = subscribe("accountId", 1);
+		MvcResult byCustomer = subscribe("customerId", 7);
+		MvcResult byOtherCustomer = subscribe("customerId", 8);
+
+		broadcaster.onAccountChange(event(1, 7));
+		send();
+
+		assertThat(content(byAccount))
+				.contains("id:1\nevent:BALANCE_CHANGED\ndata:")
+				.contains("\"accountId\":1");
+		assertThat(content(byCustomer)).contains("\"customerId\":7");
+		assertThat(content(byOtherCustomer)).isEmpty();
+		assertThat(broadcaster.getSubscriberCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("onAccountChange - delivers changes once their transaction commits")
+	void onAccountChange_PublishedInTransaction_DeliversOnlyAfterCommit() {
+
+		new ApplicationContextRunner()
+				.withUserConfiguration(TransactionConfig.class)
+				.withBean(AccountEventBroadcaster.class, () -> broadcaster)
+				.run(context -> {
+					MvcResult stream = subscribe("customerId", 7);
+					TransactionTemplate transaction = new TransactionTemplate(
+							context.getBean(PlatformTransactionManager.class));
+
+					transaction.executeWithoutResult(status -> {
+						context.publishEvent(event(1, 7));
+						assertThat(sender).isEmpty();
+					});
+					send();
+					transaction.executeWithoutResult(status -> {
+						context.publishEvent(event(2, 7));
+						status.setRollbackOnly();
+					});
+					send();
+
+					assertThat(content(stream))
+							.contains("\"accountId\":1")
+							.doesNotContain("\"accountId\":2");
+				});
+	}
+
+	@Test
+	@DisplayName("heartbeat - writes a comment to every subscriber")
+	void heartbeat_WithSubscribers_WritesCommentToEach() throws Exception {
+
+		MvcResult first = subscribe("accountId", 1);
+		MvcResult second = subscribe("customerId", 8);
+
+		broadcaster.heartbeat();
+		send();
+
+		assertThat(content(first)).isEqualTo(":heartbeat\n\n");
+		assertThat(content(second)).isEqualTo(":heartbeat\n\n");
+	}
+
+	@Test
+	@DisplayName("subscribe - removes the subscriber when its stream completes")
+	void subscribe_WhenStreamCompletes_RemovesSubscriber() throws Exception {
+
+		MvcResult stream = subscribe("accountId", 1);
+
+		stream.getRequest().getAsyncContext().complete();
+
+		assertThat(broadcaster.getSubscriberCount()).isZero();
+		broadcaster.onAccountChange(event(1, 7));
+		assertThat(sender).isEmpty();
+	}
+
+	@Test
+	@DisplayName("subscribe - removes the subscriber when its stream fails")
+	void subscribe_WhenStreamFails_RemovesSubscriber() throws Exception {
+
+		MvcResult stream = subscribe("accountId", 1);
+		subscribe("accountId", 2);
+		MockAsyncContext asyncContext = (MockAsyncContext) stream.getRequest().getAsyncContext();
+
+		for (AsyncListener listener : asyncContext.getListeners()) {
+			listener.onError(new AsyncEvent(asyncContext, new IOException("Broken pipe")));
+		}
+
+		assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("disconnectStalled - removes a subscriber whose write does not return")
+	void disconnectStalled_WithBlockedWrite_RemovesSubscriber() throws Exception {
+
+		useBroadcaster(256, AccountEventProperties.Overflow.DROP_OLDEST, Duration.ZERO,
+				sender::add);
+		MvcResult stalled = subscribe("accountId", 1);
+		clientReads = new CountDownLatch(1);
+
+		broadcaster.heartbeat();
+		Thread write = new Thread(this::send);
+		write.start();
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		broadcaster.disconnectStalled();
+
+		assertThat(broadcaster.getSubscriberCount()).isZero();
+		assertThat(meterRegistry.counter("account.events.disconnected").count()).isEqualTo(1.0);
+
+		clientReads.countDown();
+		write.join(5000);
+
+		assertThat(write.isAlive()).isFalse();
+		assertThat(stalled.getAsyncResult(5000)).isNull();
+		broadcaster.disconnectStalled();
+		assertThat(meterRegistry.counter("account.events.disconnected").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("onAccountChange - removes a subscriber whose buffer overflows")
+	void onAccountChange_WithOverflowingSubscriber_RemovesSubscriber() throws Exception {
+
+		useBroadcaster(1, AccountEventProperties.Overflow.DISCONNECT, Duration.ofSeconds(5),
+				sender::add);
+		subscribe("accountId", 1);
+		MvcResult other = subscribe("accountId", 2);
+
+		broadcaster.onAccountChange(event(1, 7));
+		broadcaster.onAccountChange(event(1, 7));
+
+		assertThat(broadcaster.getSubscriberCount()).isEqualTo(1);
+		assertThat(meterRegistry.counter("account.events.disconnected").count()).isEqualTo(1.0);
+
+		broadcaster.onAccountChange(event(2, 7));
+		send();
+
+		assertThat(content(other)).contains("\"accountId\":2");
+	}
+
+	@Test
+	@DisplayName("onAccountChange - removes a subscriber the sender pool cannot take")
+	void onAccountChange_WithSaturatedSender_RemovesSubscriber() throws Exception {
+
+		useBroadcaster(256, AccountEventProperties.Overflow.DROP_OLDEST, Duration.ofSeconds(5),
+				task -> {
+					throw new RejectedExecutionException("Sender queue is full");
+				});
+		subscribe("accountId", 1);
+
+		broadcaster.onAccountChange(event(1, 7));
+
+		assertThat(broadcaster.getSubscriberCount()).isZero();
+		assertThat(meterRegistry.counter("account.events.disconnected").count()).isEqualTo(1.0);
+	}
+
+	private void useBroadcaster(int bufferSize, AccountEventProperties.Overflow overflow,
+			Duration sendTimeout, Executor executor) {
+		AccountEventProperties properties = new AccountEventProperties(bufferSize, overflow,
+				Duration.ofMinutes(30), Duration.ofSeconds(15), 1, sendTimeout, 1, 1);
+		broadcaster = new AccountEventBroadcaster(properties, executor, meterRegistry);
+		mockMvc = MockMvcBuilders.standaloneSetup(new AccountEventController(broadcaster))
+				.setMessageConverters(new BlockingStringConverter(),
+						new MappingJackson2HttpMessageConverter())
+				.build();
+	}
+
+	private MvcResult subscribe(String filter, int id) throws Exception {
+		return mockMvc.perform(get(AccountEventController.PATH_STREAM_ACCOUNT_EVENTS)
+						.param(filter, Integer.toString(id))
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+	}
+
+	private void send() {
+		Runnable task;
+		while ((task = sender.poll()) != null) {
+			task.run();
+		}
+	}
+
+	private static String content(MvcResult stream) throws IOException {
+		return stream.getResponse().getContentAsString();
+	}
+
+	private static AccountChangeEvent event(Integer accountId, Integer customerId) {
+		return new AccountChangeEvent(AccountChangeType.BALANCE_CHANGED, accountId, customerId,
+				100.0, true, LocalDateTime.of(2026, 1, 30, 9, 0));
+	}
+
+	/**
+	 * Writes the text of the events, blocking while {@code clientReads} is set to mimic a client
+	 * that stopped reading.
+	 */
+	private class BlockingStringConverter extends StringHttpMessageConverter {
+
+		@Override
+		protected void writeInternal(String text, HttpOutputMessage outputMessage)
+				throws IOException {
+			CountDownLatch latch = clientReads;
+			if (latch != null) {
+				writing.countDown();
+				try {
+					latch.await();
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			super.writeInternal(text, outputMessage);
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableTransactionManagement
+	static class TransactionConfig {
+
+		@Bean
+		PlatformTransactionManager transactionManager() {
+			return new NoOpTransactionManager();
+		}
+	}
+
+	/**
+	 * Transaction manager without a resource, which only runs the transaction synchronizations.
+	 */
+	static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {
+		}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {
+		}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {
+		}
+	}
+}
@@ -0,0 +1,224 @@
+package com.alessandragodoy.accountms.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountEventSubscription.
+ * Tests event filtering, the bounded buffer overflow policies, in-order delivery and the
+ * disconnection of stalled subscribers.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountEventSubscriptionTest {
+
+	@Mock
+	private SseEmitter emitter;
+
+	private final List<Runnable> scheduledDrains = new ArrayList<>();
+
+	@Test
+	@DisplayName("matches - filters events by account and customer")
+	void matches_WithAccountAndCustomerFilters_MatchesOnlyThoseEvents() {
+
+		AccountEventSubscription byAccount = subscription(1, null, 10,
+				AccountEventProperties.Overflow.DROP_OLDEST);
+		AccountEventSubscription byCustomer = subscription(null, 7, 10,
+				AccountEventProperties.Overflow.DROP_OLDEST);
+
+		assertThat(byAccount.matches(event(1, 7))).isTrue();
+		assertThat(byAccount.matches(event(2, 7))).isFalse();
+		assertThat(byCustomer.matches(event(2, 7))).isTrue();
+		assertThat(byCustomer.matches(event(2, 8))).isFalse();
+	}
+
+	@Test
+	@DisplayName("offer - drops the oldest event when the buffer is full")
+	void offer_WithFullBufferAndDropOldest_DropsOldestEvent() throws IOException {
+
+		AccountEventSubscription subscription = subscription(1, null, 2,
+				AccountEventProperties.Overflow.DROP_OLDEST);
+		Set<DataWithMediaType> first = payload(1);
+		Set<DataWithMediaType> second = payload(2);
+		Set<DataWithMediaType> third = payload(3);
+
+		assertThat(subscription.offer(first)).isEqualTo(AccountEventSubscription.Delivery.QUEUED);
+		assertThat(subscription.offer(second)).isEqualTo(AccountEventSubscription.Delivery.QUEUED);
+		assertThat(subscription.offer(third))
+				.isEqualTo(AccountEventSubscription.Delivery.DROPPED_OLDEST);
+		assertThat(subscription.getBuffered()).isEqualTo(2);
+		assertThat(scheduledDrains).hasSize(1);
+
+		scheduledDrains.get(0).run();
+
+		InOrder inOrder = inOrder(emitter);
+		inOrder.verify(emitter).send(second);
+		inOrder.verify(emitter).send(third);
+		verify(emitter, never()).send(first);
+		assertThat(subscription.getBuffered()).isZero();
+	}
+
+	@Test
+	@DisplayName("offer - disconnects the subscriber when the buffer is full")
+	void offer_WithFullBufferAndDisconnect_ClosesSubscription() {
+
+		AccountEventSubscription subscription = subscription(1, null, 2,
+				AccountEventProperties.Overflow.DISCONNECT);
+
+		subscription.offer(payload(1));
+		subscription.offer(payload(2));
+
+		assertThat(subscription.offer(payload(3)))
+				.isEqualTo(AccountEventSubscription.Delivery.CLOSED);
+		assertThat(subscription.offer(payload(4)))
+				.isEqualTo(AccountEventSubscription.Delivery.CLOSED);
+		assertThat(subscription.getBuffered()).isZero();
+		verify(emitter, never()).complete();
+
+		scheduledDrains.get(0).run();
+
+		assertThat(scheduledDrains).hasSize(1);
+		verify(emitter).complete();
+		verifyNoMoreInteractions(emitter);
+	}
+
+	@Test
+	@DisplayName("offer - disconnects the subscriber when the sender pool refuses it")
+	void offer_WithRejectingSender_ClosesSubscription() {
+
+		AccountEventProperties properties = new AccountEventProperties(10,
+				AccountEventProperties.Overflow.DROP_OLDEST, Duration.ofMinutes(30),
+				Duration.ofSeconds(15), 1, Duration.ofSeconds(5), 1, 1);
+		AccountEventSubscription subscription = new AccountEventSubscription(emitter, 1, null,
+				properties, task -> {
+					throw new RejectedExecutionException("Sender queue is full");
+				});
+
+		assertThat(subscription.offer(payload(1)))
+				.isEqualTo(AccountEventSubscription.Delivery.CLOSED);
+		assertThat(subscription.offer(payload(2)))
+				.isEqualTo(AccountEventSubscription.Delivery.CLOSED);
+		assertThat(subscription.getBuffered()).isZero();
+		verify(emitter).complete();
+	}
+
+	@Test
+	@DisplayName("drain - closes the subscription when the client is gone")
+	void drain_WithFailingClient_ClosesSubscription() throws IOException {
+
+		AccountEventSubscription subscription = subscription(1, null, 10,
+				AccountEventProperties.Overflow.DROP_OLDEST);
+		doThrow(new IOException("Broken pipe")).when(emitter).send(any(Set.class));
+
+		subscription.offer(payload(1));
+		subscription.offer(payload(2));
+		scheduledDrains.get(0).run();
+
+		verify(emitter, times(1)).send(any(Set.class));
+		verify(emitter).completeWithError(any(IOException.class));
+		assertThat(subscription.offer(payload(3)))
+				.isEqualTo(AccountEventSubscription.Delivery.CLOSED);
+	}
+
+	@Test
+	@DisplayName("disconnectIfStalled - disconnects a subscriber whose write does not return")
+	void disconnectIfStalled_WithBlockedWrite_ClosesSubscriptionWithoutWaitingForIt()
+			throws Exception {
+
+		AccountEventSubscription subscription = subscription(1, null, 10,
+				AccountEventProperties.Overflow.DROP_OLDEST, Duration.ZERO);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch clientReads = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			writing.countDown();
+			clientReads.await();
+			return null;
+		}).when(emitter).send(any(Set.class));
+
+		subscription.offer(payload(1));
+		subscription.offer(payload(2));
+		Thread drain = new Thread(scheduledDrains.get(0));
+		drain.start();
+		assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(subscription.disconnectIfStalled()).isTrue();
+		assertThat(subscription.disconnectIfStalled()).isFalse();
+		assertThat(subscription.getBuffered()).isZero();
+		assertThat(subscription.offer(payload(3)))
+				.isEqualTo(AccountEventSubscription.Delivery.CLOSED);
+		verify(emitter, never()).complete();
+
+		clientReads.countDown();
+		drain.join(5000);
+
+		assertThat(drain.isAlive()).isFalse();
+		assertThat(scheduledDrains).hasSize(1);
+		verify(emitter, times(1)).send(any(Set.class));
+		verify(emitter).complete();
+	}
+
+	@Test
+	@DisplayName("disconnectIfStalled - keeps subscribers that are idle or within the send timeout")
+	void disconnectIfStalled_WithoutStalledWrite_KeepsSubscription() throws IOException {
+
+		AccountEventSubscription idle = subscription(1, null, 10,
+				AccountEventProperties.Overflow.DROP_OLDEST, Duration.ZERO);
+		AccountEventSubscription writing = subscription(1, null, 10,
+				AccountEventProperties.Overflow.DROP_OLDEST, Duration.ofMinutes(1));
+		AtomicBoolean stalledDuringWrite = new AtomicBoolean(true);
+		doAnswer(invocation -> {
+			stalledDuringWrite.set(writing.disconnectIfStalled());
+			return null;
+		}).when(emitter).send(any(Set.class));
+
+		writing.offer(payload(1));
+		scheduledDrains.get(0).run();
+
+		assertThat(idle.disconnectIfStalled()).isFalse();
+		assertThat(stalledDuringWrite).isFalse();
+		assertThat(writing.disconnectIfStalled()).isFalse();
+		assertThat(writing.offer(payload(2))).isEqualTo(AccountEventSubscription.Delivery.QUEUED);
+	}
+
+	private AccountEventSubscription subscription(Integer accountId, Integer customerId,
+			int bufferSize, AccountEventProperties.Overflow overflow) {
+		return subscription(accountId, customerId, bufferSize, overflow, Duration.ofSeconds(5));
+	}
+
+	private AccountEventSubscription subscription(Integer accountId, Integer customerId,
+			int bufferSize, AccountEventProperties.Overflow overflow, Duration sendTimeout) {
+		AccountEventProperties properties = new AccountEventProperties(bufferSize, overflow,
+				Duration.ofMinutes(30), Duration.ofSeconds(15), 1, sendTimeout, 1, 1);
+		return new AccountEventSubscription(emitter, accountId, customerId, properties,
+				scheduledDrains::add);
+	}
+
+	private static AccountChangeEvent event(Integer accountId, Integer customerId) {
+		return new AccountChangeEvent(AccountChangeType.BALANCE_CHANGED, accountId, customerId,
+				100.0, true, LocalDateTime.now());
+	}
+
+	private static Set<DataWithMediaType> payload(long id) {
+		return AccountEventSubscription.toSseEvent(id, event(1, 7));
+	}
+}
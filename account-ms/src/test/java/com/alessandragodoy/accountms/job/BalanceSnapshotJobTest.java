@@ -0,0 +1,200 @@
+package com.alessandragodoy.accountms.job;
+
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceSnapshotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BalanceSnapshotJob.
+ */
+@ExtendWith(MockitoExtension.class)
+class BalanceSnapshotJobTest {
+
+	private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 30, 9, 0);
+
+	@Mock
+	private DataSource dataSource;
+
+	@Mock
+	private Connection lockConnection;
+
+	@Mock
+	private PreparedStatement acquireStatement;
+
+	@Mock
+	private PreparedStatement releaseStatement;
+
+	@Mock
+	private ResultSet lockResult;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private BalanceSnapshotRepository balanceSnapshotRepository;
+
+	@Mock
+	private TransactionOperations transactionOperations;
+
+	private BalanceSnapshotJob balanceSnapshotJob;
+
+	@BeforeEach
+	void setUp() {
+		balanceSnapshotJob = new BalanceSnapshotJob(dataSource, accountRepository, balanceSnapshotRepository,
+				transactionOperations,
+				new BalanceSnapshotProperties(true, "0 0 * * * *", 1000, Duration.ofMinutes(1)));
+	}
+
+	@Test
+	@DisplayName("snapshot - snapshots each range of chunkSize account IDs in its own transaction")
+	void snapshot_WithSeveralChunks_SnapshotsEachRangeInOwnTransaction() {
+
+		when(accountRepository.findMinAccountId()).thenReturn(1);
+		when(accountRepository.findMaxAccountId()).thenReturn(2500);
+		stubTransaction();
+		when(balanceSnapshotRepository.snapshotRange(1, 1001, CUTOFF)).thenReturn(400);
+		when(balanceSnapshotRepository.snapshotRange(1001, 2001, CUTOFF)).thenReturn(300);
+		when(balanceSnapshotRepository.snapshotRange(2001, 2501, CUTOFF)).thenReturn(20);
+
+		int taken = balanceSnapshotJob.snapshot(CUTOFF);
+
+		assertThat(taken).isEqualTo(720);
+
+		var inOrder = inOrder(transactionOperations, balanceSnapshotRepository);
+		inOrder.verify(transactionOperations).execute(any());
+		inOrder.verify(balanceSnapshotRepository).snapshotRange(1, 1001, CUTOFF);
+		inOrder.verify(transactionOperations).execute(any());
+		inOrder.verify(balanceSnapshotRepository).snapshotRange(1001, 2001, CUTOFF);
+		inOrder.verify(transactionOperations).execute(any());
+		inOrder.verify(balanceSnapshotRepository).snapshotRange(2001, 2501, CUTOFF);
+		inOrder.verifyNoMoreInteractions();
+	}
+
+	@Test
+	@DisplayName("snapshot - covers the highest account ID when the range fits in one chunk")
+	void snapshot_WithSingleAccount_SnapshotsOneRange() {
+
+		when(accountRepository.findMinAccountId()).thenReturn(7);
+		when(accountRepository.findMaxAccountId()).thenReturn(7);
+		stubTransaction();
+		when(balanceSnapshotRepository.snapshotRange(7, 8, CUTOFF)).thenReturn(1);
+
+		int taken = balanceSnapshotJob.snapshot(CUTOFF);
+
+		assertThat(taken).isEqualTo(1);
+		verify(transactionOperations, times(1)).execute(any());
+	}
+
+	@Test
+	@DisplayName("snapshot - skips a failed range and carries on with the next ones")
+	void snapshot_WithFailedRange_SkipsItAndSnapshotsTheRest() {
+
+		when(accountRepository.findMinAccountId()).thenReturn(1);
+		when(accountRepository.findMaxAccountId()).thenReturn(3000);
+		stubTransaction();
+		when(balanceSnapshotRepository.snapshotRange(1, 1001, CUTOFF)).thenReturn(10);
+		when(balanceSnapshotRepository.snapshotRange(1001, 2001, CUTOFF))
+				.thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+		when(balanceSnapshotRepository.snapshotRange(2001, 3001, CUTOFF)).thenReturn(5);
+
+		int taken = balanceSnapshotJob.snapshot(CUTOFF);
+
+		assertThat(taken).isEqualTo(15);
+		verify(transactionOperations, times(3)).execute(any());
+	}
+
+	@Test
+	@DisplayName("snapshot - takes nothing when there are no accounts")
+	void snapshot_WithoutAccounts_TakesNothing() {
+
+		when(accountRepository.findMinAccountId()).thenReturn(null);
+		when(accountRepository.findMaxAccountId()).thenReturn(null);
+
+		int taken = balanceSnapshotJob.snapshot(CUTOFF);
+
+		assertThat(taken).isZero();
+		verifyNoInteractions(transactionOperations, balanceSnapshotRepository);
+	}
+
+	@Test
+	@DisplayName("run - snapshots while holding the lock and releases it afterwards")
+	void run_WithLockAcquired_SnapshotsAndReleasesLock() throws SQLException {
+
+		stubLock(1);
+		when(lockConnection.prepareStatement("SELECT RELEASE_LOCK(?)")).thenReturn(releaseStatement);
+		when(releaseStatement.executeQuery()).thenReturn(lockResult);
+		when(accountRepository.findMinAccountId()).thenReturn(7);
+		when(accountRepository.findMaxAccountId()).thenReturn(7);
+		stubTransaction();
+		when(balanceSnapshotRepository.snapshotRange(eq(7), eq(8), any())).thenReturn(1);
+
+		balanceSnapshotJob.run();
+
+		var inOrder = inOrder(acquireStatement, balanceSnapshotRepository, releaseStatement,
+				lockConnection);
+		inOrder.verify(acquireStatement).setString(1, BalanceSnapshotJob.LOCK_NAME);
+		inOrder.verify(balanceSnapshotRepository).snapshotRange(eq(7), eq(8), any());
+		inOrder.verify(releaseStatement).setString(1, BalanceSnapshotJob.LOCK_NAME);
+		inOrder.verify(lockConnection).close();
+	}
+
+	@Test
+	@DisplayName("run - skips the run when another instance holds the lock")
+	void run_WithLockHeldElsewhere_SkipsSnapshot() throws SQLException {
+
+		stubLock(0);
+
+		balanceSnapshotJob.run();
+
+		verifyNoInteractions(accountRepository, transactionOperations, balanceSnapshotRepository);
+		verify(lockConnection, never()).prepareStatement("SELECT RELEASE_LOCK(?)");
+		verify(lockConnection).close();
+	}
+
+	@Test
+	@DisplayName("run - skips the run when the lock connection cannot be obtained")
+	void run_WithoutLockConnection_SkipsSnapshot() throws SQLException {
+
+		when(dataSource.getConnection())
+				.thenThrow(new SQLTransientConnectionException("Connection is not available"));
+
+		balanceSnapshotJob.run();
+
+		verifyNoInteractions(accountRepository, transactionOperations, balanceSnapshotRepository);
+	}
+
+	private void stubLock(int acquired) throws SQLException {
+		when(dataSource.getConnection()).thenReturn(lockConnection);
+		when(lockConnection.prepareStatement("SELECT GET_LOCK(?, 0)")).thenReturn(acquireStatement);
+		when(acquireStatement.executeQuery()).thenReturn(lockResult);
+		when(lockResult.next()).thenReturn(true);
+		when(lockResult.getInt(1)).thenReturn(acquired);
+	}
+
+	private void stubTransaction() {
+		when(transactionOperations.execute(any())).thenAnswer(invocation ->
+				invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+	}
+}
@@ -0,0 +1,99 @@
+package com.alessandragodoy.accountms.limiter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ * Tests the internal reserve and how the limit follows the observed latency.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final int SAMPLE_WINDOW = 4;
+
+	@Test
+	@DisplayName("tryAcquire - keeps the reserved share of the limit for internal requests")
+	void tryAcquire_WhenPublicShareUsed_AdmitsOnlyInternal() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+		for (int i = 0; i < 8; i++) {
+			assertThat(limiter.tryAcquire(false)).isTrue();
+		}
+
+		assertThat(limiter.tryAcquire(false)).isFalse();
+		assertThat(limiter.tryAcquire(true)).isTrue();
+		assertThat(limiter.tryAcquire(true)).isTrue();
+		assertThat(limiter.tryAcquire(true)).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(10);
+	}
+
+	@Test
+	@DisplayName("release - raises the limit while latency is steady and the permits are used")
+	void release_WhenLatencySteadyAndSaturated_RaisesLimit() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+		for (int i = 0; i < 10; i++) {
+			completeSaturatedWindow(limiter, 10);
+		}
+
+		assertThat(limiter.getLimit()).isGreaterThan(20);
+	}
+
+	@Test
+	@DisplayName("release - lowers the limit when latency climbs above the long-term average")
+	void release_WhenLatencyClimbs_LowersLimit() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+		for (int i = 0; i < 5; i++) {
+			completeSaturatedWindow(limiter, 10);
+		}
+		int steadyLimit = limiter.getLimit();
+
+		for (int i = 0; i < 5; i++) {
+			completeSaturatedWindow(limiter, 100);
+		}
+
+		assertThat(limiter.getLimit()).isLessThan(steadyLimit);
+	}
+
+	@Test
+	@DisplayName("release - leaves the limit unchanged when few permits are used")
+	void release_WhenFewPermitsUsed_KeepsLimit() {
+
+		AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+		for (int i = 0; i < SAMPLE_WINDOW * 10; i++) {
+			limiter.tryAcquire(false);
+			limiter.release(TimeUnit.MILLISECONDS.toNanos(i < SAMPLE_WINDOW ? 10 : 1000));
+		}
+
+		assertThat(limiter.getLimit()).isEqualTo(20);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	private static void completeSaturatedWindow(AdaptiveConcurrencyLimiter limiter,
+												long rttMillis) {
+		int limit = limiter.getLimit();
+		for (int i = 0; i < limit; i++) {
+			limiter.tryAcquire(true);
+		}
+		for (int i = 0; i < SAMPLE_WINDOW; i++) {
+			limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+		}
+		while (limiter.getInFlight() > 0) {
+			limiter.releaseWithoutSample();
+		}
+	}
+
+	private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+		return new AdaptiveConcurrencyLimiter(new ConcurrencyLimitProperties(true, initialLimit,
+				4, 200, 20, SAMPLE_WINDOW, Duration.ofSeconds(1)));
+	}
+}
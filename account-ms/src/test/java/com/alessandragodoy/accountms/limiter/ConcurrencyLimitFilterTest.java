@@ -0,0 +1,98 @@
+package com.alessandragodoy.accountms.limiter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ConcurrencyLimitFilter.
+ * Tests that requests beyond the limit are shed and that admitted requests return their permit.
+ */
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitFilterTest {
+
+	@Mock
+	private FilterChain filterChain;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AdaptiveConcurrencyLimiter limiter;
+	private ConcurrencyLimitFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties(true, 5, 4, 200, 20,
+				20, Duration.ofSeconds(2));
+		meterRegistry = new SimpleMeterRegistry();
+		limiter = new AdaptiveConcurrencyLimiter(properties);
+		filter = new ConcurrencyLimitFilter(limiter, properties,
+				new ObjectMapper().findAndRegisterModules(), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("doFilter - sheds a public request beyond the limit with 503 and Retry-After")
+	void doFilter_WhenPublicShareUsed_ShedsPublicRequest() throws Exception {
+
+		holdPermits(4);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/accounts"), response,
+				filterChain);
+
+		assertThat(response.getStatus()).isEqualTo(503);
+		assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(response.getContentAsString()).contains("The service is overloaded");
+		assertThat(meterRegistry.get("http.concurrency.rejected").tag("priority", "public")
+				.counter().count()).isEqualTo(1);
+		verifyNoInteractions(filterChain);
+	}
+
+	@Test
+	@DisplayName("doFilter - admits an internal request into the reserved share of the limit")
+	void doFilter_WhenPublicShareUsed_AdmitsInternalRequest() throws Exception {
+
+		holdPermits(4);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		filter.doFilter(new MockHttpServletRequest("PATCH",
+				"/api/v1/internal/accounts/execute-transfer"), response, filterChain);
+
+		assertThat(response.getStatus()).isEqualTo(200);
+		verify(filterChain).doFilter(any(), any());
+		assertThat(limiter.getInFlight()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("doFilter - returns the permit when the request fails")
+	void doFilter_WhenChainFails_ReleasesPermit() throws Exception {
+
+		doThrow(new IllegalStateException("Boom")).when(filterChain).doFilter(any(), any());
+
+		assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("GET",
+				"/api/v1/accounts/1"), new MockHttpServletResponse(), filterChain))
+				.isInstanceOf(IllegalStateException.class);
+
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	private void holdPermits(int permits) {
+		for (int i = 0; i < permits; i++) {
+			limiter.tryAcquire(false);
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.alessandragodoy.accountms.numbering;
+
+import com.alessandragodoy.accountms.model.AccountNumberSequence;
+import com.alessandragodoy.accountms.repository.AccountNumberSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountNumberAllocator.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountNumberAllocatorTest {
+
+	@Mock
+	private AccountNumberSequenceRepository sequenceRepository;
+
+	private AccountNumberSequence sequence;
+	private AccountNumberAllocator allocator;
+
+	@BeforeEach
+	void setUp() {
+		sequence = new AccountNumberSequence(AccountNumberAllocator.SEQUENCE_NAME, 1);
+		allocator = new AccountNumberAllocator(sequenceRepository,
+				TransactionOperations.withoutTransaction(), new AccountNumberProperties(3));
+	}
+
+	@Test
+	@DisplayName("next - reserves one block per blockSize numbers")
+	void next_WithinBlock_ReservesOnce() {
+
+		when(sequenceRepository.findForUpdate(AccountNumberAllocator.SEQUENCE_NAME))
+				.thenReturn(Optional.of(sequence));
+
+		List<String> numbers = IntStream.range(0, 4).mapToObj(i -> allocator.next()).toList();
+
+		assertThat(numbers).containsExactly(AccountNumbers.format(1), AccountNumbers.format(2),
+				AccountNumbers.format(3), AccountNumbers.format(4));
+		assertThat(numbers).allMatch(AccountNumbers::isValid);
+		assertThat(sequence.getNextVal()).isEqualTo(7);
+		verify(sequenceRepository, times(2)).findForUpdate(AccountNumberAllocator.SEQUENCE_NAME);
+	}
+
+	@Test
+	@DisplayName("next - concurrent callers get distinct numbers")
+	void next_WithConcurrentCallers_ReturnsDistinctNumbers() {
+
+		when(sequenceRepository.findForUpdate(AccountNumberAllocator.SEQUENCE_NAME))
+				.thenReturn(Optional.of(sequence));
+		Set<String> numbers = Collections.synchronizedSet(new HashSet<>());
+
+		CompletableFuture.allOf(IntStream.range(0, 8)
+				.mapToObj(i -> CompletableFuture.runAsync(() -> IntStream.range(0, 100)
+						.forEach(j -> numbers.add(allocator.next()))))
+				.toArray(CompletableFuture[]::new)).join();
+
+		assertThat(numbers).hasSize(800);
+		assertThat(sequence.getNextVal()).isEqualTo(802);
+	}
+
+	@Test
+	@DisplayName("next - a failed reservation is retried by the next call")
+	void next_WhenReservationFails_RetriesOnNextCall() {
+
+		when(sequenceRepository.findForUpdate(AccountNumberAllocator.SEQUENCE_NAME))
+				.thenReturn(Optional.empty())
+				.thenReturn(Optional.of(sequence));
+
+		assertThatThrownBy(() -> allocator.next())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("does not exist");
+		assertThat(allocator.next()).isEqualTo(AccountNumbers.format(1));
+	}
+
+	@Test
+	@DisplayName("next - refuses to reserve past the largest account number")
+	void next_WhenSequenceExhausted_ThrowsIllegalStateException() {
+
+		sequence.setNextVal(AccountNumbers.MAX_SEQUENCE_VALUE - 1);
+		when(sequenceRepository.findForUpdate(AccountNumberAllocator.SEQUENCE_NAME))
+				.thenReturn(Optional.of(sequence));
+
+		assertThatThrownBy(() -> allocator.next())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("The account number sequence is exhausted.");
+		assertThat(sequence.getNextVal()).isEqualTo(AccountNumbers.MAX_SEQUENCE_VALUE - 1);
+	}
+}
@@ -0,0 +1,61 @@
+package com.alessandragodoy.accountms.numbering;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for AccountNumbers.
+ */
+class AccountNumbersTest {
+
+	@Test
+	@DisplayName("format - pads the sequence value and appends the Luhn check digit")
+	void format_WithSequenceValue_ReturnsPaddedNumberWithCheckDigit() {
+
+		assertThat(AccountNumbers.format(0)).isEqualTo("ACC-0000000000000000");
+		assertThat(AccountNumbers.format(7992739871L)).isEqualTo("ACC-0000079927398713");
+		assertThat(AccountNumbers.format(AccountNumbers.MAX_SEQUENCE_VALUE))
+				.hasSize(AccountNumbers.LENGTH)
+				.startsWith("ACC-999999999999999");
+	}
+
+	@Test
+	@DisplayName("format - reuses the buffer and keeps its prefix")
+	void format_WithReusedBuffer_OverwritesDigitsOnly() {
+
+		char[] buffer = AccountNumbers.newBuffer();
+
+		AccountNumbers.format(123_456_789L, buffer);
+		AccountNumbers.format(42, buffer);
+
+		assertThat(new String(buffer)).isEqualTo(AccountNumbers.format(42));
+	}
+
+	@Test
+	@DisplayName("format - rejects values that do not fit in an account number")
+	void format_WithOutOfRangeValue_ThrowsIllegalArgumentException() {
+
+		assertThatThrownBy(() -> AccountNumbers.format(-1))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> AccountNumbers.format(AccountNumbers.MAX_SEQUENCE_VALUE + 1))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("isValid - accepts formatted numbers and rejects mistyped ones")
+	void isValid_WithMistypedNumbers_ReturnsFalse() {
+
+		String accountNumber = AccountNumbers.format(7992739871L);
+
+		assertThat(AccountNumbers.isValid(accountNumber)).isTrue();
+		assertThat(AccountNumbers.isValid("ACC-0000079927398714")).isFalse();
+		assertThat(AccountNumbers.isValid("ACC-0000079927938713")).isFalse();
+		assertThat(AccountNumbers.isValid("ACC-000007992739871")).isFalse();
+		assertThat(AccountNumbers.isValid("ACC-00000799273987A3")).isFalse();
+		assertThat(AccountNumbers.isValid("ABC-0000079927398713")).isFalse();
+		assertThat(AccountNumbers.isValid(null)).isFalse();
+	}
+}
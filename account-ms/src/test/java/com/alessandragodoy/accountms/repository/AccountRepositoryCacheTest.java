@@ -0,0 +1,129 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.configuration.SecondLevelCacheConfig;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA slice tests for AccountRepository with the second-level cache enabled, on an embedded
+ * database whose schema is created from the entities (the Flyway migrations target MySQL).
+ * Every step runs in its own transaction, as the services do, so reads go through the cache.
+ */
+@DataJpaTest(properties = {"account.cache.enabled=true", "spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop"})
+@Import(SecondLevelCacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountRepositoryCacheTest {
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transaction;
+	private SessionFactory sessionFactory;
+	private Integer accountId;
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+
+		accountId = transaction.execute(status -> accountRepository.save(Account.builder()
+				.accountNumber("ACC-000000000000001")
+				.balance(1000.0)
+				.accountType(AccountType.SAVINGS)
+				.customerId(1)
+				.active(true)
+				.build())).getAccountId();
+
+		sessionFactory.getCache().evictAllRegions();
+		sessionFactory.getStatistics().clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		transaction.executeWithoutResult(status -> accountRepository.deleteAll());
+	}
+
+	@Test
+	@DisplayName("findById - serves an account from the cache once it has been loaded")
+	void findById_AfterFirstLoad_HitsCache() {
+
+		findAccount();
+		Account cached = findAccount();
+
+		assertThat(cached.getBalance()).isEqualTo(1000.0);
+		assertThat(region().getPutCount()).isEqualTo(1);
+		assertThat(region().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("updateBalanceDeposit - the next read returns the deposited balance, not the cached one")
+	void updateBalanceDeposit_WithCachedAccount_RefreshesAccount() {
+
+		findAccount();
+		assertThat(sessionFactory.getCache().containsEntity(Account.class, accountId)).isTrue();
+
+		transaction.executeWithoutResult(status ->
+				accountRepository.updateBalanceDeposit(accountId, 250.0));
+
+		assertThat(sessionFactory.getCache().containsEntity(Account.class, accountId)).isFalse();
+		assertThat(findAccount().getBalance()).isEqualTo(1250.0);
+		assertThat(findAccount().getBalance()).isEqualTo(1250.0);
+		assertThat(region().getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("updateBalanceWithdraw - the next read returns the withdrawn balance, not the cached one")
+	void updateBalanceWithdraw_WithCachedAccount_RefreshesAccount() {
+
+		findAccount();
+
+		transaction.executeWithoutResult(status ->
+				accountRepository.updateBalanceWithdraw(accountId, 400.0));
+
+		assertThat(findAccount().getBalance()).isEqualTo(600.0);
+	}
+
+	@Test
+	@DisplayName("updateBalanceDeposit - the same transaction reads the deposited balance")
+	void updateBalanceDeposit_ThenFindInSameTransaction_ReturnsDepositedBalance() {
+
+		Account account = transaction.execute(status -> {
+			accountRepository.findById(accountId).orElseThrow();
+			accountRepository.updateBalanceDeposit(accountId, 250.0);
+			return accountRepository.findById(accountId).orElseThrow();
+		});
+
+		assertThat(account.getBalance()).isEqualTo(1250.0);
+	}
+
+	private Account findAccount() {
+		return transaction.execute(status -> accountRepository.findById(accountId).orElseThrow());
+	}
+
+	private CacheRegionStatistics region() {
+		return sessionFactory.getStatistics().getDomainDataRegionStatistics(Account.CACHE_REGION);
+	}
+}
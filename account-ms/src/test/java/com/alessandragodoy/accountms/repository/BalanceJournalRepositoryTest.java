@@ -0,0 +1,111 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.BalanceJournalEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * JPA slice tests for BalanceJournalRepository, on an embedded database whose schema is created
+ * from the entities (the Flyway migrations target MySQL).
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop"})
+class BalanceJournalRepositoryTest {
+
+	private static final LocalDateTime T1 = LocalDateTime.of(2026, 1, 30, 9, 0);
+
+	@Autowired
+	private BalanceJournalRepository balanceJournalRepository;
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("record - appends the change with its creation time truncated to microseconds")
+	void record_WithChange_AppendsEntryWithMicrosecondCreationTime() {
+
+		LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+		balanceJournalRepository.record(1, -25.5);
+
+		List<BalanceJournalEntry> entries = balanceJournalRepository.findAll();
+		assertThat(entries).singleElement().satisfies(entry -> {
+			assertThat(entry.getJournalId()).isNotNull();
+			assertThat(entry.getAccountId()).isEqualTo(1);
+			assertThat(entry.getAmount()).isEqualTo(-25.5);
+			assertThat(entry.getCreatedAt()).isAfter(before);
+			assertThat(entry.getCreatedAt().getNano() % 1000).isZero();
+		});
+	}
+
+	@Test
+	@DisplayName("sumAmountsAfter - adds the entries above the journal ID up to the time")
+	void sumAmountsAfter_WithEntries_AddsEntriesAboveIdUpToTime() {
+
+		long opening = journal(1, 100.0, T1);
+		journal(1, -30.0, T1.plusMinutes(10));
+		journal(1, 5.0, T1.plusMinutes(20));
+		journal(1, 1000.0, T1.plusMinutes(30));
+		journal(2, 50.0, T1.plusMinutes(10));
+
+		assertThat(balanceJournalRepository.sumAmountsAfter(1, opening, T1.plusMinutes(20)))
+				.isEqualTo(-25.0);
+		assertThat(balanceJournalRepository.sumAmountsAfter(1, opening, T1)).isZero();
+		assertThat(balanceJournalRepository.sumAmountsUpTo(1, T1.plusMinutes(20)))
+				.isEqualTo(75.0);
+		assertThat(balanceJournalRepository.existsByAccountIdAndCreatedAtLessThanEqual(2, T1))
+				.isFalse();
+	}
+
+	@Test
+	@DisplayName("recordOpeningBalances - journals the balance of each listed account")
+	void recordOpeningBalances_WithNewAccounts_JournalsTheirBalances() {
+
+		Integer first = saveAccount("ACC-000000000000001", 1000.0);
+		Integer second = saveAccount("ACC-000000000000002", 0.0);
+		Integer other = saveAccount("ACC-000000000000003", 40.0);
+
+		int recorded = balanceJournalRepository.recordOpeningBalances(List.of(first, second), T1);
+
+		assertThat(recorded).isEqualTo(2);
+		assertThat(balanceJournalRepository.findAll())
+				.extracting(BalanceJournalEntry::getAccountId, BalanceJournalEntry::getAmount,
+						BalanceJournalEntry::getCreatedAt)
+				.containsExactlyInAnyOrder(
+						tuple(first, 1000.0, T1),
+						tuple(second, 0.0, T1));
+		assertThat(balanceJournalRepository.existsByAccountIdAndCreatedAtLessThanEqual(other, T1))
+				.isFalse();
+	}
+
+	private Integer saveAccount(String accountNumber, double balance) {
+		return accountRepository.saveAndFlush(Account.builder()
+				.accountNumber(accountNumber)
+				.balance(balance)
+				.accountType(AccountType.SAVINGS)
+				.customerId(1)
+				.active(true)
+				.build()).getAccountId();
+	}
+
+	private long journal(int accountId, double amount, LocalDateTime createdAt) {
+		jdbcTemplate.update("INSERT INTO balance_journal (account_id, amount, created_at) " +
+				"VALUES (?, ?, ?)", accountId, amount, createdAt);
+		return jdbcTemplate.queryForObject("SELECT MAX(journal_id) FROM balance_journal",
+				Long.class);
+	}
+}
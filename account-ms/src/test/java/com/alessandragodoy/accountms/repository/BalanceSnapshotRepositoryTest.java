@@ -0,0 +1,86 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.BalanceSnapshot;
+import com.alessandragodoy.accountms.model.BalanceSnapshotId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA slice tests for BalanceSnapshotRepository, on an embedded database whose schema is created
+ * from the entities (the Flyway migrations target MySQL). Journal entries and earlier snapshots
+ * are inserted with SQL so their times can be set.
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop"})
+class BalanceSnapshotRepositoryTest {
+
+	private static final LocalDateTime T1 = LocalDateTime.of(2026, 1, 30, 9, 0);
+	private static final LocalDateTime T2 = T1.plusHours(1);
+	private static final LocalDateTime T3 = T1.plusHours(2);
+
+	@Autowired
+	private BalanceSnapshotRepository balanceSnapshotRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("snapshotRange - adds the entries above the latest snapshot up to the cutoff")
+	void snapshotRange_WithPreviousSnapshot_AddsNewEntriesUpToCutoff() {
+
+		long opening = journal(1, 100.0, T1);
+		insertSnapshot(1, T1, 100.0, opening);
+		journal(1, -30.0, T1.plusMinutes(30));
+		long last = journal(1, 5.0, T2);
+		journal(1, 1000.0, T3);
+		journal(2, 50.0, T1);
+
+		int taken = balanceSnapshotRepository.snapshotRange(1, 2, T2);
+
+		assertThat(taken).isEqualTo(1);
+		assertThat(snapshot(1, T2))
+				.isEqualTo(new BalanceSnapshot(1, T2, 75.0, last));
+		assertThat(balanceSnapshotRepository.snapshotRange(1, 2, T2)).isZero();
+	}
+
+	@Test
+	@DisplayName("snapshotRange - ignores the snapshots taken after the cutoff")
+	void snapshotRange_WithLaterSnapshot_BuildsOnSnapshotBeforeCutoff() {
+
+		journal(1, 100.0, T1);
+		long deposit = journal(1, 20.0, T1.plusMinutes(30));
+		insertSnapshot(1, T3, 120.0, deposit);
+
+		int taken = balanceSnapshotRepository.snapshotRange(1, 2, T2);
+
+		assertThat(taken).isEqualTo(1);
+		assertThat(snapshot(1, T2))
+				.isEqualTo(new BalanceSnapshot(1, T2, 120.0, deposit));
+	}
+
+	private long journal(int accountId, double amount, LocalDateTime createdAt) {
+		jdbcTemplate.update("INSERT INTO balance_journal (account_id, amount, created_at) " +
+				"VALUES (?, ?, ?)", accountId, amount, createdAt);
+		return jdbcTemplate.queryForObject("SELECT MAX(journal_id) FROM balance_journal",
+				Long.class);
+	}
+
+	private void insertSnapshot(int accountId, LocalDateTime snapshotTime, double balance,
+			long lastJournalId) {
+		jdbcTemplate.update("INSERT INTO balance_snapshot " +
+						"(account_id, snapshot_time, balance, last_journal_id) VALUES (?, ?, ?, ?)",
+				accountId, snapshotTime, balance, lastJournalId);
+	}
+
+	private BalanceSnapshot snapshot(int accountId, LocalDateTime snapshotTime) {
+		return balanceSnapshotRepository.findById(new BalanceSnapshotId(accountId, snapshotTime))
+				.orElseThrow();
+	}
+}
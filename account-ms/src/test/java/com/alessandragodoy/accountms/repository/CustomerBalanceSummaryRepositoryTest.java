@@ -0,0 +1,105 @@
+package com.alessandragodoy.accountms.repository;
+
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA slice tests for CustomerBalanceSummaryRepository, on an embedded database in MySQL mode so
+ * the upsert runs as it does in production. The schema is created from the entities (the Flyway
+ * migrations target MySQL).
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.datasource.url=jdbc:h2:mem:summaries;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa", "spring.datasource.password="})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class CustomerBalanceSummaryRepositoryTest {
+
+	@Autowired
+	private CustomerBalanceSummaryRepository summaryRepository;
+
+	@Test
+	@DisplayName("recordAccountCreated - creates the summary row and adds to it afterwards")
+	void recordAccountCreated_WithNewAndExistingRows_UpsertsTotals() {
+
+		summaryRepository.recordAccountCreated(account(1, AccountType.SAVINGS, 100.0, true));
+		summaryRepository.recordAccountCreated(account(1, AccountType.SAVINGS, 50.0, false));
+		summaryRepository.recordAccountCreated(account(1, AccountType.CHECKING, 10.0, true));
+
+		assertThat(summaries(1)).containsExactly(
+				new CustomerBalanceSummary(1, AccountType.CHECKING, 10.0, 1, 1),
+				new CustomerBalanceSummary(1, AccountType.SAVINGS, 150.0, 2, 1));
+	}
+
+	@Test
+	@DisplayName("recordAccountsCreated - adds the accounts of each customer and account type")
+	void recordAccountsCreated_WithSeveralCustomersAndTypes_GroupsTotals() {
+
+		summaryRepository.recordAccountsCreated(List.of(
+				account(1, AccountType.SAVINGS, 100.0, true),
+				account(1, AccountType.SAVINGS, 20.0, false),
+				account(1, AccountType.CHECKING, 5.0, true),
+				account(2, AccountType.SAVINGS, 70.0, true)));
+
+		assertThat(summaries(1)).containsExactly(
+				new CustomerBalanceSummary(1, AccountType.CHECKING, 5.0, 1, 1),
+				new CustomerBalanceSummary(1, AccountType.SAVINGS, 120.0, 2, 1));
+		assertThat(summaries(2)).containsExactly(
+				new CustomerBalanceSummary(2, AccountType.SAVINGS, 70.0, 1, 1));
+	}
+
+	@Test
+	@DisplayName("recordBalanceChange - adds the signed amount to the total balance")
+	void recordBalanceChange_WithDepositAndWithdrawal_AdjustsTotalBalance() {
+
+		Account account = account(1, AccountType.SAVINGS, 100.0, true);
+		summaryRepository.recordAccountCreated(account);
+
+		summaryRepository.recordBalanceChange(account, 40.0);
+		summaryRepository.recordBalanceChange(account, -15.5);
+
+		assertThat(summaries(1)).containsExactly(
+				new CustomerBalanceSummary(1, AccountType.SAVINGS, 124.5, 1, 1));
+	}
+
+	@Test
+	@DisplayName("recordActiveChange - adjusts the active count on deactivation and activation")
+	void recordActiveChange_WithDeactivationAndActivation_AdjustsActiveCount() {
+
+		Account first = account(1, AccountType.CHECKING, 0.0, true);
+		Account second = account(1, AccountType.CHECKING, 0.0, true);
+		summaryRepository.recordAccountsCreated(List.of(first, second));
+
+		summaryRepository.recordActiveChange(first, false);
+		summaryRepository.recordActiveChange(second, false);
+		summaryRepository.recordActiveChange(first, true);
+
+		assertThat(summaries(1)).containsExactly(
+				new CustomerBalanceSummary(1, AccountType.CHECKING, 0.0, 2, 1));
+	}
+
+	private List<CustomerBalanceSummary> summaries(Integer customerId) {
+		return summaryRepository.findAllByCustomerIdOrderByAccountType(customerId);
+	}
+
+	private static Account account(Integer customerId, AccountType accountType, double balance,
+			boolean active) {
+		return Account.builder()
+				.customerId(customerId)
+				.accountType(accountType)
+				.balance(balance)
+				.active(active)
+				.build();
+	}
+}
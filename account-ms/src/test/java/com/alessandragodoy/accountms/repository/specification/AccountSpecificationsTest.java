@@ -0,0 +1,131 @@
+package com.alessandragodoy.accountms.repository.specification;
+
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA slice tests for AccountSpecifications, running the searches the way the service does, on an
+ * embedded database whose schema is created from the entities (the Flyway migrations target
+ * MySQL).
+ */
+@DataJpaTest(properties = {"spring.flyway.enabled=false",
+		"spring.jpa.hibernate.ddl-auto=create-drop"})
+class AccountSpecificationsTest {
+
+	@Autowired
+	private AccountRepository accountRepository;
+
+	private LocalDateTime createdBefore;
+	private List<Integer> accountIds;
+
+	@BeforeEach
+	void setUp() {
+		createdBefore = LocalDateTime.now().minusSeconds(1);
+		List<Account> accounts = accountRepository.saveAllAndFlush(List.of(
+				account("ACC-1", AccountType.SAVINGS, 0.0, 1),
+				account("ACC-2", AccountType.CHECKING, 150.0, 1),
+				account("ACC-3", AccountType.SAVINGS, 500.0, 2),
+				account("ACC-4", AccountType.CHECKING, 1000.0, 3)));
+		// Accounts are always created active.
+		accounts.get(2).setActive(false);
+		accountRepository.saveAndFlush(accounts.get(2));
+		accountIds = accounts.stream().map(Account::getAccountId).toList();
+	}
+
+	@Test
+	@DisplayName("matching - matches every account when no filter is set")
+	void matching_WithoutFilters_MatchesAll() {
+
+		assertThat(search(new AccountSearchCriteriaDTO()))
+				.containsExactly("ACC-1", "ACC-2", "ACC-3", "ACC-4");
+	}
+
+	@Test
+	@DisplayName("matching - matches the accounts of the given type")
+	void matching_WithAccountType_MatchesThatType() {
+
+		AccountSearchCriteriaDTO criteria = new AccountSearchCriteriaDTO();
+		criteria.setAccountType("CHECKING");
+
+		assertThat(search(criteria)).containsExactly("ACC-2", "ACC-4");
+	}
+
+	@Test
+	@DisplayName("matching - matches balances in a closed or half-open range, bounds included")
+	void matching_WithBalanceRange_MatchesBalancesInRange() {
+
+		AccountSearchCriteriaDTO closed = new AccountSearchCriteriaDTO();
+		closed.setMinBalance(150.0);
+		closed.setMaxBalance(500.0);
+		AccountSearchCriteriaDTO fromOnly = new AccountSearchCriteriaDTO();
+		fromOnly.setMinBalance(500.0);
+		AccountSearchCriteriaDTO toOnly = new AccountSearchCriteriaDTO();
+		toOnly.setMaxBalance(150.0);
+
+		assertThat(search(closed)).containsExactly("ACC-2", "ACC-3");
+		assertThat(search(fromOnly)).containsExactly("ACC-3", "ACC-4");
+		assertThat(search(toOnly)).containsExactly("ACC-1", "ACC-2");
+	}
+
+	@Test
+	@DisplayName("matching - combines the state, customer ID range and creation date range")
+	void matching_WithStateCustomerAndCreationFilters_MatchesAll() {
+
+		AccountSearchCriteriaDTO criteria = new AccountSearchCriteriaDTO();
+		criteria.setActive(true);
+		criteria.setMinCustomerId(1);
+		criteria.setMaxCustomerId(2);
+		criteria.setCreatedFrom(createdBefore);
+		AccountSearchCriteriaDTO createdEarlier = new AccountSearchCriteriaDTO();
+		createdEarlier.setCreatedTo(createdBefore);
+
+		assertThat(search(criteria)).containsExactly("ACC-1", "ACC-2");
+		assertThat(search(createdEarlier)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("matching - starts after the keyset cursor")
+	void matching_WithCursor_StartsAfterCursor() {
+
+		AccountSearchCriteriaDTO criteria = new AccountSearchCriteriaDTO();
+		criteria.setAccountType("SAVINGS");
+		criteria.setAfter(accountIds.get(0));
+
+		assertThat(search(criteria)).containsExactly("ACC-3");
+
+		criteria.setAfter(accountIds.get(2));
+
+		assertThat(search(criteria)).isEmpty();
+	}
+
+	private List<String> search(AccountSearchCriteriaDTO criteria) {
+		return accountRepository.findBy(AccountSpecifications.matching(criteria),
+						query -> query.sortBy(Sort.by("accountId")).all())
+				.stream()
+				.map(Account::getAccountNumber)
+				.toList();
+	}
+
+	private static Account account(String accountNumber, AccountType accountType, double balance,
+			Integer customerId) {
+		return Account.builder()
+				.accountNumber(accountNumber)
+				.accountType(accountType)
+				.balance(balance)
+				.customerId(customerId)
+				.build();
+	}
+}
@@ -0,0 +1,290 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.exception.ExternalServiceException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.numbering.AccountNumberAllocator;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
+import com.alessandragodoy.accountms.service.impl.AccountCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for AccountCreator.
+ */
+@ExtendWith(MockitoExtension.class)
+class AccountCreatorTest {
+
+	@Mock
+	private CustomerServiceClient customerServiceClient;
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+
+	@Mock
+	private BalanceJournalRepository balanceJournalRepository;
+
+	@Mock
+	private AccountNumberAllocator accountNumberAllocator;
+
+	@Mock
+	private TransactionOperations transactionOperations;
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("create - saves the account with summary and journal rows")
+	void create_WithValidCustomer_SavesAccountSummaryAndJournal() {
+
+		CreateAccountDTO createDTO = new CreateAccountDTO(1000.0, "SAVINGS", 1);
+		Account savedAccount = createAccount(4, "A000004", 1000.0, AccountType.SAVINGS, 1);
+
+		validateCustomer(1, new CustomerValidationResponseDTO(true, true, ""));
+		stubTransaction();
+		when(accountNumberAllocator.next()).thenReturn("A000004");
+		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
+
+		Account result = directCreator().create(createDTO).join();
+
+		assertThat(result).isSameAs(savedAccount);
+
+		verify(accountRepository).save(argThat(account -> account.getAccountId() == null &&
+				"A000004".equals(account.getAccountNumber()) &&
+				account.getBalance() == 1000.0 &&
+				account.getAccountType() == AccountType.SAVINGS &&
+				account.getCustomerId() == 1 &&
+				account.isActive()));
+		verify(customerBalanceSummaryRepository).recordAccountCreated(savedAccount);
+		verify(balanceJournalRepository).record(4, 1000.0);
+	}
+
+	@Test
+	@DisplayName("create - creates CHECKING account with zero balance")
+	void create_WithZeroBalanceChecking_ReturnsCreatedAccount() {
+
+		CreateAccountDTO createDTO = new CreateAccountDTO(0.0, "CHECKING", 1);
+		Account savedAccount = createAccount(6, "A000006", 0.0, AccountType.CHECKING, 1);
+
+		validateCustomer(1, new CustomerValidationResponseDTO(true, true, ""));
+		stubTransaction();
+		when(accountNumberAllocator.next()).thenReturn("A000006");
+		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
+
+		Account result = directCreator().create(createDTO).join();
+
+		assertThat(result.getAccountType()).isEqualTo(AccountType.CHECKING);
+		assertThat(result.getBalance()).isEqualTo(0.0);
+		verify(accountRepository).save(argThat(account ->
+				account.getAccountType() == AccountType.CHECKING && account.getBalance() == 0.0));
+	}
+
+	@Test
+	@DisplayName("create - allocates a new account number for each account")
+	void create_CalledTwice_AllocatesUniqueAccountNumbers() {
+
+		Account account1 = createAccount(13, "A000013", 1000.0, AccountType.SAVINGS, 1);
+		Account account2 = createAccount(14, "A000014", 500.0, AccountType.CHECKING, 1);
+
+		validateCustomer(1, new CustomerValidationResponseDTO(true, true, ""));
+		stubTransaction();
+		when(accountNumberAllocator.next())
+				.thenReturn("A000013")
+				.thenReturn("A000014");
+		when(accountRepository.save(any(Account.class)))
+				.thenReturn(account1)
+				.thenReturn(account2);
+
+		AccountCreator accountCreator = directCreator();
+		Account result1 = accountCreator.create(new CreateAccountDTO(1000.0, "SAVINGS", 1)).join();
+		Account result2 = accountCreator.create(new CreateAccountDTO(500.0, "CHECKING", 1)).join();
+
+		assertThat(result1.getAccountNumber()).isNotEqualTo(result2.getAccountNumber());
+
+		verify(accountNumberAllocator, times(2)).next();
+	}
+
+	@Test
+	@DisplayName("create - fails when customer does not exist")
+	void create_WithNonExistentCustomer_FailsWithAccountValidationException() {
+
+		validateCustomer(999,
+				new CustomerValidationResponseDTO(false, false, "Customer not found for ID: 999"));
+
+		CompletableFuture<Account> result =
+				directCreator().create(new CreateAccountDTO(1000.0, "SAVINGS", 999));
+
+		assertThatThrownBy(result::join)
+				.isInstanceOf(CompletionException.class)
+				.cause()
+				.isInstanceOf(AccountValidationException.class)
+				.hasMessage("Customer not found for ID: 999");
+
+		verifyNoInteractions(transactionOperations, accountRepository, accountNumberAllocator);
+	}
+
+	@Test
+	@DisplayName("create - fails when customer is inactive")
+	void create_WithInactiveCustomer_FailsWithAccountValidationException() {
+
+		validateCustomer(5,
+				new CustomerValidationResponseDTO(true, false, "Customer is not active for ID: 5"));
+
+		CompletableFuture<Account> result =
+				directCreator().create(new CreateAccountDTO(1000.0, "SAVINGS", 5));
+
+		assertThatThrownBy(result::join)
+				.cause()
+				.isInstanceOf(AccountValidationException.class)
+				.hasMessage("Customer is not active for ID: 5");
+
+		verifyNoInteractions(transactionOperations, accountRepository, accountNumberAllocator);
+	}
+
+	@Test
+	@DisplayName("create - fails without a transaction when the customer service is unavailable")
+	void create_WithCustomerServiceDown_FailsWithExternalServiceException() {
+
+		when(customerServiceClient.validateCustomerAsync(1)).thenReturn(
+				CompletableFuture.failedFuture(new ExternalServiceException("Customer service down")));
+
+		CompletableFuture<Account> result =
+				directCreator().create(new CreateAccountDTO(1000.0, "SAVINGS", 1));
+
+		assertThatThrownBy(result::join)
+				.cause()
+				.isInstanceOf(ExternalServiceException.class);
+
+		verifyNoInteractions(transactionOperations, accountRepository);
+	}
+
+	@Test
+	@DisplayName("create - opens the transaction only after the customer is validated")
+	void create_WithPendingValidation_StartsNoTransactionUntilValidated() {
+
+		CompletableFuture<CustomerValidationResponseDTO> validation = new CompletableFuture<>();
+		Account savedAccount = createAccount(7, "A000007", 1000.0, AccountType.SAVINGS, 1);
+
+		when(customerServiceClient.validateCustomerAsync(1)).thenReturn(validation);
+
+		CompletableFuture<Account> result =
+				directCreator().create(new CreateAccountDTO(1000.0, "SAVINGS", 1));
+
+		assertThat(result).isNotDone();
+		verifyNoInteractions(transactionOperations, accountRepository, accountNumberAllocator);
+
+		stubTransaction();
+		when(accountNumberAllocator.next()).thenReturn("A000007");
+		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
+
+		validation.complete(new CustomerValidationResponseDTO(true, true, ""));
+
+		assertThat(result.join()).isSameAs(savedAccount);
+
+		var inOrder = inOrder(customerServiceClient, transactionOperations, accountRepository);
+		inOrder.verify(customerServiceClient).validateCustomerAsync(1);
+		inOrder.verify(transactionOperations).execute(any());
+		inOrder.verify(accountRepository).save(any(Account.class));
+	}
+
+	@Test
+	@DisplayName("create - saves on the executor with the caller's request bound")
+	void create_WithRequestContext_SavesOnExecutorWithCallerRequest() throws Exception {
+
+		CompletableFuture<CustomerValidationResponseDTO> validation = new CompletableFuture<>();
+		RequestAttributes callerRequest = new ServletRequestAttributes(new MockHttpServletRequest());
+		AtomicReference<RequestAttributes> requestInTransaction = new AtomicReference<>();
+		AtomicReference<Thread> threadInTransaction = new AtomicReference<>();
+
+		when(customerServiceClient.validateCustomerAsync(1)).thenReturn(validation);
+		when(transactionOperations.execute(any())).thenAnswer(invocation -> {
+			requestInTransaction.set(RequestContextHolder.getRequestAttributes());
+			threadInTransaction.set(Thread.currentThread());
+			return invocation.<TransactionCallback<Account>>getArgument(0).doInTransaction(null);
+		});
+		when(accountNumberAllocator.next()).thenReturn("A000008");
+		when(accountRepository.save(any(Account.class))).thenAnswer(
+				invocation -> invocation.getArgument(0));
+
+		RequestContextHolder.setRequestAttributes(callerRequest);
+		CompletableFuture<Account> result = creator(executor)
+				.create(new CreateAccountDTO(1000.0, "SAVINGS", 1));
+		RequestContextHolder.resetRequestAttributes();
+
+		validation.complete(new CustomerValidationResponseDTO(true, true, ""));
+		result.join();
+
+		assertThat(requestInTransaction.get()).isSameAs(callerRequest);
+		assertThat(threadInTransaction.get()).isNotSameAs(Thread.currentThread());
+		assertThat(executor.submit(RequestContextHolder::getRequestAttributes).get()).isNull();
+	}
+
+	private void validateCustomer(Integer customerId, CustomerValidationResponseDTO response) {
+		when(customerServiceClient.validateCustomerAsync(customerId))
+				.thenReturn(CompletableFuture.completedFuture(response));
+	}
+
+	private void stubTransaction() {
+		when(transactionOperations.execute(any())).thenAnswer(invocation ->
+				invocation.<TransactionCallback<Account>>getArgument(0).doInTransaction(null));
+	}
+
+	private AccountCreator directCreator() {
+		return creator(Runnable::run);
+	}
+
+	private AccountCreator creator(Executor creationExecutor) {
+		return new AccountCreator(customerServiceClient, accountRepository,
+				customerBalanceSummaryRepository, balanceJournalRepository, accountNumberAllocator,
+				transactionOperations, creationExecutor);
+	}
+
+	private Account createAccount(Integer id, String accountNumber, double balance,
+								  AccountType type, Integer customerId) {
+		return Account.builder()
+				.accountId(id)
+				.accountNumber(accountNumber)
+				.balance(balance)
+				.accountType(type)
+				.customerId(customerId)
+				.active(true)
+				.build();
+	}
+}
@@ -1,33 +1,45 @@
 package com.alessandragodoy.accountms.service;
 
-import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
+import com.alessandragodoy.accountms.dto.AccountSearchCriteriaDTO;
 import com.alessandragodoy.accountms.dto.CreateAccountDTO;
-import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.event.AccountChangeEvent;
+import com.alessandragodoy.accountms.event.AccountChangeType;
 import com.alessandragodoy.accountms.exception.AccountNotFoundException;
 import com.alessandragodoy.accountms.exception.AccountValidationException;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
+import com.alessandragodoy.accountms.model.CustomerBalanceSummary;
 import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
+import com.alessandragodoy.accountms.repository.projection.AccountBalanceView;
+import com.alessandragodoy.accountms.repository.projection.AccountsVersionView;
+import com.alessandragodoy.accountms.service.impl.AccountCreator;
 import com.alessandragodoy.accountms.service.impl.AccountServiceImpl;
-import com.alessandragodoy.accountms.utility.AccountNumberGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
-import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -41,7 +53,13 @@ class AccountServiceTest {
 	private AccountRepository accountRepository;
 
 	@Mock
-	private CustomerServiceClient customerServiceClient;
+	private CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private AccountCreator accountCreator;
 
 	@InjectMocks
 	private AccountServiceImpl accountService;
@@ -121,157 +139,93 @@ class AccountServiceTest {
 	}
 
 	@Test
-	@DisplayName("createAccount - creates SAVINGS account successfully")
-	void createAccount_WithValidSavingsData_ReturnsCreatedAccount() {
-
-		CreateAccountDTO createDTO = createAccountDTO(1000.0, "SAVINGS", 1);
-		Account savedAccount = createAccount(4, "A000004", 1000.0, AccountType.SAVINGS, 1, true);
+	@DisplayName("getAccountLastModified - returns update date without loading the account")
+	void getAccountLastModified_WithExistingId_ReturnsUpdateDate() {
 
-		CustomerValidationResponseDTO validCustomer = createValidCustomerResponse();
+		LocalDateTime updateDate = LocalDateTime.of(2026, 1, 30, 10, 15, 30);
+		when(accountRepository.findUpdateDateByAccountId(1)).thenReturn(Optional.of(updateDate));
 
-		when(customerServiceClient.validateCustomer(1)).thenReturn(validCustomer);
-		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
+		assertThat(accountService.getAccountLastModified(1)).isEqualTo(updateDate);
 
-		try (MockedStatic<AccountNumberGenerator> mockedGenerator =
-					 mockStatic(AccountNumberGenerator.class)) {
-			mockedGenerator.when(AccountNumberGenerator::generateAccountNumber)
-					.thenReturn("A000004");
-
-			Account result = accountService.createAccount(createDTO);
-
-			assertThat(result).isNotNull();
-			assertThat(result.getAccountId()).isEqualTo(4);
-			assertThat(result.getAccountNumber()).isEqualTo("A000004");
-			assertThat(result.getBalance()).isEqualTo(1000.0);
-			assertThat(result.getAccountType()).isEqualTo(AccountType.SAVINGS);
-			assertThat(result.getCustomerId()).isEqualTo(1);
-			assertThat(result.isActive()).isTrue();
-
-			verify(customerServiceClient).validateCustomer(1);
-			verify(accountRepository).save(any(Account.class));
-			mockedGenerator.verify(AccountNumberGenerator::generateAccountNumber);
-		}
+		verify(accountRepository).findUpdateDateByAccountId(1);
+		verify(accountRepository, never()).findById(any());
 	}
 
 	@Test
-	@DisplayName("createAccount - creates CHECKING account successfully")
-	void createAccount_WithValidCheckingData_ReturnsCreatedAccount() {
-
-		CreateAccountDTO createDTO = createAccountDTO(500.0, "CHECKING", 1);
-		Account savedAccount = createAccount(5, "A000005", 500.0, AccountType.CHECKING, 1, true);
-
-		CustomerValidationResponseDTO validCustomer = createValidCustomerResponse();
-
-		when(customerServiceClient.validateCustomer(1)).thenReturn(validCustomer);
-		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
+	@DisplayName("getAccountLastModified - throws AccountNotFoundException when not found")
+	void getAccountLastModified_WithNonExistentId_ThrowsAccountNotFoundException() {
 
-		try (MockedStatic<AccountNumberGenerator> mockedGenerator =
-					 mockStatic(AccountNumberGenerator.class)) {
-			mockedGenerator.when(AccountNumberGenerator::generateAccountNumber)
-					.thenReturn("A000005");
+		when(accountRepository.findUpdateDateByAccountId(999)).thenReturn(Optional.empty());
 
-			Account result = accountService.createAccount(createDTO);
-
-			assertThat(result.getAccountType()).isEqualTo(AccountType.CHECKING);
-			assertThat(result.getBalance()).isEqualTo(500.0);
-
-			verify(customerServiceClient).validateCustomer(1);
-			verify(accountRepository).save(any(Account.class));
-		}
+		assertThatThrownBy(() -> accountService.getAccountLastModified(999))
+				.isInstanceOf(AccountNotFoundException.class)
+				.hasMessage("The account with ID 999 does not exist.");
 	}
 
 	@Test
-	@DisplayName("createAccount - creates account with zero balance")
-	void createAccount_WithZeroBalance_ReturnsCreatedAccount() {
-
-		CreateAccountDTO createDTO = createAccountDTO(0.0, "SAVINGS", 1);
-		Account savedAccount = createAccount(6, "A000006", 0.0, AccountType.SAVINGS, 1, true);
+	@DisplayName("getBalanceByAccountId - returns balance from scalar query")
+	void getBalanceByAccountId_WithExistingId_ReturnsBalance() {
 
-		CustomerValidationResponseDTO validCustomer = createValidCustomerResponse();
+		when(accountRepository.getBalanceByAccountId(1)).thenReturn(1000.0);
 
-		when(customerServiceClient.validateCustomer(1)).thenReturn(validCustomer);
-		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
+		assertThat(accountService.getBalanceByAccountId(1)).isEqualTo(1000.0);
 
-		try (MockedStatic<AccountNumberGenerator> mockedGenerator =
-					 mockStatic(AccountNumberGenerator.class)) {
-			mockedGenerator.when(AccountNumberGenerator::generateAccountNumber)
-					.thenReturn("A000006");
+		verify(accountRepository, never()).findById(any());
+	}
 
-			Account result = accountService.createAccount(createDTO);
+	@Test
+	@DisplayName("getBalanceByAccountId - throws AccountNotFoundException when not found")
+	void getBalanceByAccountId_WithNonExistentId_ThrowsAccountNotFoundException() {
 
-			assertThat(result.getBalance()).isEqualTo(0.0);
+		when(accountRepository.getBalanceByAccountId(999)).thenReturn(null);
 
-			verify(customerServiceClient).validateCustomer(1);
-			verify(accountRepository).save(any(Account.class));
-		}
+		assertThatThrownBy(() -> accountService.getBalanceByAccountId(999))
+				.isInstanceOf(AccountNotFoundException.class)
+				.hasMessage("The account with ID 999 does not exist.");
 	}
 
 	@Test
-	@DisplayName("createAccount - throws exception when customer does not exist")
-	void createAccount_WithNonExistentCustomer_ThrowsAccountValidationException() {
+	@DisplayName("getBalancesByAccountIds - returns balances in request order skipping missing")
+	void getBalancesByAccountIds_WithMixedIds_ReturnsBalancesInRequestOrder() {
 
-		CreateAccountDTO createDTO = createAccountDTO(1000.0, "SAVINGS", 999);
-		CustomerValidationResponseDTO invalidCustomer =
-				createInvalidCustomerResponse("Customer not found for ID: 999");
+		AccountBalanceView first = new AccountBalanceView(1, 1000.0);
+		AccountBalanceView second = new AccountBalanceView(2, 500.0);
+		when(accountRepository.findBalancesByAccountIdIn(Set.of(2, 999, 1)))
+				.thenReturn(Arrays.asList(first, second));
 
-		when(customerServiceClient.validateCustomer(999)).thenReturn(invalidCustomer);
+		List<AccountBalanceView> result =
+				accountService.getBalancesByAccountIds(Arrays.asList(2, 999, 1, 2));
 
-		assertThatThrownBy(() -> accountService.createAccount(createDTO))
-				.isInstanceOf(AccountValidationException.class)
-				.hasMessage("Customer not found for ID: 999");
-
-		verify(customerServiceClient).validateCustomer(999);
-		verify(accountRepository, never()).save(any(Account.class));
-	}
-
-	private CustomerValidationResponseDTO createInvalidCustomerResponse(String message) {
-		return new CustomerValidationResponseDTO(false, false, message);
+		assertThat(result).containsExactly(second, first);
 	}
 
 	@Test
-	@DisplayName("createAccount - throws exception when customer is inactive")
-	void createAccount_WithInactiveCustomer_ThrowsAccountValidationException() {
-
-		CreateAccountDTO createDTO = createAccountDTO(1000.0, "SAVINGS", 5);
-		CustomerValidationResponseDTO inactiveCustomer =
-				createInactiveCustomerResponse("Customer is not active for ID: 5");
+	@DisplayName("getBalancesByAccountIds - throws exception when no IDs are provided")
+	void getBalancesByAccountIds_WithEmptyList_ThrowsAccountValidationException() {
 
-		when(customerServiceClient.validateCustomer(5)).thenReturn(inactiveCustomer);
-
-		assertThatThrownBy(() -> accountService.createAccount(createDTO))
+		assertThatThrownBy(() -> accountService.getBalancesByAccountIds(Collections.emptyList()))
 				.isInstanceOf(AccountValidationException.class)
-				.hasMessage("Customer is not active for ID: 5");
-
-		verify(customerServiceClient).validateCustomer(5);
-		verify(accountRepository, never()).save(any(Account.class));
-	}
+				.hasMessage("At least one account ID must be provided.");
 
-	private CustomerValidationResponseDTO createInactiveCustomerResponse(String message) {
-		return new CustomerValidationResponseDTO(true, false, message);
+		verifyNoInteractions(accountRepository);
 	}
 
 	@Test
-	@DisplayName("createAccount - validates customer before creating account")
-	void createAccount_ValidatesCustomerFirst() {
+	@DisplayName("createAccount - returns the account created by the account creator")
+	void createAccount_WithValidData_ReturnsCreatedAccount() {
 
 		CreateAccountDTO createDTO = createAccountDTO(1000.0, "SAVINGS", 1);
-		CustomerValidationResponseDTO validCustomer = createValidCustomerResponse();
-		Account savedAccount = createAccount(7, "A000007", 1000.0, AccountType.SAVINGS, 1, true);
+		Account savedAccount = createAccount(4, "A000004", 1000.0, AccountType.SAVINGS, 1, true);
 
-		when(customerServiceClient.validateCustomer(1)).thenReturn(validCustomer);
-		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
+		when(accountCreator.create(createDTO))
+				.thenReturn(CompletableFuture.completedFuture(savedAccount));
 
-		try (MockedStatic<AccountNumberGenerator> mockedGenerator =
-					 mockStatic(AccountNumberGenerator.class)) {
-			mockedGenerator.when(AccountNumberGenerator::generateAccountNumber)
-					.thenReturn("A000007");
+		Account result = accountService.createAccount(createDTO).join();
 
-			accountService.createAccount(createDTO);
+		assertThat(result).isSameAs(savedAccount);
 
-			var inOrder = inOrder(customerServiceClient, accountRepository);
-			inOrder.verify(customerServiceClient).validateCustomer(1);
-			inOrder.verify(accountRepository).save(any(Account.class));
-		}
+		verify(accountCreator).create(createDTO);
+		verifyNoInteractions(accountRepository, customerBalanceSummaryRepository);
 	}
 
 	@Test
@@ -291,6 +245,24 @@ class AccountServiceTest {
 
 		verify(accountRepository).findById(accountId);
 		verify(accountRepository).save(inactiveAccount);
+		verify(customerBalanceSummaryRepository).recordActiveChange(inactiveAccount, true);
+		verify(eventPublisher).publishEvent(argThat((AccountChangeEvent event) ->
+				event.type() == AccountChangeType.STATUS_CHANGED
+						&& event.accountId().equals(accountId) && event.active()));
+	}
+
+	@Test
+	@DisplayName("activateAccount - does not change the summary when already active")
+	void activateAccount_WithActiveAccount_DoesNotRecordActiveChange() {
+
+		when(accountRepository.findById(1)).thenReturn(Optional.of(testAccount));
+		when(accountRepository.save(any(Account.class))).thenAnswer(
+				invocation -> invocation.getArgument(0));
+
+		Account result = accountService.activateAccount(1);
+
+		assertThat(result.isActive()).isTrue();
+		verifyNoInteractions(customerBalanceSummaryRepository, eventPublisher);
 	}
 
 	@Test
@@ -470,76 +442,175 @@ class AccountServiceTest {
 	}
 
 	@Test
-	@DisplayName("Integration - create, activate, deactivate workflow")
-	void integration_AccountLifecycle_WorksCorrectly() {
+	@DisplayName("getAccountsVersionByCustomerId - returns version of customer's accounts")
+	void getAccountsVersionByCustomerId_WithAccounts_ReturnsVersion() {
 
-		CreateAccountDTO createDTO = createAccountDTO(1000.0, "SAVINGS", 1);
-		Account savedAccount = createAccount(12, "A000012", 1000.0, AccountType.SAVINGS, 1, true);
-		CustomerValidationResponseDTO validCustomer = createValidCustomerResponse();
+		AccountsVersionView version = mock(AccountsVersionView.class);
+		when(version.getAccountCount()).thenReturn(2L);
+		when(accountRepository.findAccountsVersionByCustomerId(1)).thenReturn(version);
 
-		when(customerServiceClient.validateCustomer(1)).thenReturn(validCustomer);
-		when(accountRepository.save(any(Account.class))).thenReturn(savedAccount);
-		when(accountRepository.findById(12)).thenReturn(Optional.of(savedAccount));
+		assertThat(accountService.getAccountsVersionByCustomerId(1)).isSameAs(version);
+	}
 
-		try (MockedStatic<AccountNumberGenerator> mockedGenerator =
-					 mockStatic(AccountNumberGenerator.class)) {
-			mockedGenerator.when(AccountNumberGenerator::generateAccountNumber)
-					.thenReturn("A000012");
+	@Test
+	@DisplayName("getAccountsVersionByCustomerId - throws exception when no accounts found")
+	void getAccountsVersionByCustomerId_WithNoAccounts_ThrowsAccountNotFoundException() {
 
-			// Create
-			Account created = accountService.createAccount(createDTO);
-			assertThat(created.getAccountId()).isEqualTo(12);
-			assertThat(created.isActive()).isTrue();
+		AccountsVersionView version = mock(AccountsVersionView.class);
+		when(version.getAccountCount()).thenReturn(0L);
+		when(accountRepository.findAccountsVersionByCustomerId(999)).thenReturn(version);
 
-			// Activate (already active)
-			Account activated = accountService.activateAccount(12);
-			assertThat(activated.isActive()).isTrue();
+		assertThatThrownBy(() -> accountService.getAccountsVersionByCustomerId(999))
+				.isInstanceOf(AccountNotFoundException.class)
+				.hasMessage("No accounts found with customer ID: 999");
+	}
 
-			// Deactivate
-			savedAccount.setBalance(0.0);
-			when(accountRepository.findById(12)).thenReturn(Optional.of(savedAccount));
+	@Test
+	@DisplayName("getBalanceSummaryByCustomerId - returns the summaries of the customer")
+	void getBalanceSummaryByCustomerId_WithAccounts_ReturnsSummaries() {
 
-			Account deactivated = accountService.deactivateAccount(12);
-			assertThat(deactivated.isActive()).isFalse();
+		List<CustomerBalanceSummary> summaries = List.of(
+				new CustomerBalanceSummary(1, AccountType.CHECKING, 500.0, 1, 1),
+				new CustomerBalanceSummary(1, AccountType.SAVINGS, 1000.0, 1, 1));
+		when(customerBalanceSummaryRepository.findAllByCustomerIdOrderByAccountType(1))
+				.thenReturn(summaries);
 
-			// Verify all interactions
-			verify(customerServiceClient).validateCustomer(1);
-			verify(accountRepository, atLeastOnce()).save(any(Account.class));
-		}
+		assertThat(accountService.getBalanceSummaryByCustomerId(1)).isEqualTo(summaries);
 	}
 
 	@Test
-	@DisplayName("Account Number Generation - generates unique account numbers")
-	void createAccount_GeneratesUniqueAccountNumbers() {
+	@DisplayName("getBalanceSummaryByCustomerId - throws exception when no accounts found")
+	void getBalanceSummaryByCustomerId_WithNoAccounts_ThrowsAccountNotFoundException() {
 
-		CreateAccountDTO createDTO1 = createAccountDTO(1000.0, "SAVINGS", 1);
-		CreateAccountDTO createDTO2 = createAccountDTO(500.0, "CHECKING", 1);
+		when(customerBalanceSummaryRepository.findAllByCustomerIdOrderByAccountType(999))
+				.thenReturn(Collections.emptyList());
 
-		Account account1 = createAccount(13, "A000013", 1000.0, AccountType.SAVINGS, 1, true);
-		Account account2 = createAccount(14, "A000014", 500.0, AccountType.CHECKING, 1, true);
+		assertThatThrownBy(() -> accountService.getBalanceSummaryByCustomerId(999))
+				.isInstanceOf(AccountNotFoundException.class)
+				.hasMessage("No accounts found with customer ID: 999");
+	}
 
-		CustomerValidationResponseDTO validCustomer = createValidCustomerResponse();
+	@Test
+	@DisplayName("searchAccounts - trims the extra row and reports a next page")
+	@SuppressWarnings("unchecked")
+	void searchAccounts_WithMoreResultsThanLimit_ReturnsSliceWithNext() {
+
+		AccountSearchCriteriaDTO criteria = new AccountSearchCriteriaDTO();
+		criteria.setAccountType("SAVINGS");
+		criteria.setLimit(2);
+
+		when(accountRepository.findBy(any(Specification.class), any()))
+				.thenReturn(List.of(testAccount, testAccount2, inactiveAccount));
+
+		Slice<Account> result = accountService.searchAccounts(criteria);
+
+		assertThat(result.getContent()).containsExactly(testAccount, testAccount2);
+		assertThat(result.hasNext()).isTrue();
+	}
+
+	@Test
+	@DisplayName("searchAccounts - reports no next page when all results fit")
+	@SuppressWarnings("unchecked")
+	void searchAccounts_WithFewerResultsThanLimit_ReturnsLastSlice() {
+
+		when(accountRepository.findBy(any(Specification.class), any()))
+				.thenReturn(List.of(testAccount));
+
+		Slice<Account> result = accountService.searchAccounts(new AccountSearchCriteriaDTO());
+
+		assertThat(result.getContent()).containsExactly(testAccount);
+		assertThat(result.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("searchAccounts - throws exception when a range is inverted")
+	void searchAccounts_WithInvertedBalanceRange_ThrowsAccountValidationException() {
+
+		AccountSearchCriteriaDTO criteria = new AccountSearchCriteriaDTO();
+		criteria.setMinBalance(500.0);
+		criteria.setMaxBalance(100.0);
+
+		assertThatThrownBy(() -> accountService.searchAccounts(criteria))
+				.isInstanceOf(AccountValidationException.class)
+				.hasMessage("minBalance must not be greater than maxBalance.");
 
-		when(customerServiceClient.validateCustomer(1)).thenReturn(validCustomer);
-		when(accountRepository.save(any(Account.class)))
-				.thenReturn(account1)
-				.thenReturn(account2);
+		verifyNoInteractions(accountRepository);
+	}
+
+	@Test
+	@DisplayName("getAccountsByCustomerIds - groups accounts by customer in request order")
+	void getAccountsByCustomerIds_WithMixedCustomers_ReturnsGroupedAccounts() {
 
-		try (MockedStatic<AccountNumberGenerator> mockedGenerator =
-					 mockStatic(AccountNumberGenerator.class)) {
-			mockedGenerator.when(AccountNumberGenerator::generateAccountNumber)
-					.thenReturn("A000013")
-					.thenReturn("A000014");
+		when(accountRepository.findAllByCustomerIdIn(Set.of(2, 1, 999)))
+				.thenReturn(Arrays.asList(testAccount, testAccount2, inactiveAccount));
 
-			Account result1 = accountService.createAccount(createDTO1);
-			Account result2 = accountService.createAccount(createDTO2);
+		Map<Integer, List<Account>> result =
+				accountService.getAccountsByCustomerIds(Arrays.asList(2, 1, 999, 1));
 
-			assertThat(result1.getAccountNumber()).isEqualTo("A000013");
-			assertThat(result2.getAccountNumber()).isEqualTo("A000014");
-			assertThat(result1.getAccountNumber()).isNotEqualTo(result2.getAccountNumber());
+		assertThat(result).containsOnlyKeys(2, 1, 999);
+		assertThat(result.keySet()).containsExactly(2, 1, 999);
+		assertThat(result.get(1)).containsExactly(testAccount, testAccount2);
+		assertThat(result.get(2)).containsExactly(inactiveAccount);
+		assertThat(result.get(999)).isEmpty();
+
+		verify(accountRepository).findAllByCustomerIdIn(Set.of(2, 1, 999));
+	}
+
+	@Test
+	@DisplayName("getAccountsByCustomerIds - throws exception when no IDs are provided")
+	void getAccountsByCustomerIds_WithEmptyList_ThrowsAccountValidationException() {
+
+		assertThatThrownBy(() -> accountService.getAccountsByCustomerIds(Collections.emptyList()))
+				.isInstanceOf(AccountValidationException.class)
+				.hasMessage("At least one customer ID must be provided.");
 
-			mockedGenerator.verify(AccountNumberGenerator::generateAccountNumber, times(2));
-		}
+		verifyNoInteractions(accountRepository);
+	}
+
+	@Test
+	@DisplayName("getAccountsByCustomerIds - throws exception when too many IDs are provided")
+	void getAccountsByCustomerIds_WithTooManyIds_ThrowsAccountValidationException() {
+
+		List<Integer> customerIds = IntStream.rangeClosed(1, 101).boxed().toList();
+
+		assertThatThrownBy(() -> accountService.getAccountsByCustomerIds(customerIds))
+				.isInstanceOf(AccountValidationException.class)
+				.hasMessage("A maximum of 100 customer IDs can be requested at once.");
+
+		verifyNoInteractions(accountRepository);
+	}
+
+	@Test
+	@DisplayName("Integration - create, activate, deactivate workflow")
+	void integration_AccountLifecycle_WorksCorrectly() {
+
+		CreateAccountDTO createDTO = createAccountDTO(1000.0, "SAVINGS", 1);
+		Account savedAccount = createAccount(12, "A000012", 1000.0, AccountType.SAVINGS, 1, true);
+
+		when(accountCreator.create(createDTO))
+				.thenReturn(CompletableFuture.completedFuture(savedAccount));
+		when(accountRepository.findById(12)).thenReturn(Optional.of(savedAccount));
+		when(accountRepository.save(savedAccount)).thenReturn(savedAccount);
+
+		// Create
+		Account created = accountService.createAccount(createDTO).join();
+		assertThat(created.getAccountId()).isEqualTo(12);
+		assertThat(created.isActive()).isTrue();
+
+		// Activate (already active)
+		Account activated = accountService.activateAccount(12);
+		assertThat(activated.isActive()).isTrue();
+
+		// Deactivate
+		savedAccount.setBalance(0.0);
+		when(accountRepository.findById(12)).thenReturn(Optional.of(savedAccount));
+
+		Account deactivated = accountService.deactivateAccount(12);
+		assertThat(deactivated.isActive()).isFalse();
+
+		// Verify all interactions
+		verify(accountCreator).create(createDTO);
+		verify(accountRepository, atLeastOnce()).save(any(Account.class));
 	}
 
 	private Account createAccount(Integer id, String accountNumber, double balance,
@@ -560,8 +631,4 @@ class AccountServiceTest {
 											  Integer customerId) {
 		return new CreateAccountDTO(balance, accountType, customerId);
 	}
-
-	private CustomerValidationResponseDTO createValidCustomerResponse() {
-		return new CustomerValidationResponseDTO(true, true, "");
-	}
 }
\ No newline at end of file
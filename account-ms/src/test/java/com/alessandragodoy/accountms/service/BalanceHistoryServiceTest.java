@@ -0,0 +1,108 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.exception.AccountNotFoundException;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.BalanceSnapshot;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.BalanceSnapshotRepository;
+import com.alessandragodoy.accountms.service.impl.BalanceHistoryServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BalanceHistoryServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class BalanceHistoryServiceTest {
+
+	private static final LocalDateTime AS_OF = LocalDateTime.of(2026, 1, 30, 10, 15, 30);
+	private static final LocalDateTime SNAPSHOT_TIME = LocalDateTime.of(2026, 1, 30, 9, 0);
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private BalanceJournalRepository balanceJournalRepository;
+
+	@Mock
+	private BalanceSnapshotRepository balanceSnapshotRepository;
+
+	@InjectMocks
+	private BalanceHistoryServiceImpl balanceHistoryService;
+
+	@Test
+	@DisplayName("getBalanceAsOf - adds the changes since the latest snapshot")
+	void getBalanceAsOf_WithSnapshot_ReturnsSnapshotPlusDeltas() {
+
+		when(accountRepository.existsById(1)).thenReturn(true);
+		when(balanceSnapshotRepository
+				.findFirstByAccountIdAndSnapshotTimeLessThanEqualOrderBySnapshotTimeDesc(1, AS_OF))
+				.thenReturn(Optional.of(new BalanceSnapshot(1, SNAPSHOT_TIME, 1000.0, 42L)));
+		when(balanceJournalRepository.sumAmountsAfter(1, 42L, AS_OF))
+				.thenReturn(-250.0);
+
+		double result = balanceHistoryService.getBalanceAsOf(1, AS_OF);
+
+		assertThat(result).isEqualTo(750.0);
+		verify(balanceJournalRepository, never()).sumAmountsUpTo(any(), any());
+	}
+
+	@Test
+	@DisplayName("getBalanceAsOf - adds the whole journal when there is no snapshot yet")
+	void getBalanceAsOf_WithoutSnapshot_ReturnsJournalTotal() {
+
+		when(accountRepository.existsById(1)).thenReturn(true);
+		when(balanceSnapshotRepository
+				.findFirstByAccountIdAndSnapshotTimeLessThanEqualOrderBySnapshotTimeDesc(1, AS_OF))
+				.thenReturn(Optional.empty());
+		when(balanceJournalRepository.existsByAccountIdAndCreatedAtLessThanEqual(1, AS_OF))
+				.thenReturn(true);
+		when(balanceJournalRepository.sumAmountsUpTo(1, AS_OF)).thenReturn(500.0);
+
+		double result = balanceHistoryService.getBalanceAsOf(1, AS_OF);
+
+		assertThat(result).isEqualTo(500.0);
+	}
+
+	@Test
+	@DisplayName("getBalanceAsOf - throws exception when there is no history at that time")
+	void getBalanceAsOf_WithoutHistory_ThrowsAccountValidationException() {
+
+		when(accountRepository.existsById(1)).thenReturn(true);
+		when(balanceSnapshotRepository
+				.findFirstByAccountIdAndSnapshotTimeLessThanEqualOrderBySnapshotTimeDesc(1, AS_OF))
+				.thenReturn(Optional.empty());
+		when(balanceJournalRepository.existsByAccountIdAndCreatedAtLessThanEqual(1, AS_OF))
+				.thenReturn(false);
+
+		assertThatThrownBy(() -> balanceHistoryService.getBalanceAsOf(1, AS_OF))
+				.isInstanceOf(AccountValidationException.class)
+				.hasMessageContaining("No balance history is available for the account with ID 1");
+	}
+
+	@Test
+	@DisplayName("getBalanceAsOf - throws exception when account not found")
+	void getBalanceAsOf_WithNonExistentAccount_ThrowsAccountNotFoundException() {
+
+		when(accountRepository.existsById(999)).thenReturn(false);
+
+		assertThatThrownBy(() -> balanceHistoryService.getBalanceAsOf(999, AS_OF))
+				.isInstanceOf(AccountNotFoundException.class)
+				.hasMessage("The account with ID 999 does not exist.");
+
+		verifyNoInteractions(balanceSnapshotRepository, balanceJournalRepository);
+	}
+}
@@ -0,0 +1,179 @@
+package com.alessandragodoy.accountms.service;
+
+import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
+import com.alessandragodoy.accountms.configuration.BulkAccountProperties;
+import com.alessandragodoy.accountms.dto.BulkAccountResultDTO;
+import com.alessandragodoy.accountms.dto.CreateAccountDTO;
+import com.alessandragodoy.accountms.dto.CustomerValidationResponseDTO;
+import com.alessandragodoy.accountms.exception.AccountValidationException;
+import com.alessandragodoy.accountms.model.Account;
+import com.alessandragodoy.accountms.numbering.AccountNumberAllocator;
+import com.alessandragodoy.accountms.numbering.AccountNumbers;
+import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
+import com.alessandragodoy.accountms.service.impl.BulkAccountServiceImpl;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkAccountServiceImpl.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkAccountServiceTest {
+
+	private static final CustomerValidationResponseDTO ACTIVE =
+			new CustomerValidationResponseDTO(true, true, "Customer is active");
+	private static final CustomerValidationResponseDTO INACTIVE =
+			new CustomerValidationResponseDTO(true, false, "Customer is inactive");
+
+	@Mock
+	private AccountRepository accountRepository;
+
+	@Mock
+	private CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+
+	@Mock
+	private BalanceJournalRepository balanceJournalRepository;
+
+	@Mock
+	private CustomerServiceClient customerServiceClient;
+
+	@Mock
+	private AccountNumberAllocator accountNumberAllocator;
+
+	private final AtomicInteger nextAccountId = new AtomicInteger(100);
+	private final AtomicInteger nextAccountNumber = new AtomicInteger(1);
+
+	private BulkAccountServiceImpl bulkAccountService;
+
+	@BeforeEach
+	void setUp() {
+		bulkAccountService = service(2);
+	}
+
+	@Test
+	@DisplayName("createAccounts - creates every valid account and reports each item in order")
+	void createAccounts_WithValidItems_CreatesAccounts() {
+
+		assignIdsOnSave();
+		when(customerServiceClient.validateCustomers(Set.of(1, 2)))
+				.thenReturn(Map.of(1, ACTIVE, 2, ACTIVE));
+
+		List<BulkAccountResultDTO> results = bulkAccountService.createAccounts(List.of(
+				new CreateAccountDTO(100.0, "SAVINGS", 1),
+				new CreateAccountDTO(200.0, "CHECKING", 2),
+				new CreateAccountDTO(0.0, "SAVINGS", 1)));
+
+		assertThat(results).extracting(BulkAccountResultDTO::getStatus)
+				.containsOnly(BulkAccountResultDTO.Status.CREATED);
+		assertThat(results).extracting(BulkAccountResultDTO::getIndex).containsExactly(0, 1, 2);
+		assertThat(results).extracting(BulkAccountResultDTO::getAccountId)
+				.containsExactly(100, 101, 102);
+		assertThat(results).extracting(BulkAccountResultDTO::getAccountNumber).containsExactly(
+				AccountNumbers.format(1), AccountNumbers.format(2), AccountNumbers.format(3));
+		verify(customerServiceClient, times(1)).validateCustomers(any());
+		verify(accountRepository, times(2)).saveAll(anyList());
+		verify(balanceJournalRepository).recordOpeningBalances(eq(List.of(100, 101)), any());
+		verify(balanceJournalRepository).recordOpeningBalances(eq(List.of(102)), any());
+		verify(customerBalanceSummaryRepository, times(2)).recordAccountsCreated(anyList());
+	}
+
+	@Test
+	@DisplayName("createAccounts - reports invalid items and rejected customers without creating them")
+	void createAccounts_WithInvalidItems_ReportsFailures() {
+
+		assignIdsOnSave();
+		when(customerServiceClient.validateCustomers(Set.of(1, 2, 3)))
+				.thenReturn(Map.of(1, ACTIVE, 2, INACTIVE));
+
+		List<BulkAccountResultDTO> results = bulkAccountService.createAccounts(List.of(
+				new CreateAccountDTO(-10.0, "SAVINGS", 1),
+				new CreateAccountDTO(100.0, "SAVINGS", 2),
+				new CreateAccountDTO(100.0, "SAVINGS", 3),
+				new CreateAccountDTO(100.0, "SAVINGS", 1)));
+
+		assertThat(results).extracting(BulkAccountResultDTO::getStatus).containsExactly(
+				BulkAccountResultDTO.Status.FAILED, BulkAccountResultDTO.Status.FAILED,
+				BulkAccountResultDTO.Status.FAILED, BulkAccountResultDTO.Status.CREATED);
+		assertThat(results.get(0).getMessage()).isEqualTo("balance: Balance must be zero or positive");
+		assertThat(results.get(1).getMessage()).isEqualTo("Customer is inactive");
+		assertThat(results.get(2).getMessage()).contains("no validation for the customer with ID 3");
+		verify(accountRepository, times(1)).saveAll(anyList());
+		verify(accountNumberAllocator, times(1)).next();
+	}
+
+	@Test
+	@DisplayName("createAccounts - a failed chunk fails its items only")
+	void createAccounts_WhenChunkFails_FailsItsItemsOnly() {
+
+		when(customerServiceClient.validateCustomers(Set.of(1)))
+				.thenReturn(Map.of(1, ACTIVE));
+		when(accountRepository.saveAll(anyList()))
+				.thenThrow(new DataIntegrityViolationException("Duplicate account number"))
+				.thenAnswer(invocation -> invocation.getArgument(0));
+		allocateAccountNumbers();
+
+		List<BulkAccountResultDTO> results = bulkAccountService.createAccounts(
+				Collections.nCopies(3, new CreateAccountDTO(100.0, "SAVINGS", 1)));
+
+		assertThat(results).extracting(BulkAccountResultDTO::getStatus).containsExactly(
+				BulkAccountResultDTO.Status.FAILED, BulkAccountResultDTO.Status.FAILED,
+				BulkAccountResultDTO.Status.CREATED);
+		assertThat(results.get(0).getMessage()).contains("could not be created");
+	}
+
+	@Test
+	@DisplayName("createAccounts - rejects requests with too many items")
+	void createAccounts_WithTooManyItems_ThrowsAccountValidationException() {
+
+		List<CreateAccountDTO> items = Collections.nCopies(11,
+				new CreateAccountDTO(100.0, "SAVINGS", 1));
+
+		assertThatThrownBy(() -> bulkAccountService.createAccounts(items))
+				.isInstanceOf(AccountValidationException.class)
+				.hasMessage("At most 10 accounts can be created in a single request.");
+		verifyNoInteractions(customerServiceClient, accountRepository);
+	}
+
+	private void assignIdsOnSave() {
+		allocateAccountNumbers();
+		when(accountRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Account> accounts = invocation.getArgument(0);
+			accounts.forEach(account -> account.setAccountId(nextAccountId.getAndIncrement()));
+			return accounts;
+		});
+	}
+
+	private void allocateAccountNumbers() {
+		when(accountNumberAllocator.next()).thenAnswer(
+				invocation -> AccountNumbers.format(nextAccountNumber.getAndIncrement()));
+	}
+
+	private BulkAccountServiceImpl service(int chunkSize) {
+		return new BulkAccountServiceImpl(accountRepository, customerBalanceSummaryRepository,
+				balanceJournalRepository, customerServiceClient, accountNumberAllocator,
+				Validation.buildDefaultValidatorFactory().getValidator(),
+				TransactionOperations.withoutTransaction(),
+				new BulkAccountProperties(10, chunkSize));
+	}
+}
@@ -1,10 +1,15 @@
 package com.alessandragodoy.accountms.service;
 
+import com.alessandragodoy.accountms.adapter.CustomerServiceClient;
 import com.alessandragodoy.accountms.dto.TransferRequestDTO;
 import com.alessandragodoy.accountms.dto.TransferResponseDTO;
+import com.alessandragodoy.accountms.event.AccountChangeEvent;
+import com.alessandragodoy.accountms.event.AccountChangeType;
 import com.alessandragodoy.accountms.model.Account;
 import com.alessandragodoy.accountms.model.AccountType;
 import com.alessandragodoy.accountms.repository.AccountRepository;
+import com.alessandragodoy.accountms.repository.BalanceJournalRepository;
+import com.alessandragodoy.accountms.repository.CustomerBalanceSummaryRepository;
 import com.alessandragodoy.accountms.service.impl.InternalAccountServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,11 +19,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +39,18 @@ class InternalAccountServiceTest {
 	@Mock
 	private AccountRepository accountRepository;
 
+	@Mock
+	private CustomerBalanceSummaryRepository customerBalanceSummaryRepository;
+
+	@Mock
+	private BalanceJournalRepository balanceJournalRepository;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private CustomerServiceClient customerServiceClient;
+
 	@InjectMocks
 	private InternalAccountServiceImpl internalAccountService;
 
@@ -57,8 +76,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 2, 300.0);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -79,6 +98,18 @@ class InternalAccountServiceTest {
 		verify(accountRepository).save(sourceAccount);
 		verify(accountRepository).save(destinationAccount);
 		verify(accountRepository, times(2)).save(any(Account.class));
+		verify(customerBalanceSummaryRepository).recordBalanceChange(sourceAccount, -300.0);
+		verify(customerBalanceSummaryRepository).recordBalanceChange(destinationAccount, 300.0);
+		verify(balanceJournalRepository).record(1, -300.0);
+		verify(balanceJournalRepository).record(2, 300.0);
+
+		ArgumentCaptor<AccountChangeEvent> events = ArgumentCaptor.forClass(AccountChangeEvent.class);
+		verify(eventPublisher, times(2)).publishEvent(events.capture());
+		assertThat(events.getAllValues())
+				.extracting(AccountChangeEvent::type, AccountChangeEvent::accountId,
+						AccountChangeEvent::balance)
+				.containsExactly(tuple(AccountChangeType.BALANCE_CHANGED, 1, 700.0),
+						tuple(AccountChangeType.BALANCE_CHANGED, 2, 800.0));
 	}
 
 	private TransferRequestDTO createTransferRequest(String transactionType, Integer sourceId,
@@ -93,8 +124,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_OWN_ACCOUNT", 1, 2, 200.0);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -112,8 +143,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 2, 1000.0);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -131,8 +162,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 2, 0.01);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -150,7 +181,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 999, 2, 100.0);
 
-		when(accountRepository.findById(999)).thenReturn(Optional.empty());
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(999)).thenReturn(Optional.empty());
 
 		TransferResponseDTO result = internalAccountService.executeTransfer(transferRequest);
 
@@ -164,7 +196,6 @@ class InternalAccountServiceTest {
 		assertThat(result.getFinalDestinationBalance()).isNull();
 
 		verify(accountRepository, never()).save(any(Account.class));
-		verify(accountRepository, never()).findById(2); // Should fail before checking destination
 	}
 
 	@Test
@@ -174,7 +205,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 3, 2, 100.0);
 
-		when(accountRepository.findById(3)).thenReturn(Optional.of(inactiveAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(3)).thenReturn(Optional.of(inactiveAccount));
 
 		TransferResponseDTO result = internalAccountService.executeTransfer(transferRequest);
 
@@ -183,7 +215,6 @@ class InternalAccountServiceTest {
 		assertThat(result.getErrorMessage()).isEqualTo("Source account is not active for ID: 3");
 
 		verify(accountRepository, never()).save(any(Account.class));
-		verify(accountRepository, never()).findById(2);
 	}
 
 	@Test
@@ -193,7 +224,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 4, 2, 100.0);
 
-		when(accountRepository.findById(4)).thenReturn(Optional.of(insufficientBalanceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(4)).thenReturn(Optional.of(insufficientBalanceAccount));
 
 		TransferResponseDTO result = internalAccountService.executeTransfer(transferRequest);
 
@@ -203,7 +235,6 @@ class InternalAccountServiceTest {
 				"Insufficient balance in source account: 50.0");
 
 		verify(accountRepository, never()).save(any(Account.class));
-		verify(accountRepository, never()).findById(2);
 	}
 
 	@Test
@@ -213,7 +244,7 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 2, 1000.01);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
 
 		TransferResponseDTO result = internalAccountService.executeTransfer(transferRequest);
 
@@ -231,8 +262,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 999, 100.0);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(999)).thenReturn(Optional.empty());
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(999)).thenReturn(Optional.empty());
 
 		TransferResponseDTO result = internalAccountService.executeTransfer(transferRequest);
 
@@ -251,8 +282,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 3, 100.0);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(3)).thenReturn(Optional.of(inactiveAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(3)).thenReturn(Optional.of(inactiveAccount));
 
 		TransferResponseDTO result = internalAccountService.executeTransfer(transferRequest);
 
@@ -271,8 +302,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 2, 250.0);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -300,6 +331,31 @@ class InternalAccountServiceTest {
 		assertThat(savedDest.getBalance()).isEqualTo(750.0);
 	}
 
+	@Test
+	@DisplayName("executeTransfer - locks both accounts in account ID order")
+	void executeTransfer_FromHigherToLowerId_LocksAccountsInIdOrder() {
+
+		TransferRequestDTO transferRequest = createTransferRequest(
+				"TRANSFER_THIRD_PARTY_ACCOUNT", 2, 1, 100.0);
+
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.save(any(Account.class))).thenAnswer(
+				invocation -> invocation.getArgument(0));
+
+		TransferResponseDTO result = internalAccountService.executeTransfer(transferRequest);
+
+		assertThat(result.isSuccess()).isTrue();
+		assertThat(result.getFinalSourceBalance()).isEqualTo(400.0);
+		assertThat(result.getFinalDestinationBalance()).isEqualTo(1100.0);
+
+		var inOrder = inOrder(accountRepository);
+		inOrder.verify(accountRepository).findByIdForUpdate(1);
+		inOrder.verify(accountRepository).findByIdForUpdate(2);
+		inOrder.verify(accountRepository, times(2)).save(any(Account.class));
+		verify(accountRepository, never()).findById(any());
+	}
+
 	@Test
 	@DisplayName("executeTransfer - does not save accounts when validation fails")
 	void executeTransfer_DoesNotSaveOnValidationFailure() {
@@ -307,7 +363,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 999, 2, 100.0);
 
-		when(accountRepository.findById(999)).thenReturn(Optional.empty());
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(999)).thenReturn(Optional.empty());
 
 		internalAccountService.executeTransfer(transferRequest);
 
@@ -367,8 +424,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_OWN_ACCOUNT", 10, 11, 300.0);
 
-		when(accountRepository.findById(10)).thenReturn(Optional.of(customerAccount1));
-		when(accountRepository.findById(11)).thenReturn(Optional.of(customerAccount2));
+		when(accountRepository.findByIdForUpdate(10)).thenReturn(Optional.of(customerAccount1));
+		when(accountRepository.findByIdForUpdate(11)).thenReturn(Optional.of(customerAccount2));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -386,8 +443,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 2, 400.0);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount)); // SAVINGS
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount)); //
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount)); // SAVINGS
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount)); //
 		// CHECKING
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
@@ -408,8 +465,8 @@ class InternalAccountServiceTest {
 		Account testDest = createAccount(21, "A000021", 0.0,
 				AccountType.CHECKING, 21, true);
 
-		when(accountRepository.findById(20)).thenReturn(Optional.of(testAccount));
-		when(accountRepository.findById(21)).thenReturn(Optional.of(testDest));
+		when(accountRepository.findByIdForUpdate(20)).thenReturn(Optional.of(testAccount));
+		when(accountRepository.findByIdForUpdate(21)).thenReturn(Optional.of(testDest));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -442,8 +499,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 30, 2, 999999.99);
 
-		when(accountRepository.findById(30)).thenReturn(Optional.of(richAccount));
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(30)).thenReturn(Optional.of(richAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -461,8 +518,8 @@ class InternalAccountServiceTest {
 		TransferRequestDTO transferRequest = createTransferRequest(
 				"TRANSFER_THIRD_PARTY_ACCOUNT", 1, 2, 123.45);
 
-		when(accountRepository.findById(1)).thenReturn(Optional.of(sourceAccount));
-		when(accountRepository.findById(2)).thenReturn(Optional.of(destinationAccount));
+		when(accountRepository.findByIdForUpdate(1)).thenReturn(Optional.of(sourceAccount));
+		when(accountRepository.findByIdForUpdate(2)).thenReturn(Optional.of(destinationAccount));
 		when(accountRepository.save(any(Account.class))).thenAnswer(
 				invocation -> invocation.getArgument(0));
 
@@ -473,6 +530,16 @@ class InternalAccountServiceTest {
 		assertThat(result.getFinalDestinationBalance()).isEqualTo(623.45);
 	}
 
+	@Test
+	@DisplayName("evictCustomerValidation - evicts the cached validation of the customer")
+	void evictCustomerValidation_EvictsFromClient() {
+
+		internalAccountService.evictCustomerValidation(1);
+
+		verify(customerServiceClient).evictValidation(1);
+		verifyNoInteractions(accountRepository);
+	}
+
 	private Account createAccount(Integer id, String accountNumber, double balance,
 								  AccountType type, Integer customerId, boolean active) {
 		return Account.builder()
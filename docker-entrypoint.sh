@@ -0,0 +1,40 @@
+#!/bin/sh
+# Starts the service with the JVM options of the runtime profile selected by JVM_PROFILE.
+#
+#   fast-start   (default) Serial GC and the C1 compiler only (TieredStopAtLevel=1). Starts and
+#                warms up the fastest with the least memory and CPU, at the cost of peak
+#                throughput: the hot paths are never compiled by C2. Fixed 256 MB heap, as before
+#                the profiles were introduced. For small instances that scale out often.
+#   throughput   Parallel GC and full tiered compilation (C1, then C2). The most work per CPU
+#                once C2 has compiled the hot paths, in exchange for longer stop-the-world
+#                pauses as the heap grows. The heap takes 75% of the container's memory, sized
+#                up front so it is not resized under load. Needs at least 2 CPUs.
+#   low-latency  G1 with a 50 ms pause target and full tiered compilation. Shorter, more even
+#                pauses than Parallel GC, for some throughput and more memory. The heap takes 70%
+#                of the container's memory and is touched at startup (AlwaysPreTouch), which
+#                slows startup but keeps first-use page faults out of request latency.
+#
+# The container's memory limit is detected by the JVM (MaxRAMPercentage). JAVA_OPTS is added
+# after the profile's options, so it can extend or override them.
+set -eu
+
+case "${JVM_PROFILE:-fast-start}" in
+	fast-start)
+		PROFILE_OPTS="-XX:+UseSerialGC -XX:TieredStopAtLevel=1 -Xmx256m -Xms128m -XX:MaxRAM=256m"
+		;;
+	throughput)
+		PROFILE_OPTS="-XX:+UseParallelGC -XX:MaxRAMPercentage=75 -XX:InitialRAMPercentage=75"
+		;;
+	low-latency)
+		PROFILE_OPTS="-XX:+UseG1GC -XX:MaxGCPauseMillis=50 -XX:MaxRAMPercentage=70 \
+			-XX:InitialRAMPercentage=70 -XX:+AlwaysPreTouch"
+		;;
+	*)
+		echo "Unknown JVM_PROFILE '${JVM_PROFILE}', expected fast-start, throughput or low-latency." >&2
+		exit 1
+		;;
+esac
+
+# shellcheck disable=SC2086
+exec java ${PROFILE_OPTS} -Djava.security.egd=file:/dev/./urandom ${JAVA_OPTS:-} \
+	-XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled="${AOT_ENABLED:-false}" -jar app.jar "$@"
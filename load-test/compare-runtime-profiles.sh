@@ -0,0 +1,100 @@
+#!/usr/bin/env sh
+# Compares the JVM runtime profiles of the Docker image on the transfer and read endpoints.
+#
+# Starts one container per profile (JVM_PROFILE) from the same image, with the same CPU and
+# memory limits and against the same database, runs load-test/runtime-profiles.js against it and
+# prints, per profile and endpoint, the request rate and latency of the measure phase, plus the
+# startup time. The settings, image and host are written next to the results, so a run can be
+# repeated and compared. Requires Docker, k6 and jq.
+#
+# Usage (from the repository root, after docker build -t account-ms .):
+#   SPRING_DATASOURCE_URL=jdbc:mysql://localhost:3306/account_db SPRING_DATASOURCE_USERNAME=... \
+#     SPRING_DATASOURCE_PASSWORD=... load-test/compare-runtime-profiles.sh
+#
+# The container uses the host network, so localhost in SPRING_DATASOURCE_URL is the host's.
+# Optional: IMAGE (default account-ms), PROFILES (default "fast-start throughput low-latency"),
+# CPUS (default 2), MEMORY (default 512m), VUS (default 100), WARMUP (default 1m), DURATION
+# (default 3m), PORT (default 8080), RESULTS (default load-test/results/runtime).
+set -eu
+
+IMAGE=${IMAGE:-account-ms}
+PROFILES=${PROFILES:-fast-start throughput low-latency}
+CPUS=${CPUS:-2}
+MEMORY=${MEMORY:-512m}
+VUS=${VUS:-100}
+WARMUP=${WARMUP:-1m}
+DURATION=${DURATION:-3m}
+PORT=${PORT:-8080}
+RESULTS=${RESULTS:-load-test/results/runtime}
+BASE_URL="http://localhost:${PORT}"
+ENDPOINTS="getAccountById getAccountsByCustomerId executeTransfer"
+
+mkdir -p "${RESULTS}"
+
+{
+	echo "date: $(date -u +%Y-%m-%dT%H:%M:%SZ)"
+	echo "image: ${IMAGE} $(docker image inspect --format '{{.Id}}' "${IMAGE}")"
+	echo "host: $(uname -srm), $(nproc) CPUs"
+	echo "k6: $(k6 version)"
+	echo "container: --cpus ${CPUS} --memory ${MEMORY}"
+	echo "load: VUS=${VUS} WARMUP=${WARMUP} DURATION=${DURATION}"
+	echo "profiles: ${PROFILES}"
+} > "${RESULTS}/environment.txt"
+
+run() {
+	profile=$1
+	name="account-ms-${profile}"
+
+	echo "== ${profile}: starting ${IMAGE}"
+	started=$(date +%s%3N)
+	docker run -d --rm --name "${name}" --network host --cpus "${CPUS}" --memory "${MEMORY}" \
+		-e JVM_PROFILE="${profile}" \
+		-e JAVA_OPTS="-Dserver.port=${PORT}" \
+		-e SPRING_DATASOURCE_URL -e SPRING_DATASOURCE_USERNAME -e SPRING_DATASOURCE_PASSWORD \
+		-e SPRING_DATASOURCE_DRIVER_CLASS_NAME="${SPRING_DATASOURCE_DRIVER_CLASS_NAME:-com.mysql.cj.jdbc.Driver}" \
+		-e CUSTOMER_MS_URL="${CUSTOMER_MS_URL:-http://localhost:8085}" \
+		-e ACCOUNT_BALANCE_SNAPSHOT_ENABLED=false \
+		"${IMAGE}" > /dev/null
+
+	until curl -fs "${BASE_URL}/actuator/health" > /dev/null; do
+		if [ -z "$(docker ps -q --filter "name=^${name}$")" ]; then
+			echo "The container did not start, see docker logs of ${name}" >&2
+			exit 1
+		fi
+		sleep 0.1
+	done
+	echo "$(($(date +%s%3N) - started))" > "${RESULTS}/${profile}-startup.txt"
+
+	echo "== ${profile}: running k6"
+	k6 run --quiet -e BASE_URL="${BASE_URL}" -e VUS="${VUS}" -e WARMUP="${WARMUP}" \
+		-e DURATION="${DURATION}" --summary-export "${RESULTS}/${profile}.json" \
+		load-test/runtime-profiles.js > "${RESULTS}/${profile}-k6.txt" || true
+
+	docker logs "${name}" > "${RESULTS}/${profile}.log" 2>&1
+	docker stop "${name}" > /dev/null
+}
+
+for profile in ${PROFILES}; do
+	run "${profile}"
+done
+
+seconds=$(echo "${DURATION}" | awk '/m$/ { print $0 * 60; next } { print $0 + 0 }')
+
+printf '\n%-12s %-24s %10s %10s %10s %10s %8s %12s\n' profile endpoint 'req/s' \
+	'p50 (ms)' 'p99 (ms)' 'max (ms)' failed 'startup (ms)'
+for profile in ${PROFILES}; do
+	startup=$(cat "${RESULTS}/${profile}-startup.txt")
+	for endpoint in ${ENDPOINTS}; do
+		key="scenario:measure,name:${endpoint}"
+		jq -r --arg profile "${profile}" --arg endpoint "${endpoint}" --arg key "${key}" \
+			--argjson seconds "${seconds}" --arg startup "${startup}" '[$profile, $endpoint,
+			(.metrics["http_reqs{" + $key + "}"].count / $seconds | floor),
+			(.metrics["http_req_duration{" + $key + "}"].med | floor),
+			(.metrics["http_req_duration{" + $key + "}"]["p(99)"] | floor),
+			(.metrics["http_req_duration{" + $key + "}"].max | floor),
+			(.metrics["http_req_failed{" + $key + "}"].value * 100 | tostring + "%"),
+			$startup] | @tsv' "${RESULTS}/${profile}.json" \
+			| awk -F'\t' '{printf "%-12s %-24s %10s %10s %10s %10s %8s %12s\n",
+				$1, $2, $3, $4, $5, $6, $7, $8}'
+	done
+done
@@ -0,0 +1,73 @@
+#!/usr/bin/env sh
+# Compares throughput and latency of the platform thread pool and virtual threads.
+#
+# Starts the service once per mode against the same database, with customer-ms replaced by the
+# in-memory stub answering after STUB_LATENCY, runs load-test/threading.js against it and prints
+# the request rate and the p99 latency of both runs. Requires Java 21+, k6 and jq.
+#
+# Usage (from the repository root, after mvn package):
+#   DEV_DB_URL=jdbc:mysql://localhost:3306/account_db DEV_DB_USERNAME=... DEV_DB_PASSWORD=... \
+#     load-test/compare-threading.sh
+#
+# Optional: JAR, VUS (default 1000), DURATION (default 2m), STUB_LATENCY (default 50ms),
+# DB_POOL_SIZE (default 10), PORT (default 8086), RESULTS (default load-test/results).
+set -eu
+
+JAR=${JAR:-$(ls account-ms/target/account-ms-*.jar | grep -v original | head -n 1)}
+PORT=${PORT:-8086}
+RESULTS=${RESULTS:-load-test/results}
+BASE_URL="http://localhost:${PORT}"
+
+java_major=$(java -XshowSettings:properties -version 2>&1 \
+	| awk -F'= ' '/java.specification.version/ {print $2}')
+if [ "${java_major}" -lt 21 ]; then
+	echo "Virtual threads need Java 21 or later, found ${java_major}." >&2
+	exit 1
+fi
+
+mkdir -p "${RESULTS}"
+
+run() {
+	mode=$1
+	virtual=$2
+
+	echo "== ${mode}: starting ${JAR}"
+	VIRTUAL_THREADS_ENABLED=${virtual} \
+	CUSTOMER_MS_TRANSPORT=stub \
+	CUSTOMER_MS_STUB_LATENCY=${STUB_LATENCY:-50ms} \
+	CUSTOMER_MS_URL=http://localhost:0 \
+	ACCOUNT_BALANCE_SNAPSHOT_ENABLED=false \
+	SPRING_JPA_SHOW_SQL=false \
+	java -jar "${JAR}" --spring.profiles.active=dev --server.port="${PORT}" \
+		> "${RESULTS}/${mode}.log" 2>&1 &
+	pid=$!
+
+	until curl -fs "${BASE_URL}/actuator/health" > /dev/null; do
+		if ! kill -0 "${pid}" 2> /dev/null; then
+			echo "The service did not start, see ${RESULTS}/${mode}.log" >&2
+			exit 1
+		fi
+		sleep 1
+	done
+
+	echo "== ${mode}: running k6"
+	k6 run --quiet -e BASE_URL="${BASE_URL}" --summary-export "${RESULTS}/${mode}.json" \
+		load-test/threading.js > "${RESULTS}/${mode}-k6.txt" || true
+
+	kill "${pid}"
+	wait "${pid}" 2> /dev/null || true
+}
+
+run platform false
+run virtual true
+
+printf '\n%-10s %12s %12s %12s %10s\n' mode 'req/s' 'p99 (ms)' 'max (ms)' failed
+for mode in platform virtual; do
+	jq -r --arg mode "${mode}" '[$mode,
+		(.metrics.http_reqs.rate | floor),
+		(.metrics.http_req_duration["p(99)"] | floor),
+		(.metrics.http_req_duration.max | floor),
+		(.metrics.http_req_failed.value * 100 | tostring + "%")] | @tsv' \
+		"${RESULTS}/${mode}.json" \
+		| awk -F'\t' '{printf "%-10s %12s %12s %12s %10s\n", $1, $2, $3, $4, $5}'
+done
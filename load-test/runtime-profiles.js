@@ -0,0 +1,88 @@
+// Load test comparing the JVM runtime profiles on the transfer and read endpoints.
+//
+// Every virtual user loops over a mix of requests:
+//   50% GET  /api/v1/accounts/{accountId}
+//   20% GET  /api/v1/accounts/customer/{customerId}
+//   30% POST /api/v1/internal/accounts/execute-transfer (0.01 between two random accounts, so
+//       balances drift little and insufficient funds stay rare across runs)
+// A warm-up phase runs first and is left out of the results, so that the throughput and
+// low-latency profiles are measured after C2 has compiled the hot paths. Only requests of the
+// measure phase are reported, per endpoint. Run it through compare-runtime-profiles.sh, which
+// starts one container per profile; it can also be pointed at a running instance:
+//   k6 run -e BASE_URL=http://localhost:8080 load-test/runtime-profiles.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MAX_ACCOUNT_ID = parseInt(__ENV.MAX_ACCOUNT_ID || '8', 10);
+const MAX_CUSTOMER_ID = parseInt(__ENV.MAX_CUSTOMER_ID || '4', 10);
+const VUS = parseInt(__ENV.VUS || '100', 10);
+const WARMUP = __ENV.WARMUP || '1m';
+const DURATION = __ENV.DURATION || '3m';
+
+// Thresholds that always pass, so the summary export has a submetric per endpoint.
+const ENDPOINTS = ['getAccountById', 'getAccountsByCustomerId', 'executeTransfer'];
+const thresholds = {};
+ENDPOINTS.forEach((name) => {
+	thresholds[`http_req_duration{scenario:measure,name:${name}}`] = ['max>=0'];
+	thresholds[`http_reqs{scenario:measure,name:${name}}`] = ['count>=0'];
+	thresholds[`http_req_failed{scenario:measure,name:${name}}`] = ['rate>=0'];
+});
+
+export const options = {
+	scenarios: {
+		warmup: {
+			executor: 'constant-vus',
+			vus: VUS,
+			duration: WARMUP,
+			gracefulStop: '0s',
+		},
+		measure: {
+			executor: 'constant-vus',
+			vus: VUS,
+			duration: DURATION,
+			startTime: WARMUP,
+			gracefulStop: '10s',
+		},
+	},
+	thresholds,
+	summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+	discardResponseBodies: true,
+};
+
+function randomId(max) {
+	return 1 + Math.floor(Math.random() * max);
+}
+
+function transfer() {
+	const sourceAccountId = randomId(MAX_ACCOUNT_ID);
+	let destinationAccountId = randomId(MAX_ACCOUNT_ID - 1);
+	if (destinationAccountId >= sourceAccountId) {
+		destinationAccountId += 1;
+	}
+
+	return http.post(`${BASE_URL}/api/v1/internal/accounts/execute-transfer`, JSON.stringify({
+		transactionType: 'TRANSFER_THIRD_PARTY_ACCOUNT',
+		sourceAccountId,
+		destinationAccountId,
+		amount: 0.01,
+	}), { headers: { 'Content-Type': 'application/json' }, tags: { name: 'executeTransfer' } });
+}
+
+export default function () {
+	const dice = Math.random();
+	let response;
+
+	if (dice < 0.5) {
+		response = http.get(`${BASE_URL}/api/v1/accounts/${randomId(MAX_ACCOUNT_ID)}`,
+			{ tags: { name: 'getAccountById' } });
+	} else if (dice < 0.7) {
+		response = http.get(`${BASE_URL}/api/v1/accounts/customer/${randomId(MAX_CUSTOMER_ID)}`,
+			{ tags: { name: 'getAccountsByCustomerId' } });
+	} else {
+		response = transfer();
+	}
+
+	check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
@@ -0,0 +1,111 @@
+#!/usr/bin/env sh
+# Measures startup time of the service in each startup mode.
+#
+# Starts the service RUNS times per mode against the same database and records the time from
+# launch until /actuator/health answers, and the "Started AccountMsApplication in" time Spring
+# reports. Prints the median of both per mode:
+#
+#   jar      the fat jar, as built by mvn package
+#   cds      the extracted jar with a class-data sharing archive from a training run
+#   aot-cds  the same, with the AOT-processed context (spring.aot.enabled=true)
+#   native   the GraalVM native executable, if NATIVE is set
+#
+# The jar must be built with the aot profile (mvn -Paot package), which is also fine to run
+# without AOT. The archive is recorded like in the Dockerfile, with application-training.properties.
+#
+# Usage (from the repository root, after mvn -Paot package):
+#   SPRING_DATASOURCE_URL=jdbc:mysql://localhost:3306/account_db SPRING_DATASOURCE_USERNAME=... \
+#     SPRING_DATASOURCE_PASSWORD=... load-test/startup-benchmark.sh
+#
+# Optional: JAR, NATIVE (e.g. account-ms/target/account-ms after mvn -Pnative -pl account-ms
+# native:compile), RUNS (default 5), JAVA_OPTS (default the fast-start profile's, see docker-entrypoint.sh), PORT (default 8086), RESULTS (default
+# load-test/results/startup).
+set -eu
+
+JAR=${JAR:-$(ls account-ms/target/account-ms-*.jar | grep -v original | head -n 1)}
+RUNS=${RUNS:-5}
+PORT=${PORT:-8086}
+RESULTS=${RESULTS:-load-test/results/startup}
+JAVA_OPTS=${JAVA_OPTS:--Xmx256m -Xms128m -XX:+UseSerialGC -XX:TieredStopAtLevel=1}
+EXTRACTED="${RESULTS}/extracted"
+
+export SPRING_DATASOURCE_DRIVER_CLASS_NAME=${SPRING_DATASOURCE_DRIVER_CLASS_NAME:-com.mysql.cj.jdbc.Driver}
+export CUSTOMER_MS_URL=${CUSTOMER_MS_URL:-http://localhost:0}
+
+if ! grep -q 'AccountMsApplication__ApplicationContextInitializer' "${JAR}"; then
+	echo "${JAR} is not AOT-processed, build it with mvn -Paot package." >&2
+	exit 1
+fi
+
+rm -rf "${EXTRACTED}"
+mkdir -p "${EXTRACTED}"
+
+echo "== extracting ${JAR} and recording the class-data sharing archive"
+java -Djarmode=tools -jar "${JAR}" extract --destination "${EXTRACTED}" > /dev/null
+APP="${EXTRACTED}/$(basename "${JAR}")"
+# shellcheck disable=SC2086
+java ${JAVA_OPTS} -XX:ArchiveClassesAtExit="${EXTRACTED}/app.jsa" -Dspring.context.exit=onRefresh \
+	-Dspring.profiles.active=prod,training -jar "${APP}" > "${RESULTS}/training.log" 2>&1
+
+now_millis() {
+	date +%s%3N
+}
+
+# Starts one mode once and prints "<millis until healthy> <seconds reported by Spring>".
+start_once() {
+	mode=$1
+	log="${RESULTS}/${mode}.log"
+	started=$(now_millis)
+
+	case "${mode}" in
+		jar) java ${JAVA_OPTS} -jar "${JAR}" --server.port="${PORT}" > "${log}" 2>&1 & ;;
+		cds) java ${JAVA_OPTS} -XX:SharedArchiveFile="${EXTRACTED}/app.jsa" -jar "${APP}" \
+			--server.port="${PORT}" > "${log}" 2>&1 & ;;
+		aot-cds) java ${JAVA_OPTS} -XX:SharedArchiveFile="${EXTRACTED}/app.jsa" \
+			-Dspring.aot.enabled=true -jar "${APP}" --server.port="${PORT}" > "${log}" 2>&1 & ;;
+		native) "${NATIVE}" --server.port="${PORT}" > "${log}" 2>&1 & ;;
+	esac
+	pid=$!
+
+	until curl -fs "http://localhost:${PORT}/actuator/health" > /dev/null; do
+		if ! kill -0 "${pid}" 2> /dev/null; then
+			echo "The service did not start, see ${log}" >&2
+			exit 1
+		fi
+		sleep 0.05
+	done
+	healthy=$(($(now_millis) - started))
+
+	kill "${pid}"
+	wait "${pid}" 2> /dev/null || true
+
+	reported=$(sed -n 's/.*Started AccountMsApplication in \([0-9.]*\) seconds.*/\1/p' "${log}")
+	echo "${healthy} ${reported:-?}"
+}
+
+median() {
+	sort -n | awk '{ values[NR] = $1 } END {
+		print (NR % 2) ? values[(NR + 1) / 2] : (values[NR / 2] + values[NR / 2 + 1]) / 2 }'
+}
+
+MODES="jar cds aot-cds"
+if [ -n "${NATIVE:-}" ]; then
+	MODES="${MODES} native"
+fi
+
+for mode in ${MODES}; do
+	echo "== ${mode}: ${RUNS} starts"
+	: > "${RESULTS}/${mode}.txt"
+	i=0
+	while [ "${i}" -lt "${RUNS}" ]; do
+		start_once "${mode}" >> "${RESULTS}/${mode}.txt"
+		i=$((i + 1))
+	done
+done
+
+printf '\n%-8s %18s %22s\n' mode 'healthy (ms, p50)' 'Spring started (s, p50)'
+for mode in ${MODES}; do
+	healthy=$(cut -d' ' -f1 "${RESULTS}/${mode}.txt" | median)
+	reported=$(cut -d' ' -f2 "${RESULTS}/${mode}.txt" | grep -v '?' | median || true)
+	printf '%-8s %18s %22s\n' "${mode}" "${healthy}" "${reported:--}"
+done
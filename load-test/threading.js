@@ -0,0 +1,54 @@
+// Load test comparing request threading modes at high concurrency.
+//
+// Every virtual user loops over a mix of requests that mostly wait on MySQL or on customer-ms:
+//   70% GET  /api/v1/accounts/{accountId}
+//   20% GET  /api/v1/accounts/customer/{customerId}
+//   10% POST /api/v1/accounts (customer validation, then an insert)
+// Run it through compare-threading.sh, which starts the service once per mode; it can also be
+// pointed at a running instance:
+//   k6 run -e BASE_URL=http://localhost:8086 load-test/threading.js
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8086';
+const MAX_ACCOUNT_ID = parseInt(__ENV.MAX_ACCOUNT_ID || '8', 10);
+const MAX_CUSTOMER_ID = parseInt(__ENV.MAX_CUSTOMER_ID || '7', 10);
+
+export const options = {
+	scenarios: {
+		concurrent: {
+			executor: 'constant-vus',
+			vus: parseInt(__ENV.VUS || '1000', 10),
+			duration: __ENV.DURATION || '2m',
+			gracefulStop: '10s',
+		},
+	},
+	summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+	discardResponseBodies: true,
+};
+
+function randomId(max) {
+	return 1 + Math.floor(Math.random() * max);
+}
+
+export default function () {
+	const dice = Math.random();
+	let response;
+
+	if (dice < 0.7) {
+		response = http.get(`${BASE_URL}/api/v1/accounts/${randomId(MAX_ACCOUNT_ID)}`,
+			{ tags: { name: 'getAccountById' } });
+	} else if (dice < 0.9) {
+		response = http.get(`${BASE_URL}/api/v1/accounts/customer/${randomId(MAX_CUSTOMER_ID)}`,
+			{ tags: { name: 'getAccountsByCustomerId' } });
+	} else {
+		response = http.post(`${BASE_URL}/api/v1/accounts`, JSON.stringify({
+			balance: 100.0,
+			accountType: 'SAVINGS',
+			customerId: randomId(MAX_CUSTOMER_ID),
+		}), { headers: { 'Content-Type': 'application/json' }, tags: { name: 'createAccount' } });
+	}
+
+	check(response, { 'status is 2xx': (r) => r.status >= 200 && r.status < 300 });
+}